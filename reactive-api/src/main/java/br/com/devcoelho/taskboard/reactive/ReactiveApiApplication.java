@@ -0,0 +1,16 @@
+package br.com.devcoelho.taskboard.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * API somente leitura de boards, colunas e cards, para clientes que consultam os boards o tempo
+ * todo, como painéis. Roda separada da aplicação principal, sobre o mesmo banco, com acesso não
+ * bloqueante via R2DBC: uma requisição aguardando o banco não ocupa uma thread.
+ */
+@SpringBootApplication
+public class ReactiveApiApplication {
+  public static void main(String[] args) {
+    SpringApplication.run(ReactiveApiApplication.class, args);
+  }
+}
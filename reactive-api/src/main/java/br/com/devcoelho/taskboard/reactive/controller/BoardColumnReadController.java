@@ -0,0 +1,35 @@
+package br.com.devcoelho.taskboard.reactive.controller;
+
+import br.com.devcoelho.taskboard.dto.BoardColumnDTO;
+import br.com.devcoelho.taskboard.reactive.service.BoardReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/boards/{boardId}/columns")
+@RequiredArgsConstructor
+public class BoardColumnReadController {
+
+  private final BoardReadService boardReadService;
+
+  @GetMapping
+  public Flux<BoardColumnDTO> getColumnsByBoardId(@PathVariable Long boardId) {
+    return boardReadService.findColumnsWithCards(boardId);
+  }
+
+  @GetMapping("/{id}")
+  public Mono<ResponseEntity<BoardColumnDTO>> getColumnById(@PathVariable Long id) {
+    // Mesma ETag da API principal: a versão da coluna
+    return boardReadService
+        .findColumnByIdWithCards(id)
+        .map(
+            column ->
+                ResponseEntity.ok().eTag(String.valueOf(column.getVersion())).body(column));
+  }
+}
@@ -0,0 +1,52 @@
+package br.com.devcoelho.taskboard.reactive.controller;
+
+import br.com.devcoelho.taskboard.dto.BoardDTO;
+import br.com.devcoelho.taskboard.dto.BoardSummaryDTO;
+import br.com.devcoelho.taskboard.reactive.service.BoardReadService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/boards")
+public class BoardReadController {
+
+  /** Cabeçalho com o total de boards, já que a listagem é paginada. */
+  public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+  private final BoardReadService boardReadService;
+  private final int maxPageSize;
+
+  public BoardReadController(
+      BoardReadService boardReadService,
+      @Value("${flowdeck.boards.max-page-size:100}") int maxPageSize) {
+    this.boardReadService = boardReadService;
+    this.maxPageSize = maxPageSize;
+  }
+
+  @GetMapping
+  public Mono<ResponseEntity<Flux<BoardSummaryDTO>>> getAllBoards(
+      @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+    int pageSize = Math.min(Math.max(size, 1), maxPageSize);
+    Flux<BoardSummaryDTO> summaries = boardReadService.findSummaries(Math.max(page, 0), pageSize);
+
+    return boardReadService
+        .count()
+        .map(
+            total ->
+                ResponseEntity.ok()
+                    .header(TOTAL_COUNT_HEADER, String.valueOf(total))
+                    .body(summaries));
+  }
+
+  @GetMapping("/{id}")
+  public Mono<BoardDTO> getBoardById(@PathVariable Long id) {
+    return boardReadService.findByIdWithAllRelations(id);
+  }
+}
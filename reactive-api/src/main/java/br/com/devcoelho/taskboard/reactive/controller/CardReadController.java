@@ -0,0 +1,48 @@
+package br.com.devcoelho.taskboard.reactive.controller;
+
+import br.com.devcoelho.taskboard.dto.CardDTO;
+import br.com.devcoelho.taskboard.dto.CardSummaryDTO;
+import br.com.devcoelho.taskboard.reactive.service.CardReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Listas de cards sem paginação: os cards são enviados conforme o cliente consome a resposta.
+ * Com {@code Accept: application/x-ndjson} cada card segue em uma linha assim que é lido; sem
+ * ele, a resposta é um array JSON escrito aos poucos.
+ */
+@RestController
+@RequestMapping("/api/cards")
+@RequiredArgsConstructor
+public class CardReadController {
+
+  private final CardReadService cardReadService;
+
+  @GetMapping(
+      value = "/board/{boardId}",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public Flux<CardSummaryDTO> getCardsByBoardId(@PathVariable Long boardId) {
+    return cardReadService.streamSummariesByBoardId(boardId);
+  }
+
+  @GetMapping(
+      value = "/column/{columnId}",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public Flux<CardDTO> getCardsByColumnId(@PathVariable Long columnId) {
+    return cardReadService.streamByColumnId(columnId);
+  }
+
+  @GetMapping("/{id}")
+  public Mono<ResponseEntity<CardDTO>> getCardById(@PathVariable Long id) {
+    return cardReadService
+        .findById(id)
+        .map(card -> ResponseEntity.ok().eTag(String.valueOf(card.getVersion())).body(card));
+  }
+}
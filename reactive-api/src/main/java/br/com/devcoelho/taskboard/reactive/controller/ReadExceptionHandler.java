@@ -0,0 +1,32 @@
+package br.com.devcoelho.taskboard.reactive.controller;
+
+import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Exception handler for the reactive read API, with the same error body as the main application.
+ *
+ * @author Gabriel Coelho Soares
+ * @version 1.0
+ * @since 1.0
+ */
+@RestControllerAdvice
+public class ReadExceptionHandler {
+
+  @ExceptionHandler(ResourceNotFoundException.class)
+  public ResponseEntity<Object> handleResourceNotFoundException(ResourceNotFoundException ex) {
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("timestamp", OffsetDateTime.now());
+    body.put("status", HttpStatus.NOT_FOUND.value());
+    body.put("error", "Not Found:404");
+    body.put("message", ex.getMessage());
+
+    return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+  }
+}
@@ -0,0 +1,25 @@
+package br.com.devcoelho.taskboard.reactive.dao;
+
+import br.com.devcoelho.taskboard.dto.BoardColumnDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Interface DAO de leitura não bloqueante de colunas, sem os cards. */
+public interface BoardColumnReadDAO {
+
+  /**
+   * Busca as colunas de um board, na ordem do board.
+   *
+   * @param boardId identificador do board
+   * @return colunas do board; vazio se o board não existir
+   */
+  Flux<BoardColumnDTO> findByBoardId(Long boardId);
+
+  /**
+   * Busca uma coluna pelo ID.
+   *
+   * @param id identificador da coluna
+   * @return coluna, ou vazio se não existir
+   */
+  Mono<BoardColumnDTO> findById(Long id);
+}
@@ -0,0 +1,34 @@
+package br.com.devcoelho.taskboard.reactive.dao;
+
+import br.com.devcoelho.taskboard.dto.BoardDTO;
+import br.com.devcoelho.taskboard.dto.BoardSummaryDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Interface DAO de leitura não bloqueante de boards. */
+public interface BoardReadDAO {
+
+  /**
+   * Busca uma página de resumos de boards, ordenados pelo ID.
+   *
+   * @param offset quantidade de boards a pular
+   * @param limit quantidade máxima de boards
+   * @return resumos com a quantidade de colunas e de cards de cada board
+   */
+  Flux<BoardSummaryDTO> findSummaries(long offset, int limit);
+
+  /**
+   * Conta os boards existentes.
+   *
+   * @return total de boards
+   */
+  Mono<Long> count();
+
+  /**
+   * Busca um board pelo ID, sem as colunas.
+   *
+   * @param id identificador do board
+   * @return board, ou vazio se não existir
+   */
+  Mono<BoardDTO> findById(Long id);
+}
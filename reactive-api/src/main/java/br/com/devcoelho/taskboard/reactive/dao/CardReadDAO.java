@@ -0,0 +1,55 @@
+package br.com.devcoelho.taskboard.reactive.dao;
+
+import br.com.devcoelho.taskboard.dto.BlockDTO;
+import br.com.devcoelho.taskboard.dto.CardDTO;
+import br.com.devcoelho.taskboard.dto.CardSummaryDTO;
+import java.util.Collection;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface DAO de leitura não bloqueante de cards. Os cards são entregues sem os bloqueios, que
+ * são buscados à parte para vários cards de uma vez.
+ */
+public interface CardReadDAO {
+
+  /**
+   * Busca os resumos dos cards de um board, dos mais recentes aos mais antigos.
+   *
+   * @param boardId identificador do board
+   * @return resumos dos cards
+   */
+  Flux<CardSummaryDTO> findSummariesByBoardId(Long boardId);
+
+  /**
+   * Busca os cards de um board, agrupados por coluna e na ordem de cada coluna.
+   *
+   * @param boardId identificador do board
+   * @return cards do board
+   */
+  Flux<CardDTO> findByBoardId(Long boardId);
+
+  /**
+   * Busca os cards de uma coluna, na ordem da coluna.
+   *
+   * @param columnId identificador da coluna
+   * @return cards da coluna
+   */
+  Flux<CardDTO> findByColumnId(Long columnId);
+
+  /**
+   * Busca um card pelo ID.
+   *
+   * @param id identificador do card
+   * @return card, ou vazio se não existir
+   */
+  Mono<CardDTO> findById(Long id);
+
+  /**
+   * Busca os bloqueios de vários cards em uma consulta.
+   *
+   * @param cardIds identificadores dos cards
+   * @return bloqueios dos cards, do mais antigo ao mais recente
+   */
+  Flux<BlockDTO> findBlocksByCardIds(Collection<Long> cardIds);
+}
@@ -0,0 +1,51 @@
+package br.com.devcoelho.taskboard.reactive.dao.impl;
+
+import br.com.devcoelho.taskboard.dto.BoardColumnDTO;
+import br.com.devcoelho.taskboard.model.BoardColumnKind;
+import br.com.devcoelho.taskboard.reactive.dao.BoardColumnReadDAO;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Implementação da interface BoardColumnReadDAO com SQL via R2DBC. */
+@Repository
+@RequiredArgsConstructor
+public class BoardColumnReadDAOImpl implements BoardColumnReadDAO {
+
+  private static final String SELECT_COLUMN =
+      "SELECT id, version, name, column_rank, kind, board_id FROM board_column";
+
+  private final DatabaseClient databaseClient;
+
+  @Override
+  public Flux<BoardColumnDTO> findByBoardId(Long boardId) {
+    return databaseClient
+        .sql(SELECT_COLUMN + " WHERE board_id = :boardId ORDER BY column_rank, id")
+        .bind("boardId", boardId)
+        .map(BoardColumnReadDAOImpl::toDto)
+        .all();
+  }
+
+  @Override
+  public Mono<BoardColumnDTO> findById(Long id) {
+    return databaseClient
+        .sql(SELECT_COLUMN + " WHERE id = :id")
+        .bind("id", id)
+        .map(BoardColumnReadDAOImpl::toDto)
+        .one();
+  }
+
+  private static BoardColumnDTO toDto(Readable row) {
+    return BoardColumnDTO.builder()
+        .id(row.get("id", Long.class))
+        .version(row.get("version", Long.class))
+        .name(row.get("name", String.class))
+        .rank(row.get("column_rank", String.class))
+        .kind(BoardColumnKind.valueOf(row.get("kind", String.class)))
+        .boardId(row.get("board_id", Long.class))
+        .build();
+  }
+}
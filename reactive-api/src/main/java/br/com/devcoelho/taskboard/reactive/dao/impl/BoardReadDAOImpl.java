@@ -0,0 +1,73 @@
+package br.com.devcoelho.taskboard.reactive.dao.impl;
+
+import br.com.devcoelho.taskboard.dto.BoardDTO;
+import br.com.devcoelho.taskboard.dto.BoardSummaryDTO;
+import br.com.devcoelho.taskboard.reactive.dao.BoardReadDAO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Implementação da interface BoardReadDAO com SQL via R2DBC. */
+@Repository
+@RequiredArgsConstructor
+public class BoardReadDAOImpl implements BoardReadDAO {
+
+  private final DatabaseClient databaseClient;
+
+  @Override
+  public Flux<BoardSummaryDTO> findSummaries(long offset, int limit) {
+    return databaseClient
+        .sql(
+            """
+            SELECT
+              b.id,
+              b.name,
+              (SELECT COUNT(*) FROM board_column bc WHERE bc.board_id = b.id) AS column_count,
+              (
+                SELECT COUNT(*)
+                FROM card c
+                JOIN board_column bc ON bc.id = c.board_column_id
+                WHERE bc.board_id = b.id
+              ) AS card_count
+            FROM board b
+            ORDER BY b.id
+            LIMIT :limit OFFSET :offset
+            """)
+        .bind("limit", limit)
+        .bind("offset", offset)
+        .map(
+            row ->
+                BoardSummaryDTO.builder()
+                    .id(row.get("id", Long.class))
+                    .name(row.get("name", String.class))
+                    .columnCount(row.get("column_count", Long.class))
+                    .cardCount(row.get("card_count", Long.class))
+                    .build())
+        .all();
+  }
+
+  @Override
+  public Mono<Long> count() {
+    return databaseClient
+        .sql("SELECT COUNT(*) AS total FROM board")
+        .map(row -> row.get("total", Long.class))
+        .one();
+  }
+
+  @Override
+  public Mono<BoardDTO> findById(Long id) {
+    return databaseClient
+        .sql("SELECT id, version, name FROM board WHERE id = :id")
+        .bind("id", id)
+        .map(
+            row ->
+                BoardDTO.builder()
+                    .id(row.get("id", Long.class))
+                    .version(row.get("version", Long.class))
+                    .name(row.get("name", String.class))
+                    .build())
+        .one();
+  }
+}
@@ -0,0 +1,140 @@
+package br.com.devcoelho.taskboard.reactive.dao.impl;
+
+import br.com.devcoelho.taskboard.dto.BlockDTO;
+import br.com.devcoelho.taskboard.dto.CardDTO;
+import br.com.devcoelho.taskboard.dto.CardSummaryDTO;
+import br.com.devcoelho.taskboard.reactive.dao.CardReadDAO;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Implementação da interface CardReadDAO com SQL via R2DBC. */
+@Repository
+@RequiredArgsConstructor
+public class CardReadDAOImpl implements CardReadDAO {
+
+  private static final String SELECT_CARD =
+      """
+      SELECT
+        c.id,
+        c.version,
+        c.title,
+        c.description,
+        c.card_rank,
+        c.created_at,
+        c.updated_at,
+        c.active_block_id,
+        c.board_column_id,
+        bc.name AS column_name
+      FROM card c
+      JOIN board_column bc ON bc.id = c.board_column_id
+      """;
+
+  private final DatabaseClient databaseClient;
+
+  @Override
+  public Flux<CardSummaryDTO> findSummariesByBoardId(Long boardId) {
+    return databaseClient
+        .sql(
+            """
+            SELECT c.id, c.title, c.created_at, c.active_block_id, bc.name AS column_name
+            FROM card c
+            JOIN board_column bc ON bc.id = c.board_column_id
+            WHERE bc.board_id = :boardId
+            ORDER BY c.created_at DESC, c.id DESC
+            """)
+        .bind("boardId", boardId)
+        .map(
+            row ->
+                CardSummaryDTO.builder()
+                    .id(row.get("id", Long.class))
+                    .title(row.get("title", String.class))
+                    .createdAt(toOffsetDateTime(row.get("created_at", LocalDateTime.class)))
+                    .blocked(row.get("active_block_id", Long.class) != null)
+                    .columnName(row.get("column_name", String.class))
+                    .build())
+        .all();
+  }
+
+  @Override
+  public Flux<CardDTO> findByBoardId(Long boardId) {
+    return databaseClient
+        .sql(SELECT_CARD + " WHERE bc.board_id = :boardId ORDER BY bc.id, c.card_rank, c.id")
+        .bind("boardId", boardId)
+        .map(CardReadDAOImpl::toDto)
+        .all();
+  }
+
+  @Override
+  public Flux<CardDTO> findByColumnId(Long columnId) {
+    return databaseClient
+        .sql(SELECT_CARD + " WHERE c.board_column_id = :columnId ORDER BY c.card_rank, c.id")
+        .bind("columnId", columnId)
+        .map(CardReadDAOImpl::toDto)
+        .all();
+  }
+
+  @Override
+  public Mono<CardDTO> findById(Long id) {
+    return databaseClient
+        .sql(SELECT_CARD + " WHERE c.id = :id")
+        .bind("id", id)
+        .map(CardReadDAOImpl::toDto)
+        .one();
+  }
+
+  @Override
+  public Flux<BlockDTO> findBlocksByCardIds(Collection<Long> cardIds) {
+    if (cardIds.isEmpty()) {
+      return Flux.empty();
+    }
+
+    return databaseClient
+        .sql(
+            """
+            SELECT id, blocked_at, block_reason, unblocked_at, unblock_reason, card_id
+            FROM block
+            WHERE card_id IN (:cardIds)
+            ORDER BY blocked_at, id
+            """)
+        .bind("cardIds", cardIds)
+        .map(
+            row ->
+                BlockDTO.builder()
+                    .id(row.get("id", Long.class))
+                    .blockedAt(toOffsetDateTime(row.get("blocked_at", LocalDateTime.class)))
+                    .blockReason(row.get("block_reason", String.class))
+                    .unblockedAt(toOffsetDateTime(row.get("unblocked_at", LocalDateTime.class)))
+                    .unblockReason(row.get("unblock_reason", String.class))
+                    .cardId(row.get("card_id", Long.class))
+                    .build())
+        .all();
+  }
+
+  private static CardDTO toDto(Readable row) {
+    return CardDTO.builder()
+        .id(row.get("id", Long.class))
+        .version(row.get("version", Long.class))
+        .title(row.get("title", String.class))
+        .description(row.get("description", String.class))
+        .rank(row.get("card_rank", String.class))
+        .createdAt(toOffsetDateTime(row.get("created_at", LocalDateTime.class)))
+        .updatedAt(toOffsetDateTime(row.get("updated_at", LocalDateTime.class)))
+        .boardColumnId(row.get("board_column_id", Long.class))
+        .boardColumnName(row.get("column_name", String.class))
+        .blocked(row.get("active_block_id", Long.class) != null)
+        .build();
+  }
+
+  // TIMESTAMP chega sem fuso; como na aplicação principal, vale o fuso da JVM
+  private static OffsetDateTime toOffsetDateTime(LocalDateTime timestamp) {
+    return timestamp == null ? null : timestamp.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+  }
+}
@@ -0,0 +1,114 @@
+package br.com.devcoelho.taskboard.reactive.service;
+
+import br.com.devcoelho.taskboard.dto.BoardColumnDTO;
+import br.com.devcoelho.taskboard.dto.BoardDTO;
+import br.com.devcoelho.taskboard.dto.BoardSummaryDTO;
+import br.com.devcoelho.taskboard.dto.CardDTO;
+import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
+import br.com.devcoelho.taskboard.reactive.dao.BoardColumnReadDAO;
+import br.com.devcoelho.taskboard.reactive.dao.BoardReadDAO;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Leitura de boards e colunas, montados com os cards no mesmo formato da API principal. */
+@Service
+@RequiredArgsConstructor
+public class BoardReadService {
+
+  private final BoardReadDAO boardReadDAO;
+  private final BoardColumnReadDAO boardColumnReadDAO;
+  private final CardReadService cardReadService;
+
+  /**
+   * Busca uma página de resumos de boards, ordenados pelo ID.
+   *
+   * @param page número da página, a partir de zero
+   * @param size tamanho da página
+   * @return resumos dos boards da página
+   */
+  public Flux<BoardSummaryDTO> findSummaries(int page, int size) {
+    return boardReadDAO.findSummaries((long) page * size, size);
+  }
+
+  /** Conta os boards existentes */
+  public Mono<Long> count() {
+    return boardReadDAO.count();
+  }
+
+  /**
+   * Busca um board com as colunas, os cards e os bloqueios.
+   *
+   * @param id identificador do board
+   * @return board completo
+   * @throws ResourceNotFoundException (no Mono) se o board não existir
+   */
+  public Mono<BoardDTO> findByIdWithAllRelations(Long id) {
+    return boardReadDAO
+        .findById(id)
+        .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Board", id)))
+        .zipWith(findColumnsWithCards(id).collectList())
+        .map(
+            boardAndColumns -> {
+              BoardDTO board = boardAndColumns.getT1();
+              List<BoardColumnDTO> columns = boardAndColumns.getT2();
+              board.setColumns(columns);
+              board.setTotalCards(columns.stream().mapToInt(BoardColumnDTO::getCardCount).sum());
+              return board;
+            });
+  }
+
+  /**
+   * Busca as colunas de um board com os cards e os bloqueios.
+   *
+   * @param boardId identificador do board
+   * @return colunas na ordem do board; vazio se o board não existir
+   */
+  public Flux<BoardColumnDTO> findColumnsWithCards(Long boardId) {
+    return boardColumnReadDAO
+        .findByBoardId(boardId)
+        .collectList()
+        .zipWith(
+            cardReadService.streamByBoardId(boardId).collectMultimap(CardDTO::getBoardColumnId))
+        .flatMapIterable(
+            columnsAndCards -> attachCards(columnsAndCards.getT1(), columnsAndCards.getT2()));
+  }
+
+  /**
+   * Busca uma coluna com os cards e os bloqueios.
+   *
+   * @param id identificador da coluna
+   * @return coluna completa
+   * @throws ResourceNotFoundException (no Mono) se a coluna não existir
+   */
+  public Mono<BoardColumnDTO> findColumnByIdWithCards(Long id) {
+    return boardColumnReadDAO
+        .findById(id)
+        .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Board Column", id)))
+        .zipWith(cardReadService.streamByColumnId(id).collectList())
+        .map(
+            columnAndCards -> {
+              BoardColumnDTO column = columnAndCards.getT1();
+              column.setCards(columnAndCards.getT2());
+              column.setCardCount(columnAndCards.getT2().size());
+              return column;
+            });
+  }
+
+  private static List<BoardColumnDTO> attachCards(
+      List<BoardColumnDTO> columns, Map<Long, Collection<CardDTO>> cardsByColumn) {
+    columns.forEach(
+        column -> {
+          List<CardDTO> cards =
+              new ArrayList<>(cardsByColumn.getOrDefault(column.getId(), List.of()));
+          column.setCards(cards);
+          column.setCardCount(cards.size());
+        });
+    return columns;
+  }
+}
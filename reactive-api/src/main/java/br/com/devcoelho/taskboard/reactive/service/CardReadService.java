@@ -0,0 +1,72 @@
+package br.com.devcoelho.taskboard.reactive.service;
+
+import br.com.devcoelho.taskboard.dto.BlockDTO;
+import br.com.devcoelho.taskboard.dto.CardDTO;
+import br.com.devcoelho.taskboard.dto.CardSummaryDTO;
+import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
+import br.com.devcoelho.taskboard.reactive.dao.CardReadDAO;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Leitura de cards com os seus bloqueios. Listas de cards são entregues conforme a demanda do
+ * cliente: os cards são lidos em lotes, e os bloqueios de cada lote vêm em uma única consulta.
+ */
+@Service
+@RequiredArgsConstructor
+public class CardReadService {
+
+  // Cards por consulta de bloqueios; também limita os cards lidos à frente do cliente
+  private static final int BLOCK_BATCH_SIZE = 100;
+
+  private final CardReadDAO cardReadDAO;
+
+  /** Busca um card pelo ID com os seus bloqueios */
+  public Mono<CardDTO> findById(Long id) {
+    return cardReadDAO
+        .findById(id)
+        .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Card", id)))
+        .flatMapMany(card -> withBlocks(Flux.just(card)))
+        .single();
+  }
+
+  /** Resumos dos cards de um board, dos mais recentes aos mais antigos */
+  public Flux<CardSummaryDTO> streamSummariesByBoardId(Long boardId) {
+    return cardReadDAO.findSummariesByBoardId(boardId);
+  }
+
+  /** Cards de uma coluna, na ordem da coluna, com os seus bloqueios */
+  public Flux<CardDTO> streamByColumnId(Long columnId) {
+    return withBlocks(cardReadDAO.findByColumnId(columnId));
+  }
+
+  /** Cards de um board, agrupados por coluna, com os seus bloqueios */
+  public Flux<CardDTO> streamByBoardId(Long boardId) {
+    return withBlocks(cardReadDAO.findByBoardId(boardId));
+  }
+
+  private Flux<CardDTO> withBlocks(Flux<CardDTO> cards) {
+    return cards
+        .buffer(BLOCK_BATCH_SIZE)
+        .concatMap(
+            batch ->
+                cardReadDAO
+                    .findBlocksByCardIds(batch.stream().map(CardDTO::getId).toList())
+                    .collectMultimap(BlockDTO::getCardId)
+                    .flatMapIterable(blocksByCard -> attachBlocks(batch, blocksByCard)));
+  }
+
+  private static List<CardDTO> attachBlocks(
+      List<CardDTO> batch, Map<Long, Collection<BlockDTO>> blocksByCard) {
+    batch.forEach(
+        card ->
+            card.setBlocks(new ArrayList<>(blocksByCard.getOrDefault(card.getId(), List.of()))));
+    return batch;
+  }
+}
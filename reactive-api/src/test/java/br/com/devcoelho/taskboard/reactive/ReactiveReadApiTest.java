@@ -0,0 +1,169 @@
+package br.com.devcoelho.taskboard.reactive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.devcoelho.taskboard.dto.BoardColumnDTO;
+import br.com.devcoelho.taskboard.dto.BoardDTO;
+import br.com.devcoelho.taskboard.dto.BoardSummaryDTO;
+import br.com.devcoelho.taskboard.dto.CardDTO;
+import br.com.devcoelho.taskboard.dto.CardSummaryDTO;
+import br.com.devcoelho.taskboard.reactive.controller.BoardReadController;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/** Testes da API de leitura contra o H2 via R2DBC, com os dados de {@code data.sql}. */
+@SpringBootTest(
+    properties = "spring.r2dbc.url=r2dbc:h2:mem:///flowdeck_read?options=DB_CLOSE_DELAY=-1")
+@AutoConfigureWebTestClient
+public class ReactiveReadApiTest {
+
+  @Autowired private WebTestClient webTestClient;
+
+  @Test
+  @DisplayName("Deve retornar o board com as colunas e os cards na ordem do board")
+  void shouldReturnBoardWithColumnsAndCardsInOrder() {
+    // Act
+    BoardDTO board =
+        webTestClient
+            .get()
+            .uri("/api/boards/1")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(BoardDTO.class)
+            .returnResult()
+            .getResponseBody();
+
+    // Assert
+    assertNotNull(board);
+    assertEquals("Projeto", board.getName());
+    assertEquals(3, board.getTotalCards());
+    assertEquals(
+        List.of(10L, 11L, 12L), board.getColumns().stream().map(BoardColumnDTO::getId).toList());
+
+    BoardColumnDTO todo = board.getColumns().get(0);
+    assertEquals(2, todo.getCardCount());
+    assertEquals(List.of(101L, 100L), todo.getCards().stream().map(CardDTO::getId).toList());
+    assertEquals(0, board.getColumns().get(2).getCardCount());
+  }
+
+  @Test
+  @DisplayName("Deve retornar 404 quando o board não existe")
+  void shouldReturnNotFoundWhenBoardDoesNotExist() {
+    webTestClient
+        .get()
+        .uri("/api/boards/999")
+        .exchange()
+        .expectStatus()
+        .isNotFound()
+        .expectBody()
+        .jsonPath("$.message")
+        .isEqualTo("Board not found with ID: 999");
+  }
+
+  @Test
+  @DisplayName("Deve paginar os boards e informar o total no cabeçalho")
+  void shouldPageBoardsWithTotalCountHeader() {
+    // Act & Assert
+    List<BoardSummaryDTO> boards =
+        webTestClient
+            .get()
+            .uri("/api/boards?page=0&size=1")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .valueEquals(BoardReadController.TOTAL_COUNT_HEADER, "2")
+            .expectBodyList(BoardSummaryDTO.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertNotNull(boards);
+    assertEquals(1, boards.size());
+    assertEquals(1L, boards.get(0).getId());
+    assertEquals(3, boards.get(0).getColumnCount());
+    assertEquals(3, boards.get(0).getCardCount());
+  }
+
+  @Test
+  @DisplayName("Deve enviar os cards da coluna um por linha, com os bloqueios")
+  void shouldStreamColumnCardsAsNdjsonWithBlocks() {
+    // Act
+    Flux<CardDTO> cards =
+        webTestClient
+            .get()
+            .uri("/api/cards/column/10")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .returnResult(CardDTO.class)
+            .getResponseBody();
+
+    // Assert
+    StepVerifier.create(cards)
+        .assertNext(card -> assertEquals(101L, card.getId()))
+        .assertNext(
+            card -> {
+              assertEquals(100L, card.getId());
+              assertFalse(card.isBlocked());
+              assertEquals(1, card.getBlocks().size());
+              assertEquals("Sem acesso", card.getBlocks().get(0).getBlockReason());
+            })
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Deve listar os resumos dos cards do board dos mais recentes aos mais antigos")
+  void shouldListBoardCardSummariesNewestFirst() {
+    // Act
+    List<CardSummaryDTO> cards =
+        webTestClient
+            .get()
+            .uri("/api/cards/board/1")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBodyList(CardSummaryDTO.class)
+            .returnResult()
+            .getResponseBody();
+
+    // Assert
+    assertNotNull(cards);
+    assertEquals(List.of(102L, 101L, 100L), cards.stream().map(CardSummaryDTO::getId).toList());
+    assertTrue(cards.get(0).isBlocked());
+    assertEquals("Em andamento", cards.get(0).getColumnName());
+  }
+
+  @Test
+  @DisplayName("Deve retornar o card com a versão na ETag")
+  void shouldReturnCardWithVersionETag() {
+    // Act
+    CardDTO card =
+        webTestClient
+            .get()
+            .uri("/api/cards/102")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .valueEquals("ETag", "\"4\"")
+            .expectBody(CardDTO.class)
+            .returnResult()
+            .getResponseBody();
+
+    // Assert
+    assertNotNull(card);
+    assertTrue(card.isBlocked());
+    assertEquals("Em andamento", card.getBoardColumnName());
+    assertEquals(1, card.getBlocks().size());
+  }
+}
@@ -0,0 +1,19 @@
+INSERT INTO board (id, name, version) VALUES (1, 'Projeto', 2), (2, 'Vazio', 0);
+
+INSERT INTO board_column (id, name, board_id, kind, column_rank, version)
+VALUES
+  (10, 'A fazer', 1, 'INITIAL', 'a', 0),
+  (11, 'Em andamento', 1, 'PENDING', 'b', 3),
+  (12, 'Concluído', 1, 'FINAL', 'c', 0);
+
+-- Na coluna 10, a ordem pela chave (101, 100) é diferente da ordem de criação
+INSERT INTO card (id, title, created_at, board_column_id, card_rank, active_block_id, version)
+VALUES
+  (100, 'Configurar CI', TIMESTAMP '2024-01-01 10:00:00', 10, 'b', NULL, 1),
+  (101, 'Escrever README', TIMESTAMP '2024-01-02 10:00:00', 10, 'a', NULL, 0),
+  (102, 'Migrar banco', TIMESTAMP '2024-01-03 10:00:00', 11, 'm', 1000, 4);
+
+INSERT INTO block (id, blocked_at, block_reason, unblocked_at, unblock_reason, card_id)
+VALUES
+  (1000, TIMESTAMP '2024-01-04 09:00:00', 'Aguardando DBA', NULL, NULL, 102),
+  (1001, TIMESTAMP '2024-01-02 09:00:00', 'Sem acesso', TIMESTAMP '2024-01-02 12:00:00', 'Liberado', 100);
@@ -0,0 +1,36 @@
+-- Esquema das tabelas lidas pela API, no H2; no MySQL ele vem das migrações da aplicação principal
+CREATE TABLE board (
+  id BIGINT PRIMARY KEY,
+  name VARCHAR(255) NOT NULL,
+  version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE board_column (
+  id BIGINT PRIMARY KEY,
+  name VARCHAR(255) NOT NULL,
+  board_id BIGINT NOT NULL REFERENCES board (id),
+  kind VARCHAR(20) NOT NULL,
+  column_rank VARCHAR(64) NOT NULL,
+  version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE card (
+  id BIGINT PRIMARY KEY,
+  title VARCHAR(255) NOT NULL,
+  description TEXT,
+  created_at TIMESTAMP NOT NULL,
+  updated_at TIMESTAMP NULL,
+  board_column_id BIGINT NOT NULL REFERENCES board_column (id),
+  card_rank VARCHAR(64) NOT NULL,
+  active_block_id BIGINT NULL,
+  version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE block (
+  id BIGINT PRIMARY KEY,
+  blocked_at TIMESTAMP NOT NULL,
+  block_reason VARCHAR(255) NOT NULL,
+  unblocked_at TIMESTAMP NULL,
+  unblock_reason VARCHAR(255) NULL,
+  card_id BIGINT NOT NULL REFERENCES card (id)
+);
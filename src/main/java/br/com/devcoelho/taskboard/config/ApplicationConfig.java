@@ -1,16 +1,30 @@
 package br.com.devcoelho.taskboard.config;
 
+import br.com.devcoelho.taskboard.controller.BoardController;
+import br.com.devcoelho.taskboard.controller.CardController;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
@@ -21,8 +35,13 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @ComponentScan(basePackages = "br.com.devcoelho.taskboard")
 @EntityScan(basePackages = "br.com.devcoelho.taskboard.model")
 @EnableTransactionManagement
+@EnableScheduling
 public class ApplicationConfig {
 
+  // Com threads virtuais, o Spring Boot também as usa no Tomcat e no executor assíncrono do MVC
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
   /**
    * Configura o ObjectMapper para serialização/deserialização JSON, com suporte adequado para tipos
    * de data/hora do Java 8+.
@@ -67,8 +86,131 @@ public class ApplicationConfig {
             .allowedOrigins("*")
             .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
             .allowedHeaders("*")
+            .exposedHeaders(
+                ReadYourWritesInterceptor.LAST_WRITE_HEADER,
+                BoardController.TOTAL_COUNT_HEADER,
+                CardController.NEXT_CURSOR_HEADER,
+                CardController.PREFERENCE_APPLIED_HEADER,
+                HttpHeaders.ETAG)
             .maxAge(3600);
       }
     };
   }
+
+  /**
+   * Executor das consultas dos relatórios. As consultas independentes de um relatório rodam em
+   * paralelo, cada uma com sua conexão; o número fixo de threads limita as conexões ocupadas por
+   * relatórios e, com a fila cheia, a própria thread da requisição executa a consulta.
+   *
+   * @param parallelism quantidade de threads
+   * @param queueCapacity quantidade de consultas aguardando uma thread
+   * @return executor dos relatórios
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService reportExecutor(
+      @Value("${flowdeck.reports.parallelism:4}") int parallelism,
+      @Value("${flowdeck.reports.queue-capacity:64}") int queueCapacity) {
+    return new ThreadPoolExecutor(
+        parallelism,
+        parallelism,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        threadFactory("report-"),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /**
+   * Executor dos jobs de relatório. Cada job ocupa uma thread e uma conexão enquanto roda; com
+   * todas as threads ocupadas e a fila cheia, novos jobs são recusados em vez de esperar na thread
+   * da requisição.
+   *
+   * @param workers quantidade de threads
+   * @param queueCapacity quantidade de jobs aguardando uma thread
+   * @return executor dos jobs de relatório
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService reportJobExecutor(
+      @Value("${flowdeck.reports.jobs.workers:2}") int workers,
+      @Value("${flowdeck.reports.jobs.queue-capacity:32}") int queueCapacity) {
+    return new ThreadPoolExecutor(
+        workers,
+        workers,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        threadFactory("report-job-"),
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  /**
+   * Executor da reconstrução do CFD. Os blocos de dias de todas as reconstruções em andamento
+   * dividem as mesmas threads, o que limita as conexões ocupadas por elas; com a fila cheia, a
+   * thread que pediu a reconstrução processa o bloco.
+   *
+   * @param parallelism quantidade de threads
+   * @param queueCapacity quantidade de blocos aguardando uma thread
+   * @return executor da reconstrução do CFD
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService cumulativeFlowExecutor(
+      @Value("${flowdeck.analytics.cfd.rebuild-parallelism:4}") int parallelism,
+      @Value("${flowdeck.analytics.cfd.rebuild-queue-capacity:64}") int queueCapacity) {
+    return new ThreadPoolExecutor(
+        parallelism,
+        parallelism,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        threadFactory("cfd-rebuild-"),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /**
+   * Executor dos envios de eventos SSE dos boards. Cada cliente tem no máximo um envio na fila ou
+   * em andamento, então a fila não cresce além da quantidade de clientes inscritos.
+   *
+   * @param sendThreads quantidade de threads
+   * @return executor dos eventos dos boards
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService boardEventExecutor(
+      @Value("${flowdeck.events.sse.send-threads:8}") int sendThreads) {
+    return new ThreadPoolExecutor(
+        sendThreads,
+        sendThreads,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(),
+        threadFactory("board-events-"));
+  }
+
+  /**
+   * Fábrica das threads dos executores da aplicação. Com threads virtuais, os executores mantêm o
+   * número fixo de tarefas simultâneas, que limita as conexões ocupadas, mas uma tarefa bloqueada
+   * no JDBC não ocupa uma thread do sistema.
+   */
+  private ThreadFactory threadFactory(String prefix) {
+    return virtualThreads
+        ? new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory()
+        : new CustomizableThreadFactory(prefix);
+  }
+
+  /**
+   * Registra o interceptor de leitura das próprias escritas, que direciona ao banco primário as
+   * leituras de clientes que acabaram de realizar uma escrita.
+   *
+   * @param readYourWritesInterceptor interceptor de roteamento
+   * @return WebMvcConfigurer configurado
+   */
+  @Bean
+  public WebMvcConfigurer routingInterceptorConfigurer(
+      ReadYourWritesInterceptor readYourWritesInterceptor) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readYourWritesInterceptor).addPathPatterns("/api/**");
+      }
+    };
+  }
 }
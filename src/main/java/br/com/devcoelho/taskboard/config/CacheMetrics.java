@@ -0,0 +1,85 @@
+package br.com.devcoelho.taskboard.config;
+
+import br.com.devcoelho.taskboard.dto.CacheRegionMetricsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Estatísticas do cache de segundo nível por região. Acertos, falhas e inserções vêm das estatísticas
+ * do Hibernate; as evictions vêm das estatísticas JCache do Ehcache, publicadas via JMX.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics {
+
+  private static final String JCACHE_STATISTICS_PATTERN = "javax.cache:type=CacheStatistics,*";
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * Retorna as estatísticas de todas as regiões do cache de segundo nível, ordenadas pelo nome.
+   *
+   * @return lista com as estatísticas de cada região
+   */
+  public List<CacheRegionMetricsDTO> getRegions() {
+    Statistics statistics =
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    Map<String, Long> evictions = findEvictionCounts();
+
+    return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+        .sorted()
+        .map(statistics::getCacheRegionStatistics)
+        .filter(Objects::nonNull)
+        .map(region -> toDto(region, evictions.getOrDefault(region.getRegionName(), 0L)))
+        .toList();
+  }
+
+  private CacheRegionMetricsDTO toDto(CacheRegionStatistics region, long evictionCount) {
+    long reads = region.getHitCount() + region.getMissCount();
+    return CacheRegionMetricsDTO.builder()
+        .region(region.getRegionName())
+        .hitCount(region.getHitCount())
+        .missCount(region.getMissCount())
+        .putCount(region.getPutCount())
+        .evictionCount(evictionCount)
+        .elementCountInMemory(region.getElementCountInMemory())
+        .hitRatio(reads == 0 ? 0.0 : (double) region.getHitCount() / reads)
+        .build();
+  }
+
+  /**
+   * Lê a contagem de evictions de cada cache JCache registrado no MBeanServer da plataforma.
+   *
+   * @return mapa do nome do cache para a quantidade de evictions
+   */
+  private Map<String, Long> findEvictionCounts() {
+    Map<String, Long> evictions = new HashMap<>();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    try {
+      for (ObjectName name : server.queryNames(new ObjectName(JCACHE_STATISTICS_PATTERN), null)) {
+        Object value = server.getAttribute(name, "CacheEvictions");
+        evictions.merge(name.getKeyProperty("Cache"), ((Number) value).longValue(), Long::sum);
+      }
+    } catch (JMException e) {
+      log.warn("Could not read JCache eviction statistics", e);
+    }
+
+    return evictions;
+  }
+}
@@ -0,0 +1,32 @@
+package br.com.devcoelho.taskboard.config;
+
+/**
+ * Contexto de roteamento por thread. Permite forçar que as leituras da requisição corrente sejam
+ * enviadas ao banco primário, garantindo leitura das próprias escritas (read-your-writes) mesmo
+ * quando as réplicas ainda não receberam as alterações.
+ */
+public final class DataSourceRoutingContext {
+
+  private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+  private DataSourceRoutingContext() {}
+
+  /** Força o uso do banco primário para todas as operações da thread corrente. */
+  public static void forcePrimary() {
+    PRIMARY_FORCED.set(Boolean.TRUE);
+  }
+
+  /**
+   * Indica se o banco primário foi forçado para a thread corrente.
+   *
+   * @return true se as leituras devem ir para o primário
+   */
+  public static boolean isPrimaryForced() {
+    return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+  }
+
+  /** Remove o roteamento forçado da thread corrente. */
+  public static void clear() {
+    PRIMARY_FORCED.remove();
+  }
+}
@@ -1,15 +1,20 @@
 package br.com.devcoelho.taskboard.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import javax.sql.DataSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
@@ -31,19 +36,131 @@ public class PersistenceConfig {
   @Autowired private Environment env;
 
   /**
-   * Configura a fonte de dados (DataSource) para conexão com o banco de dados. As configurações são
-   * lidas do arquivo application.properties.
+   * Registro das métricas dos pools de conexão, consultado pelo endpoint de métricas.
+   *
+   * @return fábrica de rastreadores de métricas compartilhada pelos pools
+   */
+  @Bean
+  public PoolMetricsTrackerFactory poolMetricsTrackerFactory() {
+    return new PoolMetricsTrackerFactory();
+  }
+
+  /**
+   * Configura o pool de conexões do banco primário, que recebe todas as escritas. As credenciais
+   * são lidas de spring.datasource.* e o dimensionamento do pool de database.pool.* no arquivo
+   * application.properties.
+   *
+   * @return DataSource do banco primário
+   */
+  @Bean
+  public HikariDataSource primaryDataSource() {
+    return createPool(
+        "flowdeck-primary",
+        env.getProperty("spring.datasource.url"),
+        env.getProperty("spring.datasource.driver-class-name"),
+        env.getProperty("spring.datasource.username"),
+        env.getProperty("spring.datasource.password"));
+  }
+
+  /**
+   * Configura o roteamento entre o banco primário e as réplicas de leitura. As réplicas são
+   * definidas em database.replica.urls (separadas por vírgula); sem réplicas, ou com
+   * database.routing.enabled=false, todo o tráfego vai para o primário.
+   *
+   * @return DataSource de roteamento
+   */
+  @Bean
+  public ReplicaRoutingDataSource routingDataSource() {
+    List<DataSource> replicas = new ArrayList<>();
+
+    if (env.getProperty("database.routing.enabled", Boolean.class, true)) {
+      String[] urls = env.getProperty("database.replica.urls", String[].class, new String[0]);
+      String driver = replicaProperty("driver-class-name");
+      String username = replicaProperty("username");
+      String password = replicaProperty("password");
+
+      for (int i = 0; i < urls.length; i++) {
+        replicas.add(
+            createPool("flowdeck-replica-" + i, urls[i].trim(), driver, username, password));
+      }
+    }
+
+    return new ReplicaRoutingDataSource(primaryDataSource(), replicas);
+  }
+
+  /**
+   * Configura a fonte de dados (DataSource) usada pelo JPA. A obtenção da conexão é adiada até o
+   * primeiro comando SQL, para que o roteamento já conheça o indicador de somente leitura da
+   * transação corrente.
    *
    * @return DataSource configurado
    */
   @Bean
+  @Primary
   public DataSource dataSource() {
-    DriverManagerDataSource dataSource = new DriverManagerDataSource();
-    dataSource.setUrl(env.getProperty("spring.datasource.url"));
-    dataSource.setUsername(env.getProperty("spring.datasource.username"));
-    dataSource.setPassword(env.getProperty("spring.datasource.password"));
-    dataSource.setDriverClassName(env.getProperty("spring.datasource.driver-class-name"));
-    return dataSource;
+    return new LazyConnectionDataSourceProxy(routingDataSource());
+  }
+
+  /**
+   * Lê uma propriedade database.replica.*, usando o valor de spring.datasource.* quando ausente.
+   *
+   * @param name nome da propriedade
+   * @return valor configurado para as réplicas
+   */
+  private String replicaProperty(String name) {
+    return env.getProperty(
+        "database.replica." + name, env.getProperty("spring.datasource." + name));
+  }
+
+  /**
+   * Cria um pool de conexões Hikari com as configurações comuns de database.pool.*.
+   *
+   * @param poolName nome do pool, usado nas métricas
+   * @param url URL JDBC do banco
+   * @param driverClassName classe do driver JDBC
+   * @param username usuário do banco
+   * @param password senha do banco
+   * @return pool de conexões configurado
+   */
+  private HikariDataSource createPool(
+      String poolName, String url, String driverClassName, String username, String password) {
+    HikariConfig config = new HikariConfig();
+    config.setPoolName(poolName);
+    config.setJdbcUrl(url);
+    if (driverClassName != null) {
+      config.setDriverClassName(driverClassName);
+    }
+    config.setUsername(username);
+    config.setPassword(password);
+    configurePool(config);
+    return new HikariDataSource(config);
+  }
+
+  /**
+   * Aplica as configurações de dimensionamento, validação e detecção de vazamento do pool.
+   *
+   * @param config configuração Hikari a ser preenchida
+   */
+  private void configurePool(HikariConfig config) {
+    config.setMinimumIdle(env.getProperty("database.pool.initialSize", Integer.class, 5));
+    config.setMaximumPoolSize(env.getProperty("database.pool.maxSize", Integer.class, 20));
+    config.setConnectionTimeout(
+        env.getProperty("database.pool.connectionTimeout", Long.class, 30_000L));
+    config.setIdleTimeout(env.getProperty("database.pool.idleTimeout", Long.class, 600_000L));
+    config.setMaxLifetime(env.getProperty("database.pool.maxLifetime", Long.class, 1_800_000L));
+    config.setKeepaliveTime(env.getProperty("database.pool.keepaliveTime", Long.class, 0L));
+    config.setValidationTimeout(
+        env.getProperty("database.pool.validationTimeout", Long.class, 5_000L));
+    config.setLeakDetectionThreshold(
+        env.getProperty("database.pool.leakDetectionThreshold", Long.class, 0L));
+
+    // Sem query de teste o Hikari valida as conexões com Connection.isValid() (JDBC4)
+    String testQuery = env.getProperty("database.pool.connectionTestQuery");
+    if (testQuery != null && !testQuery.isBlank()) {
+      config.setConnectionTestQuery(testQuery);
+    }
+
+    config.setMetricsTrackerFactory(poolMetricsTrackerFactory());
   }
 
   /**
@@ -73,6 +190,7 @@ public class PersistenceConfig {
   public PlatformTransactionManager transactionManager() {
     JpaTransactionManager transactionManager = new JpaTransactionManager();
     transactionManager.setEntityManagerFactory(entityManagerFactory().getObject());
+    transactionManager.setDataSource(dataSource());
     return transactionManager;
   }
 
@@ -102,14 +220,38 @@ public class PersistenceConfig {
         "hibernate.format_sql",
         env.getProperty("spring.jpa.properties.hibernate.format_sql", "true"));
 
+    // Colunas em snake_case, como nos changesets do Liquibase e no SQL nativo dos DAOs
+    properties.setProperty(
+        "hibernate.physical_naming_strategy",
+        "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy");
+
     // Configurações de performance
     properties.setProperty("hibernate.jdbc.batch_size", "50");
     properties.setProperty("hibernate.order_inserts", "true");
     properties.setProperty("hibernate.order_updates", "true");
     properties.setProperty("hibernate.jdbc.batch_versioned_data", "true");
 
-    // Configuração para carregar lazy collections quando necessário
-    properties.setProperty("hibernate.enable_lazy_load_no_trans", "true");
+    // Estatísticas do Hibernate (batches JDBC e acertos/falhas/evictions do cache de segundo nível)
+    properties.setProperty(
+        "hibernate.generate_statistics",
+        env.getProperty("spring.jpa.properties.hibernate.generate_statistics", "true"));
+    properties.setProperty(
+        "hibernate.session.events.log",
+        env.getProperty("spring.jpa.properties.hibernate.session.events.log", "false"));
+
+    // Cache de segundo nível (Ehcache via JCache) para os metadados de boards e colunas
+    properties.setProperty(
+        "hibernate.cache.use_second_level_cache",
+        env.getProperty("spring.jpa.properties.hibernate.cache.use_second_level_cache", "true"));
+    properties.setProperty(
+        "hibernate.cache.use_query_cache",
+        env.getProperty("spring.jpa.properties.hibernate.cache.use_query_cache", "true"));
+    properties.setProperty("hibernate.cache.region.factory_class", "jcache");
+    properties.setProperty(
+        "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+    properties.setProperty("hibernate.javax.cache.uri", "ehcache.xml");
+    // Toda região precisa estar declarada (e limitada) no ehcache.xml
+    properties.setProperty("hibernate.javax.cache.missing_cache_strategy", "fail");
 
     return properties;
   }
@@ -0,0 +1,130 @@
+package br.com.devcoelho.taskboard.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas de um pool de conexões Hikari. Recebe os eventos do pool (aquisição, criação, uso e
+ * timeout de conexões) e mantém contadores e um histograma de tempo de aquisição com buckets fixos.
+ */
+public class PoolMetrics implements IMetricsTracker {
+
+  /** Limites superiores (em microssegundos) dos buckets do histograma de aquisição. */
+  private static final long[] ACQUIRE_BUCKETS_MICROS = {
+    100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000
+  };
+
+  private final String poolName;
+  private final PoolStats poolStats;
+
+  private final LongAdder[] acquireBuckets = new LongAdder[ACQUIRE_BUCKETS_MICROS.length + 1];
+  private final LongAdder acquireCount = new LongAdder();
+  private final LongAdder acquireNanosTotal = new LongAdder();
+  private final LongAdder connectionsCreated = new LongAdder();
+  private final LongAdder usageMillisTotal = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+
+  public PoolMetrics(String poolName, PoolStats poolStats) {
+    this.poolName = poolName;
+    this.poolStats = poolStats;
+    for (int i = 0; i < acquireBuckets.length; i++) {
+      acquireBuckets[i] = new LongAdder();
+    }
+  }
+
+  @Override
+  public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+    long micros = TimeUnit.NANOSECONDS.toMicros(elapsedAcquiredNanos);
+    int bucket = 0;
+    while (bucket < ACQUIRE_BUCKETS_MICROS.length && micros > ACQUIRE_BUCKETS_MICROS[bucket]) {
+      bucket++;
+    }
+    acquireBuckets[bucket].increment();
+    acquireCount.increment();
+    acquireNanosTotal.add(elapsedAcquiredNanos);
+  }
+
+  @Override
+  public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+    connectionsCreated.increment();
+  }
+
+  @Override
+  public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+    usageMillisTotal.add(elapsedBorrowedMillis);
+  }
+
+  @Override
+  public void recordConnectionTimeout() {
+    timeouts.increment();
+  }
+
+  public String getPoolName() {
+    return poolName;
+  }
+
+  public int getActiveConnections() {
+    return poolStats.getActiveConnections();
+  }
+
+  public int getIdleConnections() {
+    return poolStats.getIdleConnections();
+  }
+
+  public int getPendingThreads() {
+    return poolStats.getPendingThreads();
+  }
+
+  public int getTotalConnections() {
+    return poolStats.getTotalConnections();
+  }
+
+  public int getMaxConnections() {
+    return poolStats.getMaxConnections();
+  }
+
+  public int getMinConnections() {
+    return poolStats.getMinConnections();
+  }
+
+  public long getAcquireCount() {
+    return acquireCount.sum();
+  }
+
+  public double getAverageAcquireMillis() {
+    long count = acquireCount.sum();
+    return count == 0 ? 0.0 : acquireNanosTotal.sum() / (count * 1_000_000.0);
+  }
+
+  public long getConnectionsCreated() {
+    return connectionsCreated.sum();
+  }
+
+  public long getUsageMillisTotal() {
+    return usageMillisTotal.sum();
+  }
+
+  public long getTimeouts() {
+    return timeouts.sum();
+  }
+
+  /**
+   * Retorna o histograma de tempo de aquisição. As chaves indicam o limite superior de cada bucket
+   * (por exemplo, "le_1000us") e os valores são contagens não cumulativas.
+   *
+   * @return mapa ordenado com a contagem por bucket
+   */
+  public Map<String, Long> getAcquireTimeHistogram() {
+    Map<String, Long> histogram = new LinkedHashMap<>();
+    for (int i = 0; i < ACQUIRE_BUCKETS_MICROS.length; i++) {
+      histogram.put("le_" + ACQUIRE_BUCKETS_MICROS[i] + "us", acquireBuckets[i].sum());
+    }
+    int last = ACQUIRE_BUCKETS_MICROS.length;
+    histogram.put("gt_" + ACQUIRE_BUCKETS_MICROS[last - 1] + "us", acquireBuckets[last].sum());
+    return histogram;
+  }
+}
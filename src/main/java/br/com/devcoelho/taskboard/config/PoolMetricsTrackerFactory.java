@@ -0,0 +1,34 @@
+package br.com.devcoelho.taskboard.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fábrica de rastreadores de métricas para os pools Hikari. Mantém um registro das métricas de cada
+ * pool criado, permitindo que sejam consultadas pelo endpoint de métricas.
+ */
+public class PoolMetricsTrackerFactory implements MetricsTrackerFactory {
+
+  private final Map<String, PoolMetrics> pools = new ConcurrentHashMap<>();
+
+  @Override
+  public IMetricsTracker create(String poolName, PoolStats poolStats) {
+    PoolMetrics metrics = new PoolMetrics(poolName, poolStats);
+    pools.put(poolName, metrics);
+    return metrics;
+  }
+
+  /**
+   * Retorna as métricas de todos os pools registrados.
+   *
+   * @return coleção com as métricas de cada pool
+   */
+  public Collection<PoolMetrics> getPools() {
+    return Collections.unmodifiableCollection(pools.values());
+  }
+}
@@ -0,0 +1,68 @@
+package br.com.devcoelho.taskboard.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor que implementa a garantia opcional de leitura das próprias escritas.
+ *
+ * <p>Toda requisição de escrita devolve o cabeçalho {@value #LAST_WRITE_HEADER} com o instante da
+ * escrita. Clientes que reenviam esse cabeçalho nas leituras seguintes têm suas consultas
+ * direcionadas ao banco primário enquanto a escrita for mais recente que a janela configurada em
+ * database.routing.readYourWritesWindow (tempo máximo esperado de atraso das réplicas).
+ */
+@Component
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+  public static final String LAST_WRITE_HEADER = "X-Last-Write-At";
+
+  private final long windowMillis;
+
+  public ReadYourWritesInterceptor(
+      @Value("${database.routing.readYourWritesWindow:5000}") long windowMillis) {
+    this.windowMillis = windowMillis;
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    long now = System.currentTimeMillis();
+
+    if (isWrite(request)) {
+      response.setHeader(LAST_WRITE_HEADER, String.valueOf(now));
+      return true;
+    }
+
+    String lastWrite = request.getHeader(LAST_WRITE_HEADER);
+    if (lastWrite != null && isWithinWindow(lastWrite, now)) {
+      DataSourceRoutingContext.forcePrimary();
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    DataSourceRoutingContext.clear();
+  }
+
+  private boolean isWrite(HttpServletRequest request) {
+    String method = request.getMethod();
+    return !HttpMethod.GET.matches(method)
+        && !HttpMethod.HEAD.matches(method)
+        && !HttpMethod.OPTIONS.matches(method);
+  }
+
+  private boolean isWithinWindow(String lastWrite, long now) {
+    try {
+      return now - Long.parseLong(lastWrite.trim()) < windowMillis;
+    } catch (NumberFormatException e) {
+      // Valor inválido: na dúvida, lê do primário
+      return true;
+    }
+  }
+}
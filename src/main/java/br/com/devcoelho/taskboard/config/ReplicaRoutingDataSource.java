@@ -0,0 +1,63 @@
+package br.com.devcoelho.taskboard.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * DataSource que encaminha transações somente leitura para as réplicas e todo o restante para o
+ * banco primário. As réplicas são escolhidas em rodízio (round-robin).
+ *
+ * <p>Deve ser usado por trás de um {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, pois o indicador de somente
+ * leitura da transação só fica disponível depois que a transação é iniciada.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+  static final String PRIMARY = "primary";
+  private static final String REPLICA_PREFIX = "replica-";
+
+  private final List<DataSource> replicas;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+    this.replicas = new ArrayList<>(replicas);
+
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(PRIMARY, primary);
+    for (int i = 0; i < this.replicas.size(); i++) {
+      targets.put(REPLICA_PREFIX + i, this.replicas.get(i));
+    }
+
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (replicas.isEmpty()
+        || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        || DataSourceRoutingContext.isPrimaryForced()) {
+      return PRIMARY;
+    }
+
+    int index = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    return REPLICA_PREFIX + index;
+  }
+
+  /** Fecha os pools das réplicas. O pool primário é gerenciado como um bean próprio. */
+  @Override
+  public void destroy() throws Exception {
+    for (DataSource replica : replicas) {
+      if (replica instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package br.com.devcoelho.taskboard.config;
+
+import br.com.devcoelho.taskboard.dto.PinnedThreadSiteDTO;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Detecta threads virtuais presas à thread do sistema (pinning), como ao bloquear em I/O dentro de
+ * um bloco {@code synchronized}. Com as threads virtuais ativas, assina o evento
+ * {@code jdk.VirtualThreadPinned} do JFR e agrupa as ocorrências pelo ponto da pilha onde a thread
+ * ficou presa; a primeira ocorrência de cada ponto vai para o log com a pilha.
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final String APPLICATION_PACKAGE = "br.com.devcoelho.taskboard.";
+  private static final int LOGGED_FRAMES = 12;
+
+  private final boolean virtualThreads;
+  private final Duration threshold;
+  private final Map<String, PinnedSite> sites = new ConcurrentHashMap<>();
+  private RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+      @Value("${flowdeck.threads.pinning-threshold:PT0.02S}") Duration threshold) {
+    this.virtualThreads = virtualThreads;
+    this.threshold = threshold;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!virtualThreads) {
+      return;
+    }
+
+    stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(PINNED_EVENT, this::record);
+    stream.startAsync();
+    log.info("Monitoring virtual thread pinning longer than {} ms", threshold.toMillis());
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (stream != null) {
+      stream.close();
+    }
+  }
+
+  /**
+   * Retorna os pontos em que threads virtuais ficaram presas, do mais frequente ao menos frequente.
+   *
+   * @return pontos com a quantidade de ocorrências e a maior duração
+   */
+  public List<PinnedThreadSiteDTO> getSites() {
+    return sites.entrySet().stream()
+        .map(
+            entry ->
+                PinnedThreadSiteDTO.builder()
+                    .site(entry.getKey())
+                    .applicationFrame(entry.getValue().applicationFrame)
+                    .count(entry.getValue().count.sum())
+                    .maxMillis(entry.getValue().maxMillis.get())
+                    .build())
+        .sorted(Comparator.comparingLong(PinnedThreadSiteDTO::getCount).reversed())
+        .toList();
+  }
+
+  private void record(RecordedEvent event) {
+    List<RecordedFrame> frames =
+        event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+    String site = firstFrame(frames, false);
+    long millis = event.getDuration().toMillis();
+
+    PinnedSite pinned = sites.get(site);
+    if (pinned == null) {
+      PinnedSite created = new PinnedSite(firstFrame(frames, true));
+      pinned = sites.putIfAbsent(site, created);
+      if (pinned == null) {
+        pinned = created;
+        log.warn("Virtual thread pinned for {} ms at {}:\n{}", millis, site, format(frames));
+      }
+    }
+    pinned.count.increment();
+    pinned.maxMillis.accumulate(millis);
+  }
+
+  /** Primeiro frame fora do JDK ou, com {@code applicationOnly}, do FlowDeck */
+  private static String firstFrame(List<RecordedFrame> frames, boolean applicationOnly) {
+    for (RecordedFrame frame : frames) {
+      String type = frame.getMethod().getType().getName();
+      boolean match =
+          applicationOnly
+              ? type.startsWith(APPLICATION_PACKAGE)
+              : !type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.");
+      if (match) {
+        return describe(frame);
+      }
+    }
+    if (applicationOnly) {
+      return null;
+    }
+    return frames.isEmpty() ? "unknown" : describe(frames.get(0));
+  }
+
+  private static String format(List<RecordedFrame> frames) {
+    StringBuilder trace = new StringBuilder();
+    frames.stream()
+        .limit(LOGGED_FRAMES)
+        .forEach(frame -> trace.append("\tat ").append(describe(frame)).append('\n'));
+    return trace.toString();
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return frame.getMethod().getType().getName()
+        + "."
+        + frame.getMethod().getName()
+        + ":"
+        + frame.getLineNumber();
+  }
+
+  private static final class PinnedSite {
+    private final String applicationFrame;
+    private final LongAdder count = new LongAdder();
+    private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+    private PinnedSite(String applicationFrame) {
+      this.applicationFrame = applicationFrame;
+    }
+  }
+}
@@ -3,12 +3,17 @@ package br.com.devcoelho.taskboard.controller;
 import br.com.devcoelho.taskboard.dto.BoardColumnDTO;
 import br.com.devcoelho.taskboard.dto.mappers.BoardColumnMapper;
 import br.com.devcoelho.taskboard.dto.request.CreateBoardColumnRequest;
+import br.com.devcoelho.taskboard.dto.request.MoveBoardColumnRequest;
 import br.com.devcoelho.taskboard.dto.request.UpdateBoardColumnRequest;
 import br.com.devcoelho.taskboard.model.BoardColumn;
 import br.com.devcoelho.taskboard.service.BoardColumnService;
+import br.com.devcoelho.taskboard.service.BoardVersionService;
+import br.com.devcoelho.taskboard.service.ConflictRetryExecutor;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,17 +25,37 @@ public class BoardColumnController {
 
   private final BoardColumnService boardColumnService;
   private final BoardColumnMapper boardColumnMapper;
+  private final ConflictRetryExecutor conflictRetry;
+  private final BoardVersionService boardVersionService;
 
   @GetMapping
-  public ResponseEntity<List<BoardColumnDTO>> getColumnsByBoardId(@PathVariable Long boardId) {
-    List<BoardColumn> columns = boardColumnService.findByBoardId(boardId);
-    return ResponseEntity.ok(boardColumnMapper.toDtoList(columns));
+  public ResponseEntity<List<BoardColumnDTO>> getColumnsByBoardId(
+      @PathVariable Long boardId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+    // A lista de colunas muda junto com a versão do board, lida do cache antes das colunas
+    Optional<Long> version = boardVersionService.cachedVersion(boardId);
+    if (version.isEmpty()) {
+      return ResponseEntity.ok(List.of());
+    }
+    if (EntityTags.matchesIfNoneMatch(ifNoneMatch, version.get())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(EntityTags.of(version.get()))
+          .build();
+    }
+
+    List<BoardColumn> columns = boardColumnService.findByBoardIdWithCards(boardId);
+    return ResponseEntity.ok()
+        .eTag(EntityTags.of(version.get()))
+        .body(boardColumnMapper.toDtoList(columns));
   }
 
   @GetMapping("/{id}")
   public ResponseEntity<BoardColumnDTO> getColumnById(@PathVariable Long id) {
-    BoardColumn column = boardColumnService.findById(id);
-    return ResponseEntity.ok(boardColumnMapper.toDto(column));
+    BoardColumn column = boardColumnService.findByIdWithCards(id);
+    return ResponseEntity.ok()
+        .eTag(EntityTags.of(column.getVersion()))
+        .body(boardColumnMapper.toDto(column));
   }
 
   @PostMapping
@@ -40,21 +65,46 @@ public class BoardColumnController {
     BoardColumn column = new BoardColumn();
     column.setName(request.getName());
     column.setKind(request.getKind());
-    column.setOrder(request.getOrder());
 
-    BoardColumn createdColumn = boardColumnService.create(boardId, column);
+    BoardColumn createdColumn = boardColumnService.create(boardId, column, request.getOrder());
     return new ResponseEntity<>(boardColumnMapper.toDto(createdColumn), HttpStatus.CREATED);
   }
 
   @PutMapping("/{id}")
   public ResponseEntity<BoardColumnDTO> updateColumn(
-      @PathVariable Long id, @Valid @RequestBody UpdateBoardColumnRequest request) {
+      @PathVariable Long id,
+      @Valid @RequestBody UpdateBoardColumnRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+    BoardColumn columnDetails = new BoardColumn();
+    columnDetails.setName(request.getName());
+
+    // Sem If-Match a atualização é idempotente e pode ser repetida em caso de conflito
+    Long expectedVersion = EntityTags.parseIfMatch(ifMatch);
+    BoardColumn updatedColumn =
+        expectedVersion == null
+            ? conflictRetry.execute(() -> boardColumnService.update(id, columnDetails, null))
+            : boardColumnService.update(id, columnDetails, expectedVersion);
+
+    return ResponseEntity.ok()
+        .eTag(EntityTags.of(updatedColumn.getVersion()))
+        .body(boardColumnMapper.toDto(updatedColumn));
+  }
+
+  @PostMapping("/{id}/move")
+  public ResponseEntity<BoardColumnDTO> moveColumn(
+      @PathVariable Long boardId,
+      @PathVariable Long id,
+      @RequestBody MoveBoardColumnRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-    BoardColumn existingColumn = boardColumnService.findById(id);
-    existingColumn.setName(request.getName());
+    BoardColumn movedColumn =
+        boardColumnService.move(
+            boardId, id, request.getAfterColumnId(), EntityTags.parseIfMatch(ifMatch));
 
-    BoardColumn updatedColumn = boardColumnService.update(id, existingColumn);
-    return ResponseEntity.ok(boardColumnMapper.toDto(updatedColumn));
+    return ResponseEntity.ok()
+        .eTag(EntityTags.of(movedColumn.getVersion()))
+        .body(boardColumnMapper.toDtoWithoutCards(movedColumn));
   }
 
   @PostMapping("/reorder")
@@ -1,37 +1,98 @@
 package br.com.devcoelho.taskboard.controller;
 
+import br.com.devcoelho.taskboard.dto.BoardChangesDTO;
 import br.com.devcoelho.taskboard.dto.BoardDTO;
 import br.com.devcoelho.taskboard.dto.BoardSummaryDTO;
 import br.com.devcoelho.taskboard.dto.mappers.BoardMapper;
 import br.com.devcoelho.taskboard.dto.request.CreateBoardRequest;
 import br.com.devcoelho.taskboard.dto.request.UpdateBoardRequest;
 import br.com.devcoelho.taskboard.model.Board;
+import br.com.devcoelho.taskboard.service.BoardChangeService;
+import br.com.devcoelho.taskboard.service.BoardEventBroadcaster;
+import br.com.devcoelho.taskboard.service.BoardExportService;
 import br.com.devcoelho.taskboard.service.BoardService;
+import br.com.devcoelho.taskboard.service.BoardVersionService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/boards")
 @RequiredArgsConstructor
 public class BoardController {
 
+  /** Cabeçalho com o total de boards, já que a listagem é paginada. */
+  public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
   private final BoardService boardService;
   private final BoardMapper boardMapper;
+  private final BoardExportService boardExportService;
+  private final BoardEventBroadcaster boardEventBroadcaster;
+  private final BoardChangeService boardChangeService;
+  private final BoardVersionService boardVersionService;
 
   @GetMapping
-  public ResponseEntity<List<BoardSummaryDTO>> getAllBoards() {
-    List<Board> boards = boardService.findAll();
-    return ResponseEntity.ok(boardMapper.toSummaryDtoList(boards));
+  public ResponseEntity<List<BoardSummaryDTO>> getAllBoards(
+      @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+    Page<BoardSummaryDTO> page = boardService.findSummaries(pageable);
+    return ResponseEntity.ok()
+        .header(TOTAL_COUNT_HEADER, String.valueOf(page.getTotalElements()))
+        .body(page.getContent());
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<BoardDTO> getBoardById(@PathVariable Long id) {
+  public ResponseEntity<BoardDTO> getBoardById(
+      @PathVariable Long id,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+    // A versão vem do cache e é lida antes do board: uma alteração entre as duas leituras só deixa
+    // a ETag mais antiga que o corpo, e o próximo pedido condicional recebe o board de novo
+    Optional<Long> version = boardVersionService.cachedVersion(id);
+    if (version.isPresent() && EntityTags.matchesIfNoneMatch(ifNoneMatch, version.get())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(EntityTags.of(version.get()))
+          .build();
+    }
+
+    Board board = boardService.findByIdWithAllRelations(id);
+    return ResponseEntity.ok()
+        .eTag(EntityTags.of(version.orElse(0L)))
+        .body(boardMapper.toDto(board));
+  }
+
+  @GetMapping(value = "/{id}/export", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportBoard(@PathVariable Long id) {
+    // A busca acontece antes de iniciar a resposta, para que um board inexistente resulte em 404
     Board board = boardService.findById(id);
-    return ResponseEntity.ok(boardMapper.toDto(board));
+
+    StreamingResponseBody body = out -> boardExportService.exportBoard(board, out);
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"board-" + id + ".json\"")
+        .body(body);
+  }
+
+  @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamBoardEvents(@PathVariable Long id) {
+    // A busca acontece antes de abrir o stream, para que um board inexistente resulte em 404
+    boardService.findById(id);
+    return boardEventBroadcaster.subscribe(id);
+  }
+
+  @GetMapping("/{id}/changes")
+  public ResponseEntity<BoardChangesDTO> getBoardChanges(
+      @PathVariable Long id, @RequestParam(required = false) Long since) {
+    return ResponseEntity.ok(boardChangeService.findChanges(id, since));
   }
 
   @PostMapping
@@ -2,14 +2,21 @@ package br.com.devcoelho.taskboard.controller;
 
 import br.com.devcoelho.taskboard.dto.CardDTO;
 import br.com.devcoelho.taskboard.dto.CardSummaryDTO;
+import br.com.devcoelho.taskboard.dto.CursorPage;
 import br.com.devcoelho.taskboard.dto.mappers.CardMapper;
 import br.com.devcoelho.taskboard.dto.request.CreateCardRequest;
+import br.com.devcoelho.taskboard.dto.request.CreateCardsRequest;
+import br.com.devcoelho.taskboard.dto.request.PositionCardRequest;
 import br.com.devcoelho.taskboard.dto.request.UpdateCardRequest;
 import br.com.devcoelho.taskboard.model.Card;
 import br.com.devcoelho.taskboard.service.CardService;
+import br.com.devcoelho.taskboard.service.ConflictRetryExecutor;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,25 +26,63 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class CardController {
 
+  /** Cabeçalho com o cursor da próxima página; ausente na última página. */
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+  /** Cabeçalhos da RFC 7240 usados para dispensar o corpo da resposta de movimentação. */
+  public static final String PREFER_HEADER = "Prefer";
+
+  public static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+
+  private static final String RETURN_MINIMAL = "return=minimal";
+
   private final CardService cardService;
   private final CardMapper cardMapper;
+  private final ConflictRetryExecutor conflictRetry;
+
+  @Value("${flowdeck.cards.page-size.default:50}")
+  private int defaultPageSize;
+
+  @Value("${flowdeck.cards.page-size.max:200}")
+  private int maxPageSize;
 
   @GetMapping("/board/{boardId}")
-  public ResponseEntity<List<CardSummaryDTO>> getCardsByBoardId(@PathVariable Long boardId) {
-    List<Card> cards = cardService.findByBoardId(boardId);
-    return ResponseEntity.ok(cardMapper.toSummaryDtoList(cards));
+  public ResponseEntity<List<CardSummaryDTO>> getCardsByBoardId(
+      @PathVariable Long boardId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+
+    CursorPage<Card> page = cardService.findPageByBoardId(boardId, cursor, pageSize(size));
+    return withNextCursor(page).body(cardMapper.toSummaryDtoList(page.getItems()));
   }
 
   @GetMapping("/column/{columnId}")
-  public ResponseEntity<List<CardDTO>> getCardsByColumnId(@PathVariable Long columnId) {
-    List<Card> cards = cardService.findByBoardColumnId(columnId);
-    return ResponseEntity.ok(cardMapper.toDtoList(cards));
+  public ResponseEntity<List<CardDTO>> getCardsByColumnId(
+      @PathVariable Long columnId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+
+    CursorPage<Card> page = cardService.findPageByBoardColumnId(columnId, cursor, pageSize(size));
+    return withNextCursor(page).body(cardMapper.toDtoList(page.getItems()));
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<CardDTO> getCardById(@PathVariable Long id) {
+  public ResponseEntity<CardDTO> getCardById(
+      @PathVariable Long id,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+    // Com If-None-Match, só a versão é consultada; o card é carregado se tiver mudado
+    if (ifNoneMatch != null) {
+      Optional<Long> version = cardService.findVersion(id);
+      if (version.isPresent() && EntityTags.matchesIfNoneMatch(ifNoneMatch, version.get())) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(EntityTags.of(version.get()))
+            .build();
+      }
+    }
+
     Card card = cardService.findById(id);
-    return ResponseEntity.ok(cardMapper.toDto(card));
+    return ResponseEntity.ok().eTag(EntityTags.of(card.getVersion())).body(cardMapper.toDto(card));
   }
 
   @PostMapping("/board/{boardId}")
@@ -52,28 +97,87 @@ public class CardController {
     return new ResponseEntity<>(cardMapper.toDto(createdCard), HttpStatus.CREATED);
   }
 
+  @PostMapping("/board/{boardId}/bulk")
+  public ResponseEntity<List<CardDTO>> createCards(
+      @PathVariable Long boardId, @Valid @RequestBody CreateCardsRequest request) {
+
+    List<Card> cards =
+        request.getCards().stream()
+            .map(
+                item -> {
+                  Card card = new Card();
+                  card.setTitle(item.getTitle());
+                  card.setDescription(item.getDescription());
+                  return card;
+                })
+            .toList();
+
+    List<Card> createdCards = cardService.createAll(boardId, cards);
+    return new ResponseEntity<>(cardMapper.toDtoList(createdCards), HttpStatus.CREATED);
+  }
+
   @PutMapping("/{id}")
   public ResponseEntity<CardDTO> updateCard(
-      @PathVariable Long id, @Valid @RequestBody UpdateCardRequest request) {
-
-    Card existingCard = cardService.findById(id);
-    existingCard.setTitle(request.getTitle());
-    existingCard.setDescription(request.getDescription());
-
-    Card updatedCard = cardService.update(id, existingCard);
-    return ResponseEntity.ok(cardMapper.toDto(updatedCard));
+      @PathVariable Long id,
+      @Valid @RequestBody UpdateCardRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+    Card cardDetails = new Card();
+    cardDetails.setTitle(request.getTitle());
+    cardDetails.setDescription(request.getDescription());
+
+    // Sem If-Match a atualização é idempotente e pode ser repetida em caso de conflito
+    Long expectedVersion = EntityTags.parseIfMatch(ifMatch);
+    Card updatedCard =
+        expectedVersion == null
+            ? conflictRetry.execute(() -> cardService.update(id, cardDetails, null))
+            : cardService.update(id, cardDetails, expectedVersion);
+
+    return ResponseEntity.ok()
+        .eTag(EntityTags.of(updatedCard.getVersion()))
+        .body(cardMapper.toDto(updatedCard));
   }
 
   @PostMapping("/{id}/move/{columnId}")
-  public ResponseEntity<CardDTO> moveCard(@PathVariable Long id, @PathVariable Long columnId) {
+  public ResponseEntity<CardDTO> moveCard(
+      @PathVariable Long id,
+      @PathVariable Long columnId,
+      @RequestHeader(value = PREFER_HEADER, required = false) String prefer,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+    Long expectedVersion = EntityTags.parseIfMatch(ifMatch);
+
+    // Com "Prefer: return=minimal" o card não é relido após o UPDATE
+    if (RETURN_MINIMAL.equalsIgnoreCase(prefer)) {
+      cardService.move(id, columnId, expectedVersion);
+      return ResponseEntity.noContent().header(PREFERENCE_APPLIED_HEADER, RETURN_MINIMAL).build();
+    }
+
+    Card movedCard = cardService.moveCard(id, columnId, expectedVersion);
+    return ResponseEntity.ok()
+        .eTag(EntityTags.of(movedCard.getVersion()))
+        .body(cardMapper.toDto(movedCard));
+  }
+
+  @PostMapping("/{id}/position")
+  public ResponseEntity<CardDTO> positionCard(
+      @PathVariable Long id,
+      @RequestBody PositionCardRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-    Card movedCard = cardService.moveCard(id, columnId);
-    return ResponseEntity.ok(cardMapper.toDto(movedCard));
+    Card positionedCard =
+        cardService.position(
+            id, request.getColumnId(), request.getAfterCardId(), EntityTags.parseIfMatch(ifMatch));
+
+    return ResponseEntity.ok()
+        .eTag(EntityTags.of(positionedCard.getVersion()))
+        .body(cardMapper.toDto(positionedCard));
   }
 
   @PostMapping("/{id}/cancel")
   public ResponseEntity<CardDTO> cancelCard(@PathVariable Long id) {
-    Card canceledCard = cardService.cancelCard(id);
+    // Cancelar é idempotente: em caso de conflito a operação é repetida com o card relido
+    Card canceledCard = conflictRetry.execute(() -> cardService.cancelCard(id));
     return ResponseEntity.ok(cardMapper.toDto(canceledCard));
   }
 
@@ -82,4 +186,20 @@ public class CardController {
     cardService.delete(id);
     return ResponseEntity.noContent().build();
   }
+
+  /** Tamanho da página pedido pelo cliente, limitado ao máximo configurado */
+  private int pageSize(Integer size) {
+    if (size == null || size < 1) {
+      return defaultPageSize;
+    }
+    return Math.min(size, maxPageSize);
+  }
+
+  private ResponseEntity.BodyBuilder withNextCursor(CursorPage<?> page) {
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+    if (page.getNextCursor() != null) {
+      response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+    }
+    return response;
+  }
 }
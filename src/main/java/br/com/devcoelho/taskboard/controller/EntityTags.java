@@ -0,0 +1,71 @@
+package br.com.devcoelho.taskboard.controller;
+
+/**
+ * Conversão entre a versão das entidades e os cabeçalhos ETag, If-Match e If-None-Match. A ETag de
+ * um card ou de uma coluna é a sua versão entre aspas, por exemplo {@code "3"}; a de um board e da
+ * lista de colunas dele é a versão dos dados do board.
+ */
+final class EntityTags {
+
+  private EntityTags() {}
+
+  /**
+   * Valor da ETag para a versão informada; o Spring acrescenta as aspas.
+   *
+   * @param version versão da entidade
+   * @return versão em texto
+   */
+  static String of(Long version) {
+    return String.valueOf(version);
+  }
+
+  /**
+   * Extrai a versão esperada do cabeçalho If-Match.
+   *
+   * @param ifMatch valor do cabeçalho, ou null se ausente
+   * @return versão esperada, ou null se o cabeçalho estiver ausente ou for "*"
+   * @throws IllegalArgumentException se o valor não for uma ETag forte com uma versão
+   */
+  static Long parseIfMatch(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+      return null;
+    }
+
+    String tag = ifMatch.trim();
+    if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+      tag = tag.substring(1, tag.length() - 1);
+    }
+
+    try {
+      return Long.valueOf(tag);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+    }
+  }
+
+  /**
+   * Verifica se o cabeçalho If-None-Match contém a ETag da versão informada. A comparação é a
+   * fraca da RFC 9110: {@code W/"3"} também corresponde à versão 3.
+   *
+   * @param ifNoneMatch valor do cabeçalho, ou null se ausente
+   * @param version versão atual do recurso
+   * @return true se o cliente já tem a versão e a resposta pode ser 304
+   */
+  static boolean matchesIfNoneMatch(String ifNoneMatch, Long version) {
+    if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+      return false;
+    }
+
+    String current = "\"" + of(version) + "\"";
+    for (String tag : ifNoneMatch.split(",")) {
+      tag = tag.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals("*") || tag.equals(current)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
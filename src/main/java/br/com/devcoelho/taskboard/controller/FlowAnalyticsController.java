@@ -0,0 +1,101 @@
+package br.com.devcoelho.taskboard.controller;
+
+import br.com.devcoelho.taskboard.dao.CardFlowDAO;
+import br.com.devcoelho.taskboard.dto.BlockReasonDTO;
+import br.com.devcoelho.taskboard.dto.BoardPercentilesDTO;
+import br.com.devcoelho.taskboard.dto.ColumnTimeDTO;
+import br.com.devcoelho.taskboard.dto.CumulativeFlowDTO;
+import br.com.devcoelho.taskboard.dto.CycleTimeDTO;
+import br.com.devcoelho.taskboard.service.BlockReasonTracker;
+import br.com.devcoelho.taskboard.service.ConflictRetryExecutor;
+import br.com.devcoelho.taskboard.service.CumulativeFlowService;
+import br.com.devcoelho.taskboard.service.DurationSketchService;
+import br.com.devcoelho.taskboard.service.FlowAnalyticsService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/boards/{boardId}/analytics")
+@RequiredArgsConstructor
+public class FlowAnalyticsController {
+
+  private final FlowAnalyticsService flowAnalyticsService;
+  private final CumulativeFlowService cumulativeFlowService;
+  private final DurationSketchService durationSketchService;
+  private final BlockReasonTracker blockReasonTracker;
+  private final ConflictRetryExecutor conflictRetry;
+
+  // Período usado quando o cliente não informa o início, contado a partir do fim
+  @Value("${flowdeck.analytics.default-period:P30D}")
+  private Duration defaultPeriod;
+
+  @GetMapping("/cycle-time")
+  public ResponseEntity<CycleTimeDTO> getCycleTime(
+      @PathVariable Long boardId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          OffsetDateTime from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          OffsetDateTime to) {
+
+    OffsetDateTime end = to != null ? to : OffsetDateTime.now();
+    OffsetDateTime start = from != null ? from : end.minus(defaultPeriod);
+    return ResponseEntity.ok(flowAnalyticsService.getCycleTime(boardId, start, end));
+  }
+
+  @GetMapping("/time-in-column")
+  public ResponseEntity<List<ColumnTimeDTO>> getTimeInColumns(
+      @PathVariable Long boardId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          OffsetDateTime from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          OffsetDateTime to) {
+
+    OffsetDateTime end = to != null ? to : OffsetDateTime.now();
+    OffsetDateTime start = from != null ? from : end.minus(defaultPeriod);
+    return ResponseEntity.ok(flowAnalyticsService.getTimeInColumns(boardId, start, end));
+  }
+
+  @GetMapping("/cfd")
+  public ResponseEntity<CumulativeFlowDTO> getCumulativeFlow(
+      @PathVariable Long boardId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate to) {
+
+    LocalDate end = to != null ? to : LocalDate.now(CardFlowDAO.FLOW_ZONE);
+    LocalDate start = from != null ? from : end.minusDays(defaultPeriod.toDays() - 1);
+    return ResponseEntity.ok(cumulativeFlowService.getCumulativeFlow(boardId, start, end));
+  }
+
+  @PostMapping("/cfd/rebuild")
+  public ResponseEntity<Map<String, Object>> rebuildCumulativeFlow(@PathVariable Long boardId) {
+    int rows = cumulativeFlowService.rebuild(boardId);
+    return ResponseEntity.ok(Map.of("boardId", boardId, "rows", rows));
+  }
+
+  @GetMapping("/percentiles")
+  public ResponseEntity<BoardPercentilesDTO> getPercentiles(@PathVariable Long boardId) {
+    return ResponseEntity.ok(durationSketchService.getPercentiles(boardId));
+  }
+
+  @PostMapping("/percentiles/rebuild")
+  public ResponseEntity<BoardPercentilesDTO> rebuildPercentiles(@PathVariable Long boardId) {
+    // Amostras somadas durante a reconstrução fazem a gravação falhar por conflito de versão
+    return ResponseEntity.ok(conflictRetry.execute(() -> durationSketchService.rebuild(boardId)));
+  }
+
+  @GetMapping("/block-reasons")
+  public ResponseEntity<List<BlockReasonDTO>> getBlockReasons(
+      @PathVariable Long boardId, @RequestParam(defaultValue = "10") int limit) {
+    return ResponseEntity.ok(blockReasonTracker.topReasons(boardId, limit));
+  }
+}
@@ -0,0 +1,63 @@
+package br.com.devcoelho.taskboard.controller;
+
+import br.com.devcoelho.taskboard.config.CacheMetrics;
+import br.com.devcoelho.taskboard.config.PoolMetrics;
+import br.com.devcoelho.taskboard.config.PoolMetricsTrackerFactory;
+import br.com.devcoelho.taskboard.config.VirtualThreadPinningMonitor;
+import br.com.devcoelho.taskboard.dto.CacheRegionMetricsDTO;
+import br.com.devcoelho.taskboard.dto.PinnedThreadSiteDTO;
+import br.com.devcoelho.taskboard.dto.PoolMetricsDTO;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+
+  private final PoolMetricsTrackerFactory poolMetricsTrackerFactory;
+  private final CacheMetrics cacheMetrics;
+  private final VirtualThreadPinningMonitor pinningMonitor;
+
+  @GetMapping("/datasource")
+  public ResponseEntity<List<PoolMetricsDTO>> getDataSourceMetrics() {
+    List<PoolMetricsDTO> pools =
+        poolMetricsTrackerFactory.getPools().stream()
+            .sorted(Comparator.comparing(PoolMetrics::getPoolName))
+            .map(this::toDto)
+            .toList();
+    return ResponseEntity.ok(pools);
+  }
+
+  @GetMapping("/cache")
+  public ResponseEntity<List<CacheRegionMetricsDTO>> getCacheMetrics() {
+    return ResponseEntity.ok(cacheMetrics.getRegions());
+  }
+
+  /** Pontos em que threads virtuais ficaram presas; vazio com as threads de plataforma */
+  @GetMapping("/pinning")
+  public ResponseEntity<List<PinnedThreadSiteDTO>> getPinningMetrics() {
+    return ResponseEntity.ok(pinningMonitor.getSites());
+  }
+
+  private PoolMetricsDTO toDto(PoolMetrics metrics) {
+    return PoolMetricsDTO.builder()
+        .poolName(metrics.getPoolName())
+        .activeConnections(metrics.getActiveConnections())
+        .idleConnections(metrics.getIdleConnections())
+        .pendingThreads(metrics.getPendingThreads())
+        .totalConnections(metrics.getTotalConnections())
+        .minConnections(metrics.getMinConnections())
+        .maxConnections(metrics.getMaxConnections())
+        .connectionsCreated(metrics.getConnectionsCreated())
+        .connectionTimeouts(metrics.getTimeouts())
+        .acquireCount(metrics.getAcquireCount())
+        .averageAcquireMillis(metrics.getAverageAcquireMillis())
+        .usageMillisTotal(metrics.getUsageMillisTotal())
+        .acquireTimeHistogram(metrics.getAcquireTimeHistogram())
+        .build();
+  }
+}
@@ -0,0 +1,61 @@
+package br.com.devcoelho.taskboard.controller;
+
+import br.com.devcoelho.taskboard.dto.ActivityReportDTO;
+import br.com.devcoelho.taskboard.dto.ReportJobDTO;
+import br.com.devcoelho.taskboard.service.ReportJobService;
+import br.com.devcoelho.taskboard.service.ReportService;
+import java.net.URI;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+  private final ReportService reportService;
+  private final ReportJobService reportJobService;
+
+  @Value("${flowdeck.analytics.default-period:P30D}")
+  private Duration defaultPeriod;
+
+  @GetMapping("/activity")
+  public ResponseEntity<ActivityReportDTO> getActivityReport(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          OffsetDateTime from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          OffsetDateTime to) {
+
+    OffsetDateTime end = to != null ? to : OffsetDateTime.now();
+    OffsetDateTime start = from != null ? from : end.minus(defaultPeriod);
+    return ResponseEntity.ok(reportService.generateActivityReport(start, end));
+  }
+
+  /** Agenda o relatório de eficiência de workflow do board; a resposta traz o job */
+  @PostMapping("/jobs")
+  public ResponseEntity<ReportJobDTO> submitWorkflowReport(@RequestParam Long boardId) {
+    ReportJobDTO job = reportJobService.submit(boardId);
+    return ResponseEntity.accepted()
+        .location(URI.create("/api/reports/jobs/" + job.getId()))
+        .body(job);
+  }
+
+  /** Situação do job; com {@code wait}, a resposta é adiada até a conclusão ou o fim da espera */
+  @GetMapping("/jobs/{id}")
+  public CompletableFuture<ReportJobDTO> getJob(
+      @PathVariable String id, @RequestParam(defaultValue = "PT0S") Duration wait) {
+    return reportJobService.await(id, wait);
+  }
+
+  @GetMapping("/jobs/{id}/result")
+  public ResponseEntity<Map<String, Object>> getJobResult(@PathVariable String id) {
+    return ResponseEntity.ok(reportJobService.getResult(id));
+  }
+}
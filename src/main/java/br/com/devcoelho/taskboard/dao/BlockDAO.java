@@ -1,9 +1,12 @@
 package br.com.devcoelho.taskboard.dao;
 
+import br.com.devcoelho.taskboard.dto.BlockReasonCount;
 import br.com.devcoelho.taskboard.model.Block;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Interface DAO para operações de acesso a dados relacionadas à entidade Block. Fornece métodos
@@ -21,14 +24,31 @@ public interface BlockDAO {
    */
   List<Block> findByDateRange(OffsetDateTime startDate, OffsetDateTime endDate, boolean activeOnly);
 
+  /**
+   * Conta os bloqueios iniciados no período, percorrendo apenas o índice de blocked_at.
+   *
+   * @param startDate data inicial
+   * @param endDate data final
+   * @return quantidade de bloqueios no período
+   */
+  long countByDateRange(OffsetDateTime startDate, OffsetDateTime endDate);
+
   /**
    * Busca motivos mais comuns de bloqueio.
    *
    * @param limit número máximo de motivos a retornar
-   * @return mapa com o motivo como chave e a contagem como valor
+   * @return mapa com o motivo como chave e a contagem como valor, do motivo mais comum ao menos
    */
   Map<String, Long> findMostCommonBlockReasons(int limit);
 
+  /**
+   * Conta os bloqueios por board e motivo, dos grupos maiores para os menores. O resultado é lido
+   * sob demanda e deve ser consumido dentro da transação.
+   *
+   * @return contagens por board e motivo
+   */
+  Stream<BlockReasonCount> streamReasonCountsByBoard();
+
   /**
    * Calcula a duração média de bloqueios por board.
    *
@@ -37,10 +57,25 @@ public interface BlockDAO {
   Map<Long, Double> calculateAverageBlockDurationByBoard();
 
   /**
-   * Busca bloqueios de longa duração (maiores que o parâmetro especificado).
+   * Busca a duração de cada bloqueio já encerrado dos cards de um board.
+   *
+   * @param boardId identificador do board
+   * @return duração de cada bloqueio encerrado
+   */
+  List<Duration> findClosedBlockDurations(Long boardId);
+
+  /**
+   * Busca bloqueios encerrados de longa duração, lendo o índice de duration_hours.
    *
    * @param hours duração mínima em horas
-   * @return lista de bloqueios de longa duração
+   * @return bloqueios encerrados com pelo menos essa duração, do mais longo ao mais curto
+   */
+  List<Block> findClosedBlocksLongerThan(int hours);
+
+  /**
+   * Busca o início de cada bloqueio ativo, a partir do bloqueio ativo de cada card.
+   *
+   * @return início de cada bloqueio ativo pelo id do bloqueio
    */
-  List<Block> findLongDurationBlocks(int hours);
+  Map<Long, OffsetDateTime> findActiveBlockTimes();
 }
@@ -0,0 +1,55 @@
+package br.com.devcoelho.taskboard.dao;
+
+import br.com.devcoelho.taskboard.model.ChangeFeedEntity;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interface DAO para o feed de alterações dos boards: cada versão do board registra as entidades
+ * alteradas nela, e os clientes consultam o que mudou desde a versão que já têm. As linhas mais
+ * antigas que o período de retenção são compactadas.
+ */
+public interface BoardChangeDAO {
+
+  /**
+   * Registra as entidades alteradas em uma versão do board, com uma única instrução.
+   *
+   * @param boardId identificador do board
+   * @param version versão do board em que as entidades foram alteradas
+   * @param entity tipo das entidades
+   * @param entityIds identificadores das entidades alteradas
+   * @return quantidade de registros gravados
+   */
+  int record(Long boardId, long version, ChangeFeedEntity entity, Collection<Long> entityIds);
+
+  /**
+   * Busca as entidades alteradas no board entre duas versões, pelo índice (board_id, version).
+   *
+   * @param boardId identificador do board
+   * @param since versão que o cliente já tem (exclusiva)
+   * @param until versão atual do board (inclusiva)
+   * @return identificadores sem repetição por tipo de entidade; tipos sem alteração ficam de fora
+   */
+  Map<ChangeFeedEntity, List<Long>> findChangedSince(Long boardId, long since, long until);
+
+  /**
+   * Avança a versão compactada de cada board até a maior versão registrada antes do corte. Deve
+   * ser chamado antes de {@link #deleteBefore}, com o mesmo corte, para que os clientes com versões
+   * removidas sejam orientados a reler o board.
+   *
+   * @param cutoff registros anteriores a este momento serão removidos
+   * @return quantidade de boards com a versão compactada atualizada
+   */
+  int markCompacted(OffsetDateTime cutoff);
+
+  /**
+   * Remove um lote de registros anteriores ao corte.
+   *
+   * @param cutoff momento de corte (exclusivo)
+   * @param limit máximo de registros removidos
+   * @return quantidade de registros removidos
+   */
+  int deleteBefore(OffsetDateTime cutoff, int limit);
+}
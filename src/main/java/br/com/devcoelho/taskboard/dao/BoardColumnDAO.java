@@ -18,6 +18,14 @@ public interface BoardColumnDAO {
    */
   List<BoardColumn> findEmptyColumns(Long boardId);
 
+  /**
+   * Carrega os cards das colunas informadas e os bloqueios desses cards, com uma consulta por
+   * nível. As colunas devem pertencer à transação corrente.
+   *
+   * @param columns colunas que terão os cards carregados
+   */
+  void fetchCardsWithBlocks(List<BoardColumn> columns);
+
   /**
    * Encontra a coluna mais populosa (com mais cards) de um board.
    *
@@ -35,11 +43,30 @@ public interface BoardColumnDAO {
   List<BoardColumn> findColumnsWithBlockedCards(Long boardId);
 
   /**
-   * Reorganiza as ordens das colunas em um board para eliminar lacunas. Por exemplo, se as ordens
-   * são 1, 3, 6, serão reorganizadas para 1, 2, 3.
+   * Busca a menor chave de ordenação do board maior que a informada, ignorando uma coluna. Usado
+   * para posicionar uma coluna logo após outra.
+   *
+   * @param boardId identificador do board
+   * @param rank chave de referência, ou null para buscar a primeira chave do board
+   * @param excludedColumnId coluna a ignorar (a que está sendo movida)
+   * @return chave seguinte, ou vazio se não houver coluna depois da referência
+   */
+  Optional<String> findNextRank(Long boardId, String rank, Long excludedColumnId);
+
+  /**
+   * Busca os boards que têm alguma coluna com chave de ordenação maior que o tamanho informado.
+   *
+   * @param maxLength tamanho máximo aceito para as chaves
+   * @return identificadores dos boards que precisam de rebalanceamento
+   */
+  List<Long> findBoardIdsWithRanksLongerThan(int maxLength);
+
+  /**
+   * Reescreve as chaves de ordenação das colunas de um board com chaves curtas e igualmente
+   * espaçadas, mantendo a ordem atual. Apenas as colunas cuja chave muda são atualizadas.
    *
    * @param boardId identificador do board
-   * @return lista de colunas com ordens atualizadas
+   * @return colunas do board na ordem atual
    */
-  List<BoardColumn> normalizeColumnOrders(Long boardId);
+  List<BoardColumn> rebalanceRanks(Long boardId);
 }
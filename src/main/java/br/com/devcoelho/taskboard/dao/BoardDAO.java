@@ -1,8 +1,13 @@
 package br.com.devcoelho.taskboard.dao;
 
+import br.com.devcoelho.taskboard.dto.BoardExportRow;
+import br.com.devcoelho.taskboard.dto.BoardSummaryDTO;
 import br.com.devcoelho.taskboard.model.Board;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 /**
  * Interface DAO para operações de acesso a dados relacionadas à entidade Board.
@@ -18,6 +23,14 @@ public interface BoardDAO {
      */
     List<Board> findMostActiveBoards(int limit);
 
+    /**
+     * Busca o resumo dos boards com mais cards, sem carregar as entidades.
+     *
+     * @param limit número máximo de boards a retornar
+     * @return resumos dos boards, do que tem mais cards ao que tem menos
+     */
+    List<BoardSummaryDTO> findMostActiveBoardSummaries(int limit);
+
     /**
      * Busca boards pelo nome contendo o texto e pela quantidade mínima de colunas.
      *
@@ -28,13 +41,42 @@ public interface BoardDAO {
     List<Board> findByNameAndMinColumns(String name, int minColumns);
 
     /**
-     * Busca board com todas as suas relações carregadas (colunas e cards).
+     * Busca board com todas as suas relações carregadas (colunas, cards e bloqueios dos cards).
      *
      * @param id identificador do board
      * @return o board com todas as relações, se existir
      */
     Optional<Board> findByIdWithAllRelations(Long id);
 
+    /**
+     * Carrega os cards das colunas dos boards informados em uma única consulta. Os boards devem ter
+     * sido buscados com as colunas na transação corrente.
+     *
+     * @param boards boards cujas colunas terão os cards carregados
+     */
+    void fetchColumnCards(List<Board> boards);
+
+    /**
+     * Busca uma página de resumos de boards. As quantidades de colunas e cards são calculadas com
+     * COUNT no banco, em uma única consulta, sem carregar colunas ou cards em memória.
+     *
+     * @param pageable página, tamanho e ordenação (por id ou name)
+     * @return página com os resumos dos boards
+     * @throws IllegalArgumentException se a ordenação usar uma propriedade não suportada
+     */
+    Page<BoardSummaryDTO> findSummaries(Pageable pageable);
+
+    /**
+     * Percorre as colunas, cards e bloqueios de um board com um cursor somente para frente, sem
+     * carregar entidades no contexto de persistência. Cada linha é entregue ao consumidor assim que
+     * lida do banco, então a memória usada não depende do tamanho do board.
+     *
+     * @param boardId identificador do board
+     * @param fetchSize fetch size JDBC (Integer.MIN_VALUE ativa o streaming linha a linha do MySQL)
+     * @param consumer consumidor das linhas, chamado na ordem coluna, card e bloqueio
+     */
+    void scrollExportRows(Long boardId, int fetchSize, Consumer<BoardExportRow> consumer);
+
     /**
      * Conta o número total de cards em um board.
      *
@@ -0,0 +1,44 @@
+package br.com.devcoelho.taskboard.dao;
+
+import java.util.Optional;
+
+/**
+ * Interface DAO para a versão dos dados de cada board: um contador que avança a cada transação que
+ * altera o board. Resultados calculados sobre o board podem ser reaproveitados enquanto a versão
+ * não mudar.
+ */
+public interface BoardVersionDAO {
+
+  /**
+   * Avança a versão do board, criando a linha na primeira alteração. A linha fica bloqueada até o
+   * fim da transação.
+   *
+   * @param boardId identificador do board
+   * @return nova versão do board
+   */
+  long increment(Long boardId);
+
+  /**
+   * Busca a versão atual do board.
+   *
+   * @param boardId identificador do board
+   * @return versão atual, ou zero se o board nunca foi alterado
+   */
+  long findVersion(Long boardId);
+
+  /**
+   * Busca a versão atual de um board que existe, com uma única leitura por chave primária.
+   *
+   * @param boardId identificador do board
+   * @return versão atual (zero se o board nunca foi alterado), ou vazio se o board não existir
+   */
+  Optional<Long> findVersionIfBoardExists(Long boardId);
+
+  /**
+   * Busca a maior versão do board já removida do feed de alterações.
+   *
+   * @param boardId identificador do board
+   * @return versão compactada, ou zero se o feed do board nunca foi compactado
+   */
+  long findCompactedVersion(Long boardId);
+}
@@ -1,9 +1,12 @@
 package br.com.devcoelho.taskboard.dao;
 
+import br.com.devcoelho.taskboard.dto.CardCursor;
+import br.com.devcoelho.taskboard.dto.CardRankCursor;
 import br.com.devcoelho.taskboard.model.Card;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Interface DAO para operações de acesso a dados relacionadas à entidade Card. Fornece métodos
@@ -22,6 +25,18 @@ public interface CardDAO {
   List<Card> findByDateRangeAndBlockStatus(
       OffsetDateTime startDate, OffsetDateTime endDate, boolean blocked);
 
+  /**
+   * Conta os cards criados no período com o status de bloqueio informado. A contagem percorre
+   * apenas o índice (created_at, active_block_id).
+   *
+   * @param startDate data inicial do período
+   * @param endDate data final do período
+   * @param blocked status de bloqueio (true para bloqueados, false para desbloqueados)
+   * @return quantidade de cards
+   */
+  long countByDateRangeAndBlockStatus(
+      OffsetDateTime startDate, OffsetDateTime endDate, boolean blocked);
+
   /**
    * Obtém estatísticas de cards por coluna em um board específico.
    *
@@ -46,4 +61,80 @@ public interface CardDAO {
    * @return lista de cards ordenados pelo tempo na coluna
    */
   List<Card> findOldestCardsInColumn(Long columnId, int limit);
+
+  /**
+   * Busca uma página de cards de uma coluna, na ordem de posição (rank, id), a partir do cursor. A
+   * consulta percorre o índice (board_column_id, card_rank, id), então os cards já vêm ordenados e
+   * o custo de cada página não depende da posição na listagem.
+   *
+   * @param columnId identificador da coluna
+   * @param after cursor do último card da página anterior, ou null para a primeira página
+   * @param limit número máximo de cards a retornar
+   * @return cards da página, sem os bloqueios carregados
+   */
+  List<Card> findPageByBoardColumnId(Long columnId, CardRankCursor after, int limit);
+
+  /**
+   * Busca uma página de cards de um board, do mais recente para o mais antigo, a partir do cursor.
+   *
+   * @param boardId identificador do board
+   * @param after cursor do último card da página anterior, ou null para a primeira página
+   * @param limit número máximo de cards a retornar
+   * @return cards da página, sem os bloqueios carregados
+   */
+  List<Card> findPageByBoardId(Long boardId, CardCursor after, int limit);
+
+  /**
+   * Carrega os bloqueios dos cards informados em uma única consulta.
+   *
+   * @param cards cards da transação corrente
+   */
+  void fetchBlocks(List<Card> cards);
+
+  /**
+   * Busca a menor chave de ordenação da coluna maior que a informada, ou seja, a chave do card que
+   * vem logo depois dela.
+   *
+   * @param columnId identificador da coluna
+   * @param rank chave de referência, ou null para buscar a primeira chave da coluna
+   * @param excludedCardId card a desconsiderar (o próprio card sendo posicionado), ou null
+   * @return chave seguinte, ou vazio se não houver card depois da referência
+   */
+  Optional<String> findNextRank(Long columnId, String rank, Long excludedCardId);
+
+  /**
+   * Busca as colunas que têm algum card com chave de ordenação maior que o tamanho informado.
+   *
+   * @param maxLength tamanho máximo aceitável das chaves
+   * @return identificadores das colunas que precisam de rebalanceamento
+   */
+  List<Long> findColumnIdsWithRanksLongerThan(int maxLength);
+
+  /**
+   * Reescreve as chaves de ordenação dos cards de uma coluna com chaves curtas e igualmente
+   * espaçadas, mantendo a ordem atual. Apenas os cards cuja chave muda são atualizados.
+   *
+   * @param columnId identificador da coluna
+   * @return cards da coluna na ordem atual, sem os bloqueios carregados
+   */
+  List<Card> rebalanceRanks(Long columnId);
+
+  /**
+   * Move um card para outra coluna com um único UPDATE condicional. O card só é movido se não
+   * estiver bloqueado, se a coluna de destino pertencer ao mesmo board da coluna atual e, quando
+   * informada, se a versão do card for a esperada. A versão do card é incrementada.
+   *
+   * @param cardId identificador do card
+   * @param targetColumnId identificador da coluna de destino
+   * @param rank chave de ordenação do card na coluna de destino
+   * @param expectedVersion versão esperada do card, ou null para não comparar
+   * @param updatedAt data de atualização a gravar no card
+   * @return número de linhas alteradas: 1 se o card foi movido, 0 caso contrário
+   */
+  int moveIfAllowed(
+      Long cardId,
+      Long targetColumnId,
+      String rank,
+      Long expectedVersion,
+      OffsetDateTime updatedAt);
 }
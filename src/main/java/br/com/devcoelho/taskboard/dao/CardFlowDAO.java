@@ -0,0 +1,69 @@
+package br.com.devcoelho.taskboard.dao;
+
+import br.com.devcoelho.taskboard.dto.DailyColumnCount;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Interface DAO para o rollup diário do diagrama de fluxo cumulativo: a quantidade de cards de cada
+ * coluna ao fim de cada dia. Só existem linhas para os dias em que a coluna mudou; nos demais vale
+ * a linha anterior mais recente.
+ */
+public interface CardFlowDAO {
+
+  /** Fuso em que os dias do rollup começam e terminam. */
+  ZoneOffset FLOW_ZONE = ZoneOffset.UTC;
+
+  /**
+   * Soma cards novos à contagem do dia de uma coluna.
+   *
+   * @param columnId coluna que recebeu os cards
+   * @param count quantidade de cards
+   * @param at momento da criação
+   */
+  void recordAdded(Long columnId, int count, OffsetDateTime at);
+
+  /**
+   * Transfere um card da contagem do dia da coluna de origem para a da coluna de destino da
+   * transição mais recente dele. Deve ser chamado logo depois de registrar a transição da
+   * movimentação, e só quando ela foi gravada.
+   *
+   * @param cardId identificador do card
+   * @param at momento da movimentação
+   */
+  void recordMove(Long cardId, OffsetDateTime at);
+
+  /**
+   * Retira um card da contagem do dia da coluna atual. Deve ser chamado antes de excluir o card.
+   *
+   * @param cardId identificador do card
+   * @param at momento da exclusão
+   */
+  void recordRemoved(Long cardId, OffsetDateTime at);
+
+  /**
+   * Busca as contagens de um board no período. Para cada coluna do board também vem a linha mais
+   * recente anterior ao período, quando existir, que dá a contagem no início dele.
+   *
+   * @param boardId identificador do board
+   * @param from primeiro dia do período
+   * @param to último dia do período
+   * @return contagens em ordem de dia
+   */
+  List<DailyColumnCount> findRange(Long boardId, LocalDate from, LocalDate to);
+
+  /**
+   * Substitui as contagens de um board em um intervalo de dias. As novas linhas são gravadas por
+   * INSERTs de várias linhas. O intervalo não deve incluir o dia corrente, cujas linhas ainda são
+   * alteradas pelas movimentações.
+   *
+   * @param boardId identificador do board
+   * @param from primeiro dia do intervalo
+   * @param toExclusive dia seguinte ao último do intervalo
+   * @param counts novas contagens, todas dentro do intervalo
+   */
+  void replaceRange(
+      Long boardId, LocalDate from, LocalDate toExclusive, List<DailyColumnCount> counts);
+}
@@ -0,0 +1,110 @@
+package br.com.devcoelho.taskboard.dao;
+
+import br.com.devcoelho.taskboard.dto.DurationSample;
+import br.com.devcoelho.taskboard.model.CardTransition;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Interface DAO para o histórico de transições de cards entre colunas. Os registros são gravados
+ * com INSERT ... SELECT, lendo a coluna dos cards ou a transição anterior no próprio banco, e
+ * consultados por board e período.
+ */
+public interface CardTransitionDAO {
+
+  /**
+   * Registra a criação dos cards informados, com a coluna atual de cada um como destino. Todos os
+   * registros são gravados por uma única instrução.
+   *
+   * @param cardIds identificadores dos cards criados
+   * @param createdAt momento da criação
+   * @return quantidade de registros gravados
+   */
+  int recordCreated(Collection<Long> cardIds, OffsetDateTime createdAt);
+
+  /**
+   * Registra a saída de um card para a coluna de destino, a partir da transição mais recente dele
+   * (a de maior id): a coluna de origem e a entrada nela vêm dessa transição, pelo índice
+   * (card_id, transitioned_at), sem ler o card. Pode ser chamado depois de alterar a coluna do
+   * card; nada é gravado se a transição mais recente já tiver levado o card à coluna de destino.
+   *
+   * @param cardId identificador do card
+   * @param targetColumnId identificador da coluna de destino
+   * @param transitionedAt momento da movimentação
+   * @return quantidade de registros gravados (0 ou 1)
+   */
+  int recordMove(Long cardId, Long targetColumnId, OffsetDateTime transitionedAt);
+
+  /**
+   * Calcula o tempo de ciclo dos cards que chegaram a uma coluna no período: o intervalo entre a
+   * criação do card e a chegada. A consulta percorre o índice (board_id, to_column_id,
+   * transitioned_at) e busca a criação de cada card pelo índice (card_id, transitioned_at).
+   *
+   * @param boardId identificador do board
+   * @param toColumnId coluna de chegada, normalmente a coluna final
+   * @param start início do período (inclusivo)
+   * @param end fim do período (exclusivo)
+   * @return tempo de ciclo de cada chegada, em ordem cronológica de chegada
+   */
+  List<Duration> findCycleTimes(
+      Long boardId, Long toColumnId, OffsetDateTime start, OffsetDateTime end);
+
+  /**
+   * Calcula o tempo de ciclo de um card que chegou a uma coluna: o intervalo entre a criação do
+   * card e a chegada. Deve ser chamado depois de registrar a transição da chegada; o tipo vem da
+   * coluna de destino e a criação da primeira transição do card, sem ler o card.
+   *
+   * @param cardId identificador do card
+   * @param targetColumnId coluna de destino
+   * @param arrivedAt momento da chegada
+   * @return tempo de ciclo e board do card, ou vazio se o destino não for a coluna final
+   */
+  Optional<DurationSample> findCycleTimeOnArrival(
+      Long cardId, Long targetColumnId, OffsetDateTime arrivedAt);
+
+  /**
+   * Calcula o tempo de permanência dos cards que saíram de colunas do board no período. Cada saída
+   * já registra quando o card entrou na coluna, então a consulta é uma leitura do índice
+   * (board_id, transitioned_at), sem agregação sobre a tabela inteira.
+   *
+   * @param boardId identificador do board
+   * @param start início do período (inclusivo)
+   * @param end fim do período (exclusivo)
+   * @return tempos de permanência agrupados pelo id da coluna de origem
+   */
+  Map<Long, List<Duration>> findTimesInColumn(
+      Long boardId, OffsetDateTime start, OffsetDateTime end);
+
+  /**
+   * Busca o momento da transição mais antiga do board.
+   *
+   * @param boardId identificador do board
+   * @return momento da primeira transição, ou vazio se o board não tiver histórico
+   */
+  Optional<OffsetDateTime> findFirstTransitionAt(Long boardId);
+
+  /**
+   * Conta os cards existentes em cada coluna do board em um instante, segundo a transição mais
+   * recente de cada card anterior a ele.
+   *
+   * @param boardId identificador do board
+   * @param at instante da contagem (exclusivo)
+   * @return quantidade de cards por id de coluna
+   */
+  Map<Long, Integer> countCardsByColumnAt(Long boardId, OffsetDateTime at);
+
+  /**
+   * Busca as transições dos cards existentes do board em um intervalo, percorrendo o índice
+   * (board_id, transitioned_at).
+   *
+   * @param boardId identificador do board
+   * @param start início do intervalo (inclusivo)
+   * @param end fim do intervalo (exclusivo)
+   * @return transições em ordem cronológica
+   */
+  List<CardTransition> findBetween(Long boardId, OffsetDateTime start, OffsetDateTime end);
+}
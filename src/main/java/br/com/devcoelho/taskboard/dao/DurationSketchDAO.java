@@ -0,0 +1,41 @@
+package br.com.devcoelho.taskboard.dao;
+
+import br.com.devcoelho.taskboard.model.DurationMetric;
+import br.com.devcoelho.taskboard.model.DurationSketchEntry;
+import br.com.devcoelho.taskboard.util.DurationSketch;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Interface DAO para os sketches de quantis de duração de cada board. Cada board tem uma linha por
+ * métrica, com o sketch serializado e uma versão; registrar uma amostra reescreve só essa linha.
+ */
+public interface DurationSketchDAO {
+
+  /**
+   * Busca a linha do sketch de uma métrica do board, sem bloqueá-la.
+   *
+   * @param boardId identificador do board
+   * @param metric métrica do sketch
+   * @return linha do sketch, ou vazio se a métrica ainda não tem amostras
+   */
+  Optional<DurationSketchEntry> find(Long boardId, DurationMetric metric);
+
+  /**
+   * Grava a linha de um sketch, criando-a se ela ainda não existir. A gravação é enviada ao banco
+   * na chamada, para que conflitos apareçam aqui.
+   *
+   * @param entry linha lida por {@link #find} ou nova
+   * @throws org.springframework.dao.OptimisticLockingFailureException se outra transação gravou a
+   *     linha depois da leitura, ou a criou primeiro
+   */
+  void save(DurationSketchEntry entry);
+
+  /**
+   * Busca os sketches de todas as métricas do board.
+   *
+   * @param boardId identificador do board
+   * @return sketches por métrica; métricas sem amostras não aparecem
+   */
+  Map<DurationMetric, DurationSketch> findByBoardId(Long boardId);
+}
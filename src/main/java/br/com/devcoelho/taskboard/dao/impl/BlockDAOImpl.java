@@ -1,17 +1,21 @@
 package br.com.devcoelho.taskboard.dao.impl;
 
 import br.com.devcoelho.taskboard.dao.BlockDAO;
+import br.com.devcoelho.taskboard.dto.BlockReasonCount;
 import br.com.devcoelho.taskboard.model.Block;
 import br.com.devcoelho.taskboard.repository.BlockRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
+import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -49,6 +53,21 @@ public class BlockDAOImpl implements BlockDAO {
     return query.getResultList();
   }
 
+  @Override
+  public long countByDateRange(OffsetDateTime startDate, OffsetDateTime endDate) {
+    String jpql =
+        """
+        SELECT COUNT(b) FROM Block b
+        WHERE b.blockedAt BETWEEN :startDate AND :endDate
+        """;
+
+    return entityManager
+        .createQuery(jpql, Long.class)
+        .setParameter("startDate", startDate)
+        .setParameter("endDate", endDate)
+        .getSingleResult();
+  }
+
   @Override
   public Map<String, Long> findMostCommonBlockReasons(int limit) {
     String jpql =
@@ -62,7 +81,8 @@ public class BlockDAOImpl implements BlockDAO {
     List<Tuple> results =
         entityManager.createQuery(jpql, Tuple.class).setMaxResults(limit).getResultList();
 
-    Map<String, Long> reasonCounts = new HashMap<>();
+    // Mantém a ordem da consulta, do motivo mais comum ao menos comum
+    Map<String, Long> reasonCounts = new LinkedHashMap<>();
     for (Tuple tuple : results) {
       String reason = tuple.get("reason", String.class);
       Long count = tuple.get("count", Long.class);
@@ -72,6 +92,21 @@ public class BlockDAOImpl implements BlockDAO {
     return reasonCounts;
   }
 
+  @Override
+  public Stream<BlockReasonCount> streamReasonCountsByBoard() {
+    String jpql =
+        """
+        SELECT new br.com.devcoelho.taskboard.dto.BlockReasonCount(
+            c.boardColumn.board.id, b.blockReason, COUNT(b.id))
+        FROM Block b
+        JOIN b.card c
+        GROUP BY c.boardColumn.board.id, b.blockReason
+        ORDER BY COUNT(b.id) DESC
+        """;
+
+    return entityManager.createQuery(jpql, BlockReasonCount.class).getResultStream();
+  }
+
   @Override
   public Map<Long, Double> calculateAverageBlockDurationByBoard() {
     String jpql =
@@ -98,26 +133,66 @@ public class BlockDAOImpl implements BlockDAO {
   }
 
   @Override
-  public List<Block> findLongDurationBlocks(int hours) {
-    OffsetDateTime threshold = OffsetDateTime.now().minus(hours, ChronoUnit.HOURS);
+  public List<Duration> findClosedBlockDurations(Long boardId) {
+    String jpql =
+        """
+        SELECT b.blockedAt as blockedAt, b.unblockedAt as unblockedAt
+        FROM Block b
+        JOIN b.card c
+        WHERE c.boardColumn.board.id = :boardId
+        AND b.unblockedAt IS NOT NULL
+        """;
+
+    List<Tuple> results =
+        entityManager
+            .createQuery(jpql, Tuple.class)
+            .setParameter("boardId", boardId)
+            .getResultList();
+
+    List<Duration> durations = new ArrayList<>(results.size());
+    for (Tuple tuple : results) {
+      durations.add(
+          Duration.between(
+              tuple.get("blockedAt", OffsetDateTime.class),
+              tuple.get("unblockedAt", OffsetDateTime.class)));
+    }
 
+    return durations;
+  }
+
+  @Override
+  public List<Block> findClosedBlocksLongerThan(int hours) {
     String jpql =
         """
         SELECT b FROM Block b
-        WHERE (b.unblockedAt IS NULL AND b.blockedAt < :threshold)
-           OR (b.unblockedAt IS NOT NULL AND
-               FUNCTION('TIMESTAMPDIFF', HOUR, b.blockedAt, b.unblockedAt) >= :hours)
-        ORDER BY
-            CASE WHEN b.unblockedAt IS NULL
-                 THEN FUNCTION('TIMESTAMPDIFF', HOUR, b.blockedAt, CURRENT_TIMESTAMP)
-                 ELSE FUNCTION('TIMESTAMPDIFF', HOUR, b.blockedAt, b.unblockedAt)
-            END DESC
+        WHERE b.durationHours >= :hours
+        ORDER BY b.durationHours DESC
         """;
 
     return entityManager
         .createQuery(jpql, Block.class)
-        .setParameter("threshold", threshold)
-        .setParameter("hours", hours)
+        .setParameter("hours", (long) hours)
         .getResultList();
   }
+
+  @Override
+  public Map<Long, OffsetDateTime> findActiveBlockTimes() {
+    // Percorre os cards bloqueados pelo índice de active_block_id, sem varrer os bloqueios
+    String jpql =
+        """
+        SELECT b.id as blockId, b.blockedAt as blockedAt
+        FROM Card c
+        JOIN Block b ON b.id = c.activeBlockId
+        """;
+
+    List<Tuple> results = entityManager.createQuery(jpql, Tuple.class).getResultList();
+
+    Map<Long, OffsetDateTime> blockTimes = new HashMap<>();
+    for (Tuple tuple : results) {
+      blockTimes.put(
+          tuple.get("blockId", Long.class), tuple.get("blockedAt", OffsetDateTime.class));
+    }
+
+    return blockTimes;
+  }
 }
@@ -0,0 +1,115 @@
+package br.com.devcoelho.taskboard.dao.impl;
+
+import br.com.devcoelho.taskboard.dao.BoardChangeDAO;
+import br.com.devcoelho.taskboard.model.ChangeFeedEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementação da interface BoardChangeDAO com SQL nativo sobre a tabela da entidade
+ * BoardChange, para gravar todas as entidades de uma versão em um único INSERT.
+ */
+@Repository
+public class BoardChangeDAOImpl implements BoardChangeDAO {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public int record(
+      Long boardId, long version, ChangeFeedEntity entity, Collection<Long> entityIds) {
+    // Um id repetido violaria a chave primária
+    Set<Long> ids = new LinkedHashSet<>(entityIds);
+    if (ids.isEmpty()) {
+      return 0;
+    }
+
+    StringJoiner values = new StringJoiner(", ");
+    for (int i = 0; i < ids.size(); i++) {
+      values.add("(:boardId, :version, :entity, :id" + i + ")");
+    }
+
+    Query query =
+        entityManager
+            .createNativeQuery(
+                "INSERT INTO board_change (board_id, version, entity_type, entity_id) VALUES "
+                    + values)
+            .setParameter("boardId", boardId)
+            .setParameter("version", version)
+            .setParameter("entity", entity.name());
+
+    int i = 0;
+    for (Long id : ids) {
+      query.setParameter("id" + i++, id);
+    }
+    return query.executeUpdate();
+  }
+
+  @Override
+  public Map<ChangeFeedEntity, List<Long>> findChangedSince(Long boardId, long since, long until) {
+    List<?> rows =
+        entityManager
+            .createNativeQuery(
+                """
+                SELECT DISTINCT entity_type, entity_id
+                FROM board_change
+                WHERE board_id = :boardId
+                AND version > :since
+                AND version <= :until
+                """)
+            .setParameter("boardId", boardId)
+            .setParameter("since", since)
+            .setParameter("until", until)
+            .getResultList();
+
+    Map<ChangeFeedEntity, List<Long>> changed = new EnumMap<>(ChangeFeedEntity.class);
+    for (Object row : rows) {
+      Object[] columns = (Object[]) row;
+      changed
+          .computeIfAbsent(
+              ChangeFeedEntity.valueOf((String) columns[0]), entity -> new ArrayList<>())
+          .add(((Number) columns[1]).longValue());
+    }
+    return changed;
+  }
+
+  @Override
+  public int markCompacted(OffsetDateTime cutoff) {
+    // Sem UPDATE com JOIN, que só o MySQL aceita; o EXISTS mantém a versão compactada sem recuar
+    return entityManager
+        .createNativeQuery(
+            """
+            UPDATE board_version
+            SET compacted_version = (
+                SELECT MAX(c.version) FROM board_change c
+                WHERE c.board_id = board_version.board_id AND c.changed_at < :cutoff)
+            WHERE EXISTS (
+                SELECT 1 FROM board_change c
+                WHERE c.board_id = board_version.board_id
+                AND c.changed_at < :cutoff
+                AND c.version > board_version.compacted_version)
+            """)
+        .setParameter("cutoff", cutoff)
+        .executeUpdate();
+  }
+
+  @Override
+  public int deleteBefore(OffsetDateTime cutoff, int limit) {
+    // Lotes pequenos mantêm curtos os bloqueios sobre o índice de changed_at
+    return entityManager
+        .createNativeQuery("DELETE FROM board_change WHERE changed_at < :cutoff LIMIT :limit")
+        .setParameter("cutoff", cutoff)
+        .setParameter("limit", limit)
+        .executeUpdate();
+  }
+}
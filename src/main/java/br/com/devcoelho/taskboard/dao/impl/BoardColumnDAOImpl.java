@@ -2,13 +2,16 @@ package br.com.devcoelho.taskboard.dao.impl;
 
 import br.com.devcoelho.taskboard.dao.BoardColumnDAO;
 import br.com.devcoelho.taskboard.model.BoardColumn;
+import br.com.devcoelho.taskboard.model.Card;
 import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
+import br.com.devcoelho.taskboard.util.LexoRank;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,7 +36,7 @@ public class BoardColumnDAOImpl implements BoardColumnDAO {
         WHERE bc.board.id = :boardId
         GROUP BY bc.id
         HAVING COUNT(c.id) = 0
-        ORDER BY bc.order
+        ORDER BY bc.rank, bc.id
         """;
 
     return entityManager
@@ -42,6 +45,39 @@ public class BoardColumnDAOImpl implements BoardColumnDAO {
         .getResultList();
   }
 
+  @Override
+  public void fetchCardsWithBlocks(List<BoardColumn> columns) {
+    if (columns.isEmpty()) {
+      return;
+    }
+
+    String columnsJpql =
+        """
+        SELECT bc FROM BoardColumn bc
+        WHERE bc IN :columns
+        """;
+
+    entityManager
+        .createQuery(columnsJpql, BoardColumn.class)
+        .setParameter("columns", columns)
+        .setHint(
+            SpecHints.HINT_SPEC_LOAD_GRAPH,
+            entityManager.getEntityGraph("BoardColumn.withCards"))
+        .getResultList();
+
+    String cardsJpql =
+        """
+        SELECT c FROM Card c
+        WHERE c.boardColumn IN :columns
+        """;
+
+    entityManager
+        .createQuery(cardsJpql, Card.class)
+        .setParameter("columns", columns)
+        .setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, entityManager.getEntityGraph("Card.withBlocks"))
+        .getResultList();
+  }
+
   @Override
   public Optional<BoardColumn> findMostPopulatedColumn(Long boardId) {
     String jpql =
@@ -72,10 +108,9 @@ public class BoardColumnDAOImpl implements BoardColumnDAO {
         """
         SELECT DISTINCT bc FROM BoardColumn bc
         JOIN bc.cards c
-        JOIN c.blocks b
         WHERE bc.board.id = :boardId
-        AND b.unblockedAt IS NULL
-        ORDER BY bc.order
+        AND c.activeBlockId IS NOT NULL
+        ORDER BY bc.rank, bc.id
         """;
 
     return entityManager
@@ -84,23 +119,57 @@ public class BoardColumnDAOImpl implements BoardColumnDAO {
         .getResultList();
   }
 
+  @Override
+  public Optional<String> findNextRank(Long boardId, String rank, Long excludedColumnId) {
+    String jpql =
+        """
+        SELECT MIN(bc.rank) FROM BoardColumn bc
+        WHERE bc.board.id = :boardId
+        AND bc.id <> :excludedColumnId
+        """ + (rank != null ? "AND bc.rank > :rank" : "");
+
+    TypedQuery<String> query =
+        entityManager
+            .createQuery(jpql, String.class)
+            .setParameter("boardId", boardId)
+            .setParameter("excludedColumnId", excludedColumnId);
+
+    if (rank != null) {
+      query.setParameter("rank", rank);
+    }
+
+    return Optional.ofNullable(query.getSingleResult());
+  }
+
+  @Override
+  public List<Long> findBoardIdsWithRanksLongerThan(int maxLength) {
+    String jpql =
+        """
+        SELECT DISTINCT bc.board.id FROM BoardColumn bc
+        WHERE LENGTH(bc.rank) > :maxLength
+        """;
+
+    return entityManager
+        .createQuery(jpql, Long.class)
+        .setParameter("maxLength", maxLength)
+        .getResultList();
+  }
+
   @Override
   @Transactional
-  public List<BoardColumn> normalizeColumnOrders(Long boardId) {
-    // Primeiro, buscamos todas as colunas ordenadas
-    List<BoardColumn> columns = boardColumnRepository.findByBoardIdOrderByOrder(boardId);
+  public List<BoardColumn> rebalanceRanks(Long boardId) {
+    List<BoardColumn> columns = boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(boardId);
+    List<String> ranks = LexoRank.evenlySpaced(columns.size());
 
-    // Atualizamos as ordens para serem sequenciais
     for (int i = 0; i < columns.size(); i++) {
       BoardColumn column = columns.get(i);
-      // Só atualizamos se a ordem for diferente
-      if (column.getOrder() != i + 1) {
-        column.setOrder(i + 1);
+      // Só atualizamos as colunas cuja chave muda
+      if (!ranks.get(i).equals(column.getRank())) {
+        column.setRank(ranks.get(i));
         boardColumnRepository.save(column);
       }
     }
 
-    // Retornamos as colunas atualizadas
-    return boardColumnRepository.findByBoardIdOrderByOrder(boardId);
+    return columns;
   }
 }
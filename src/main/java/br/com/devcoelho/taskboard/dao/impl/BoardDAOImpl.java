@@ -1,14 +1,30 @@
 package br.com.devcoelho.taskboard.dao.impl;
 
 import br.com.devcoelho.taskboard.dao.BoardDAO;
+import br.com.devcoelho.taskboard.dto.BoardExportRow;
+import br.com.devcoelho.taskboard.dto.BoardSummaryDTO;
 import br.com.devcoelho.taskboard.model.Board;
+import br.com.devcoelho.taskboard.model.BoardColumn;
+import br.com.devcoelho.taskboard.model.Card;
 import br.com.devcoelho.taskboard.repository.BoardRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -19,6 +35,10 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class BoardDAOImpl implements BoardDAO {
 
+  /** Propriedades aceitas na ordenação dos resumos e os caminhos JPQL correspondentes. */
+  private static final Map<String, String> SUMMARY_SORT_PATHS =
+      Map.of("id", "b.id", "name", "b.name");
+
   @PersistenceContext private EntityManager entityManager;
 
   private final BoardRepository boardRepository;
@@ -39,6 +59,28 @@ public class BoardDAOImpl implements BoardDAO {
     return query.getResultList();
   }
 
+  @Override
+  public List<BoardSummaryDTO> findMostActiveBoardSummaries(int limit) {
+    String jpql =
+        """
+        SELECT new br.com.devcoelho.taskboard.dto.BoardSummaryDTO(
+          b.id,
+          b.name,
+          (SELECT COUNT(bc) FROM BoardColumn bc WHERE bc.board = b),
+          COUNT(card.id))
+        FROM Board b
+        LEFT JOIN b.columns c
+        LEFT JOIN c.cards card
+        GROUP BY b.id, b.name
+        ORDER BY COUNT(card.id) DESC
+        """;
+
+    return entityManager
+        .createQuery(jpql, BoardSummaryDTO.class)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
   @Override
   public List<Board> findByNameAndMinColumns(String name, int minColumns) {
     String jpql =
@@ -58,22 +100,163 @@ public class BoardDAOImpl implements BoardDAO {
 
   @Override
   public Optional<Board> findByIdWithAllRelations(Long id) {
+    // Cada nível é carregado em uma consulta própria: buscar colunas e cards (duas listas) no
+    // mesmo JOIN FETCH gera MultipleBagFetchException e multiplica as linhas retornadas
     String jpql =
         """
-        SELECT DISTINCT b FROM Board b
-        LEFT JOIN FETCH b.columns c
-        LEFT JOIN FETCH c.cards
+        SELECT b FROM Board b
         WHERE b.id = :id
         """;
 
-    TypedQuery<Board> query = entityManager.createQuery(jpql, Board.class);
-    query.setParameter("id", id);
+    TypedQuery<Board> query =
+        entityManager
+            .createQuery(jpql, Board.class)
+            .setParameter("id", id)
+            .setHint(
+                SpecHints.HINT_SPEC_LOAD_GRAPH,
+                entityManager.getEntityGraph("Board.withColumns"));
 
+    Board board;
     try {
-      return Optional.of(query.getSingleResult());
+      board = query.getSingleResult();
     } catch (jakarta.persistence.NoResultException e) {
       return Optional.empty();
     }
+
+    String columnsJpql =
+        """
+        SELECT bc FROM BoardColumn bc
+        WHERE bc.board.id = :id
+        """;
+
+    entityManager
+        .createQuery(columnsJpql, BoardColumn.class)
+        .setParameter("id", id)
+        .setHint(
+            SpecHints.HINT_SPEC_LOAD_GRAPH,
+            entityManager.getEntityGraph("BoardColumn.withCards"))
+        .getResultList();
+
+    String cardsJpql =
+        """
+        SELECT c FROM Card c
+        WHERE c.boardColumn.board.id = :id
+        """;
+
+    entityManager
+        .createQuery(cardsJpql, Card.class)
+        .setParameter("id", id)
+        .setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, entityManager.getEntityGraph("Card.withBlocks"))
+        .getResultList();
+
+    return Optional.of(board);
+  }
+
+  @Override
+  public void fetchColumnCards(List<Board> boards) {
+    if (boards.isEmpty()) {
+      return;
+    }
+
+    String jpql =
+        """
+        SELECT bc FROM BoardColumn bc
+        WHERE bc.board IN :boards
+        """;
+
+    entityManager
+        .createQuery(jpql, BoardColumn.class)
+        .setParameter("boards", boards)
+        .setHint(
+            SpecHints.HINT_SPEC_LOAD_GRAPH,
+            entityManager.getEntityGraph("BoardColumn.withCards"))
+        .getResultList();
+  }
+
+  @Override
+  public Page<BoardSummaryDTO> findSummaries(Pageable pageable) {
+    String jpql =
+        """
+        SELECT new br.com.devcoelho.taskboard.dto.BoardSummaryDTO(
+          b.id,
+          b.name,
+          (SELECT COUNT(bc) FROM BoardColumn bc WHERE bc.board = b),
+          (SELECT COUNT(c) FROM Card c WHERE c.boardColumn.board = b))
+        FROM Board b
+        """
+            + summaryOrderBy(pageable.getSort());
+
+    TypedQuery<BoardSummaryDTO> query = entityManager.createQuery(jpql, BoardSummaryDTO.class);
+    if (pageable.isPaged()) {
+      query.setFirstResult((int) pageable.getOffset());
+      query.setMaxResults(pageable.getPageSize());
+    }
+
+    // A contagem total só é executada quando não pode ser deduzida do tamanho da página
+    return PageableExecutionUtils.getPage(
+        query.getResultList(),
+        pageable,
+        () ->
+            entityManager
+                .createQuery("SELECT COUNT(b) FROM Board b", Long.class)
+                .getSingleResult());
+  }
+
+  /**
+   * Monta a cláusula ORDER BY dos resumos. O id é sempre usado como último critério para que a
+   * paginação seja estável entre boards com o mesmo nome.
+   */
+  private String summaryOrderBy(Sort sort) {
+    String orderBy =
+        sort.stream()
+            .map(
+                order -> {
+                  String path = SUMMARY_SORT_PATHS.get(order.getProperty());
+                  if (path == null) {
+                    throw new IllegalArgumentException(
+                        "Unsupported sort property: " + order.getProperty());
+                  }
+                  return path + (order.isAscending() ? " ASC" : " DESC");
+                })
+            .collect(Collectors.joining(", "));
+
+    if (sort.getOrderFor("id") == null) {
+      orderBy = orderBy.isEmpty() ? "b.id ASC" : orderBy + ", b.id ASC";
+    }
+
+    return "ORDER BY " + orderBy;
+  }
+
+  @Override
+  public void scrollExportRows(Long boardId, int fetchSize, Consumer<BoardExportRow> consumer) {
+    String hql =
+        """
+        SELECT new br.com.devcoelho.taskboard.dto.BoardExportRow(
+          bc.id, bc.name, bc.kind, bc.rank,
+          c.id, c.title, c.rank, c.description, c.createdAt, c.updatedAt,
+          b.id, b.blockedAt, b.blockReason, b.unblockedAt, b.unblockReason)
+        FROM BoardColumn bc
+        LEFT JOIN bc.cards c
+        LEFT JOIN c.blocks b
+        WHERE bc.board.id = :boardId
+        ORDER BY bc.rank, bc.id, c.rank, c.id, b.id
+        """;
+
+    // Projeção escalar: nenhuma entidade é gerenciada, então o contexto de persistência não cresce
+    try (ScrollableResults<BoardExportRow> rows =
+        entityManager
+            .unwrap(Session.class)
+            .createSelectionQuery(hql, BoardExportRow.class)
+            .setParameter("boardId", boardId)
+            .setFetchSize(fetchSize)
+            .setReadOnly(true)
+            .setCacheMode(CacheMode.IGNORE)
+            .scroll(ScrollMode.FORWARD_ONLY)) {
+
+      while (rows.next()) {
+        consumer.accept(rows.get());
+      }
+    }
   }
 
   @Override
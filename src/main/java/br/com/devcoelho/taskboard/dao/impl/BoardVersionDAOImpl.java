@@ -0,0 +1,70 @@
+package br.com.devcoelho.taskboard.dao.impl;
+
+import br.com.devcoelho.taskboard.dao.BoardVersionDAO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementação da interface BoardVersionDAO com SQL nativo do MySQL sobre a tabela da entidade
+ * BoardVersion, para incrementar a versão sem ler a linha antes.
+ */
+@Repository
+public class BoardVersionDAOImpl implements BoardVersionDAO {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public long increment(Long boardId) {
+    entityManager
+        .createNativeQuery(
+            """
+            INSERT INTO board_version (board_id, version) VALUES (:boardId, 1)
+            ON DUPLICATE KEY UPDATE version = version + 1
+            """)
+        .setParameter("boardId", boardId)
+        .executeUpdate();
+
+    // A linha está bloqueada por esta transação: a leitura vê a versão que acabou de gravar
+    return findVersion(boardId);
+  }
+
+  @Override
+  public long findVersion(Long boardId) {
+    return findColumn("version", boardId);
+  }
+
+  @Override
+  public Optional<Long> findVersionIfBoardExists(Long boardId) {
+    List<?> versions =
+        entityManager
+            .createNativeQuery(
+                """
+                SELECT COALESCE(bv.version, 0)
+                FROM board b
+                LEFT JOIN board_version bv ON bv.board_id = b.id
+                WHERE b.id = :boardId
+                """)
+            .setParameter("boardId", boardId)
+            .getResultList();
+
+    return versions.stream().findFirst().map(version -> ((Number) version).longValue());
+  }
+
+  @Override
+  public long findCompactedVersion(Long boardId) {
+    return findColumn("compacted_version", boardId);
+  }
+
+  private long findColumn(String column, Long boardId) {
+    List<?> values =
+        entityManager
+            .createNativeQuery("SELECT " + column + " FROM board_version WHERE board_id = :boardId")
+            .setParameter("boardId", boardId)
+            .getResultList();
+
+    return values.isEmpty() ? 0 : ((Number) values.get(0)).longValue();
+  }
+}
@@ -1,18 +1,26 @@
 package br.com.devcoelho.taskboard.dao.impl;
 
 import br.com.devcoelho.taskboard.dao.CardDAO;
+import br.com.devcoelho.taskboard.dto.CardCursor;
+import br.com.devcoelho.taskboard.dto.CardRankCursor;
+import br.com.devcoelho.taskboard.model.BoardColumn;
 import br.com.devcoelho.taskboard.model.Card;
 import br.com.devcoelho.taskboard.repository.CardRepository;
+import br.com.devcoelho.taskboard.util.LexoRank;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implementação da interface CardDAO. Utiliza EntityManager do JPA e o CardRepository para fornecer
@@ -22,6 +30,22 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class CardDAOImpl implements CardDAO {
 
+  /** Condição de continuação da paginação por cursor, na ordem decrescente de (createdAt, id). */
+  private static final String KEYSET_CONDITION =
+      """
+      AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+      """;
+
+  private static final String KEYSET_ORDER = "ORDER BY c.createdAt DESC, c.id DESC";
+
+  /** Condição de continuação da paginação dos cards de uma coluna, na ordem de (rank, id). */
+  private static final String RANK_KEYSET_CONDITION =
+      """
+      AND (c.rank > :rank OR (c.rank = :rank AND c.id > :id))
+      """;
+
+  private static final String RANK_KEYSET_ORDER = "ORDER BY c.rank, c.id";
+
   @PersistenceContext private EntityManager entityManager;
 
   private final CardRepository cardRepository;
@@ -35,8 +59,8 @@ public class CardDAOImpl implements CardDAO {
         SELECT DISTINCT c FROM Card c
         LEFT JOIN FETCH c.blocks b
         WHERE c.createdAt BETWEEN :startDate AND :endDate
-        AND ((:blocked = true AND EXISTS (SELECT b FROM Block b WHERE b.card = c AND b.unblockedAt IS NULL))
-            OR (:blocked = false AND NOT EXISTS (SELECT b FROM Block b WHERE b.card = c AND b.unblockedAt IS NULL)))
+        AND ((:blocked = true AND c.activeBlockId IS NOT NULL)
+            OR (:blocked = false AND c.activeBlockId IS NULL))
         """;
 
     TypedQuery<Card> query = entityManager.createQuery(jpql, Card.class);
@@ -47,6 +71,25 @@ public class CardDAOImpl implements CardDAO {
     return query.getResultList();
   }
 
+  @Override
+  public long countByDateRangeAndBlockStatus(
+      OffsetDateTime startDate, OffsetDateTime endDate, boolean blocked) {
+
+    String jpql =
+        """
+        SELECT COUNT(c) FROM Card c
+        WHERE c.createdAt BETWEEN :startDate AND :endDate
+        AND c.activeBlockId IS %s NULL
+        """
+            .formatted(blocked ? "NOT" : "");
+
+    return entityManager
+        .createQuery(jpql, Long.class)
+        .setParameter("startDate", startDate)
+        .setParameter("endDate", endDate)
+        .getSingleResult();
+  }
+
   @Override
   public Map<String, Integer> getCardStatsByColumn(Long boardId) {
     String jpql =
@@ -57,7 +100,7 @@ public class CardDAOImpl implements CardDAO {
         JOIN col.board b
         WHERE b.id = :boardId
         GROUP BY col.name
-        ORDER BY col.order
+        ORDER BY MIN(col.rank)
         """;
 
     List<Tuple> results =
@@ -105,4 +148,185 @@ public class CardDAOImpl implements CardDAO {
         .setMaxResults(limit)
         .getResultList();
   }
+
+  @Override
+  public List<Card> findPageByBoardColumnId(Long columnId, CardRankCursor after, int limit) {
+    String jpql =
+        """
+        SELECT c FROM Card c
+        WHERE c.boardColumn.id = :columnId
+        """
+            + (after != null ? RANK_KEYSET_CONDITION : "")
+            + RANK_KEYSET_ORDER;
+
+    TypedQuery<Card> query =
+        entityManager
+            .createQuery(jpql, Card.class)
+            .setParameter("columnId", columnId)
+            .setMaxResults(limit);
+
+    if (after != null) {
+      query.setParameter("rank", after.getRank());
+      query.setParameter("id", after.getId());
+    }
+
+    return query.getResultList();
+  }
+
+  @Override
+  public List<Card> findPageByBoardId(Long boardId, CardCursor after, int limit) {
+    String jpql =
+        """
+        SELECT c FROM Card c
+        WHERE c.boardColumn.board.id = :boardId
+        """;
+
+    return findPage(jpql, "boardId", boardId, after, limit);
+  }
+
+  /**
+   * Executa uma consulta de página por cursor. Os bloqueios não são buscados junto, pois JOIN FETCH
+   * de coleção com limite faria a paginação em memória; use {@link #fetchBlocks(List)}.
+   */
+  private List<Card> findPage(
+      String baseJpql, String ownerParameter, Long ownerId, CardCursor after, int limit) {
+    String jpql = baseJpql + (after != null ? KEYSET_CONDITION : "") + KEYSET_ORDER;
+
+    TypedQuery<Card> query =
+        entityManager
+            .createQuery(jpql, Card.class)
+            .setParameter(ownerParameter, ownerId)
+            .setMaxResults(limit);
+
+    if (after != null) {
+      query.setParameter("createdAt", after.getCreatedAt());
+      query.setParameter("id", after.getId());
+    }
+
+    return query.getResultList();
+  }
+
+  @Override
+  public void fetchBlocks(List<Card> cards) {
+    if (cards.isEmpty()) {
+      return;
+    }
+
+    String jpql =
+        """
+        SELECT c FROM Card c
+        WHERE c IN :cards
+        """;
+
+    entityManager
+        .createQuery(jpql, Card.class)
+        .setParameter("cards", cards)
+        .setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, entityManager.getEntityGraph("Card.withBlocks"))
+        .getResultList();
+  }
+
+  @Override
+  public Optional<String> findNextRank(Long columnId, String rank, Long excludedCardId) {
+    String jpql =
+        """
+        SELECT MIN(c.rank) FROM Card c
+        WHERE c.boardColumn.id = :columnId
+        """
+            + (rank != null ? "AND c.rank > :rank " : "")
+            + (excludedCardId != null ? "AND c.id <> :excludedCardId" : "");
+
+    TypedQuery<String> query =
+        entityManager.createQuery(jpql, String.class).setParameter("columnId", columnId);
+
+    if (rank != null) {
+      query.setParameter("rank", rank);
+    }
+    if (excludedCardId != null) {
+      query.setParameter("excludedCardId", excludedCardId);
+    }
+
+    return Optional.ofNullable(query.getSingleResult());
+  }
+
+  @Override
+  public List<Long> findColumnIdsWithRanksLongerThan(int maxLength) {
+    String jpql =
+        """
+        SELECT DISTINCT c.boardColumn.id FROM Card c
+        WHERE LENGTH(c.rank) > :maxLength
+        """;
+
+    return entityManager
+        .createQuery(jpql, Long.class)
+        .setParameter("maxLength", maxLength)
+        .getResultList();
+  }
+
+  @Override
+  @Transactional
+  public List<Card> rebalanceRanks(Long columnId) {
+    String jpql =
+        """
+        SELECT c FROM Card c
+        WHERE c.boardColumn.id = :columnId
+        ORDER BY c.rank, c.id
+        """;
+
+    List<Card> cards =
+        entityManager
+            .createQuery(jpql, Card.class)
+            .setParameter("columnId", columnId)
+            .getResultList();
+    List<String> ranks = LexoRank.evenlySpaced(cards.size());
+
+    for (int i = 0; i < cards.size(); i++) {
+      Card card = cards.get(i);
+      // Só atualizamos os cards cuja chave muda
+      if (!ranks.get(i).equals(card.getRank())) {
+        card.setRank(ranks.get(i));
+        cardRepository.save(card);
+      }
+    }
+
+    return cards;
+  }
+
+  @Override
+  public int moveIfAllowed(
+      Long cardId,
+      Long targetColumnId,
+      String rank,
+      Long expectedVersion,
+      OffsetDateTime updatedAt) {
+    // As condições de bloqueio e de board são avaliadas pelo banco na mesma instrução, sem ler o
+    // card nem a coluna antes
+    String jpql =
+        """
+        UPDATE Card c
+        SET c.boardColumn = :target, c.rank = :rank, c.updatedAt = :updatedAt,
+            c.version = c.version + 1
+        WHERE c.id = :cardId
+        AND c.activeBlockId IS NULL
+        AND EXISTS (
+            SELECT 1 FROM BoardColumn t, BoardColumn s
+            WHERE t.id = :targetColumnId
+            AND s.id = c.boardColumn.id
+            AND t.board.id = s.board.id)
+        """ + (expectedVersion != null ? "AND c.version = :expectedVersion" : "");
+
+    Query query =
+        entityManager
+            .createQuery(jpql)
+            .setParameter("target", entityManager.getReference(BoardColumn.class, targetColumnId))
+            .setParameter("rank", rank)
+            .setParameter("updatedAt", updatedAt)
+            .setParameter("cardId", cardId)
+            .setParameter("targetColumnId", targetColumnId);
+
+    if (expectedVersion != null) {
+      query.setParameter("expectedVersion", expectedVersion);
+    }
+
+    return query.executeUpdate();
+  }
 }
@@ -0,0 +1,203 @@
+package br.com.devcoelho.taskboard.dao.impl;
+
+import br.com.devcoelho.taskboard.dao.CardFlowDAO;
+import br.com.devcoelho.taskboard.dto.DailyColumnCount;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementação da interface CardFlowDAO com SQL nativo, aceito pelo MySQL e pelo H2 no modo MySQL.
+ * Cada alteração são duas instruções: a primeira alteração do dia cria a linha a partir da contagem
+ * mais recente da coluna, e um UPDATE soma a diferença à linha do dia.
+ */
+@Repository
+public class CardFlowDAOImpl implements CardFlowDAO {
+
+  /**
+   * Cria as linhas do dia das colunas das diferenças (board_id, column_id, delta) da subconsulta,
+   * com a contagem anterior, lida do índice (board_column_id, flow_date). Uma linha que já existe
+   * não muda, então a criação concorrente da mesma linha não falha.
+   */
+  private static final String CREATE_DAY_TEMPLATE =
+      """
+      INSERT INTO card_flow_daily (board_id, board_column_id, flow_date, card_count)
+      SELECT d.board_id, d.column_id, :day,
+          COALESCE((
+              SELECT f.card_count FROM card_flow_daily f
+              WHERE f.board_column_id = d.column_id AND f.flow_date < :day
+              ORDER BY f.flow_date DESC
+              LIMIT 1), 0)
+      FROM (%1$s) d
+      ON DUPLICATE KEY UPDATE card_count = card_count
+      """;
+
+  /** Soma as diferenças da subconsulta às linhas do dia, já criadas */
+  private static final String APPLY_DELTAS_TEMPLATE =
+      """
+      UPDATE card_flow_daily
+      SET card_count = card_count + (
+          SELECT SUM(d.delta) FROM (%1$s) d WHERE d.column_id = card_flow_daily.board_column_id)
+      WHERE flow_date = :day
+      AND board_column_id IN (SELECT d.column_id FROM (%1$s) d)
+      """;
+
+  // O "0 +" dá tipo ao parâmetro, que o H2 não infere na lista do SELECT
+  private static final String ADDED_DELTAS =
+      """
+      SELECT bc.board_id, bc.id AS column_id, 0 + :count AS delta
+      FROM board_column bc
+      WHERE bc.id = :columnId
+      """;
+
+  // As colunas vêm da transição mais recente do card, pelo índice (card_id, transitioned_at)
+  private static final String MOVED_DELTAS =
+      """
+      SELECT t.board_id, t.from_column_id AS column_id, -1 AS delta
+      FROM card_transition t
+      WHERE t.id = (SELECT MAX(l.id) FROM card_transition l WHERE l.card_id = :cardId)
+      UNION ALL
+      SELECT t.board_id, t.to_column_id, 1
+      FROM card_transition t
+      WHERE t.id = (SELECT MAX(l.id) FROM card_transition l WHERE l.card_id = :cardId)
+      """;
+
+  private static final String REMOVED_DELTAS =
+      """
+      SELECT bc.board_id, bc.id AS column_id, -1 AS delta
+      FROM card c
+      JOIN board_column bc ON bc.id = c.board_column_id
+      WHERE c.id = :cardId
+      """;
+
+  // Linhas por INSERT na reconstrução; cada linha usa três parâmetros
+  private static final int INSERT_BATCH_SIZE = 500;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public void recordAdded(Long columnId, int count, OffsetDateTime at) {
+    apply(ADDED_DELTAS, at, Map.of("count", count, "columnId", columnId));
+  }
+
+  @Override
+  public void recordMove(Long cardId, OffsetDateTime at) {
+    apply(MOVED_DELTAS, at, Map.of("cardId", cardId));
+  }
+
+  @Override
+  public void recordRemoved(Long cardId, OffsetDateTime at) {
+    apply(REMOVED_DELTAS, at, Map.of("cardId", cardId));
+  }
+
+  private void apply(String deltas, OffsetDateTime at, Map<String, Object> parameters) {
+    LocalDate day = at.atZoneSameInstant(FLOW_ZONE).toLocalDate();
+    for (String template : List.of(CREATE_DAY_TEMPLATE, APPLY_DELTAS_TEMPLATE)) {
+      Query query =
+          entityManager.createNativeQuery(template.formatted(deltas)).setParameter("day", day);
+      parameters.forEach(query::setParameter);
+      query.executeUpdate();
+    }
+  }
+
+  @Override
+  public List<DailyColumnCount> findRange(Long boardId, LocalDate from, LocalDate to) {
+    // A primeira parte percorre a chave primária (board_id, flow_date, board_column_id); a segunda
+    // busca, coluna a coluna, a contagem vigente no início do período
+    String sql =
+        """
+        SELECT f.board_column_id, f.flow_date, f.card_count
+        FROM card_flow_daily f
+        JOIN board_column bc ON bc.id = f.board_column_id
+        WHERE bc.board_id = :boardId
+        AND f.flow_date = (
+            SELECT MAX(p.flow_date) FROM card_flow_daily p
+            WHERE p.board_column_id = bc.id AND p.flow_date < :from)
+        UNION ALL
+        SELECT f.board_column_id, f.flow_date, f.card_count
+        FROM card_flow_daily f
+        WHERE f.board_id = :boardId
+        AND f.flow_date BETWEEN :from AND :to
+        ORDER BY flow_date
+        """;
+
+    @SuppressWarnings("unchecked")
+    List<Object[]> rows =
+        entityManager
+            .createNativeQuery(sql)
+            .setParameter("boardId", boardId)
+            .setParameter("from", from)
+            .setParameter("to", to)
+            .getResultList();
+
+    List<DailyColumnCount> counts = new ArrayList<>(rows.size());
+    for (Object[] row : rows) {
+      counts.add(
+          new DailyColumnCount(
+              ((Number) row[0]).longValue(),
+              toLocalDate(row[1]),
+              ((Number) row[2]).intValue()));
+    }
+
+    return counts;
+  }
+
+  private static LocalDate toLocalDate(Object value) {
+    return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+  }
+
+  @Override
+  public void replaceRange(
+      Long boardId, LocalDate from, LocalDate toExclusive, List<DailyColumnCount> counts) {
+    entityManager
+        .createNativeQuery(
+            """
+            DELETE FROM card_flow_daily
+            WHERE board_id = :boardId
+            AND flow_date >= :from
+            AND flow_date < :toExclusive
+            """)
+        .setParameter("boardId", boardId)
+        .setParameter("from", from)
+        .setParameter("toExclusive", toExclusive)
+        .executeUpdate();
+
+    // Um INSERT de várias linhas por lote, em vez de um por dia e coluna
+    for (int start = 0; start < counts.size(); start += INSERT_BATCH_SIZE) {
+      int end = Math.min(start + INSERT_BATCH_SIZE, counts.size());
+      insertRows(boardId, counts.subList(start, end));
+    }
+  }
+
+  private void insertRows(Long boardId, List<DailyColumnCount> rows) {
+    StringJoiner values = new StringJoiner(", ");
+    for (int i = 0; i < rows.size(); i++) {
+      values.add("(:boardId, :columnId" + i + ", :day" + i + ", :cardCount" + i + ")");
+    }
+
+    Query insert =
+        entityManager
+            .createNativeQuery(
+                "INSERT INTO card_flow_daily (board_id, board_column_id, flow_date, card_count)"
+                    + " VALUES "
+                    + values)
+            .setParameter("boardId", boardId);
+
+    for (int i = 0; i < rows.size(); i++) {
+      DailyColumnCount count = rows.get(i);
+      insert
+          .setParameter("columnId" + i, count.getColumnId())
+          .setParameter("day" + i, count.getDay())
+          .setParameter("cardCount" + i, count.getCardCount());
+    }
+    insert.executeUpdate();
+  }
+}
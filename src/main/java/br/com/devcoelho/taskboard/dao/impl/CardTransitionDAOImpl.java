@@ -0,0 +1,246 @@
+package br.com.devcoelho.taskboard.dao.impl;
+
+import br.com.devcoelho.taskboard.dao.CardTransitionDAO;
+import br.com.devcoelho.taskboard.dto.DurationSample;
+import br.com.devcoelho.taskboard.model.BoardColumnKind;
+import br.com.devcoelho.taskboard.model.CardTransition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementação da interface CardTransitionDAO. As gravações são instruções INSERT ... SELECT em
+ * HQL, e as consultas devolvem apenas as colunas necessárias, sem gerenciar entidades.
+ */
+@Repository
+public class CardTransitionDAOImpl implements CardTransitionDAO {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public int recordCreated(Collection<Long> cardIds, OffsetDateTime createdAt) {
+    if (cardIds.isEmpty()) {
+      return 0;
+    }
+
+    // Os cards recém-criados são enviados ao banco (flush automático) antes do INSERT ... SELECT
+    String hql =
+        """
+        INSERT INTO CardTransition (cardId, boardId, toColumnId, transitionedAt)
+        SELECT c.id, col.board.id, col.id, :createdAt
+        FROM Card c
+        JOIN c.boardColumn col
+        WHERE c.id IN :cardIds
+        """;
+
+    return entityManager
+        .createQuery(hql)
+        .setParameter("createdAt", createdAt)
+        .setParameter("cardIds", cardIds)
+        .executeUpdate();
+  }
+
+  @Override
+  public int recordMove(Long cardId, Long targetColumnId, OffsetDateTime transitionedAt) {
+    // A transição mais recente levou o card à coluna de origem; a criação é a primeira delas. O id
+    // desempata transições gravadas no mesmo segundo, que o TIMESTAMP do MySQL não distingue
+    String hql =
+        """
+        INSERT INTO CardTransition
+            (cardId, boardId, fromColumnId, toColumnId, fromEnteredAt, transitionedAt)
+        SELECT t.cardId, t.boardId, t.toColumnId, :targetColumnId, t.transitionedAt,
+            :transitionedAt
+        FROM CardTransition t
+        WHERE t.cardId = :cardId
+        AND t.id = (SELECT MAX(l.id) FROM CardTransition l WHERE l.cardId = :cardId)
+        AND t.toColumnId <> :targetColumnId
+        """;
+
+    return entityManager
+        .createQuery(hql)
+        .setParameter("targetColumnId", targetColumnId)
+        .setParameter("transitionedAt", transitionedAt)
+        .setParameter("cardId", cardId)
+        .executeUpdate();
+  }
+
+  @Override
+  public List<Duration> findCycleTimes(
+      Long boardId, Long toColumnId, OffsetDateTime start, OffsetDateTime end) {
+    String hql =
+        """
+        SELECT
+            (SELECT MIN(f.transitionedAt) FROM CardTransition f WHERE f.cardId = t.cardId)
+                AS createdAt,
+            t.transitionedAt AS arrivedAt
+        FROM CardTransition t
+        WHERE t.boardId = :boardId
+        AND t.toColumnId = :toColumnId
+        AND t.transitionedAt >= :start
+        AND t.transitionedAt < :end
+        ORDER BY t.transitionedAt
+        """;
+
+    List<Tuple> rows =
+        entityManager
+            .createQuery(hql, Tuple.class)
+            .setParameter("boardId", boardId)
+            .setParameter("toColumnId", toColumnId)
+            .setParameter("start", start)
+            .setParameter("end", end)
+            .getResultList();
+
+    List<Duration> cycleTimes = new ArrayList<>(rows.size());
+    for (Tuple row : rows) {
+      cycleTimes.add(
+          Duration.between(
+              row.get("createdAt", OffsetDateTime.class),
+              row.get("arrivedAt", OffsetDateTime.class)));
+    }
+
+    return cycleTimes;
+  }
+
+  @Override
+  public Optional<DurationSample> findCycleTimeOnArrival(
+      Long cardId, Long targetColumnId, OffsetDateTime arrivedAt) {
+    // A criação é a primeira transição do card, como em findCycleTimes
+    String hql =
+        """
+        SELECT col.board.id AS boardId,
+            (SELECT MIN(f.transitionedAt) FROM CardTransition f WHERE f.cardId = :cardId)
+                AS createdAt
+        FROM BoardColumn col
+        WHERE col.id = :targetColumnId
+        AND col.kind = :finalKind
+        """;
+
+    return entityManager
+        .createQuery(hql, Tuple.class)
+        .setParameter("cardId", cardId)
+        .setParameter("targetColumnId", targetColumnId)
+        .setParameter("finalKind", BoardColumnKind.FINAL)
+        .getResultStream()
+        .findFirst()
+        .map(
+            row ->
+                new DurationSample(
+                    row.get("boardId", Long.class),
+                    Duration.between(row.get("createdAt", OffsetDateTime.class), arrivedAt)));
+  }
+
+  @Override
+  public Map<Long, List<Duration>> findTimesInColumn(
+      Long boardId, OffsetDateTime start, OffsetDateTime end) {
+    String hql =
+        """
+        SELECT t.fromColumnId AS columnId, t.fromEnteredAt AS enteredAt, t.transitionedAt AS leftAt
+        FROM CardTransition t
+        WHERE t.boardId = :boardId
+        AND t.transitionedAt >= :start
+        AND t.transitionedAt < :end
+        AND t.fromEnteredAt IS NOT NULL
+        """;
+
+    List<Tuple> rows =
+        entityManager
+            .createQuery(hql, Tuple.class)
+            .setParameter("boardId", boardId)
+            .setParameter("start", start)
+            .setParameter("end", end)
+            .getResultList();
+
+    Map<Long, List<Duration>> timesByColumn = new LinkedHashMap<>();
+    for (Tuple row : rows) {
+      Duration timeInColumn =
+          Duration.between(
+              row.get("enteredAt", OffsetDateTime.class), row.get("leftAt", OffsetDateTime.class));
+      timesByColumn
+          .computeIfAbsent(row.get("columnId", Long.class), columnId -> new ArrayList<>())
+          .add(timeInColumn);
+    }
+
+    return timesByColumn;
+  }
+
+  @Override
+  public Optional<OffsetDateTime> findFirstTransitionAt(Long boardId) {
+    String hql =
+        """
+        SELECT MIN(t.transitionedAt) FROM CardTransition t
+        WHERE t.boardId = :boardId
+        """;
+
+    return Optional.ofNullable(
+        entityManager
+            .createQuery(hql, OffsetDateTime.class)
+            .setParameter("boardId", boardId)
+            .getSingleResult());
+  }
+
+  @Override
+  public Map<Long, Integer> countCardsByColumnAt(Long boardId, OffsetDateTime at) {
+    // Transições no mesmo instante são desempatadas pelo id, que segue a ordem de gravação
+    String hql =
+        """
+        SELECT t.toColumnId AS columnId, COUNT(t) AS cardCount
+        FROM CardTransition t
+        JOIN Card c ON c.id = t.cardId
+        WHERE t.boardId = :boardId
+        AND t.transitionedAt < :at
+        AND NOT EXISTS (
+            SELECT 1 FROM CardTransition n
+            WHERE n.cardId = t.cardId
+            AND n.transitionedAt < :at
+            AND (n.transitionedAt > t.transitionedAt
+                OR (n.transitionedAt = t.transitionedAt AND n.id > t.id)))
+        GROUP BY t.toColumnId
+        """;
+
+    List<Tuple> rows =
+        entityManager
+            .createQuery(hql, Tuple.class)
+            .setParameter("boardId", boardId)
+            .setParameter("at", at)
+            .getResultList();
+
+    Map<Long, Integer> countsByColumn = new HashMap<>();
+    for (Tuple row : rows) {
+      countsByColumn.put(
+          row.get("columnId", Long.class), row.get("cardCount", Long.class).intValue());
+    }
+
+    return countsByColumn;
+  }
+
+  @Override
+  public List<CardTransition> findBetween(
+      Long boardId, OffsetDateTime start, OffsetDateTime end) {
+    String hql =
+        """
+        SELECT t FROM CardTransition t
+        JOIN Card c ON c.id = t.cardId
+        WHERE t.boardId = :boardId
+        AND t.transitionedAt >= :start
+        AND t.transitionedAt < :end
+        ORDER BY t.transitionedAt, t.id
+        """;
+
+    return entityManager
+        .createQuery(hql, CardTransition.class)
+        .setParameter("boardId", boardId)
+        .setParameter("start", start)
+        .setParameter("end", end)
+        .getResultList();
+  }
+}
@@ -0,0 +1,74 @@
+package br.com.devcoelho.taskboard.dao.impl;
+
+import br.com.devcoelho.taskboard.dao.DurationSketchDAO;
+import br.com.devcoelho.taskboard.model.DurationMetric;
+import br.com.devcoelho.taskboard.model.DurationSketchEntry;
+import br.com.devcoelho.taskboard.util.DurationSketch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementação da interface DurationSketchDAO com a entidade DurationSketchEntry. Os sketches são
+ * gravados como bytes, sempre lidos e escritos inteiros, e a versão da entidade detecta gravações
+ * concorrentes.
+ */
+@Repository
+public class DurationSketchDAOImpl implements DurationSketchDAO {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public Optional<DurationSketchEntry> find(Long boardId, DurationMetric metric) {
+    return Optional.ofNullable(
+        entityManager.find(
+            DurationSketchEntry.class, new DurationSketchEntry.Key(boardId, metric)));
+  }
+
+  @Override
+  public void save(DurationSketchEntry entry) {
+    if (entry.getVersion() == null) {
+      entityManager.persist(entry);
+    }
+
+    try {
+      entityManager.flush();
+    } catch (PersistenceException e) {
+      // Duas primeiras amostras concorrentes: a que perdeu relê a linha criada pela outra
+      if (e instanceof ConstraintViolationException
+          || e.getCause() instanceof ConstraintViolationException) {
+        throw new OptimisticLockingFailureException(
+            "Duration sketch of board " + entry.getBoardId() + " was created concurrently", e);
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public Map<DurationMetric, DurationSketch> findByBoardId(Long boardId) {
+    List<DurationSketchEntry> entries =
+        entityManager
+            .createQuery(
+                """
+                SELECT e FROM DurationSketchEntry e
+                WHERE e.boardId = :boardId AND e.sketch IS NOT NULL
+                """,
+                DurationSketchEntry.class)
+            .setParameter("boardId", boardId)
+            .getResultList();
+
+    Map<DurationMetric, DurationSketch> sketches = new EnumMap<>(DurationMetric.class);
+    for (DurationSketchEntry entry : entries) {
+      sketches.put(entry.getMetric(), DurationSketch.fromBytes(entry.getSketch()));
+    }
+
+    return sketches;
+  }
+}
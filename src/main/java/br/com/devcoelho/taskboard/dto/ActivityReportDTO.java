@@ -0,0 +1,23 @@
+package br.com.devcoelho.taskboard.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityReportDTO {
+  private OffsetDateTime start;
+  private OffsetDateTime end;
+  private long cardsCreated;
+  private long blockedCards; // Cards criados no período que estão bloqueados
+  private long activeCards; // Cards criados no período que não estão bloqueados
+  private long totalBlocks; // Bloqueios iniciados no período
+  private List<BlockReasonDTO> commonBlockReasons;
+  private List<BoardSummaryDTO> activeBoards;
+}
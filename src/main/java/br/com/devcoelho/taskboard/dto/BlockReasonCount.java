@@ -0,0 +1,11 @@
+package br.com.devcoelho.taskboard.dto;
+
+import lombok.Value;
+
+/** Quantidade de bloqueios de um board com o mesmo motivo. */
+@Value
+public class BlockReasonCount {
+  Long boardId;
+  String reason;
+  long count;
+}
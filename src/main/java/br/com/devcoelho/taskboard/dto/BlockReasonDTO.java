@@ -0,0 +1,17 @@
+package br.com.devcoelho.taskboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlockReasonDTO {
+  private String reason;
+  private long count; // Limite superior da quantidade real de bloqueios
+  private long error; // A quantidade real está entre count - error e count
+  private long guaranteedCount;
+}
@@ -0,0 +1,29 @@
+package br.com.devcoelho.taskboard.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardChangesDTO {
+  private Long boardId;
+  private Long since; // Versão informada pelo cliente, nula no primeiro pedido
+  private long version; // Versão atual; o cliente a envia como since no próximo pedido
+  private boolean resync; // Feed compactado ou versão desconhecida: o cliente deve reler o board
+
+  private String name; // Preenchido apenas quando o próprio board foi alterado
+
+  // Estado atual das colunas e cards alterados desde a versão informada
+  @Builder.Default private List<BoardColumnDTO> columns = new ArrayList<>();
+  @Builder.Default private List<CardDTO> cards = new ArrayList<>();
+
+  // Colunas e cards alterados que não existem mais no board
+  @Builder.Default private List<Long> deletedColumnIds = new ArrayList<>();
+  @Builder.Default private List<Long> deletedCardIds = new ArrayList<>();
+}
@@ -14,8 +14,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class BoardColumnDTO {
   private Long id;
+  private Long version; // Versão usada na ETag e no If-Match
   private String name;
-  private int order;
+  private String rank; // Chave de ordenação; as colunas são listadas em ordem crescente
   private BoardColumnKind kind;
   private Long boardId; // Referência ao Board pai
 
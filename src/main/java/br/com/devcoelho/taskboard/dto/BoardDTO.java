@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class BoardDTO {
     private Long id;
+    private Long version;
     private String name;
 
     @Builder.Default
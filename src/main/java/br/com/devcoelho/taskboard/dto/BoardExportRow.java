@@ -0,0 +1,32 @@
+package br.com.devcoelho.taskboard.dto;
+
+import br.com.devcoelho.taskboard.model.BoardColumnKind;
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Linha da consulta de exportação de board: uma coluna, um de seus cards (ou nenhum) e um dos
+ * bloqueios do card (ou nenhum). As linhas chegam ordenadas por coluna, card e bloqueio.
+ */
+@Data
+@AllArgsConstructor
+public class BoardExportRow {
+  private Long columnId;
+  private String columnName;
+  private BoardColumnKind columnKind;
+  private String columnRank;
+
+  private Long cardId;
+  private String cardTitle;
+  private String cardRank;
+  private String cardDescription;
+  private OffsetDateTime cardCreatedAt;
+  private OffsetDateTime cardUpdatedAt;
+
+  private Long blockId;
+  private OffsetDateTime blockedAt;
+  private String blockReason;
+  private OffsetDateTime unblockedAt;
+  private String unblockReason;
+}
@@ -0,0 +1,16 @@
+package br.com.devcoelho.taskboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardPercentilesDTO {
+  private Long boardId;
+  private PercentilesDTO cycleTime;
+  private PercentilesDTO blockDuration;
+}
@@ -12,6 +12,6 @@ import lombok.NoArgsConstructor;
 public class BoardSummaryDTO {
   private Long id;
   private String name;
-  private int columnCount;
-  private int cardCount;
+  private long columnCount;
+  private long cardCount;
 }
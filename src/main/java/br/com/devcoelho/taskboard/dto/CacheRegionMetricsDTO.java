@@ -0,0 +1,22 @@
+package br.com.devcoelho.taskboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionMetricsDTO {
+  private String region;
+  private long hitCount;
+  private long missCount;
+  private long putCount;
+  private long evictionCount;
+  private long elementCountInMemory;
+
+  // Fração de leituras atendidas pelo cache (0 quando ainda não houve leituras)
+  private double hitRatio;
+}
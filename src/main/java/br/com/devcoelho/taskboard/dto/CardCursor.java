@@ -0,0 +1,62 @@
+package br.com.devcoelho.taskboard.dto;
+
+import br.com.devcoelho.taskboard.exception.InvalidCursorException;
+import br.com.devcoelho.taskboard.model.Card;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import lombok.Value;
+
+/**
+ * Posição de continuação na listagem de cards, ordenada por (createdAt, id) do mais recente para o
+ * mais antigo. É enviada ao cliente como um token opaco (Base64 URL-safe).
+ */
+@Value
+public class CardCursor {
+
+  OffsetDateTime createdAt;
+  Long id;
+
+  /**
+   * Cria o cursor que aponta para depois do card informado.
+   *
+   * @param card último card da página
+   * @return cursor de continuação
+   */
+  public static CardCursor after(Card card) {
+    return new CardCursor(card.getCreatedAt(), card.getId());
+  }
+
+  /**
+   * Converte o cursor em token opaco.
+   *
+   * @return token a ser devolvido ao cliente
+   */
+  public String encode() {
+    String raw = createdAt.toInstant() + "," + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodifica um token recebido do cliente.
+   *
+   * @param token token opaco gerado por {@link #encode()}
+   * @return cursor correspondente
+   * @throws InvalidCursorException se o token for inválido
+   */
+  public static CardCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(',');
+      Instant createdAt = Instant.parse(raw.substring(0, separator));
+      Long id = Long.valueOf(raw.substring(separator + 1));
+      return new CardCursor(createdAt.atOffset(ZoneOffset.UTC), id);
+    } catch (RuntimeException e) {
+      throw new InvalidCursorException(token, e);
+    }
+  }
+}
@@ -14,8 +14,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class CardDTO {
   private Long id;
+  private Long version; // Versão usada na ETag e no If-Match
   private String title;
   private String description;
+  private String rank; // Chave de ordenação; os cards da coluna são listados em ordem crescente
   private OffsetDateTime createdAt;
   private OffsetDateTime updatedAt;
   private Long boardColumnId; // Referência à BoardColumn pai
@@ -0,0 +1,61 @@
+package br.com.devcoelho.taskboard.dto;
+
+import br.com.devcoelho.taskboard.exception.InvalidCursorException;
+import br.com.devcoelho.taskboard.model.Card;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Value;
+
+/**
+ * Posição de continuação na listagem dos cards de uma coluna, ordenada por (rank, id). É enviada ao
+ * cliente como um token opaco (Base64 URL-safe).
+ */
+@Value
+public class CardRankCursor {
+
+  String rank;
+  Long id;
+
+  /**
+   * Cria o cursor que aponta para depois do card informado.
+   *
+   * @param card último card da página
+   * @return cursor de continuação
+   */
+  public static CardRankCursor after(Card card) {
+    return new CardRankCursor(card.getRank(), card.getId());
+  }
+
+  /**
+   * Converte o cursor em token opaco.
+   *
+   * @return token a ser devolvido ao cliente
+   */
+  public String encode() {
+    String raw = rank + "," + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodifica um token recebido do cliente.
+   *
+   * @param token token opaco gerado por {@link #encode()}
+   * @return cursor correspondente
+   * @throws InvalidCursorException se o token for inválido
+   */
+  public static CardRankCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(',');
+      if (separator < 1) {
+        throw new IllegalArgumentException("Missing rank");
+      }
+      Long id = Long.valueOf(raw.substring(separator + 1));
+      return new CardRankCursor(raw.substring(0, separator), id);
+    } catch (RuntimeException e) {
+      throw new InvalidCursorException(token, e);
+    }
+  }
+}
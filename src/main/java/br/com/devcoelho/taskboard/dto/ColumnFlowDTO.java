@@ -0,0 +1,19 @@
+package br.com.devcoelho.taskboard.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnFlowDTO {
+  private Long columnId;
+  private String columnName;
+
+  @Builder.Default private List<Integer> cardCounts = new ArrayList<>(); // Ao fim de cada dia
+}
@@ -0,0 +1,16 @@
+package br.com.devcoelho.taskboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnTimeDTO {
+  private Long columnId;
+  private String columnName;
+  private DurationStatsDTO timeInColumn; // Dos cards que saíram da coluna no período
+}
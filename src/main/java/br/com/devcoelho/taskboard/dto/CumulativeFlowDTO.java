@@ -0,0 +1,24 @@
+package br.com.devcoelho.taskboard.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CumulativeFlowDTO {
+  private Long boardId;
+  private LocalDate from;
+  private LocalDate to;
+
+  @Builder.Default private List<LocalDate> days = new ArrayList<>();
+
+  // Uma série por coluna, na ordem do board; cada contagem corresponde ao dia de mesmo índice
+  @Builder.Default private List<ColumnFlowDTO> columns = new ArrayList<>();
+}
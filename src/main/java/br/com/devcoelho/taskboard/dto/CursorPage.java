@@ -0,0 +1,17 @@
+package br.com.devcoelho.taskboard.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Página de uma listagem paginada por cursor. O cursor de continuação é nulo na última página.
+ *
+ * @param <T> tipo dos itens da página
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+  private List<T> items;
+  private String nextCursor;
+}
@@ -0,0 +1,18 @@
+package br.com.devcoelho.taskboard.dto;
+
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CycleTimeDTO {
+  private Long boardId;
+  private OffsetDateTime from;
+  private OffsetDateTime to;
+  private DurationStatsDTO cycleTime; // Da criação até a chegada à coluna final
+}
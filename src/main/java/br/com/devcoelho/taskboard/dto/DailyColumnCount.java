@@ -0,0 +1,12 @@
+package br.com.devcoelho.taskboard.dto;
+
+import java.time.LocalDate;
+import lombok.Value;
+
+/** Quantidade de cards em uma coluna ao fim de um dia, como gravada no rollup diário. */
+@Value
+public class DailyColumnCount {
+  Long columnId;
+  LocalDate day;
+  int cardCount;
+}
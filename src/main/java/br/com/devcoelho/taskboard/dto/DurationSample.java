@@ -0,0 +1,11 @@
+package br.com.devcoelho.taskboard.dto;
+
+import java.time.Duration;
+import lombok.Value;
+
+/** Duração medida para um board, a registrar no sketch de quantis dele. */
+@Value
+public class DurationSample {
+  Long boardId;
+  Duration duration;
+}
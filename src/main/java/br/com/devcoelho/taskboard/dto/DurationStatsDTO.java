@@ -0,0 +1,18 @@
+package br.com.devcoelho.taskboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DurationStatsDTO {
+  private int count; // Quantidade de amostras
+  private double averageHours;
+  private double medianHours;
+  private double p85Hours; // 85% das amostras levaram até este tempo
+  private double maxHours;
+}
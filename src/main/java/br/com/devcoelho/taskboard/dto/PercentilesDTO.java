@@ -0,0 +1,19 @@
+package br.com.devcoelho.taskboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PercentilesDTO {
+  private long count; // Quantidade de amostras registradas
+  private double averageHours;
+  private double p50Hours;
+  private double p90Hours;
+  private double p99Hours; // Estimativas com erro relativo de até 1%
+  private double maxHours;
+}
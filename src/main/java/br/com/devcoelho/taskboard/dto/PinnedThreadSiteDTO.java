@@ -0,0 +1,17 @@
+package br.com.devcoelho.taskboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PinnedThreadSiteDTO {
+  private String site; // Primeiro frame fora do JDK na pilha da thread virtual presa
+  private String applicationFrame; // Primeiro frame do FlowDeck na pilha, se houver
+  private long count;
+  private long maxMillis;
+}
@@ -0,0 +1,30 @@
+package br.com.devcoelho.taskboard.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PoolMetricsDTO {
+  private String poolName;
+  private int activeConnections;
+  private int idleConnections;
+  private int pendingThreads;
+  private int totalConnections;
+  private int minConnections;
+  private int maxConnections;
+  private long connectionsCreated;
+  private long connectionTimeouts;
+  private long acquireCount;
+  private double averageAcquireMillis;
+  private long usageMillisTotal;
+
+  // Contagem de aquisições por faixa de tempo (não cumulativa)
+  @Builder.Default private Map<String, Long> acquireTimeHistogram = new LinkedHashMap<>();
+}
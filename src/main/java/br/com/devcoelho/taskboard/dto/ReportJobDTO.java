@@ -0,0 +1,22 @@
+package br.com.devcoelho.taskboard.dto;
+
+import br.com.devcoelho.taskboard.model.ReportJobStatus;
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobDTO {
+  private String id;
+  private Long boardId;
+  private long boardVersion; // Versão dos dados do board em que o relatório foi (ou será) gerado
+  private ReportJobStatus status;
+  private OffsetDateTime submittedAt;
+  private OffsetDateTime completedAt;
+  private String error;
+}
@@ -24,8 +24,9 @@ public class BoardColumnMapper {
     BoardColumnDTO dto =
         BoardColumnDTO.builder()
             .id(boardColumn.getId())
+            .version(boardColumn.getVersion())
             .name(boardColumn.getName())
-            .order(boardColumn.getOrder())
+            .rank(boardColumn.getRank())
             .kind(boardColumn.getKind())
             .boardId(boardColumn.getBoard() != null ? boardColumn.getBoard().getId() : null)
             .cards(cardMapper.toDtoList(boardColumn.getCards()))
@@ -45,8 +46,9 @@ public class BoardColumnMapper {
     BoardColumnDTO dto =
         BoardColumnDTO.builder()
             .id(boardColumn.getId())
+            .version(boardColumn.getVersion())
             .name(boardColumn.getName())
-            .order(boardColumn.getOrder())
+            .rank(boardColumn.getRank())
             .kind(boardColumn.getKind())
             .boardId(boardColumn.getBoard() != null ? boardColumn.getBoard().getId() : null)
             .build();
@@ -82,7 +84,7 @@ public class BoardColumnMapper {
         BoardColumn.builder()
             .id(dto.getId())
             .name(dto.getName())
-            .order(dto.getOrder())
+            .rank(dto.getRank())
             .kind(dto.getKind())
             .build();
 
@@ -104,8 +106,8 @@ public class BoardColumnMapper {
       entity.setName(dto.getName());
     }
 
-    if (dto.getOrder() > 0) {
-      entity.setOrder(dto.getOrder());
+    if (dto.getRank() != null) {
+      entity.setRank(dto.getRank());
     }
 
     if (dto.getKind() != null) {
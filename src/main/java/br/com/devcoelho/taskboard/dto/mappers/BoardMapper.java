@@ -22,6 +22,7 @@ public class BoardMapper {
     BoardDTO dto =
         BoardDTO.builder()
             .id(board.getId())
+            .version(board.getVersion())
             .name(board.getName())
             .columns(boardColumnMapper.toDtoList(board.getColumns()))
             .build();
@@ -24,8 +24,10 @@ public class CardMapper {
 
     return CardDTO.builder()
         .id(card.getId())
+        .version(card.getVersion())
         .title(card.getTitle())
         .description(card.getDescription())
+        .rank(card.getRank())
         .createdAt(card.getCreatedAt())
         .updatedAt(card.getUpdatedAt())
         .boardColumnId(card.getBoardColumn() != null ? card.getBoardColumn().getId() : null)
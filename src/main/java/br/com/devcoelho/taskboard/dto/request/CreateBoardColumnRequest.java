@@ -15,5 +15,6 @@ public class CreateBoardColumnRequest {
   @NotNull(message = "Column Kind is Obligatory")
   private BoardColumnKind kind;
 
+  // Posição da coluna a partir de 1; zero para adicionar ao final
   private int order;
 }
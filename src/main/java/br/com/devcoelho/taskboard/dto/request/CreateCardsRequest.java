@@ -0,0 +1,14 @@
+package br.com.devcoelho.taskboard.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class CreateCardsRequest {
+  @NotEmpty(message = "At least one card is obligatory")
+  @Size(max = 500, message = "At most 500 cards can be created at once")
+  private List<@Valid CreateCardRequest> cards;
+}
@@ -0,0 +1,9 @@
+package br.com.devcoelho.taskboard.dto.request;
+
+import lombok.Data;
+
+@Data
+public class MoveBoardColumnRequest {
+  // Coluna que deve ficar imediatamente antes da movida; null para mover para o início
+  private Long afterColumnId;
+}
@@ -0,0 +1,12 @@
+package br.com.devcoelho.taskboard.dto.request;
+
+import lombok.Data;
+
+@Data
+public class PositionCardRequest {
+  // Coluna de destino; null para usar a coluna do card de referência ou a coluna atual
+  private Long columnId;
+
+  // Card que deve ficar imediatamente antes do posicionado; null para posicionar no topo
+  private Long afterCardId;
+}
@@ -0,0 +1,40 @@
+package br.com.devcoelho.taskboard.event;
+
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Publicado nas alterações de um board sem um evento próprio, como remoções e o rebalanceamento das
+ * chaves de ordenação; quem acompanha o board deve relê-lo.
+ */
+@Value
+public class BoardChangedEvent implements BoardEvent {
+  Long boardId;
+  List<Long> cardIds;
+  List<Long> columnIds;
+
+  /** Alteração do próprio board, como o nome */
+  public static BoardChangedEvent ofBoard(Long boardId) {
+    return new BoardChangedEvent(boardId, List.of(), List.of());
+  }
+
+  /** Alteração de cards do board */
+  public static BoardChangedEvent ofCards(Long boardId, List<Long> cardIds) {
+    return new BoardChangedEvent(boardId, cardIds, List.of());
+  }
+
+  /** Alteração de colunas do board */
+  public static BoardChangedEvent ofColumns(Long boardId, List<Long> columnIds) {
+    return new BoardChangedEvent(boardId, List.of(), columnIds);
+  }
+
+  @Override
+  public List<Long> changedCardIds() {
+    return cardIds;
+  }
+
+  @Override
+  public List<Long> changedColumnIds() {
+    return columnIds;
+  }
+}
@@ -0,0 +1,24 @@
+package br.com.devcoelho.taskboard.event;
+
+import java.util.List;
+
+/**
+ * Evento de alteração nos dados de um board. Cada evento publicado avança a versão do board antes
+ * do commit e registra no histórico de alterações os cards e as colunas afetados; um evento sem
+ * cards nem colunas é uma alteração do próprio board.
+ */
+public interface BoardEvent {
+
+  /** Board alterado */
+  Long getBoardId();
+
+  /** Cards criados, alterados ou removidos */
+  default List<Long> changedCardIds() {
+    return List.of();
+  }
+
+  /** Colunas criadas, alteradas ou removidas */
+  default List<Long> changedColumnIds() {
+    return List.of();
+  }
+}
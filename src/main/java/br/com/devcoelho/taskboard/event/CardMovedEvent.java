@@ -0,0 +1,21 @@
+package br.com.devcoelho.taskboard.event;
+
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Publicado quando um card muda de coluna ou de posição; {@code rank} é a nova chave de ordenação
+ * do card na coluna.
+ */
+@Value
+public class CardMovedEvent implements BoardEvent {
+  Long boardId;
+  Long cardId;
+  Long columnId;
+  String rank;
+
+  @Override
+  public List<Long> changedCardIds() {
+    return List.of(cardId);
+  }
+}
@@ -0,0 +1,20 @@
+package br.com.devcoelho.taskboard.event;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import lombok.Value;
+
+/** Publicado quando um card é desbloqueado; ouvintes transacionais o recebem após o commit. */
+@Value
+public class CardUnblockedEvent implements BoardEvent {
+  Long blockId;
+  Long cardId;
+  Long boardId;
+  OffsetDateTime blockedAt;
+  OffsetDateTime unblockedAt;
+
+  @Override
+  public List<Long> changedCardIds() {
+    return List.of(cardId);
+  }
+}
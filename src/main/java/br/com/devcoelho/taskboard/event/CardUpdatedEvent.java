@@ -0,0 +1,18 @@
+package br.com.devcoelho.taskboard.event;
+
+import java.util.List;
+import lombok.Value;
+
+/** Publicado quando o título ou a descrição de um card são alterados. */
+@Value
+public class CardUpdatedEvent implements BoardEvent {
+  Long boardId;
+  Long cardId;
+  String title;
+  String description;
+
+  @Override
+  public List<Long> changedCardIds() {
+    return List.of(cardId);
+  }
+}
@@ -0,0 +1,17 @@
+package br.com.devcoelho.taskboard.event;
+
+import java.util.List;
+import lombok.Value;
+
+/** Publicado quando um ou mais cards são criados no topo da coluna inicial de um board. */
+@Value
+public class CardsCreatedEvent implements BoardEvent {
+  Long boardId;
+  Long columnId;
+  List<Long> cardIds;
+
+  @Override
+  public List<Long> changedCardIds() {
+    return cardIds;
+  }
+}
@@ -0,0 +1,20 @@
+package br.com.devcoelho.taskboard.event;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * Publicado quando colunas de um board mudam de posição, com as novas chaves de ordenação apenas
+ * das colunas que mudaram.
+ */
+@Value
+public class ColumnsReorderedEvent implements BoardEvent {
+  Long boardId;
+  Map<Long, String> ranks;
+
+  @Override
+  public List<Long> changedColumnIds() {
+    return List.copyOf(ranks.keySet());
+  }
+}
@@ -0,0 +1,16 @@
+package br.com.devcoelho.taskboard.event;
+
+import br.com.devcoelho.taskboard.model.DurationMetric;
+import java.time.Duration;
+import lombok.Value;
+
+/**
+ * Publicado quando um bloqueio é encerrado ou um card chega à coluna final; ouvintes transacionais
+ * o recebem após o commit, então uma operação desfeita não deixa amostra no sketch.
+ */
+@Value
+public class DurationSampledEvent {
+  Long boardId;
+  DurationMetric metric;
+  Duration duration;
+}
@@ -12,7 +12,7 @@ package br.com.devcoelho.taskboard.exception;
  * @version 1.0
  * @since 1.0
  * @see br.com.devcoelho.taskboard.model.Card#isBlocked()
- * @see br.com.devcoelho.taskboard.service.CardService#moveCard(Long, Long)
+ * @see br.com.devcoelho.taskboard.service.CardService#move(Long, Long, Long)
  */
 public class BlockedCardException extends FlowDeckException {
 
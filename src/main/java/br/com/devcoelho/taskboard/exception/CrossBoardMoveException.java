@@ -0,0 +1,29 @@
+package br.com.devcoelho.taskboard.exception;
+
+/**
+ * Exception thrown when a card is moved to a column that belongs to a different board.
+ *
+ * <p>Cards can only move between the columns of their own board. Moving a card to another board
+ * would detach it from the workflow it was created in.
+ *
+ * <p>The HTTP status code associated with this exception is 422 Unprocessable Entity.
+ *
+ * @author Gabriel Coelho Soares
+ * @version 1.0
+ * @since 1.0
+ * @see br.com.devcoelho.taskboard.service.CardService#move(Long, Long, Long)
+ */
+public class CrossBoardMoveException extends FlowDeckException {
+
+  public CrossBoardMoveException(Long cardId, Long targetColumnId) {
+    super(formatMessage(cardId, targetColumnId));
+  }
+
+  private static String formatMessage(Long cardId, Long targetColumnId) {
+    return "The card (ID: "
+        + cardId
+        + ") can't be moved to column "
+        + targetColumnId
+        + ", which belongs to another board";
+  }
+}
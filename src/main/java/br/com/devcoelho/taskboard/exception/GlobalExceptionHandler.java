@@ -3,6 +3,8 @@ package br.com.devcoelho.taskboard.exception;
 import java.time.OffsetDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -127,6 +129,87 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(body, HttpStatus.UNPROCESSABLE_ENTITY);
   }
 
+  @ExceptionHandler(CrossBoardMoveException.class)
+  public ResponseEntity<Object> handleCrossBoardMoveException(
+      CrossBoardMoveException ex, WebRequest request) {
+
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("timestamp", OffsetDateTime.now());
+    body.put("status", HttpStatus.UNPROCESSABLE_ENTITY.value());
+    body.put("error", "Bad Request");
+    body.put("message", ex.getMessage());
+
+    return new ResponseEntity<>(body, HttpStatus.UNPROCESSABLE_ENTITY);
+  }
+
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ResponseEntity<Object> handlePreconditionFailedException(
+      PreconditionFailedException ex, WebRequest request) {
+
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("timestamp", OffsetDateTime.now());
+    body.put("status", HttpStatus.PRECONDITION_FAILED.value());
+    body.put("error", "Precondition Failed");
+    body.put("message", ex.getMessage());
+    body.put("currentVersion", ex.getCurrentVersion());
+
+    return new ResponseEntity<>(body, HttpStatus.PRECONDITION_FAILED);
+  }
+
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<Object> handleOptimisticLockingFailureException(
+      OptimisticLockingFailureException ex, WebRequest request) {
+
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("timestamp", OffsetDateTime.now());
+    body.put("status", HttpStatus.CONFLICT.value());
+    body.put("error", "Conflict");
+    body.put("message", "The resource was modified by another request. Reload it and try again");
+
+    return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<Object> handleInvalidCursorException(
+      InvalidCursorException ex, WebRequest request) {
+
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("timestamp", OffsetDateTime.now());
+    body.put("status", HttpStatus.BAD_REQUEST.value());
+    body.put("error", "Bad Request");
+    body.put("message", ex.getMessage());
+
+    return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler(ReportJobNotCompletedException.class)
+  public ResponseEntity<Object> handleReportJobNotCompletedException(
+      ReportJobNotCompletedException ex, WebRequest request) {
+
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("timestamp", OffsetDateTime.now());
+    body.put("status", HttpStatus.CONFLICT.value());
+    body.put("error", "Conflict");
+    body.put("message", ex.getMessage());
+
+    return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+  }
+
+  @ExceptionHandler(ReportQueueFullException.class)
+  public ResponseEntity<Object> handleReportQueueFullException(
+      ReportQueueFullException ex, WebRequest request) {
+
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("timestamp", OffsetDateTime.now());
+    body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+    body.put("error", "Service Unavailable");
+    body.put("message", ex.getMessage());
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "5")
+        .body(body);
+  }
+
   @ExceptionHandler(SpecialColumnDeletionException.class)
   public ResponseEntity<Object> handleSpecialColumnDeletionException(
       SpecialColumnDeletionException ex, WebRequest request) {
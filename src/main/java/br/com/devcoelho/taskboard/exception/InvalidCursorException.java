@@ -0,0 +1,26 @@
+package br.com.devcoelho.taskboard.exception;
+
+/**
+ * Exception thrown when a pagination cursor sent by the client cannot be decoded.
+ *
+ * <p>Cursors are opaque tokens returned by the listing endpoints. This exception is thrown when a
+ * token was altered, truncated or produced by a different endpoint.
+ *
+ * <p>The HTTP status code associated with this exception is 400 Bad Request.
+ *
+ * @author Gabriel Coelho Soares
+ * @version 1.0
+ * @since 1.0
+ * @see br.com.devcoelho.taskboard.dto.CardCursor
+ * @see br.com.devcoelho.taskboard.dto.CardRankCursor
+ */
+public class InvalidCursorException extends FlowDeckException {
+
+  public InvalidCursorException(String cursor, Throwable cause) {
+    super(formatMessage(cursor), cause);
+  }
+
+  private static String formatMessage(String cursor) {
+    return "Invalid pagination cursor: " + cursor;
+  }
+}
@@ -0,0 +1,38 @@
+package br.com.devcoelho.taskboard.exception;
+
+/**
+ * Exception thrown when a conditional request targets a stale version of a resource.
+ *
+ * <p>Clients send the version they last read in the {@code If-Match} header. When the resource
+ * has been modified since then, the operation is rejected instead of silently overwriting the
+ * other change.
+ *
+ * <p>The HTTP status code associated with this exception is 412 Precondition Failed.
+ *
+ * @author Gabriel Coelho Soares
+ * @version 1.0
+ * @since 1.0
+ */
+public class PreconditionFailedException extends FlowDeckException {
+
+  private final Long currentVersion;
+
+  public Long getCurrentVersion() {
+    return currentVersion;
+  }
+
+  public PreconditionFailedException(
+      String resourceName, Object id, Long expectedVersion, Long currentVersion) {
+    super(formatMessage(resourceName, id, expectedVersion));
+    this.currentVersion = currentVersion;
+  }
+
+  private static String formatMessage(String resourceName, Object id, Long expectedVersion) {
+    return resourceName
+        + " (ID: "
+        + id
+        + ") was modified after version "
+        + expectedVersion
+        + ". Reload it and try again";
+  }
+}
@@ -0,0 +1,26 @@
+package br.com.devcoelho.taskboard.exception;
+
+import br.com.devcoelho.taskboard.model.ReportJobStatus;
+
+/**
+ * Exception thrown when the result of a report job is requested before the job completes, or after
+ * it failed.
+ *
+ * <p>Clients should poll the job status until it is {@code COMPLETED} before fetching the result.
+ *
+ * <p>The HTTP status code associated with this exception is 409 Conflict.
+ *
+ * @author Gabriel Coelho Soares
+ * @version 1.0
+ * @since 1.0
+ */
+public class ReportJobNotCompletedException extends FlowDeckException {
+
+  public ReportJobNotCompletedException(String jobId, ReportJobStatus status) {
+    super(formatMessage(jobId, status));
+  }
+
+  private static String formatMessage(String jobId, ReportJobStatus status) {
+    return "Report job (ID: " + jobId + ") has no result. Current status: " + status;
+  }
+}
@@ -0,0 +1,25 @@
+package br.com.devcoelho.taskboard.exception;
+
+/**
+ * Exception thrown when a report job cannot be accepted because the report workers are busy and
+ * their queue is full.
+ *
+ * <p>Clients should retry the submission later; identical jobs already in the queue are reused
+ * instead of being queued again.
+ *
+ * <p>The HTTP status code associated with this exception is 503 Service Unavailable.
+ *
+ * @author Gabriel Coelho Soares
+ * @version 1.0
+ * @since 1.0
+ */
+public class ReportQueueFullException extends FlowDeckException {
+
+  public ReportQueueFullException(Long boardId, Throwable cause) {
+    super(formatMessage(boardId), cause);
+  }
+
+  private static String formatMessage(Long boardId) {
+    return "Report queue is full. The report of board (ID: " + boardId + ") was not scheduled";
+  }
+}
@@ -1,12 +1,15 @@
 package br.com.devcoelho.taskboard.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
 import lombok.AllArgsConstructor;
@@ -15,7 +18,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "block")
+@Table(
+    name = "block",
+    indexes = {
+      @Index(name = "idx_block_blocked_at", columnList = "blocked_at"),
+      @Index(name = "idx_block_duration_hours", columnList = "duration_hours")
+    })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,7 +31,8 @@ import lombok.NoArgsConstructor;
 public class Block {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "block_seq")
+  @SequenceGenerator(name = "block_seq", sequenceName = "block_seq", allocationSize = 50)
   private Long id;
 
   private OffsetDateTime blockedAt;
@@ -34,6 +43,13 @@ public class Block {
 
   private String unblockReason;
 
+  /**
+   * Duração do bloqueio em horas completas, gravada ao desbloquear; null enquanto o bloqueio está
+   * ativo. Indexada, permite buscar bloqueios encerrados longos sem calcular a duração de cada um.
+   */
+  @Column(name = "duration_hours")
+  private Long durationHours;
+
   @ManyToOne
   @JoinColumn(name = "card_id")
   @JsonBackReference("card-blocks")
@@ -4,13 +4,18 @@ import static br.com.devcoelho.taskboard.model.BoardColumnKind.CANCEL;
 import static br.com.devcoelho.taskboard.model.BoardColumnKind.INITIAL;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
@@ -20,25 +25,35 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "board")
+@NamedEntityGraph(name = "Board.withColumns", attributeNodes = @NamedAttributeNode("columns"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Board {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq")
+  @SequenceGenerator(name = "board_seq", sequenceName = "board_seq", allocationSize = 50)
   private Long id;
 
+  /** Versão para controle de concorrência otimista, incrementada a cada atualização. */
+  @Version private Long version;
+
   private String name;
 
   @ToString.Exclude
   @EqualsAndHashCode.Exclude
   @Builder.Default
   @OneToMany(mappedBy = "board", cascade = CascadeType.ALL)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   @JsonManagedReference("board-columns")
   private List<BoardColumn> columns = new ArrayList<>();
 
@@ -0,0 +1,69 @@
+package br.com.devcoelho.taskboard.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Entidade alterada em uma versão de um board, lida pelo feed de alterações. As linhas são
+ * gravadas e compactadas pelo BoardChangeDAO com SQL nativo; a entidade descreve a tabela para que
+ * o esquema gerado seja o mesmo do changeset 019.
+ */
+@Entity
+@Immutable
+@IdClass(BoardChange.Key.class)
+@Table(
+    name = "board_change",
+    indexes = @Index(name = "idx_board_change_changed_at", columnList = "changed_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardChange {
+
+  @Id
+  @Column(name = "board_id", nullable = false)
+  private Long boardId;
+
+  @Id
+  @Column(name = "version", nullable = false)
+  private Long version;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "entity_type", nullable = false, length = 16)
+  private ChangeFeedEntity entityType;
+
+  @Id
+  @Column(name = "entity_id", nullable = false)
+  private Long entityId;
+
+  // Preenchido pelo banco: o INSERT do feed não informa a coluna
+  @ColumnDefault("CURRENT_TIMESTAMP")
+  @Column(name = "changed_at", nullable = false, insertable = false, updatable = false)
+  private OffsetDateTime changedAt;
+
+  /** Chave composta da linha: board, versão e entidade alterada. */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private Long boardId;
+    private Long version;
+    private ChangeFeedEntity entityType;
+    private Long entityId;
+  }
+}
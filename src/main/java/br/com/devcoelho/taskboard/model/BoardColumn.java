@@ -2,6 +2,7 @@ package br.com.devcoelho.taskboard.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,10 +11,15 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -22,23 +28,41 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "board_column")
+@Table(
+    name = "board_column",
+    indexes = @Index(name = "idx_board_column_rank", columnList = "board_id, column_rank"))
+@NamedEntityGraph(name = "BoardColumn.withCards", attributeNodes = @NamedAttributeNode("cards"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class BoardColumn {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_column_seq")
+  @SequenceGenerator(
+      name = "board_column_seq",
+      sequenceName = "board_column_seq",
+      allocationSize = 50)
   private Long id;
 
+  /** Versão para controle de concorrência otimista, incrementada a cada atualização. */
+  @Version private Long version;
+
   private String name;
 
-  @Column(name = "column_order")
-  private int order;
+  /**
+   * Chave de ordenação da coluna no board (ver {@link br.com.devcoelho.taskboard.util.LexoRank}).
+   * Mover uma coluna altera apenas a chave dela; chaves iguais são desempatadas pelo id.
+   */
+  @Column(name = "column_rank", nullable = false, length = 64)
+  private String rank;
 
   @Enumerated(EnumType.STRING)
   private BoardColumnKind kind;
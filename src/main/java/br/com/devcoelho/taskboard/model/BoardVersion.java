@@ -0,0 +1,38 @@
+package br.com.devcoelho.taskboard.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * Versão dos dados de um board, avançada pelo BoardVersionDAO com SQL nativo no fim de cada
+ * transação que altera o board. Boards sem linha estão na versão zero. A entidade descreve a
+ * tabela para que o esquema gerado seja o mesmo dos changesets 018 e 019.
+ */
+@Entity
+@Table(name = "board_version")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardVersion {
+
+  @Id
+  @Column(name = "board_id", nullable = false)
+  private Long boardId;
+
+  // Não é um @Version do JPA: a versão é incrementada por UPDATE atômico, não por merge
+  @Column(name = "version", nullable = false)
+  private long version;
+
+  /** Maior versão já removida do feed de alterações. */
+  @ColumnDefault("0")
+  @Column(name = "compacted_version", nullable = false)
+  private long compactedVersion;
+}
@@ -3,14 +3,20 @@ package br.com.devcoelho.taskboard.model;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,7 +26,14 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "card")
+@Table(
+    name = "card",
+    indexes = {
+      @Index(name = "idx_card_active_block", columnList = "board_column_id, active_block_id"),
+      @Index(name = "idx_card_column_rank", columnList = "board_column_id, card_rank, id"),
+      @Index(name = "idx_card_created_active_block", columnList = "created_at, active_block_id")
+    })
+@NamedEntityGraph(name = "Card.withBlocks", attributeNodes = @NamedAttributeNode("blocks"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,9 +41,13 @@ import lombok.NoArgsConstructor;
 public class Card {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_seq")
+  @SequenceGenerator(name = "card_seq", sequenceName = "card_seq", allocationSize = 50)
   private Long id;
 
+  /** Versão para controle de concorrência otimista, incrementada a cada atualização. */
+  @Version private Long version;
+
   private String title;
 
   private String description;
@@ -41,11 +58,25 @@ public class Card {
   @JsonBackReference("column-cards")
   private BoardColumn boardColumn = new BoardColumn();
 
+  /**
+   * Chave de ordenação do card na coluna (ver {@link br.com.devcoelho.taskboard.util.LexoRank}).
+   * Reposicionar um card altera apenas a chave dele; chaves iguais são desempatadas pelo id.
+   */
+  @Column(name = "card_rank", nullable = false, length = 64)
+  private String rank;
+
   @OneToMany(mappedBy = "card", cascade = CascadeType.ALL)
   @Builder.Default
   @JsonManagedReference("card-blocks")
   private List<Block> blocks = new ArrayList<>();
 
+  /**
+   * Id do bloqueio ativo do card, ou null se o card não está bloqueado. Mantido por BlockService ao
+   * bloquear e desbloquear, permite saber se o card está bloqueado sem carregar o histórico.
+   */
+  @Column(name = "active_block_id")
+  private Long activeBlockId;
+
   @Builder.Default private OffsetDateTime createdAt = OffsetDateTime.now();
 
   private OffsetDateTime updatedAt;
@@ -56,7 +87,7 @@ public class Card {
    * @return true if the card has an active block, false otherwise
    */
   public boolean isBlocked() {
-    return blocks.stream().anyMatch(block -> block.getUnblockedAt() == null);
+    return activeBlockId != null;
   }
 
   /**
@@ -65,7 +96,13 @@ public class Card {
    * @return the current block or null if not blocked
    */
   public Block getCurrentBlock() {
-    return blocks.stream().filter(block -> block.getUnblockedAt() == null).findFirst().orElse(null);
+    if (activeBlockId == null) {
+      return null;
+    }
+    return blocks.stream()
+        .filter(block -> activeBlockId.equals(block.getId()))
+        .findFirst()
+        .orElse(null);
   }
 
   /**
@@ -0,0 +1,57 @@
+package br.com.devcoelho.taskboard.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Quantidade de cards de uma coluna ao fim de um dia (UTC), usada pelo diagrama de fluxo
+ * cumulativo. As linhas são gravadas pelo CardFlowDAO com SQL nativo; a entidade descreve a tabela
+ * para que o esquema gerado seja o mesmo do changeset 014.
+ */
+@Entity
+@IdClass(CardFlowDaily.Key.class)
+@Table(
+    name = "card_flow_daily",
+    indexes =
+        @Index(name = "idx_card_flow_daily_column_date", columnList = "board_column_id, flow_date"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CardFlowDaily {
+
+  @Id
+  @Column(name = "board_id", nullable = false)
+  private Long boardId;
+
+  @Id
+  @Column(name = "flow_date", nullable = false)
+  private LocalDate flowDate;
+
+  @Id
+  @Column(name = "board_column_id", nullable = false)
+  private Long boardColumnId;
+
+  @Column(name = "card_count", nullable = false)
+  private int cardCount;
+
+  /** Chave composta da linha: board, dia e coluna. */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private Long boardId;
+    private LocalDate flowDate;
+    private Long boardColumnId;
+  }
+}
@@ -0,0 +1,66 @@
+package br.com.devcoelho.taskboard.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Registro da entrada de um card em uma coluna: na criação (sem coluna de origem), ao mover e ao
+ * cancelar. A tabela só recebe INSERTs, gravados na mesma transação da operação, e guarda ids em
+ * vez de associações para que as consultas de análise não carreguem cards nem colunas.
+ */
+@Entity
+@Immutable
+@Table(
+    name = "card_transition",
+    indexes = {
+      @Index(name = "idx_card_transition_board_time", columnList = "board_id, transitioned_at"),
+      @Index(
+          name = "idx_card_transition_board_to_time",
+          columnList = "board_id, to_column_id, transitioned_at"),
+      @Index(name = "idx_card_transition_card_time", columnList = "card_id, transitioned_at")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CardTransition {
+
+  // Os registros são gravados com INSERT ... SELECT, então o id vem do próprio banco
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "card_id", nullable = false)
+  private Long cardId;
+
+  @Column(name = "board_id", nullable = false)
+  private Long boardId;
+
+  /** Coluna de onde o card saiu, ou null na criação do card. */
+  @Column(name = "from_column_id")
+  private Long fromColumnId;
+
+  @Column(name = "to_column_id", nullable = false)
+  private Long toColumnId;
+
+  /**
+   * Momento em que o card entrou na coluna de origem. Permite calcular o tempo na coluna a partir
+   * de um único registro, sem buscar a transição anterior.
+   */
+  @Column(name = "from_entered_at")
+  private OffsetDateTime fromEnteredAt;
+
+  @Column(name = "transitioned_at", nullable = false)
+  private OffsetDateTime transitionedAt;
+}
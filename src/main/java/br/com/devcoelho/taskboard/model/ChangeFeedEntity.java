@@ -0,0 +1,13 @@
+package br.com.devcoelho.taskboard.model;
+
+/** Kinds of entity recorded in a board's change feed. */
+public enum ChangeFeedEntity {
+  /** The board itself, such as its name */
+  BOARD,
+
+  /** A column of the board */
+  COLUMN,
+
+  /** A card in one of the board's columns */
+  CARD
+}
@@ -0,0 +1,10 @@
+package br.com.devcoelho.taskboard.model;
+
+/** Durations tracked per board by the quantile sketches. */
+public enum DurationMetric {
+  /** Time between blocking and unblocking a card */
+  BLOCK_DURATION,
+
+  /** Time between a card's creation and its arrival at the final column */
+  CYCLE_TIME
+}
@@ -0,0 +1,61 @@
+package br.com.devcoelho.taskboard.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sketch de quantis de uma métrica de duração de um board, com os buckets serializados. A linha é
+ * lida e gravada inteira, com a versão verificada na gravação: amostras concorrentes não bloqueiam
+ * a linha, e a que perder a disputa é somada de novo sobre o sketch atualizado.
+ */
+@Entity
+@IdClass(DurationSketchEntry.Key.class)
+@Table(name = "duration_sketch")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DurationSketchEntry {
+
+  @Id
+  @Column(name = "board_id", nullable = false)
+  private Long boardId;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "metric", nullable = false, length = 32)
+  private DurationMetric metric;
+
+  /** Buckets serializados por DurationSketch.toBytes. */
+  @Lob
+  @Column(name = "sketch")
+  private byte[] sketch;
+
+  @Column(name = "updated_at", nullable = false)
+  private OffsetDateTime updatedAt;
+
+  /** Versão para controle de concorrência otimista, incrementada a cada gravação. */
+  @Version private Long version;
+
+  /** Chave composta da linha: board e métrica. */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private Long boardId;
+    private DurationMetric metric;
+  }
+}
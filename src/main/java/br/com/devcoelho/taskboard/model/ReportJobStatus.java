@@ -0,0 +1,16 @@
+package br.com.devcoelho.taskboard.model;
+
+/** Lifecycle of an asynchronous report job. */
+public enum ReportJobStatus {
+  /** Waiting for a report worker */
+  QUEUED,
+
+  /** Being generated by a report worker */
+  RUNNING,
+
+  /** Finished; the result is available until the job expires */
+  COMPLETED,
+
+  /** Finished with an error; submitting the same report again starts a new job */
+  FAILED
+}
@@ -2,14 +2,25 @@ package br.com.devcoelho.taskboard.repository;
 
 import br.com.devcoelho.taskboard.model.BoardColumn;
 import br.com.devcoelho.taskboard.model.BoardColumnKind;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BoardColumnRepository extends JpaRepository<BoardColumn, Long> {
-  List<BoardColumn> findByBoardIdOrderByOrder(Long boardId);
+  List<BoardColumn> findByBoardIdOrderByRankAscIdAsc(Long boardId);
 
+  // Resultado guardado no cache de consultas; invalidado a cada escrita em board_column
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<BoardColumn> findByBoardIdAndKind(Long boardId, BoardColumnKind kind);
+
+  // Board da coluna sem carregar a coluna, também pelo cache de consultas
+  @Query("SELECT c.board.id FROM BoardColumn c WHERE c.id = :id")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  Optional<Long> findBoardIdById(Long id);
 }
@@ -2,11 +2,18 @@ package br.com.devcoelho.taskboard.repository;
 
 import br.com.devcoelho.taskboard.model.Board;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
+  // Carrega as colunas junto com os boards, usadas na listagem de boards
+  @Override
+  @EntityGraph(value = "Board.withColumns", type = EntityGraphType.LOAD)
+  List<Board> findAll();
+
   // Busca boards pelo nome contendo o texto
   List<Board> findByNameContainingIgnoreCase(String name);
 }
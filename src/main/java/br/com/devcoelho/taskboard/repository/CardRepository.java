@@ -3,16 +3,35 @@ package br.com.devcoelho.taskboard.repository;
 import br.com.devcoelho.taskboard.model.Card;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CardRepository extends JpaRepository<Card, Long> {
+  // Os bloqueios são carregados junto com os cards, pois o DTO informa se o card está bloqueado
+  @Override
+  @EntityGraph(value = "Card.withBlocks", type = EntityGraphType.LOAD)
+  Optional<Card> findById(Long id);
+
+  @EntityGraph(value = "Card.withBlocks", type = EntityGraphType.LOAD)
   List<Card> findByBoardColumnId(Long boardColumnId);
 
+  @EntityGraph(value = "Card.withBlocks", type = EntityGraphType.LOAD)
   @Query("SELECT c FROM Card c WHERE c.boardColumn.board.id = :boardId")
   List<Card> findByBoardId(Long boardId);
 
   List<Card> findByCreatedAtBetween(OffsetDateTime start, OffsetDateTime end);
+
+  // Somente o bloqueio ativo, sem consultar a tabela de bloqueios; vazio se o card não existir ou
+  // não estiver bloqueado
+  @Query("SELECT c.activeBlockId FROM Card c WHERE c.id = :id")
+  Optional<Long> findActiveBlockIdById(Long id);
+
+  // Somente a versão, para responder requisições condicionais sem carregar o card
+  @Query("SELECT c.version FROM Card c WHERE c.id = :id")
+  Optional<Long> findVersionById(Long id);
 }
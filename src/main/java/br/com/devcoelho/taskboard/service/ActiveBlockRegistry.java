@@ -0,0 +1,108 @@
+package br.com.devcoelho.taskboard.service;
+
+import br.com.devcoelho.taskboard.dao.BlockDAO;
+import br.com.devcoelho.taskboard.event.CardBlockedEvent;
+import br.com.devcoelho.taskboard.event.CardUnblockedEvent;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Registro em memória dos bloqueios ativos, ordenados pelo início. Carregado na inicialização e
+ * mantido pelos eventos de bloqueio e desbloqueio confirmados, responde "bloqueados há mais de N
+ * horas" com uma leitura de intervalo, sem consultar a tabela de bloqueios.
+ */
+@Slf4j
+@Component
+public class ActiveBlockRegistry {
+
+  private static final Comparator<ActiveBlock> BY_BLOCKED_AT =
+      Comparator.<ActiveBlock, Instant>comparing(block -> block.blockedAt)
+          .thenComparingLong(block -> block.blockId);
+
+  private final BlockDAO blockDAO;
+  private final NavigableSet<ActiveBlock> activeBlocks = new ConcurrentSkipListSet<>(BY_BLOCKED_AT);
+
+  // O início gravado no banco pode ter menos precisão que o do evento; a remoção usa o id
+  private final Map<Long, ActiveBlock> byId = new ConcurrentHashMap<>();
+
+  public ActiveBlockRegistry(BlockDAO blockDAO) {
+    this.blockDAO = blockDAO;
+  }
+
+  /** Carrega os bloqueios ativos; bloqueios já registrados por eventos são ignorados */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void load() {
+    Map<Long, OffsetDateTime> blocks = blockDAO.findActiveBlockTimes();
+    blocks.forEach(this::add);
+    log.info("Loaded {} active block(s)", blocks.size());
+  }
+
+  @TransactionalEventListener
+  public void onCardBlocked(CardBlockedEvent event) {
+    add(event.getBlockId(), event.getBlockedAt());
+  }
+
+  @TransactionalEventListener
+  public void onCardUnblocked(CardUnblockedEvent event) {
+    remove(event.getBlockId());
+  }
+
+  /**
+   * Busca os bloqueios ativos iniciados antes de um instante.
+   *
+   * @param threshold instante limite (exclusivo)
+   * @return ids dos bloqueios, do mais antigo ao mais recente
+   */
+  public List<Long> findBlockedBefore(OffsetDateTime threshold) {
+    return activeBlocks.headSet(new ActiveBlock(Long.MIN_VALUE, threshold.toInstant())).stream()
+        .map(block -> block.blockId)
+        .toList();
+  }
+
+  /**
+   * Remove um bloqueio que não está mais ativo, como o de um card excluído.
+   *
+   * @param blockId identificador do bloqueio
+   */
+  public void remove(Long blockId) {
+    ActiveBlock block = byId.remove(blockId);
+    if (block != null) {
+      activeBlocks.remove(block);
+    }
+  }
+
+  /** Quantidade de bloqueios ativos registrados */
+  public int size() {
+    return activeBlocks.size();
+  }
+
+  private void add(Long blockId, OffsetDateTime blockedAt) {
+    ActiveBlock block = new ActiveBlock(blockId, blockedAt.toInstant());
+    if (byId.putIfAbsent(blockId, block) == null) {
+      activeBlocks.add(block);
+    }
+  }
+
+  private static final class ActiveBlock {
+    private final long blockId;
+    private final Instant blockedAt;
+
+    private ActiveBlock(long blockId, Instant blockedAt) {
+      this.blockId = blockId;
+      this.blockedAt = blockedAt;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package br.com.devcoelho.taskboard.service;
+
+import br.com.devcoelho.taskboard.dao.BlockDAO;
+import br.com.devcoelho.taskboard.dto.BlockReasonCount;
+import br.com.devcoelho.taskboard.dto.BlockReasonDTO;
+import br.com.devcoelho.taskboard.event.CardBlockedEvent;
+import br.com.devcoelho.taskboard.util.SpaceSaving;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Motivos de bloqueio mais frequentes, mantidos em memória com o algoritmo Space-Saving: um
+ * contador global e um por board, cada um com no máximo {@code capacity} motivos. As contagens são
+ * carregadas da tabela de bloqueios na inicialização e atualizadas a cada bloqueio confirmado,
+ * então as consultas não tocam o banco.
+ */
+@Slf4j
+@Component
+public class BlockReasonTracker {
+
+  private final BlockDAO blockDAO;
+  private final int capacity;
+
+  private final SpaceSaving<String> global;
+  private final Map<Long, SpaceSaving<String>> byBoard = new ConcurrentHashMap<>();
+
+  public BlockReasonTracker(
+      BlockDAO blockDAO, @Value("${flowdeck.blocks.reason-tracker.capacity:100}") int capacity) {
+    this.blockDAO = blockDAO;
+    this.capacity = capacity;
+    this.global = new SpaceSaving<>(capacity);
+  }
+
+  /**
+   * Carrega as contagens existentes. Bloqueios confirmados durante a carga podem ser contados duas
+   * vezes; a diferença se limita a esses poucos bloqueios.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void load() {
+    try (Stream<BlockReasonCount> counts = blockDAO.streamReasonCountsByBoard()) {
+      counts.forEach(count -> offer(count.getBoardId(), count.getReason(), count.getCount()));
+    }
+    log.info("Loaded block reasons of {} board(s), {} block(s)", byBoard.size(), global.getTotal());
+  }
+
+  /** Conta o bloqueio somente depois do commit, para que bloqueios desfeitos não entrem */
+  @TransactionalEventListener
+  public void onCardBlocked(CardBlockedEvent event) {
+    offer(event.getBoardId(), event.getReason(), 1);
+  }
+
+  /**
+   * Retorna os motivos de bloqueio mais frequentes de todos os boards.
+   *
+   * @param limit quantidade máxima de motivos
+   * @return motivos do mais frequente ao menos frequente
+   */
+  public List<BlockReasonDTO> topReasons(int limit) {
+    return toDTOs(global.top(limit));
+  }
+
+  /**
+   * Retorna os motivos de bloqueio mais frequentes de um board.
+   *
+   * @param boardId identificador do board
+   * @param limit quantidade máxima de motivos
+   * @return motivos do mais frequente ao menos frequente; vazio se o board não tiver bloqueios
+   */
+  public List<BlockReasonDTO> topReasons(Long boardId, int limit) {
+    SpaceSaving<String> reasons = byBoard.get(boardId);
+    return reasons == null ? List.of() : toDTOs(reasons.top(limit));
+  }
+
+  private void offer(Long boardId, String reason, long count) {
+    global.offer(reason, count);
+    byBoard.computeIfAbsent(boardId, id -> new SpaceSaving<>(capacity)).offer(reason, count);
+  }
+
+  private static List<BlockReasonDTO> toDTOs(List<SpaceSaving.Entry<String>> entries) {
+    return entries.stream()
+        .map(
+            entry ->
+                BlockReasonDTO.builder()
+                    .reason(entry.getItem())
+                    .count(entry.getCount())
+                    .error(entry.getError())
+                    .guaranteedCount(entry.getGuaranteedCount())
+                    .build())
+        .toList();
+  }
+}
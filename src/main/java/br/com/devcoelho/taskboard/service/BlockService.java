@@ -1,6 +1,8 @@
 package br.com.devcoelho.taskboard.service;
 
 import br.com.devcoelho.taskboard.dao.BlockDAO;
+import br.com.devcoelho.taskboard.event.CardBlockedEvent;
+import br.com.devcoelho.taskboard.event.CardUnblockedEvent;
 import br.com.devcoelho.taskboard.exception.CardAlreadyBlockedException;
 import br.com.devcoelho.taskboard.exception.CardNotBlockedException;
 import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
@@ -8,10 +10,16 @@ import br.com.devcoelho.taskboard.model.Block;
 import br.com.devcoelho.taskboard.model.Card;
 import br.com.devcoelho.taskboard.repository.BlockRepository;
 import br.com.devcoelho.taskboard.repository.CardRepository;
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,79 +30,155 @@ public class BlockService {
   private final BlockRepository blockRepository;
   private final CardRepository cardRepository;
   private final BlockDAO blockDAO;
+  private final DurationSketchService durationSketchService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ActiveBlockRegistry activeBlockRegistry;
 
   /** Busca todos os bloqueios de um card */
+  @Transactional(readOnly = true)
   public List<Block> findByCardId(Long cardId) {
     return blockRepository.findByCardId(cardId);
   }
 
   /** Busca um bloqueio pelo ID */
+  @Transactional(readOnly = true)
   public Block findById(Long id) {
     return blockRepository
         .findById(id)
         .orElseThrow(() -> new ResourceNotFoundException("Blocked", id));
   }
 
-  /** Verifica se um card está bloqueado */
+  /** Verifica se um card está bloqueado, pelo bloqueio ativo gravado no próprio card */
+  @Transactional(readOnly = true)
   public boolean isCardBlocked(Long cardId) {
-    return blockRepository.findActiveBlockByCardId(cardId).isPresent();
+    return cardRepository.findActiveBlockIdById(cardId).isPresent();
   }
 
   /** Bloqueia um card */
   @Transactional
   public Block blockCard(Long cardId, String reason) {
-    // Verifica se o card já está bloqueado
-    if (isCardBlocked(cardId)) {
-      throw new CardAlreadyBlockedException(cardId);
-    }
-
     // Busca o card
     Card card =
         cardRepository
             .findById(cardId)
             .orElseThrow(() -> new ResourceNotFoundException("Card", cardId));
 
+    // Verifica se o card já está bloqueado
+    if (card.getActiveBlockId() != null) {
+      throw new CardAlreadyBlockedException(cardId);
+    }
+
     // Cria o bloqueio
     Block block =
         Block.builder().card(card).blockedAt(OffsetDateTime.now()).blockReason(reason).build();
 
-    return blockRepository.save(block);
+    Block saved = blockRepository.save(block);
+    card.setActiveBlockId(saved.getId());
+
+    // Ouvintes como o BlockReasonTracker recebem o evento após o commit
+    eventPublisher.publishEvent(
+        new CardBlockedEvent(
+            saved.getId(),
+            cardId,
+            card.getBoardColumn().getBoard().getId(),
+            reason,
+            saved.getBlockedAt()));
+
+    return saved;
   }
 
   /** Desbloqueia um card */
   @Transactional
   public Block unblockCard(Long cardId, String reason) {
-    // Busca o bloqueio ativo
+    // Busca o bloqueio ativo pelo id gravado no card
+    Long activeBlockId =
+        cardRepository
+            .findActiveBlockIdById(cardId)
+            .orElseThrow(() -> new CardNotBlockedException(cardId));
     Block block =
         blockRepository
-            .findActiveBlockByCardId(cardId)
-            .orElseThrow(() -> new CardNotBlockedException(cardId));
+            .findById(activeBlockId)
+            .orElseThrow(() -> new ResourceNotFoundException("Blocked", activeBlockId));
 
     // Atualiza o bloqueio
     block.setUnblockedAt(OffsetDateTime.now());
     block.setUnblockReason(reason);
+    block.getCard().setActiveBlockId(null);
+
+    // A duração é gravada no bloqueio e entra no sketch do board após o commit
+    Duration duration = Duration.between(block.getBlockedAt(), block.getUnblockedAt());
+    block.setDurationHours(duration.toHours());
+    Long boardId = block.getCard().getBoardColumn().getBoard().getId();
+    durationSketchService.recordBlockDuration(boardId, duration);
+
+    Block saved = blockRepository.save(block);
 
-    return blockRepository.save(block);
+    // O ActiveBlockRegistry remove o bloqueio após o commit
+    eventPublisher.publishEvent(
+        new CardUnblockedEvent(
+            saved.getId(), cardId, boardId, saved.getBlockedAt(), saved.getUnblockedAt()));
+
+    return saved;
   }
 
   /** Busca bloqueios por período. */
+  @Transactional(readOnly = true)
   public List<Block> findByDateRange(
       OffsetDateTime startDate, OffsetDateTime endDate, boolean activeOnly) {
     return blockDAO.findByDateRange(startDate, endDate, activeOnly);
   }
 
   /** Busca motivos mais comuns de bloqueio. */
+  @Transactional(readOnly = true)
   public Map<String, Long> findMostCommonBlockReasons(int limit) {
     return blockDAO.findMostCommonBlockReasons(limit);
   }
 
   /** Calcula a duração média de bloqueios por board. */
+  @Transactional(readOnly = true)
   public Map<Long, Double> calculateAverageBlockDurationByBoard() {
     return blockDAO.calculateAverageBlockDurationByBoard();
   }
 
-  /** Busca bloqueios de longa duração. */
+  /**
+   * Busca bloqueios de longa duração, ativos ou encerrados, do mais longo ao mais curto. Os ativos
+   * vêm do ActiveBlockRegistry e são carregados pelo id; os encerrados, do índice de
+   * duration_hours.
+   *
+   * @param hours duração mínima em horas
+   * @return bloqueios com pelo menos essa duração
+   */
+  @Transactional(readOnly = true)
   public List<Block> findLongDurationBlocks(int hours) {
-    return blockDAO.findLongDurationBlocks(hours);
+    OffsetDateTime now = OffsetDateTime.now();
+    List<Long> activeIds = activeBlockRegistry.findBlockedBefore(now.minusHours(hours));
+
+    // Bloqueios encerrados ou excluídos (com o card) sem evento saem do registro aqui
+    Set<Long> staleIds = new HashSet<>(activeIds);
+    List<Block> active = new ArrayList<>(activeIds.size());
+    for (Block block : blockRepository.findAllById(activeIds)) {
+      if (block.getUnblockedAt() == null) {
+        staleIds.remove(block.getId());
+        active.add(block);
+      }
+    }
+    staleIds.forEach(activeBlockRegistry::remove);
+    active.sort(Comparator.comparing(Block::getBlockedAt));
+
+    // Junta as duas listas, ambas do mais longo ao mais curto
+    List<Block> closed = blockDAO.findClosedBlocksLongerThan(hours);
+    List<Block> blocks = new ArrayList<>(active.size() + closed.size());
+    int a = 0;
+    int c = 0;
+    while (a < active.size() || c < closed.size()) {
+      boolean takeActive =
+          c == closed.size()
+              || (a < active.size()
+                  && Duration.between(active.get(a).getBlockedAt(), now).toHours()
+                      >= closed.get(c).getDurationHours());
+      blocks.add(takeActive ? active.get(a++) : closed.get(c++));
+    }
+
+    return blocks;
   }
 }
@@ -0,0 +1,168 @@
+package br.com.devcoelho.taskboard.service;
+
+import br.com.devcoelho.taskboard.dao.BoardChangeDAO;
+import br.com.devcoelho.taskboard.dao.CardDAO;
+import br.com.devcoelho.taskboard.dto.BoardChangesDTO;
+import br.com.devcoelho.taskboard.dto.mappers.BoardColumnMapper;
+import br.com.devcoelho.taskboard.dto.mappers.CardMapper;
+import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
+import br.com.devcoelho.taskboard.model.Board;
+import br.com.devcoelho.taskboard.model.BoardColumn;
+import br.com.devcoelho.taskboard.model.Card;
+import br.com.devcoelho.taskboard.model.ChangeFeedEntity;
+import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
+import br.com.devcoelho.taskboard.repository.CardRepository;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Sincronização incremental dos boards. O cliente informa a versão que já tem e recebe apenas as
+ * colunas e os cards alterados desde ela, lidos do feed de alterações gravado pelo {@link
+ * BoardVersionService}. Quando o feed já foi compactado além dessa versão, o cliente é orientado a
+ * reler o board inteiro.
+ */
+@Slf4j
+@Service
+public class BoardChangeService {
+
+  private final BoardService boardService;
+  private final BoardVersionService boardVersionService;
+  private final BoardChangeDAO boardChangeDAO;
+  private final CardRepository cardRepository;
+  private final CardDAO cardDAO;
+  private final BoardColumnRepository boardColumnRepository;
+  private final CardMapper cardMapper;
+  private final BoardColumnMapper boardColumnMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration retention;
+  private final int deleteBatchSize;
+
+  public BoardChangeService(
+      BoardService boardService,
+      BoardVersionService boardVersionService,
+      BoardChangeDAO boardChangeDAO,
+      CardRepository cardRepository,
+      CardDAO cardDAO,
+      BoardColumnRepository boardColumnRepository,
+      CardMapper cardMapper,
+      BoardColumnMapper boardColumnMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${flowdeck.changes.retention:P7D}") Duration retention,
+      @Value("${flowdeck.changes.delete-batch-size:10000}") int deleteBatchSize) {
+    this.boardService = boardService;
+    this.boardVersionService = boardVersionService;
+    this.boardChangeDAO = boardChangeDAO;
+    this.cardRepository = cardRepository;
+    this.cardDAO = cardDAO;
+    this.boardColumnRepository = boardColumnRepository;
+    this.cardMapper = cardMapper;
+    this.boardColumnMapper = boardColumnMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.retention = retention;
+    this.deleteBatchSize = deleteBatchSize;
+  }
+
+  /**
+   * Busca o que mudou no board desde a versão informada. Versão, feed e entidades são lidos na
+   * mesma transação; a versão devolvida é a que o cliente deve informar no próximo pedido.
+   *
+   * @param boardId identificador do board
+   * @param since versão que o cliente já tem; nula para um cliente sem dados do board
+   * @return alterações desde a versão, ou o pedido de releitura completa
+   * @throws ResourceNotFoundException se o board não existir
+   */
+  @Transactional(readOnly = true)
+  public BoardChangesDTO findChanges(Long boardId, Long since) {
+    Board board = boardService.findById(boardId);
+    long version = boardVersionService.currentVersion(boardId);
+
+    BoardChangesDTO.BoardChangesDTOBuilder changes =
+        BoardChangesDTO.builder().boardId(boardId).since(since).version(version);
+
+    // Versão maior que a atual não veio deste board; versão compactada não tem mais o feed. Sem
+    // versão, o cliente lê o board inteiro depois desta resposta e segue a partir da versão dela
+    if (since == null || since > version || since < boardVersionService.compactedVersion(boardId)) {
+      return changes.resync(true).build();
+    }
+    if (since == version) {
+      return changes.build();
+    }
+
+    Map<ChangeFeedEntity, List<Long>> changed =
+        boardChangeDAO.findChangedSince(boardId, since, version);
+
+    if (changed.containsKey(ChangeFeedEntity.BOARD)) {
+      changes.name(board.getName());
+    }
+
+    List<Long> columnIds = changed.getOrDefault(ChangeFeedEntity.COLUMN, List.of());
+    List<BoardColumn> columns = new ArrayList<>();
+    for (BoardColumn column : boardColumnRepository.findAllById(columnIds)) {
+      if (boardId.equals(column.getBoard().getId())) {
+        columns.add(column);
+      }
+    }
+    columns.sort(Comparator.comparing(BoardColumn::getId));
+
+    List<Long> cardIds = changed.getOrDefault(ChangeFeedEntity.CARD, List.of());
+    List<Card> cards = new ArrayList<>();
+    for (Card card : cardRepository.findAllById(cardIds)) {
+      if (boardId.equals(card.getBoardColumn().getBoard().getId())) {
+        cards.add(card);
+      }
+    }
+    cards.sort(Comparator.comparing(Card::getId));
+    cardDAO.fetchBlocks(cards);
+
+    return changes
+        .columns(columns.stream().map(boardColumnMapper::toDtoWithoutCards).toList())
+        .cards(cardMapper.toDtoList(cards))
+        .deletedColumnIds(missing(columnIds, columns.stream().map(BoardColumn::getId).toList()))
+        .deletedCardIds(missing(cardIds, cards.stream().map(Card::getId).toList()))
+        .build();
+  }
+
+  /** Ids alterados que não foram encontrados no board, em ordem crescente */
+  private static List<Long> missing(List<Long> changedIds, List<Long> foundIds) {
+    Set<Long> found = new HashSet<>(foundIds);
+    return changedIds.stream().filter(id -> !found.contains(id)).distinct().sorted().toList();
+  }
+
+  /**
+   * Remove do feed os registros mais antigos que o período de retenção. A versão compactada de
+   * cada board avança antes da remoção, para que nenhum cliente receba um diff incompleto; a
+   * remoção segue em lotes, cada um na sua transação.
+   */
+  @Scheduled(
+      initialDelayString = "${flowdeck.changes.compaction-interval:PT1H}",
+      fixedDelayString = "${flowdeck.changes.compaction-interval:PT1H}")
+  public void compact() {
+    OffsetDateTime cutoff = OffsetDateTime.now().minus(retention);
+
+    Integer boards = transactionTemplate.execute(status -> boardChangeDAO.markCompacted(cutoff));
+
+    long removed = 0;
+    int batch;
+    do {
+      batch =
+          transactionTemplate.execute(
+              status -> boardChangeDAO.deleteBefore(cutoff, deleteBatchSize));
+      removed += batch;
+    } while (batch == deleteBatchSize);
+
+    log.debug("Compacted change feed of {} boards, {} entries removed", boards, removed);
+  }
+}
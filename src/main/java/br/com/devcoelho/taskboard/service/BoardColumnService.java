@@ -1,7 +1,10 @@
 package br.com.devcoelho.taskboard.service;
 
 import br.com.devcoelho.taskboard.dao.BoardColumnDAO;
+import br.com.devcoelho.taskboard.event.BoardChangedEvent;
+import br.com.devcoelho.taskboard.event.ColumnsReorderedEvent;
 import br.com.devcoelho.taskboard.exception.ColumnContainsCardException;
+import br.com.devcoelho.taskboard.exception.PreconditionFailedException;
 import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
 import br.com.devcoelho.taskboard.exception.SpecialColumnDeletionException;
 import br.com.devcoelho.taskboard.exception.SpecialColumnException;
@@ -10,8 +13,15 @@ import br.com.devcoelho.taskboard.model.BoardColumn;
 import br.com.devcoelho.taskboard.model.BoardColumnKind;
 import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
 import br.com.devcoelho.taskboard.repository.BoardRepository;
+import br.com.devcoelho.taskboard.util.LexoRank;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,22 +32,47 @@ public class BoardColumnService {
   private final BoardColumnRepository boardColumnRepository;
   private final BoardRepository boardRepository;
   private final BoardColumnDAO boardColumnDAO;
+  private final ApplicationEventPublisher eventPublisher;
 
   /** Busca todas as colunas de um board ordenadas */
+  @Transactional(readOnly = true)
   public List<BoardColumn> findByBoardId(Long boardId) {
-    return boardColumnRepository.findByBoardIdOrderByOrder(boardId);
+    return boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(boardId);
+  }
+
+  /** Busca as colunas de um board com os cards e seus bloqueios carregados */
+  @Transactional(readOnly = true)
+  public List<BoardColumn> findByBoardIdWithCards(Long boardId) {
+    List<BoardColumn> columns = findByBoardId(boardId);
+    boardColumnDAO.fetchCardsWithBlocks(columns);
+    return columns;
   }
 
   /** Busca uma coluna pelo ID */
+  @Transactional(readOnly = true)
   public BoardColumn findById(Long id) {
     return boardColumnRepository
         .findById(id)
         .orElseThrow(() -> new ResourceNotFoundException("Board Column", id));
   }
 
-  /** Cria uma nova coluna em um board */
+  /** Busca uma coluna pelo ID com os cards e seus bloqueios carregados */
+  @Transactional(readOnly = true)
+  public BoardColumn findByIdWithCards(Long id) {
+    BoardColumn column = findById(id);
+    boardColumnDAO.fetchCardsWithBlocks(List.of(column));
+    return column;
+  }
+
+  /**
+   * Cria uma nova coluna em um board.
+   *
+   * @param boardId identificador do board
+   * @param boardColumn dados da coluna
+   * @param position posição da coluna a partir de 1; zero ou fora do intervalo para o final
+   */
   @Transactional
-  public BoardColumn create(Long boardId, BoardColumn boardColumn) {
+  public BoardColumn create(Long boardId, BoardColumn boardColumn, int position) {
     Board board =
         boardRepository
             .findById(boardId)
@@ -55,19 +90,34 @@ public class BoardColumnService {
               });
     }
 
-    // Define a ordem como a última se não foi especificada
-    if (boardColumn.getOrder() <= 0) {
-      List<BoardColumn> columns = findByBoardId(boardColumn.getBoard().getId());
-      boardColumn.setOrder(columns.size() + 1);
-    }
+    // Gera uma chave entre as colunas vizinhas da posição pedida
+    List<BoardColumn> columns = findByBoardId(boardColumn.getBoard().getId());
+    int index = position > 0 && position <= columns.size() ? position - 1 : columns.size();
+    String previous = index > 0 ? columns.get(index - 1).getRank() : null;
+    String next = index < columns.size() ? columns.get(index).getRank() : null;
+    boardColumn.setRank(LexoRank.between(previous, next));
+
+    BoardColumn saved = boardColumnRepository.save(boardColumn);
+
+    // Mantém a coleção do board em dia para que a entrada de Board.columns no cache seja invalidada
+    board.getColumns().add(saved);
 
-    return boardColumnRepository.save(boardColumn);
+    publishChanged(boardId, saved.getId());
+    return saved;
   }
 
-  /** Atualiza uma coluna existente */
+  /**
+   * Atualiza uma coluna existente. Alterações concorrentes são detectadas pela versão da coluna ao
+   * gravar.
+   *
+   * @param id identificador da coluna
+   * @param columnDetails novos dados da coluna
+   * @param expectedVersion versão lida pelo cliente (If-Match), ou null para não comparar
+   */
   @Transactional
-  public BoardColumn update(Long id, BoardColumn columnDetails) {
+  public BoardColumn update(Long id, BoardColumn columnDetails, Long expectedVersion) {
     BoardColumn column = findById(id);
+    checkVersion(column, expectedVersion);
     column.setName(columnDetails.getName());
 
     // Se estiver mudando o tipo, verifica se já existe outro do mesmo tipo
@@ -85,30 +135,96 @@ public class BoardColumnService {
       column.setKind(columnDetails.getKind());
     }
 
-    return boardColumnRepository.save(column);
+    BoardColumn saved = boardColumnRepository.save(column);
+    boardColumnDAO.fetchCardsWithBlocks(List.of(saved));
+    publishChanged(saved.getBoard().getId(), saved.getId());
+    return saved;
+  }
+
+  /**
+   * Move uma coluna para logo após outra do mesmo board. Apenas a chave de ordenação da coluna
+   * movida é reescrita.
+   *
+   * @param boardId identificador do board
+   * @param columnId coluna a mover
+   * @param afterColumnId coluna que deve ficar imediatamente antes, ou null para mover ao início
+   * @param expectedVersion versão lida pelo cliente (If-Match), ou null para não comparar
+   * @return coluna movida
+   */
+  @Transactional
+  public BoardColumn move(Long boardId, Long columnId, Long afterColumnId, Long expectedVersion) {
+    if (columnId.equals(afterColumnId)) {
+      throw new IllegalArgumentException("A column can't be moved after itself");
+    }
+
+    BoardColumn column = findInBoard(boardId, columnId);
+    checkVersion(column, expectedVersion);
+
+    String previous = afterColumnId != null ? findInBoard(boardId, afterColumnId).getRank() : null;
+    String next = boardColumnDAO.findNextRank(boardId, previous, columnId).orElse(null);
+
+    // Se a coluna já está entre as vizinhas pedidas, nada é gravado
+    String rank = column.getRank();
+    boolean inPlace =
+        (previous == null || rank.compareTo(previous) > 0)
+            && (next == null || rank.compareTo(next) < 0);
+
+    if (!inPlace) {
+      column.setRank(LexoRank.between(previous, next));
+      boardColumnRepository.save(column);
+      eventPublisher.publishEvent(
+          new ColumnsReorderedEvent(boardId, Map.of(columnId, column.getRank())));
+    }
+
+    return column;
   }
 
-  /** Reorganiza a ordem das colunas */
+  /**
+   * Reorganiza a ordem das colunas conforme a lista completa de ids. As colunas da maior sequência
+   * que já está na ordem pedida mantêm suas chaves; apenas as demais recebem chaves novas.
+   */
   @Transactional
   public List<BoardColumn> reorderColumns(Long boardId, List<Long> columnIds) {
-    List<BoardColumn> columns = findByBoardId(boardId);
+    Map<Long, BoardColumn> columnsById =
+        findByBoardId(boardId).stream()
+            .collect(Collectors.toMap(BoardColumn::getId, Function.identity()));
 
-    // Verifica se todas as colunas pertencem ao board
-    if (columnIds.size() != columns.size()
-        || !columns.stream().map(BoardColumn::getId).allMatch(columnIds::contains)) {
+    // Verifica se a lista contém exatamente as colunas do board
+    if (columnIds.size() != columnsById.size()
+        || !new HashSet<>(columnIds).equals(columnsById.keySet())) {
       throw new RuntimeException("Invalid column list for reordering");
     }
 
-    // Aplica a nova ordem
-    for (int i = 0; i < columnIds.size(); i++) {
-      Long columnId = columnIds.get(i);
-      BoardColumn column =
-          columns.stream().filter(c -> c.getId().equals(columnId)).findFirst().orElseThrow();
-      column.setOrder(i + 1);
-      boardColumnRepository.save(column);
+    List<BoardColumn> ordered = columnIds.stream().map(columnsById::get).toList();
+    boolean[] kept = longestIncreasingRanks(ordered);
+
+    // Chave da próxima coluna mantida à direita de cada posição
+    String[] nextKept = new String[ordered.size()];
+    String next = null;
+    for (int i = ordered.size() - 1; i >= 0; i--) {
+      nextKept[i] = next;
+      if (kept[i]) {
+        next = ordered.get(i).getRank();
+      }
+    }
+
+    String previous = null;
+    Map<Long, String> changedRanks = new LinkedHashMap<>();
+    for (int i = 0; i < ordered.size(); i++) {
+      BoardColumn column = ordered.get(i);
+      if (!kept[i]) {
+        column.setRank(LexoRank.between(previous, nextKept[i]));
+        boardColumnRepository.save(column);
+        changedRanks.put(column.getId(), column.getRank());
+      }
+      previous = column.getRank();
     }
 
-    return findByBoardId(boardId);
+    if (!changedRanks.isEmpty()) {
+      eventPublisher.publishEvent(new ColumnsReorderedEvent(boardId, changedRanks));
+    }
+
+    return findByBoardIdWithCards(boardId);
   }
 
   /** Remove uma coluna */
@@ -126,15 +242,21 @@ public class BoardColumnService {
       throw new ColumnContainsCardException(column.getId());
     }
 
+    // Remove a coluna da coleção do board para invalidar a entrada de Board.columns no cache
+    column.getBoard().getColumns().remove(column);
+
     boardColumnRepository.deleteById(id);
+    publishChanged(column.getBoard().getId(), id);
   }
 
   /** Busca colunas vazias (sem cards) de um determinado board. */
+  @Transactional(readOnly = true)
   public List<BoardColumn> findEmptyColumns(Long boardId) {
     return boardColumnDAO.findEmptyColumns(boardId);
   }
 
   /** Encontra a coluna mais populosa (com mais cards) de um board. */
+  @Transactional(readOnly = true)
   public BoardColumn findMostPopulatedColumn(Long boardId) {
     return boardColumnDAO
         .findMostPopulatedColumn(boardId)
@@ -142,13 +264,81 @@ public class BoardColumnService {
   }
 
   /** Encontra colunas com cards bloqueados em um board. */
+  @Transactional(readOnly = true)
   public List<BoardColumn> findColumnsWithBlockedCards(Long boardId) {
     return boardColumnDAO.findColumnsWithBlockedCards(boardId);
   }
 
-  /** Reorganiza as ordens das colunas em um board para eliminar lacunas. */
+  /** Busca os boards com chaves de ordenação maiores que o tamanho informado. */
+  @Transactional(readOnly = true)
+  public List<Long> findBoardIdsWithRanksLongerThan(int maxLength) {
+    return boardColumnDAO.findBoardIdsWithRanksLongerThan(maxLength);
+  }
+
+  /** Reescreve as chaves de ordenação das colunas de um board, mantendo a ordem. */
   @Transactional
-  public List<BoardColumn> normalizeColumnOrders(Long boardId) {
-    return boardColumnDAO.normalizeColumnOrders(boardId);
+  public List<BoardColumn> rebalanceRanks(Long boardId) {
+    List<BoardColumn> columns = boardColumnDAO.rebalanceRanks(boardId);
+    eventPublisher.publishEvent(
+        BoardChangedEvent.ofColumns(boardId, columns.stream().map(BoardColumn::getId).toList()));
+    return columns;
+  }
+
+  /** Avisa os ouvintes, como o BoardVersionService, de que uma coluna do board foi alterada */
+  private void publishChanged(Long boardId, Long columnId) {
+    eventPublisher.publishEvent(BoardChangedEvent.ofColumns(boardId, List.of(columnId)));
+  }
+
+  /** Busca uma coluna garantindo que ela pertence ao board informado */
+  private BoardColumn findInBoard(Long boardId, Long columnId) {
+    BoardColumn column = findById(columnId);
+    if (!boardId.equals(column.getBoard().getId())) {
+      throw new ResourceNotFoundException("Board Column", columnId);
+    }
+    return column;
+  }
+
+  /** Rejeita a operação se a coluna foi alterada depois da versão lida pelo cliente */
+  private void checkVersion(BoardColumn column, Long expectedVersion) {
+    if (expectedVersion != null && !expectedVersion.equals(column.getVersion())) {
+      throw new PreconditionFailedException(
+          "Column", column.getId(), expectedVersion, column.getVersion());
+    }
+  }
+
+  /**
+   * Marca a maior subsequência de colunas cujas chaves já estão em ordem estritamente crescente,
+   * em O(n log n).
+   */
+  private static boolean[] longestIncreasingRanks(List<BoardColumn> columns) {
+    int size = columns.size();
+    int[] tails = new int[size];
+    int[] predecessors = new int[size];
+    int length = 0;
+
+    for (int i = 0; i < size; i++) {
+      String rank = columns.get(i).getRank();
+      int low = 0;
+      int high = length;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (columns.get(tails[middle]).getRank().compareTo(rank) < 0) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      predecessors[i] = low > 0 ? tails[low - 1] : -1;
+      tails[low] = i;
+      if (low == length) {
+        length++;
+      }
+    }
+
+    boolean[] kept = new boolean[size];
+    for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+      kept[i] = true;
+    }
+    return kept;
   }
 }
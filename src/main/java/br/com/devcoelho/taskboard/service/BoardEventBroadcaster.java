@@ -0,0 +1,221 @@
+package br.com.devcoelho.taskboard.service;
+
+import br.com.devcoelho.taskboard.event.BoardChangedEvent;
+import br.com.devcoelho.taskboard.event.BoardEvent;
+import br.com.devcoelho.taskboard.event.CardBlockedEvent;
+import br.com.devcoelho.taskboard.event.CardMovedEvent;
+import br.com.devcoelho.taskboard.event.CardUnblockedEvent;
+import br.com.devcoelho.taskboard.event.CardUpdatedEvent;
+import br.com.devcoelho.taskboard.event.CardsCreatedEvent;
+import br.com.devcoelho.taskboard.event.ColumnsReorderedEvent;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Distribui por SSE as alterações confirmadas de cada board aos clientes inscritos nele. Os eventos
+ * chegam após o commit, na thread da transação, e apenas entram no buffer de cada cliente; o envio
+ * acontece no executor de eventos. Um cliente cujo buffer enche é desconectado, depois de receber
+ * um evento {@code resync} avisando que deve reler o board.
+ */
+@Slf4j
+@Component
+public class BoardEventBroadcaster {
+
+  /** Primeiro evento de cada inscrição: a partir dele o cliente pode ler o estado atual do board */
+  public static final String SUBSCRIBED = "subscribed";
+
+  /** Último evento de um cliente desconectado por não acompanhar os eventos */
+  public static final String RESYNC = "resync";
+
+  private static final Map<Class<? extends BoardEvent>, String> EVENT_NAMES =
+      Map.of(
+          CardsCreatedEvent.class, "cards-created",
+          CardMovedEvent.class, "card-moved",
+          CardUpdatedEvent.class, "card-updated",
+          CardBlockedEvent.class, "card-blocked",
+          CardUnblockedEvent.class, "card-unblocked",
+          ColumnsReorderedEvent.class, "columns-reordered",
+          BoardChangedEvent.class, "board-changed");
+
+  private final Executor boardEventExecutor;
+  private final int bufferSize;
+  private final Duration timeout;
+
+  private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+  public BoardEventBroadcaster(
+      @Qualifier("boardEventExecutor") Executor boardEventExecutor,
+      @Value("${flowdeck.events.sse.buffer-size:256}") int bufferSize,
+      @Value("${flowdeck.events.sse.timeout:PT30M}") Duration timeout) {
+    this.boardEventExecutor = boardEventExecutor;
+    this.bufferSize = bufferSize;
+    this.timeout = timeout;
+  }
+
+  /**
+   * Inscreve um cliente nos eventos de um board.
+   *
+   * @param boardId identificador do board
+   * @return emitter da resposta SSE do cliente
+   */
+  public SseEmitter subscribe(Long boardId) {
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    Subscriber subscriber = new Subscriber(boardId, emitter);
+
+    emitter.onCompletion(subscriber::close);
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(error -> subscriber.close());
+
+    subscribers.computeIfAbsent(boardId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    subscriber.offer(new Message(SUBSCRIBED, Map.of("boardId", boardId)));
+    return emitter;
+  }
+
+  /** Repassa o evento aos inscritos no board somente depois do commit */
+  @TransactionalEventListener
+  public void onBoardEvent(BoardEvent event) {
+    Set<Subscriber> boardSubscribers = subscribers.get(event.getBoardId());
+    if (boardSubscribers == null) {
+      return;
+    }
+
+    Message message =
+        new Message(EVENT_NAMES.getOrDefault(event.getClass(), "board-changed"), event);
+    boardSubscribers.forEach(subscriber -> subscriber.offer(message));
+  }
+
+  /** Comentário periódico que mantém a conexão aberta e revela clientes desconectados */
+  @Scheduled(
+      initialDelayString = "${flowdeck.events.sse.heartbeat:PT15S}",
+      fixedDelayString = "${flowdeck.events.sse.heartbeat:PT15S}")
+  public void heartbeat() {
+    Message heartbeat = new Message(null, "heartbeat");
+    subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(heartbeat)));
+  }
+
+  /**
+   * Quantidade de clientes inscritos em um board.
+   *
+   * @param boardId identificador do board
+   * @return clientes inscritos
+   */
+  public int subscriberCount(Long boardId) {
+    Set<Subscriber> boardSubscribers = subscribers.get(boardId);
+    return boardSubscribers == null ? 0 : boardSubscribers.size();
+  }
+
+  private void unregister(Subscriber subscriber) {
+    subscribers.computeIfPresent(
+        subscriber.boardId,
+        (id, set) -> {
+          set.remove(subscriber);
+          return set.isEmpty() ? null : set;
+        });
+  }
+
+  /** Evento a enviar; sem nome, o texto segue como comentário */
+  private static final class Message {
+    private final String name;
+    private final Object data;
+
+    private Message(String name, Object data) {
+      this.name = name;
+      this.data = data;
+    }
+
+    private SseEmitter.SseEventBuilder toEvent() {
+      return name == null ? SseEmitter.event().comment((String) data) : event(name, data);
+    }
+
+    private static SseEmitter.SseEventBuilder event(String name, Object data) {
+      return SseEmitter.event().name(name).data(data);
+    }
+  }
+
+  private final class Subscriber {
+    private final Long boardId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Message> buffer = new ArrayBlockingQueue<>(bufferSize);
+
+    // No máximo um envio em andamento por cliente, para manter a ordem dos eventos
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean resync;
+    private volatile boolean closed;
+
+    private Subscriber(Long boardId, SseEmitter emitter) {
+      this.boardId = boardId;
+      this.emitter = emitter;
+    }
+
+    private void offer(Message message) {
+      if (resync || closed) {
+        return;
+      }
+
+      if (!buffer.offer(message)) {
+        // Os eventos pendentes são descartados; o cliente relê o board depois do aviso
+        log.debug("Dropping slow SSE subscriber of board {}", boardId);
+        resync = true;
+        unregister(this);
+        buffer.clear();
+      }
+      scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+      if (closed || !draining.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        boardEventExecutor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        draining.set(false);
+        close();
+      }
+    }
+
+    private void drain() {
+      try {
+        Message message;
+        while (!resync && !closed && (message = buffer.poll()) != null) {
+          emitter.send(message.toEvent());
+        }
+        if (resync && !closed) {
+          emitter.send(Message.event(RESYNC, Map.of("boardId", boardId)));
+          closed = true;
+          emitter.complete();
+        }
+      } catch (IOException | IllegalStateException e) {
+        // Cliente desconectado ou resposta já encerrada
+        close();
+      } finally {
+        draining.set(false);
+      }
+
+      // Eventos que chegaram enquanto o envio terminava
+      if (!closed && (resync || !buffer.isEmpty())) {
+        scheduleDrain();
+      }
+    }
+
+    private void close() {
+      closed = true;
+      unregister(this);
+    }
+  }
+}
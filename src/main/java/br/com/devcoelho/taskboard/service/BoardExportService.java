@@ -0,0 +1,177 @@
+package br.com.devcoelho.taskboard.service;
+
+import br.com.devcoelho.taskboard.dao.BoardDAO;
+import br.com.devcoelho.taskboard.dto.BoardExportRow;
+import br.com.devcoelho.taskboard.model.Board;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Serviço de exportação de boards em JSON. O documento é escrito de forma incremental enquanto as
+ * linhas são lidas do banco, sem montar o grafo Board → colunas → cards em memória. O formato segue
+ * o de BoardDTO, com os cards completos (incluindo bloqueios) dentro de cada coluna.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardExportService {
+
+  private final BoardDAO boardDAO;
+  private final ObjectMapper objectMapper;
+
+  @Value("${flowdeck.export.fetch-size:1000}")
+  private int fetchSize;
+
+  /**
+   * Escreve o board em JSON no stream informado. Executado na thread que escreve a resposta, em
+   * uma transação somente leitura própria que mantém o cursor aberto até o fim da escrita.
+   *
+   * @param board board a exportar (apenas id e nome são usados)
+   * @param out stream de saída da resposta
+   * @throws IOException se a escrita no stream falhar
+   */
+  @Transactional(readOnly = true)
+  public void exportBoard(Board board, OutputStream out) throws IOException {
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+      // Se a leitura falhar no meio, o documento fica truncado em vez de ser fechado como um JSON
+      // válido com parte dos cards
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+      generator.writeStartObject();
+      generator.writeNumberField("id", board.getId());
+      generator.writeStringField("name", board.getName());
+      generator.writeArrayFieldStart("columns");
+
+      BoardJsonWriter writer = new BoardJsonWriter(generator, board.getId());
+      try {
+        boardDAO.scrollExportRows(board.getId(), fetchSize, writer);
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      writer.finish();
+
+      generator.writeEndArray();
+      generator.writeNumberField("totalCards", writer.totalCards);
+      generator.writeEndObject();
+    }
+  }
+
+  /**
+   * Converte a sequência de linhas (coluna, card, bloqueio) em objetos JSON aninhados. Guarda
+   * apenas o estado da coluna e do card correntes.
+   */
+  private static final class BoardJsonWriter implements Consumer<BoardExportRow> {
+
+    private final JsonGenerator generator;
+    private final Long boardId;
+
+    private Long columnId;
+    private Long cardId;
+    private int columnCards;
+    private boolean cardBlocked;
+    private int totalCards;
+
+    private BoardJsonWriter(JsonGenerator generator, Long boardId) {
+      this.generator = generator;
+      this.boardId = boardId;
+    }
+
+    @Override
+    public void accept(BoardExportRow row) {
+      try {
+        if (!row.getColumnId().equals(columnId)) {
+          closeCard();
+          closeColumn();
+          openColumn(row);
+        }
+        if (row.getCardId() != null && !row.getCardId().equals(cardId)) {
+          closeCard();
+          openCard(row);
+        }
+        if (row.getBlockId() != null) {
+          writeBlock(row);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private void finish() throws IOException {
+      closeCard();
+      closeColumn();
+    }
+
+    private void openColumn(BoardExportRow row) throws IOException {
+      columnId = row.getColumnId();
+      columnCards = 0;
+
+      generator.writeStartObject();
+      generator.writeNumberField("id", row.getColumnId());
+      generator.writeStringField("name", row.getColumnName());
+      generator.writeStringField("rank", row.getColumnRank());
+      generator.writeStringField("kind", row.getColumnKind().name());
+      generator.writeNumberField("boardId", boardId);
+      generator.writeArrayFieldStart("cards");
+    }
+
+    private void closeColumn() throws IOException {
+      if (columnId == null) {
+        return;
+      }
+      generator.writeEndArray();
+      generator.writeNumberField("cardCount", columnCards);
+      generator.writeEndObject();
+      columnId = null;
+    }
+
+    private void openCard(BoardExportRow row) throws IOException {
+      cardId = row.getCardId();
+      cardBlocked = false;
+      columnCards++;
+      totalCards++;
+
+      generator.writeStartObject();
+      generator.writeNumberField("id", row.getCardId());
+      generator.writeStringField("title", row.getCardTitle());
+      generator.writeStringField("rank", row.getCardRank());
+      generator.writeStringField("description", row.getCardDescription());
+      generator.writeObjectField("createdAt", row.getCardCreatedAt());
+      generator.writeObjectField("updatedAt", row.getCardUpdatedAt());
+      generator.writeNumberField("boardColumnId", row.getColumnId());
+      generator.writeStringField("boardColumnName", row.getColumnName());
+      generator.writeArrayFieldStart("blocks");
+    }
+
+    private void closeCard() throws IOException {
+      if (cardId == null) {
+        return;
+      }
+      // "blocked" vem depois dos bloqueios, pois só é conhecido após percorrê-los
+      generator.writeEndArray();
+      generator.writeBooleanField("blocked", cardBlocked);
+      generator.writeEndObject();
+      cardId = null;
+    }
+
+    private void writeBlock(BoardExportRow row) throws IOException {
+      if (row.getUnblockedAt() == null) {
+        cardBlocked = true;
+      }
+
+      generator.writeStartObject();
+      generator.writeNumberField("id", row.getBlockId());
+      generator.writeObjectField("blockedAt", row.getBlockedAt());
+      generator.writeStringField("blockReason", row.getBlockReason());
+      generator.writeObjectField("unblockedAt", row.getUnblockedAt());
+      generator.writeStringField("unblockReason", row.getUnblockReason());
+      generator.writeNumberField("cardId", row.getCardId());
+      generator.writeEndObject();
+    }
+  }
+}
@@ -1,14 +1,20 @@
 package br.com.devcoelho.taskboard.service;
 
 import br.com.devcoelho.taskboard.dao.BoardDAO;
+import br.com.devcoelho.taskboard.dto.BoardSummaryDTO;
+import br.com.devcoelho.taskboard.event.BoardChangedEvent;
 import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
 import br.com.devcoelho.taskboard.model.Board;
 import br.com.devcoelho.taskboard.model.BoardColumn;
 import br.com.devcoelho.taskboard.model.BoardColumnKind;
 import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
 import br.com.devcoelho.taskboard.repository.BoardRepository;
+import br.com.devcoelho.taskboard.util.LexoRank;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,11 +25,34 @@ public class BoardService {
   private final BoardRepository boardRepository;
   private final BoardColumnRepository boardColumnRepository;
   private final BoardDAO boardDAO;
+  private final ApplicationEventPublisher eventPublisher;
+  private final BoardVersionService boardVersionService;
 
+  /**
+   * Lista os boards com as colunas e os cards carregados, usados na contagem do resumo de cada
+   * board.
+   *
+   * @return lista de boards
+   */
+  @Transactional(readOnly = true)
   public List<Board> findAll() {
-    return boardRepository.findAll();
+    List<Board> boards = boardRepository.findAll();
+    boardDAO.fetchColumnCards(boards);
+    return boards;
+  }
+
+  /**
+   * Busca uma página de resumos de boards com as quantidades de colunas e cards.
+   *
+   * @param pageable página, tamanho e ordenação (por id ou name)
+   * @return página com os resumos dos boards
+   */
+  @Transactional(readOnly = true)
+  public Page<BoardSummaryDTO> findSummaries(Pageable pageable) {
+    return boardDAO.findSummaries(pageable);
   }
 
+  @Transactional(readOnly = true)
   public Board findById(Long id) {
     return boardRepository
         .findById(id)
@@ -41,20 +70,28 @@ public class BoardService {
   public Board update(Long id, Board boardDetails) {
     Board board = findById(id);
     board.setName(boardDetails.getName());
-    return boardRepository.save(board);
+    boardRepository.save(board);
+    eventPublisher.publishEvent(BoardChangedEvent.ofBoard(id));
+
+    // A resposta inclui colunas, cards e bloqueios, carregados ainda dentro da transação
+    return findByIdWithAllRelations(id);
   }
 
   @Transactional
   public void delete(Long id) {
     boardRepository.deleteById(id);
+    // A linha da versão sai junto com o board; a versão em cache não pode mais responder 304
+    boardVersionService.evict(id);
   }
 
   private void createDefaultColumns(Board board) {
+    List<String> ranks = LexoRank.evenlySpaced(5);
+
     BoardColumn initialColumn =
         BoardColumn.builder()
             .name("Backlog")
             .board(board)
-            .order(1)
+            .rank(ranks.get(0))
             .kind(BoardColumnKind.INITIAL)
             .build();
 
@@ -62,7 +99,7 @@ public class BoardService {
         BoardColumn.builder()
             .name("To Do")
             .board(board)
-            .order(2)
+            .rank(ranks.get(1))
             .kind(BoardColumnKind.PENDING)
             .build();
 
@@ -70,7 +107,7 @@ public class BoardService {
         BoardColumn.builder()
             .name("In Progress")
             .board(board)
-            .order(3)
+            .rank(ranks.get(2))
             .kind(BoardColumnKind.PENDING)
             .build();
 
@@ -78,7 +115,7 @@ public class BoardService {
         BoardColumn.builder()
             .name("Done")
             .board(board)
-            .order(4)
+            .rank(ranks.get(3))
             .kind(BoardColumnKind.FINAL)
             .build();
 
@@ -86,12 +123,14 @@ public class BoardService {
         BoardColumn.builder()
             .name("Canceled")
             .board(board)
-            .order(5)
+            .rank(ranks.get(4))
             .kind(BoardColumnKind.CANCEL)
             .build();
 
-    boardColumnRepository.saveAll(
-        List.of(initialColumn, todoColumn, inProgressColumn, doneColumn, canceledColumn));
+    List<BoardColumn> columns =
+        List.of(initialColumn, todoColumn, inProgressColumn, doneColumn, canceledColumn);
+    boardColumnRepository.saveAll(columns);
+    board.getColumns().addAll(columns);
   }
 
   /**
@@ -101,6 +140,7 @@ public class BoardService {
    * @return o board com todas as relações
    * @throws ResourceNotFoundException se o board não for encontrado
    */
+  @Transactional(readOnly = true)
   public Board findByIdWithAllRelations(Long id) {
     return boardDAO
         .findByIdWithAllRelations(id)
@@ -113,6 +153,7 @@ public class BoardService {
    * @param limit número máximo de boards a retornar
    * @return lista de boards mais ativos
    */
+  @Transactional(readOnly = true)
   public List<Board> findMostActiveBoards(int limit) {
     return boardDAO.findMostActiveBoards(limit);
   }
@@ -124,6 +165,7 @@ public class BoardService {
    * @param minColumns número mínimo de colunas que o board deve ter
    * @return lista de boards que atendem aos critérios
    */
+  @Transactional(readOnly = true)
   public List<Board> findByNameAndMinColumns(String name, int minColumns) {
     return boardDAO.findByNameAndMinColumns(name, minColumns);
   }
@@ -134,6 +176,7 @@ public class BoardService {
    * @param boardId identificador do board
    * @return número total de cards
    */
+  @Transactional(readOnly = true)
   public int countTotalCards(Long boardId) {
     return boardDAO.countTotalCards(boardId);
   }
@@ -0,0 +1,172 @@
+package br.com.devcoelho.taskboard.service;
+
+import br.com.devcoelho.taskboard.dao.BoardChangeDAO;
+import br.com.devcoelho.taskboard.dao.BoardVersionDAO;
+import br.com.devcoelho.taskboard.event.BoardEvent;
+import br.com.devcoelho.taskboard.model.ChangeFeedEntity;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Versão dos dados de cada board. Os serviços publicam um {@link BoardEvent} a cada alteração, e a
+ * versão avança na mesma transação, logo antes do commit: a linha da versão fica bloqueada só
+ * durante o commit, e uma transação desfeita não altera a versão. As entidades alteradas entram
+ * no feed de alterações com a nova versão, também na mesma transação.
+ *
+ * <p>As requisições condicionais consultam a versão em um cache em memória, atualizado após o
+ * commit de cada alteração feita nesta instância. As entradas expiram após {@code ttl}, o que
+ * limita o atraso em relação às alterações feitas por outras instâncias.
+ */
+@Service
+public class BoardVersionService {
+
+  private final BoardVersionDAO boardVersionDAO;
+  private final BoardChangeDAO boardChangeDAO;
+  private final TransactionTemplate readOnlyTransaction;
+  private final Duration ttl;
+
+  private final Map<Long, CachedVersion> versionCache = new ConcurrentHashMap<>();
+
+  public BoardVersionService(
+      BoardVersionDAO boardVersionDAO,
+      BoardChangeDAO boardChangeDAO,
+      PlatformTransactionManager transactionManager,
+      @Value("${flowdeck.boards.version-cache.ttl:PT10S}") Duration ttl) {
+    this.boardVersionDAO = boardVersionDAO;
+    this.boardChangeDAO = boardChangeDAO;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.ttl = ttl;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onBoardEvent(BoardEvent event) {
+    Long boardId = event.getBoardId();
+    long version = boardVersionDAO.increment(boardId);
+    afterCommit(() -> cache(boardId, version));
+
+    List<Long> cardIds = event.changedCardIds();
+    List<Long> columnIds = event.changedColumnIds();
+    if (cardIds.isEmpty() && columnIds.isEmpty()) {
+      boardChangeDAO.record(boardId, version, ChangeFeedEntity.BOARD, List.of(boardId));
+      return;
+    }
+    if (!cardIds.isEmpty()) {
+      boardChangeDAO.record(boardId, version, ChangeFeedEntity.CARD, cardIds);
+    }
+    if (!columnIds.isEmpty()) {
+      boardChangeDAO.record(boardId, version, ChangeFeedEntity.COLUMN, columnIds);
+    }
+  }
+
+  /**
+   * Busca a versão atual dos dados do board.
+   *
+   * @param boardId identificador do board
+   * @return versão atual, ou zero se o board nunca foi alterado
+   */
+  @Transactional(readOnly = true)
+  public long currentVersion(Long boardId) {
+    return boardVersionDAO.findVersion(boardId);
+  }
+
+  /**
+   * Busca a versão do board pelo cache, sem abrir transação quando a entrada está válida. Usada
+   * para responder requisições condicionais antes de carregar o board.
+   *
+   * @param boardId identificador do board
+   * @return versão atual, ou vazio se o board não existir
+   */
+  public Optional<Long> cachedVersion(Long boardId) {
+    CachedVersion cached = versionCache.get(boardId);
+    if (cached != null && !cached.isExpired(System.nanoTime())) {
+      return Optional.of(cached.version);
+    }
+
+    Optional<Long> version =
+        readOnlyTransaction.execute(status -> boardVersionDAO.findVersionIfBoardExists(boardId));
+    version.ifPresent(loaded -> cache(boardId, loaded));
+    return version;
+  }
+
+  /**
+   * Remove a versão do board do cache após o commit da transação atual, ou imediatamente se não
+   * houver transação. Usado na exclusão do board, que não avança a versão.
+   *
+   * @param boardId identificador do board
+   */
+  public void evict(Long boardId) {
+    afterCommit(() -> versionCache.remove(boardId));
+  }
+
+  /**
+   * Busca a maior versão do board já removida do feed de alterações.
+   *
+   * @param boardId identificador do board
+   * @return versão compactada, ou zero se o feed do board nunca foi compactado
+   */
+  @Transactional(readOnly = true)
+  public long compactedVersion(Long boardId) {
+    return boardVersionDAO.findCompactedVersion(boardId);
+  }
+
+  /** Descarta as entradas expiradas, de boards que deixaram de ser consultados */
+  @Scheduled(
+      initialDelayString = "${flowdeck.boards.version-cache.ttl:PT10S}",
+      fixedDelayString = "${flowdeck.boards.version-cache.ttl:PT10S}")
+  public void evictExpired() {
+    long now = System.nanoTime();
+    versionCache.values().removeIf(cached -> cached.isExpired(now));
+  }
+
+  /**
+   * Guarda a versão sem nunca voltar a uma versão anterior: uma leitura concluída depois de um
+   * commit, mas feita antes dele, não desfaz a versão gravada pelo commit.
+   */
+  private void cache(Long boardId, long version) {
+    CachedVersion loaded = new CachedVersion(version, System.nanoTime() + ttl.toNanos());
+    versionCache.merge(
+        boardId, loaded, (current, candidate) -> current.version > version ? current : candidate);
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  private static final class CachedVersion {
+    private final long version;
+    private final long expiresAt;
+
+    private CachedVersion(long version, long expiresAt) {
+      this.version = version;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired(long now) {
+      return now - expiresAt > 0;
+    }
+  }
+}
@@ -1,17 +1,36 @@
 package br.com.devcoelho.taskboard.service;
 
 import br.com.devcoelho.taskboard.dao.CardDAO;
+import br.com.devcoelho.taskboard.dao.CardFlowDAO;
+import br.com.devcoelho.taskboard.dao.CardTransitionDAO;
+import br.com.devcoelho.taskboard.dto.CardCursor;
+import br.com.devcoelho.taskboard.dto.CardRankCursor;
+import br.com.devcoelho.taskboard.dto.CursorPage;
+import br.com.devcoelho.taskboard.event.BoardChangedEvent;
+import br.com.devcoelho.taskboard.event.CardMovedEvent;
+import br.com.devcoelho.taskboard.event.CardUpdatedEvent;
+import br.com.devcoelho.taskboard.event.CardsCreatedEvent;
 import br.com.devcoelho.taskboard.exception.BlockedCardException;
+import br.com.devcoelho.taskboard.exception.CrossBoardMoveException;
+import br.com.devcoelho.taskboard.exception.FlowDeckException;
+import br.com.devcoelho.taskboard.exception.PreconditionFailedException;
 import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
 import br.com.devcoelho.taskboard.model.Board;
 import br.com.devcoelho.taskboard.model.BoardColumn;
 import br.com.devcoelho.taskboard.model.Card;
 import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
+import br.com.devcoelho.taskboard.repository.BoardRepository;
 import br.com.devcoelho.taskboard.repository.CardRepository;
+import br.com.devcoelho.taskboard.util.LexoRank;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,81 +39,266 @@ import org.springframework.transaction.annotation.Transactional;
 public class CardService {
 
   private final CardRepository cardRepository;
+  private final BoardRepository boardRepository;
   private final BoardColumnRepository boardColumnRepository;
   private final BlockService blockService;
   private final CardDAO cardDAO;
+  private final CardTransitionDAO cardTransitionDAO;
+  private final CardFlowDAO cardFlowDAO;
+  private final DurationSketchService durationSketchService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${flowdeck.rank.max-length:12}")
+  private int maxRankLength;
 
   /** Busca todos os cards de uma coluna */
+  @Transactional(readOnly = true)
   public List<Card> findByBoardColumnId(Long boardColumnId) {
     return cardRepository.findByBoardColumnId(boardColumnId);
   }
 
   /** Busca todos os cards de um board */
+  @Transactional(readOnly = true)
   public List<Card> findByBoardId(Long boardId) {
     return cardRepository.findByBoardId(boardId);
   }
 
+  /**
+   * Busca uma página de cards de uma coluna, na ordem de posição dos cards.
+   *
+   * @param boardColumnId identificador da coluna
+   * @param cursor cursor devolvido pela página anterior, ou null para a primeira página
+   * @param size tamanho da página
+   * @return página de cards com os bloqueios carregados
+   */
+  @Transactional(readOnly = true)
+  public CursorPage<Card> findPageByBoardColumnId(Long boardColumnId, String cursor, int size) {
+    CardRankCursor after =
+        cursor == null || cursor.isBlank() ? null : CardRankCursor.decode(cursor);
+    List<Card> cards = cardDAO.findPageByBoardColumnId(boardColumnId, after, size + 1);
+    return toPage(cards, size, card -> CardRankCursor.after(card).encode());
+  }
+
+  /**
+   * Busca uma página de cards de um board, do mais recente para o mais antigo.
+   *
+   * @param boardId identificador do board
+   * @param cursor cursor devolvido pela página anterior, ou null para a primeira página
+   * @param size tamanho da página
+   * @return página de cards com os bloqueios carregados
+   */
+  @Transactional(readOnly = true)
+  public CursorPage<Card> findPageByBoardId(Long boardId, String cursor, int size) {
+    List<Card> cards = cardDAO.findPageByBoardId(boardId, decodeCursor(cursor), size + 1);
+    return toPage(cards, size, card -> CardCursor.after(card).encode());
+  }
+
+  private CardCursor decodeCursor(String cursor) {
+    return cursor == null || cursor.isBlank() ? null : CardCursor.decode(cursor);
+  }
+
+  /** Monta a página a partir de uma consulta com um card a mais, que indica se há continuação */
+  private CursorPage<Card> toPage(
+      List<Card> cards, int size, Function<Card, String> cursorAfter) {
+    boolean hasMore = cards.size() > size;
+    List<Card> items = hasMore ? new ArrayList<>(cards.subList(0, size)) : cards;
+
+    cardDAO.fetchBlocks(items);
+
+    String nextCursor = hasMore ? cursorAfter.apply(items.get(size - 1)) : null;
+    return new CursorPage<>(items, nextCursor);
+  }
+
   /** Busca um card pelo ID */
+  @Transactional(readOnly = true)
   public Card findById(Long id) {
     return cardRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Card", id));
   }
 
-  /** Cria um novo card na coluna inicial do board */
+  /**
+   * Busca a versão de um card sem carregá-lo.
+   *
+   * @param id identificador do card
+   * @return versão atual, ou vazio se o card não existir
+   */
+  @Transactional(readOnly = true)
+  public Optional<Long> findVersion(Long id) {
+    return cardRepository.findVersionById(id);
+  }
+
+  /** Cria um novo card no topo da coluna inicial do board */
   @Transactional
   public Card create(Long boardId, Card card) {
-    // Busca o board e a coluna inicial
-    Board board =
-        boardColumnRepository
-            .findById(boardId)
-            .orElseThrow(() -> new ResourceNotFoundException("Board", boardId))
-            .getBoard();
+    BoardColumn initialColumn = findInitialColumn(boardId);
 
-    BoardColumn initialColumn = board.getInitialColumn();
-
-    // Define a coluna inicial e data de criação
+    // Define a coluna inicial, a posição e a data de criação
     card.setBoardColumn(initialColumn);
+    card.setRank(topRank(initialColumn.getId(), null));
     card.setCreatedAt(OffsetDateTime.now());
 
-    return cardRepository.save(card);
+    Card savedCard = cardRepository.save(card);
+    cardTransitionDAO.recordCreated(List.of(savedCard.getId()), savedCard.getCreatedAt());
+    cardFlowDAO.recordAdded(initialColumn.getId(), 1, savedCard.getCreatedAt());
+    eventPublisher.publishEvent(
+        new CardsCreatedEvent(boardId, initialColumn.getId(), List.of(savedCard.getId())));
+    return savedCard;
+  }
+
+  /**
+   * Cria vários cards no topo da coluna inicial do board, na ordem da lista, em uma única
+   * transação. Os INSERTs são agrupados em batches JDBC (hibernate.jdbc.batch_size), já que os IDs
+   * vêm de uma sequence com alocação em blocos e não dependem do retorno de cada INSERT.
+   */
+  @Transactional
+  public List<Card> createAll(Long boardId, List<Card> cards) {
+    BoardColumn initialColumn = findInitialColumn(boardId);
+    OffsetDateTime now = OffsetDateTime.now();
+
+    List<String> ranks = topRanks(initialColumn.getId(), cards.size());
+
+    for (int i = 0; i < cards.size(); i++) {
+      Card card = cards.get(i);
+      card.setBoardColumn(initialColumn);
+      card.setRank(ranks.get(i));
+      card.setCreatedAt(now);
+    }
+
+    // O histórico dos cards criados é gravado por um único INSERT ... SELECT
+    List<Card> savedCards = cardRepository.saveAll(cards);
+    List<Long> cardIds = savedCards.stream().map(Card::getId).toList();
+    cardTransitionDAO.recordCreated(cardIds, now);
+    cardFlowDAO.recordAdded(initialColumn.getId(), savedCards.size(), now);
+    eventPublisher.publishEvent(new CardsCreatedEvent(boardId, initialColumn.getId(), cardIds));
+    return savedCards;
   }
 
-  /** Atualiza um card existente */
+  /**
+   * Atualiza um card existente. Alterações concorrentes são detectadas pela versão do card ao
+   * gravar.
+   *
+   * @param id identificador do card
+   * @param cardDetails novos dados do card
+   * @param expectedVersion versão lida pelo cliente (If-Match), ou null para não comparar
+   */
   @Transactional
-  public Card update(Long id, Card cardDetails) {
+  public Card update(Long id, Card cardDetails, Long expectedVersion) {
     Card card = findById(id);
+    checkVersion(card, expectedVersion);
 
     // Atualiza os campos permitidos
     card.setTitle(cardDetails.getTitle());
     card.setDescription(cardDetails.getDescription());
     card.setUpdatedAt(OffsetDateTime.now());
 
+    eventPublisher.publishEvent(
+        new CardUpdatedEvent(
+            card.getBoardColumn().getBoard().getId(), id, card.getTitle(), card.getDescription()));
     return cardRepository.save(card);
   }
 
-  /** Move um card para outra coluna */
+  /** Move um card para outra coluna e retorna o card atualizado */
   @Transactional
-  public Card moveCard(Long cardId, Long targetColumnId) {
-    Card card = findById(cardId);
-    BoardColumn targetColumn =
-        boardColumnRepository
-            .findById(targetColumnId)
-            .orElseThrow(() -> new ResourceNotFoundException("Target column", targetColumnId));
+  public Card moveCard(Long cardId, Long targetColumnId, Long expectedVersion) {
+    move(cardId, targetColumnId, expectedVersion);
+    return findById(cardId);
+  }
 
-    // Verifica se o card está bloqueado
-    if (card.isBlocked()) {
-      throw new BlockedCardException(card.getId());
+  /**
+   * Move um card para o topo de outra coluna com um UPDATE condicional. O card só é movido se não
+   * estiver bloqueado e se a coluna de destino for do mesmo board; o card e a coluna só são lidos
+   * quando o UPDATE não altera nenhuma linha, para identificar o motivo. A transição é gravada
+   * depois do UPDATE, então uma movimentação recusada não grava nada.
+   *
+   * @param cardId identificador do card
+   * @param targetColumnId identificador da coluna de destino
+   * @param expectedVersion versão lida pelo cliente (If-Match), ou null para não comparar
+   */
+  @Transactional
+  public void move(Long cardId, Long targetColumnId, Long expectedVersion) {
+    String rank = topRank(targetColumnId, cardId);
+    OffsetDateTime now = OffsetDateTime.now();
+    if (cardDAO.moveIfAllowed(cardId, targetColumnId, rank, expectedVersion, now) == 0) {
+      throw moveFailure(cardId, targetColumnId, expectedVersion);
     }
 
-    // Move o card para a nova coluna
-    card.setBoardColumn(targetColumn);
-    card.setUpdatedAt(OffsetDateTime.now());
+    // A origem vem da transição mais recente do card. O UPDATE já bloqueou a linha do card, então
+    // outra movimentação dele só lê o histórico depois do commit desta
+    recordMove(cardId, targetColumnId, now);
+    boardColumnRepository
+        .findBoardIdById(targetColumnId)
+        .ifPresent(
+            boardId ->
+                eventPublisher.publishEvent(
+                    new CardMovedEvent(boardId, cardId, targetColumnId, rank)));
+  }
 
+  /**
+   * Posiciona um card logo após outro, ou no topo de uma coluna. Apenas a linha do card
+   * posicionado é alterada; se ele mudar de coluna, valem as mesmas regras da movimentação.
+   *
+   * @param cardId card a posicionar
+   * @param columnId coluna de destino, ou null para usar a coluna de {@code afterCardId} ou, na
+   *     falta dele, a coluna atual do card
+   * @param afterCardId card que deve ficar imediatamente antes, ou null para posicionar no topo
+   * @param expectedVersion versão lida pelo cliente (If-Match), ou null para não comparar
+   * @return card posicionado
+   */
+  @Transactional
+  public Card position(Long cardId, Long columnId, Long afterCardId, Long expectedVersion) {
+    if (cardId.equals(afterCardId)) {
+      throw new IllegalArgumentException("A card can't be positioned after itself");
+    }
+
+    Card card = findById(cardId);
+    checkVersion(card, expectedVersion);
+
+    OffsetDateTime now = OffsetDateTime.now();
+    Card afterCard = afterCardId != null ? findById(afterCardId) : null;
+    BoardColumn targetColumn = positionColumn(card, columnId, afterCard);
+
+    String previous = afterCard != null ? afterCard.getRank() : null;
+    String next = cardDAO.findNextRank(targetColumn.getId(), previous, cardId).orElse(null);
+
+    BoardColumn currentColumn = card.getBoardColumn();
+    if (targetColumn.getId().equals(currentColumn.getId())) {
+      // Se o card já está entre os vizinhos pedidos, nada é gravado
+      String rank = card.getRank();
+      boolean inPlace =
+          (previous == null || rank.compareTo(previous) > 0)
+              && (next == null || rank.compareTo(next) < 0);
+      if (inPlace) {
+        return card;
+      }
+    } else {
+      if (card.isBlocked()) {
+        throw new BlockedCardException(cardId);
+      }
+      if (!currentColumn.getBoard().getId().equals(targetColumn.getBoard().getId())) {
+        throw new CrossBoardMoveException(cardId, targetColumn.getId());
+      }
+      recordMove(cardId, targetColumn.getId(), now);
+      card.setBoardColumn(targetColumn);
+    }
+
+    card.setRank(LexoRank.between(previous, next));
+    card.setUpdatedAt(now);
+    eventPublisher.publishEvent(
+        new CardMovedEvent(
+            targetColumn.getBoard().getId(), cardId, targetColumn.getId(), card.getRank()));
     return cardRepository.save(card);
   }
 
-  /** Remove um card */
+  /** Remove um card, descontando-o do fluxo diário da sua coluna */
   @Transactional
   public void delete(Long id) {
+    cardFlowDAO.recordRemoved(id, OffsetDateTime.now());
+    cardRepository
+        .findById(id)
+        .ifPresent(
+            card ->
+                eventPublisher.publishEvent(
+                    BoardChangedEvent.ofCards(
+                        card.getBoardColumn().getBoard().getId(), List.of(id))));
     cardRepository.deleteById(id);
   }
 
@@ -102,37 +306,171 @@ public class CardService {
   @Transactional
   public Card cancelCard(Long cardId) {
     Card card = findById(cardId);
-    BoardColumn cancelColumn = card.getBoardColumn().getBoard().getCancelColumn();
+    Board board = card.getBoardColumn().getBoard();
+    BoardColumn cancelColumn = board.getCancelColumn();
 
     // Desbloqueia o card se estiver bloqueado
     if (card.isBlocked()) {
       blockService.unblockCard(cardId, "Card canceled");
     }
 
-    // Move o card para a coluna de cancelamento
+    // Move o card para o topo da coluna de cancelamento, registrando a transição
+    OffsetDateTime now = OffsetDateTime.now();
+    recordMove(cardId, cancelColumn.getId(), now);
     card.setBoardColumn(cancelColumn);
-    card.setUpdatedAt(OffsetDateTime.now());
+    card.setRank(topRank(cancelColumn.getId(), cardId));
+    card.setUpdatedAt(now);
 
+    eventPublisher.publishEvent(
+        new CardMovedEvent(board.getId(), cardId, cancelColumn.getId(), card.getRank()));
     return cardRepository.save(card);
   }
 
+  /**
+   * Registra a saída do card da coluna de origem: a transição no histórico e, se ela foi gravada,
+   * as contagens do dia no fluxo cumulativo, lidas da própria transição, e o tempo de ciclo, se o
+   * destino for a coluna final. Nada é gravado se o card já estava na coluna de destino.
+   */
+  private void recordMove(Long cardId, Long targetColumnId, OffsetDateTime at) {
+    if (cardTransitionDAO.recordMove(cardId, targetColumnId, at) > 0) {
+      cardFlowDAO.recordMove(cardId, at);
+      durationSketchService.recordArrival(cardId, targetColumnId, at);
+    }
+  }
+
+  /** Identifica por que um card não pôde ser movido para a coluna de destino */
+  private FlowDeckException moveFailure(Long cardId, Long targetColumnId, Long expectedVersion) {
+    Card card = findById(cardId);
+    BoardColumn targetColumn =
+        boardColumnRepository
+            .findById(targetColumnId)
+            .orElseThrow(() -> new ResourceNotFoundException("Target column", targetColumnId));
+
+    if (expectedVersion != null && !expectedVersion.equals(card.getVersion())) {
+      return new PreconditionFailedException("Card", cardId, expectedVersion, card.getVersion());
+    }
+
+    if (card.isBlocked()) {
+      return new BlockedCardException(cardId);
+    }
+
+    Long boardId = card.getBoardColumn().getBoard().getId();
+    if (!boardId.equals(targetColumn.getBoard().getId())) {
+      return new CrossBoardMoveException(cardId, targetColumnId);
+    }
+
+    // Mesmo board e card desbloqueado agora: o card estava bloqueado quando o UPDATE executou
+    return new BlockedCardException(cardId);
+  }
+
+  /** Resolve a coluna em que o card será posicionado */
+  private BoardColumn positionColumn(Card card, Long columnId, Card afterCard) {
+    if (afterCard != null) {
+      BoardColumn afterColumn = afterCard.getBoardColumn();
+      if (columnId != null && !columnId.equals(afterColumn.getId())) {
+        throw new IllegalArgumentException(
+            "Card " + afterCard.getId() + " is not in column " + columnId);
+      }
+      return afterColumn;
+    }
+
+    if (columnId == null || columnId.equals(card.getBoardColumn().getId())) {
+      return card.getBoardColumn();
+    }
+
+    return boardColumnRepository
+        .findById(columnId)
+        .orElseThrow(() -> new ResourceNotFoundException("Target column", columnId));
+  }
+
+  /**
+   * Gera a chave que coloca um card antes de todos os outros da coluna. Se a chave passar do
+   * tamanho máximo, a coluna é rebalanceada na hora, sem esperar o {@link RankRebalancer}.
+   */
+  private String topRank(Long columnId, Long excludedCardId) {
+    String rank = LexoRank.before(firstRank(columnId, excludedCardId));
+    if (rank.length() <= maxRankLength) {
+      return rank;
+    }
+    rebalanceRanks(columnId);
+    return LexoRank.before(firstRank(columnId, excludedCardId));
+  }
+
+  /** Gera as chaves, em ordem, que colocam vários cards antes de todos os outros da coluna */
+  private List<String> topRanks(Long columnId, int count) {
+    List<String> ranks = topRanksBelow(firstRank(columnId, null), count);
+    if (ranks.stream().allMatch(rank -> rank.length() <= maxRankLength)) {
+      return ranks;
+    }
+    rebalanceRanks(columnId);
+    return topRanksBelow(firstRank(columnId, null), count);
+  }
+
+  // As chaves dividem o espaço entre a chave anterior à primeira e a primeira, e não o espaço
+  // inteiro até o início da coluna, que encurtaria a cada criação em lote
+  private static List<String> topRanksBelow(String first, int count) {
+    return LexoRank.between(first != null ? LexoRank.before(first) : null, first, count);
+  }
+
+  private String firstRank(Long columnId, Long excludedCardId) {
+    return cardDAO.findNextRank(columnId, null, excludedCardId).orElse(null);
+  }
+
+  /** Rejeita a operação se o card foi alterado depois da versão lida pelo cliente */
+  private void checkVersion(Card card, Long expectedVersion) {
+    if (expectedVersion != null && !expectedVersion.equals(card.getVersion())) {
+      throw new PreconditionFailedException(
+          "Card", card.getId(), expectedVersion, card.getVersion());
+    }
+  }
+
+  /** Busca a coluna inicial do board em que os novos cards são criados */
+  private BoardColumn findInitialColumn(Long boardId) {
+    return boardRepository
+        .findById(boardId)
+        .orElseThrow(() -> new ResourceNotFoundException("Board", boardId))
+        .getInitialColumn();
+  }
+
+  /** Busca as colunas com chaves de ordenação de cards maiores que o tamanho informado. */
+  @Transactional(readOnly = true)
+  public List<Long> findColumnIdsWithRanksLongerThan(int maxLength) {
+    return cardDAO.findColumnIdsWithRanksLongerThan(maxLength);
+  }
+
+  /** Reescreve as chaves de ordenação dos cards de uma coluna, mantendo a ordem. */
+  @Transactional
+  public List<Card> rebalanceRanks(Long columnId) {
+    List<Card> cards = cardDAO.rebalanceRanks(columnId);
+    List<Long> cardIds = cards.stream().map(Card::getId).toList();
+    boardColumnRepository
+        .findBoardIdById(columnId)
+        .ifPresent(
+            boardId -> eventPublisher.publishEvent(BoardChangedEvent.ofCards(boardId, cardIds)));
+    return cards;
+  }
+
   /** Busca cards por período e status de bloqueio. */
+  @Transactional(readOnly = true)
   public List<Card> findByDateRangeAndBlockStatus(
       OffsetDateTime startDate, OffsetDateTime endDate, boolean blocked) {
     return cardDAO.findByDateRangeAndBlockStatus(startDate, endDate, blocked);
   }
 
   /** Obtém estatísticas de cards por coluna em um board específico. */
+  @Transactional(readOnly = true)
   public Map<String, Integer> getCardStatsByColumn(Long boardId) {
     return cardDAO.getCardStatsByColumn(boardId);
   }
 
   /** Busca cards com mais histórico de bloqueios. */
+  @Transactional(readOnly = true)
   public List<Card> findMostBlockedCards(int limit) {
     return cardDAO.findMostBlockedCards(limit);
   }
 
   /** Busca cards que estão há mais tempo em uma determinada coluna. */
+  @Transactional(readOnly = true)
   public List<Card> findOldestCardsInColumn(Long columnId, int limit) {
     return cardDAO.findOldestCardsInColumn(columnId, limit);
   }
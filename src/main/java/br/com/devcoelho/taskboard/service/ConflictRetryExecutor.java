@@ -0,0 +1,83 @@
+package br.com.devcoelho.taskboard.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Repete operações idempotentes que falharam por conflito de versão. Cada tentativa deve abrir a
+ * própria transação, por isso a chamada precisa acontecer fora de uma transação: a operação é um
+ * método transacional de serviço chamado pelo controller.
+ */
+@Component
+public class ConflictRetryExecutor {
+
+  private final int maxAttempts;
+  private final long backoffMillis;
+
+  public ConflictRetryExecutor(
+      @Value("${flowdeck.concurrency.retry.max-attempts:3}") int maxAttempts,
+      @Value("${flowdeck.concurrency.retry.backoff-ms:25}") long backoffMillis) {
+    this.maxAttempts = maxAttempts;
+    this.backoffMillis = backoffMillis;
+  }
+
+  /**
+   * Executa a operação, repetindo-a quando outra requisição alterou a mesma entidade entre a
+   * leitura e a escrita. A espera entre tentativas cresce a cada tentativa e tem um componente
+   * aleatório, para que requisições concorrentes não voltem a colidir.
+   *
+   * @param operation operação idempotente com transação própria
+   * @return resultado da operação
+   * @throws OptimisticLockingFailureException se todas as tentativas falharem por conflito
+   */
+  public <T> T execute(Supplier<T> operation) {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException("Conflict retries must start outside a transaction");
+    }
+    return retry(operation);
+  }
+
+  /**
+   * Executa a operação em um ouvinte chamado após o commit de uma transação, repetindo-a em caso de
+   * conflito como em {@link #execute}. A transação que disparou o ouvinte ainda está associada à
+   * thread, então a operação deve abrir uma transação nova (REQUIRES_NEW) a cada tentativa.
+   *
+   * @param operation operação idempotente com transação nova
+   * @return resultado da operação
+   * @throws OptimisticLockingFailureException se todas as tentativas falharem por conflito
+   */
+  public <T> T executeAfterCommit(Supplier<T> operation) {
+    return retry(operation);
+  }
+
+  private <T> T retry(Supplier<T> operation) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return operation.get();
+      } catch (OptimisticLockingFailureException e) {
+        if (attempt >= maxAttempts) {
+          throw e;
+        }
+        backoff(attempt, e);
+      }
+    }
+  }
+
+  private void backoff(int attempt, OptimisticLockingFailureException conflict) {
+    if (backoffMillis <= 0) {
+      return;
+    }
+
+    long delay = backoffMillis * attempt;
+    try {
+      Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw conflict;
+    }
+  }
+}
@@ -0,0 +1,237 @@
+package br.com.devcoelho.taskboard.service;
+
+import br.com.devcoelho.taskboard.dao.CardFlowDAO;
+import br.com.devcoelho.taskboard.dao.CardTransitionDAO;
+import br.com.devcoelho.taskboard.dto.ColumnFlowDTO;
+import br.com.devcoelho.taskboard.dto.CumulativeFlowDTO;
+import br.com.devcoelho.taskboard.dto.DailyColumnCount;
+import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
+import br.com.devcoelho.taskboard.model.BoardColumn;
+import br.com.devcoelho.taskboard.model.CardTransition;
+import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Serviço do diagrama de fluxo cumulativo (CFD). A leitura usa o rollup diário mantido pelo
+ * CardService; a reconstrução recalcula o rollup a partir do histórico de transições, dividindo o
+ * período em blocos de dias processados em paralelo no executor da reconstrução, cada um em sua
+ * própria transação.
+ */
+@Slf4j
+@Service
+public class CumulativeFlowService {
+
+  private final CardFlowDAO cardFlowDAO;
+  private final CardTransitionDAO cardTransitionDAO;
+  private final BoardColumnRepository boardColumnRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService rebuildExecutor;
+  private final int maxDays;
+  private final int rebuildChunkDays;
+
+  public CumulativeFlowService(
+      CardFlowDAO cardFlowDAO,
+      CardTransitionDAO cardTransitionDAO,
+      BoardColumnRepository boardColumnRepository,
+      PlatformTransactionManager transactionManager,
+      @Qualifier("cumulativeFlowExecutor") ExecutorService rebuildExecutor,
+      @Value("${flowdeck.analytics.cfd.max-days:366}") int maxDays,
+      @Value("${flowdeck.analytics.cfd.rebuild-chunk-days:31}") int rebuildChunkDays) {
+    this.cardFlowDAO = cardFlowDAO;
+    this.cardTransitionDAO = cardTransitionDAO;
+    this.boardColumnRepository = boardColumnRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.rebuildExecutor = rebuildExecutor;
+    this.maxDays = maxDays;
+    this.rebuildChunkDays = rebuildChunkDays;
+  }
+
+  /**
+   * Monta o CFD de um board: a quantidade de cards de cada coluna ao fim de cada dia do período.
+   *
+   * @param boardId identificador do board
+   * @param from primeiro dia do período
+   * @param to último dia do período
+   * @return séries por coluna, na ordem das colunas do board
+   */
+  @Transactional(readOnly = true)
+  public CumulativeFlowDTO getCumulativeFlow(Long boardId, LocalDate from, LocalDate to) {
+    int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+    if (days < 1 || days > maxDays) {
+      throw new IllegalArgumentException(
+          "The period must end after it starts and span at most " + maxDays + " days");
+    }
+
+    List<BoardColumn> columns = boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(boardId);
+    if (columns.isEmpty()) {
+      throw new ResourceNotFoundException("Board", boardId);
+    }
+
+    List<DailyColumnCount> counts = cardFlowDAO.findRange(boardId, from, to);
+
+    // As linhas só existem nos dias em que a coluna mudou; nos demais vale a contagem anterior
+    Map<Long, Integer> current = new HashMap<>();
+    Map<Long, List<Integer>> series = new HashMap<>();
+    columns.forEach(column -> series.put(column.getId(), new ArrayList<>(days)));
+
+    List<LocalDate> dayList = new ArrayList<>(days);
+    int next = 0;
+    for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+      while (next < counts.size() && !counts.get(next).getDay().isAfter(day)) {
+        DailyColumnCount count = counts.get(next++);
+        current.put(count.getColumnId(), count.getCardCount());
+      }
+      dayList.add(day);
+      series.forEach((columnId, values) -> values.add(current.getOrDefault(columnId, 0)));
+    }
+
+    return CumulativeFlowDTO.builder()
+        .boardId(boardId)
+        .from(from)
+        .to(to)
+        .days(dayList)
+        .columns(
+            columns.stream()
+                .map(
+                    column ->
+                        ColumnFlowDTO.builder()
+                            .columnId(column.getId())
+                            .columnName(column.getName())
+                            .cardCounts(series.get(column.getId()))
+                            .build())
+                .toList())
+        .build();
+  }
+
+  /**
+   * Recalcula o rollup diário de um board a partir do histórico de transições, do primeiro dia com
+   * histórico até ontem. Cards excluídos não fazem parte do histórico recalculado.
+   *
+   * <p>O dia corrente fica de fora: as linhas dele continuam recebendo as alterações do
+   * CardService, e substituí-las a partir do snapshot da reconstrução perderia as alterações
+   * confirmadas depois dele.
+   *
+   * @param boardId identificador do board
+   * @return quantidade de linhas gravadas
+   */
+  public int rebuild(Long boardId) {
+    Optional<OffsetDateTime> firstTransition =
+        transactionTemplate.execute(status -> cardTransitionDAO.findFirstTransitionAt(boardId));
+    if (firstTransition.isEmpty()) {
+      return 0;
+    }
+
+    LocalDate firstDay =
+        firstTransition.get().atZoneSameInstant(CardFlowDAO.FLOW_ZONE).toLocalDate();
+    LocalDate endExclusive = LocalDate.now(CardFlowDAO.FLOW_ZONE);
+
+    // Cada bloco parte da contagem no seu primeiro dia, então os blocos não dependem uns dos outros
+    List<Future<Integer>> chunks = new ArrayList<>();
+    try {
+      for (LocalDate start = firstDay;
+          start.isBefore(endExclusive);
+          start = start.plusDays(rebuildChunkDays)) {
+        LocalDate chunkStart = start;
+        LocalDate chunkEnd = min(start.plusDays(rebuildChunkDays), endExclusive);
+        chunks.add(
+            rebuildExecutor.submit(
+                () ->
+                    transactionTemplate.execute(
+                        status -> rebuildChunk(boardId, chunkStart, chunkEnd))));
+      }
+
+      int rows = 0;
+      for (Future<Integer> chunk : chunks) {
+        rows += chunk.get();
+      }
+
+      log.info(
+          "Rebuilt cumulative flow of board {}: {} chunk(s), {} row(s)",
+          boardId,
+          chunks.size(),
+          rows);
+      return rows;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Cumulative flow rebuild interrupted", e);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof RuntimeException cause
+          ? cause
+          : new IllegalStateException("Cumulative flow rebuild failed", e.getCause());
+    } finally {
+      // Se um bloco falhou, os que ainda não terminaram não ocupam mais as threads do executor
+      chunks.forEach(chunk -> chunk.cancel(true));
+    }
+  }
+
+  /** Recalcula as contagens dos dias do bloco aplicando as transições em ordem */
+  private int rebuildChunk(Long boardId, LocalDate from, LocalDate toExclusive) {
+    OffsetDateTime start = from.atStartOfDay().atOffset(CardFlowDAO.FLOW_ZONE);
+    OffsetDateTime end = toExclusive.atStartOfDay().atOffset(CardFlowDAO.FLOW_ZONE);
+
+    Map<Long, Integer> current =
+        new HashMap<>(cardTransitionDAO.countCardsByColumnAt(boardId, start));
+    List<CardTransition> transitions = cardTransitionDAO.findBetween(boardId, start, end);
+
+    List<DailyColumnCount> counts = new ArrayList<>();
+    Set<Long> changed = new LinkedHashSet<>();
+    LocalDate day = null;
+
+    for (CardTransition transition : transitions) {
+      LocalDate transitionDay =
+          transition.getTransitionedAt().atZoneSameInstant(CardFlowDAO.FLOW_ZONE).toLocalDate();
+      if (day != null && !day.equals(transitionDay)) {
+        addCounts(counts, day, changed, current);
+      }
+      day = transitionDay;
+
+      if (transition.getFromColumnId() != null) {
+        current.merge(transition.getFromColumnId(), -1, Integer::sum);
+        changed.add(transition.getFromColumnId());
+      }
+      current.merge(transition.getToColumnId(), 1, Integer::sum);
+      changed.add(transition.getToColumnId());
+    }
+    if (day != null) {
+      addCounts(counts, day, changed, current);
+    }
+
+    cardFlowDAO.replaceRange(boardId, from, toExclusive, counts);
+    return counts.size();
+  }
+
+  /** Grava as contagens do fim do dia das colunas que mudaram nele */
+  private static void addCounts(
+      List<DailyColumnCount> counts,
+      LocalDate day,
+      Set<Long> changed,
+      Map<Long, Integer> current) {
+    for (Long columnId : changed) {
+      counts.add(new DailyColumnCount(columnId, day, current.get(columnId)));
+    }
+    changed.clear();
+  }
+
+  private static LocalDate min(LocalDate first, LocalDate second) {
+    return first.isBefore(second) ? first : second;
+  }
+}
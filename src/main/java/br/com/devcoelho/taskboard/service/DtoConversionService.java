@@ -147,7 +147,6 @@ public class DtoConversionService {
         BoardColumn boardColumn = new BoardColumn();
         boardColumn.setName(request.getName());
         boardColumn.setKind(request.getKind());
-        boardColumn.setOrder(request.getOrder());
         return boardColumn;
     }
 
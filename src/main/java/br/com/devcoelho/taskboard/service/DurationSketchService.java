@@ -0,0 +1,217 @@
+package br.com.devcoelho.taskboard.service;
+
+import br.com.devcoelho.taskboard.dao.BlockDAO;
+import br.com.devcoelho.taskboard.dao.CardTransitionDAO;
+import br.com.devcoelho.taskboard.dao.DurationSketchDAO;
+import br.com.devcoelho.taskboard.dto.BoardPercentilesDTO;
+import br.com.devcoelho.taskboard.dto.PercentilesDTO;
+import br.com.devcoelho.taskboard.event.DurationSampledEvent;
+import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
+import br.com.devcoelho.taskboard.model.BoardColumn;
+import br.com.devcoelho.taskboard.model.BoardColumnKind;
+import br.com.devcoelho.taskboard.model.DurationMetric;
+import br.com.devcoelho.taskboard.model.DurationSketchEntry;
+import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
+import br.com.devcoelho.taskboard.util.DurationSketch;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Serviço dos sketches de quantis por board: duração dos bloqueios e tempo de ciclo. As amostras
+ * são calculadas na transação que encerra o bloqueio ou leva o card à coluna final e somadas ao
+ * sketch depois do commit dela, em uma transação própria, então os percentis são lidos do sketch
+ * sem percorrer o histórico e a operação não espera pela linha do sketch.
+ */
+@Slf4j
+@Service
+public class DurationSketchService {
+
+  private static final double SECONDS_PER_HOUR = 3600.0;
+  private static final OffsetDateTime HISTORY_START =
+      OffsetDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC);
+
+  private final DurationSketchDAO durationSketchDAO;
+  private final CardTransitionDAO cardTransitionDAO;
+  private final BlockDAO blockDAO;
+  private final BoardColumnRepository boardColumnRepository;
+  private final ConflictRetryExecutor conflictRetry;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate newTransaction;
+
+  public DurationSketchService(
+      DurationSketchDAO durationSketchDAO,
+      CardTransitionDAO cardTransitionDAO,
+      BlockDAO blockDAO,
+      BoardColumnRepository boardColumnRepository,
+      ConflictRetryExecutor conflictRetry,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager) {
+    this.durationSketchDAO = durationSketchDAO;
+    this.cardTransitionDAO = cardTransitionDAO;
+    this.blockDAO = blockDAO;
+    this.boardColumnRepository = boardColumnRepository;
+    this.conflictRetry = conflictRetry;
+    this.eventPublisher = eventPublisher;
+    this.newTransaction = new TransactionTemplate(transactionManager);
+    this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Registra a duração de um bloqueio encerrado. A amostra entra no sketch depois do commit da
+   * transação corrente.
+   *
+   * @param boardId board do card desbloqueado
+   * @param duration tempo entre o bloqueio e o desbloqueio
+   */
+  public void recordBlockDuration(Long boardId, Duration duration) {
+    eventPublisher.publishEvent(
+        new DurationSampledEvent(boardId, DurationMetric.BLOCK_DURATION, duration));
+  }
+
+  /**
+   * Registra o tempo de ciclo de um card se a movimentação o levou à coluna final do board. Deve
+   * ser chamado depois de registrar a transição da movimentação, só quando ela foi gravada: a
+   * amostra vem da primeira transição do card e do tipo da coluna de destino, e entra no sketch
+   * depois do commit da transação corrente.
+   *
+   * @param cardId identificador do card
+   * @param targetColumnId coluna de destino
+   * @param at momento da movimentação
+   */
+  @Transactional
+  public void recordArrival(Long cardId, Long targetColumnId, OffsetDateTime at) {
+    cardTransitionDAO
+        .findCycleTimeOnArrival(cardId, targetColumnId, at)
+        .ifPresent(
+            sample ->
+                eventPublisher.publishEvent(
+                    new DurationSampledEvent(
+                        sample.getBoardId(), DurationMetric.CYCLE_TIME, sample.getDuration())));
+  }
+
+  /**
+   * Soma ao sketch uma amostra já confirmada. Uma gravação concorrente na mesma linha faz a soma
+   * ser repetida sobre o sketch atualizado; se as tentativas se esgotarem, a amostra fica de fora
+   * até a próxima reconstrução, sem afetar a operação que a gerou.
+   */
+  @TransactionalEventListener
+  public void onDurationSampled(DurationSampledEvent event) {
+    try {
+      conflictRetry.executeAfterCommit(
+          () ->
+              newTransaction.execute(
+                  status -> {
+                    DurationSketchEntry entry = findEntry(event.getBoardId(), event.getMetric());
+                    DurationSketch sketch = DurationSketch.fromBytes(entry.getSketch());
+                    sketch.add(event.getDuration());
+                    save(entry, sketch);
+                    return null;
+                  }));
+    } catch (DataAccessException e) {
+      log.warn(
+          "Could not record {} sample of board {}", event.getMetric(), event.getBoardId(), e);
+    }
+  }
+
+  /**
+   * Lê os percentis de tempo de ciclo e de duração de bloqueios de um board.
+   *
+   * @param boardId identificador do board
+   * @return percentis de cada métrica; métricas sem amostras vêm zeradas
+   */
+  @Transactional(readOnly = true)
+  public BoardPercentilesDTO getPercentiles(Long boardId) {
+    Map<DurationMetric, DurationSketch> sketches = durationSketchDAO.findByBoardId(boardId);
+    DurationSketch empty = new DurationSketch();
+
+    return BoardPercentilesDTO.builder()
+        .boardId(boardId)
+        .cycleTime(toPercentiles(sketches.getOrDefault(DurationMetric.CYCLE_TIME, empty)))
+        .blockDuration(toPercentiles(sketches.getOrDefault(DurationMetric.BLOCK_DURATION, empty)))
+        .build();
+  }
+
+  /**
+   * Recalcula os sketches de um board a partir do histórico de bloqueios e de transições. Serve
+   * para preencher os sketches de boards anteriores a eles; o uso normal não depende disso.
+   *
+   * <p>As linhas são lidas antes do histórico: uma amostra somada depois disso faz a gravação
+   * falhar por conflito de versão, e a reconstrução deve ser repetida. Uma amostra confirmada antes
+   * da leitura do histórico, mas somada só depois da gravação, é contada duas vezes.
+   *
+   * @param boardId identificador do board
+   * @return percentis recalculados
+   */
+  @Transactional
+  public BoardPercentilesDTO rebuild(Long boardId) {
+    BoardColumn finalColumn =
+        boardColumnRepository
+            .findByBoardIdAndKind(boardId, BoardColumnKind.FINAL)
+            .orElseThrow(() -> new ResourceNotFoundException("Board", boardId));
+
+    DurationSketchEntry cycleTimeEntry = findEntry(boardId, DurationMetric.CYCLE_TIME);
+    DurationSketchEntry blockDurationEntry = findEntry(boardId, DurationMetric.BLOCK_DURATION);
+
+    List<Duration> cycleTimes =
+        cardTransitionDAO.findCycleTimes(
+            boardId, finalColumn.getId(), HISTORY_START, OffsetDateTime.now().plusDays(1));
+    List<Duration> blockDurations = blockDAO.findClosedBlockDurations(boardId);
+
+    save(cycleTimeEntry, toSketch(cycleTimes));
+    save(blockDurationEntry, toSketch(blockDurations));
+
+    log.info(
+        "Rebuilt duration sketches of board {}: {} cycle time(s), {} block(s)",
+        boardId,
+        cycleTimes.size(),
+        blockDurations.size());
+    return getPercentiles(boardId);
+  }
+
+  /** Busca a linha do sketch, ou uma nova se a métrica ainda não tem amostras */
+  private DurationSketchEntry findEntry(Long boardId, DurationMetric metric) {
+    return durationSketchDAO
+        .find(boardId, metric)
+        .orElseGet(() -> DurationSketchEntry.builder().boardId(boardId).metric(metric).build());
+  }
+
+  private void save(DurationSketchEntry entry, DurationSketch sketch) {
+    entry.setSketch(sketch.toBytes());
+    entry.setUpdatedAt(OffsetDateTime.now());
+    durationSketchDAO.save(entry);
+  }
+
+  private static DurationSketch toSketch(List<Duration> durations) {
+    DurationSketch sketch = new DurationSketch();
+    durations.forEach(sketch::add);
+    return sketch;
+  }
+
+  private static PercentilesDTO toPercentiles(DurationSketch sketch) {
+    return PercentilesDTO.builder()
+        .count(sketch.getCount())
+        .averageHours(toHours(sketch.getAverage()))
+        .p50Hours(toHours(sketch.quantile(0.50)))
+        .p90Hours(toHours(sketch.quantile(0.90)))
+        .p99Hours(toHours(sketch.quantile(0.99)))
+        .maxHours(toHours(sketch.getMax()))
+        .build();
+  }
+
+  private static double toHours(Duration duration) {
+    return duration.getSeconds() / SECONDS_PER_HOUR;
+  }
+}
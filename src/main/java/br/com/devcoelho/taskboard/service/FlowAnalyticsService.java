@@ -0,0 +1,125 @@
+package br.com.devcoelho.taskboard.service;
+
+import br.com.devcoelho.taskboard.dao.CardTransitionDAO;
+import br.com.devcoelho.taskboard.dto.ColumnTimeDTO;
+import br.com.devcoelho.taskboard.dto.CycleTimeDTO;
+import br.com.devcoelho.taskboard.dto.DurationStatsDTO;
+import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
+import br.com.devcoelho.taskboard.model.BoardColumn;
+import br.com.devcoelho.taskboard.model.BoardColumnKind;
+import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Serviço de métricas de fluxo calculadas a partir do histórico de transições dos cards. Cada
+ * consulta lê apenas as transições do board no período pedido.
+ */
+@Service
+@RequiredArgsConstructor
+public class FlowAnalyticsService {
+
+  private static final double SECONDS_PER_HOUR = 3600.0;
+
+  private final CardTransitionDAO cardTransitionDAO;
+  private final BoardColumnRepository boardColumnRepository;
+
+  /**
+   * Calcula o tempo de ciclo dos cards que chegaram à coluna final do board no período.
+   *
+   * @param boardId identificador do board
+   * @param from início do período (inclusivo)
+   * @param to fim do período (exclusivo)
+   * @return estatísticas do tempo de ciclo
+   */
+  @Transactional(readOnly = true)
+  public CycleTimeDTO getCycleTime(Long boardId, OffsetDateTime from, OffsetDateTime to) {
+    checkPeriod(from, to);
+    BoardColumn finalColumn =
+        boardColumnRepository
+            .findByBoardIdAndKind(boardId, BoardColumnKind.FINAL)
+            .orElseThrow(() -> new ResourceNotFoundException("Board", boardId));
+
+    List<Duration> cycleTimes =
+        cardTransitionDAO.findCycleTimes(boardId, finalColumn.getId(), from, to);
+
+    return CycleTimeDTO.builder()
+        .boardId(boardId)
+        .from(from)
+        .to(to)
+        .cycleTime(toStats(cycleTimes))
+        .build();
+  }
+
+  /**
+   * Calcula o tempo de permanência em cada coluna do board, considerando os cards que saíram da
+   * coluna no período.
+   *
+   * @param boardId identificador do board
+   * @param from início do período (inclusivo)
+   * @param to fim do período (exclusivo)
+   * @return estatísticas por coluna, na ordem das colunas do board
+   */
+  @Transactional(readOnly = true)
+  public List<ColumnTimeDTO> getTimeInColumns(
+      Long boardId, OffsetDateTime from, OffsetDateTime to) {
+    checkPeriod(from, to);
+    List<BoardColumn> columns = boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(boardId);
+    if (columns.isEmpty()) {
+      throw new ResourceNotFoundException("Board", boardId);
+    }
+
+    Map<Long, List<Duration>> timesByColumn =
+        cardTransitionDAO.findTimesInColumn(boardId, from, to);
+
+    return columns.stream()
+        .map(
+            column ->
+                ColumnTimeDTO.builder()
+                    .columnId(column.getId())
+                    .columnName(column.getName())
+                    .timeInColumn(
+                        toStats(timesByColumn.getOrDefault(column.getId(), List.of())))
+                    .build())
+        .toList();
+  }
+
+  private void checkPeriod(OffsetDateTime from, OffsetDateTime to) {
+    if (!from.isBefore(to)) {
+      throw new IllegalArgumentException("The period start must be before its end");
+    }
+  }
+
+  /** Resume as durações em horas; os percentis usam o método do posto mais próximo */
+  private static DurationStatsDTO toStats(List<Duration> durations) {
+    if (durations.isEmpty()) {
+      return DurationStatsDTO.builder().build();
+    }
+
+    double[] hours =
+        durations.stream().mapToDouble(d -> d.getSeconds() / SECONDS_PER_HOUR).sorted().toArray();
+
+    double total = 0;
+    for (double value : hours) {
+      total += value;
+    }
+
+    return DurationStatsDTO.builder()
+        .count(hours.length)
+        .averageHours(total / hours.length)
+        .medianHours(percentile(hours, 0.50))
+        .p85Hours(percentile(hours, 0.85))
+        .maxHours(hours[hours.length - 1])
+        .build();
+  }
+
+  private static double percentile(double[] sorted, double fraction) {
+    int rank = (int) Math.ceil(fraction * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+}
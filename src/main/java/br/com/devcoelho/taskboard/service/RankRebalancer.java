@@ -0,0 +1,61 @@
+package br.com.devcoelho.taskboard.service;
+
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarefa periódica que rebalanceia as chaves de ordenação das colunas e dos cards. Movimentações
+ * repetidas no mesmo ponto de um board ou de uma coluna alongam as chaves; quando alguma passa do
+ * tamanho configurado, os itens do grupo recebem chaves curtas e igualmente espaçadas.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankRebalancer {
+
+  private final BoardColumnService boardColumnService;
+  private final CardService cardService;
+
+  @Value("${flowdeck.rank.max-length:12}")
+  private int maxRankLength;
+
+  @Scheduled(
+      initialDelayString = "${flowdeck.rank.rebalance-interval:PT10M}",
+      fixedDelayString = "${flowdeck.rank.rebalance-interval:PT10M}")
+  public void rebalanceLongRanks() {
+    rebalance(
+        "column ranks",
+        "board",
+        boardColumnService.findBoardIdsWithRanksLongerThan(maxRankLength),
+        boardColumnService::rebalanceRanks);
+
+    rebalance(
+        "card ranks",
+        "column",
+        cardService.findColumnIdsWithRanksLongerThan(maxRankLength),
+        cardService::rebalanceRanks);
+  }
+
+  private void rebalance(
+      String ranks, String owner, List<Long> ownerIds, Consumer<Long> rebalancer) {
+    // Cada grupo é rebalanceado em sua própria transação
+    for (Long ownerId : ownerIds) {
+      try {
+        rebalancer.accept(ownerId);
+      } catch (OptimisticLockingFailureException e) {
+        // Um item mudou durante o rebalanceamento; a próxima execução tenta de novo
+        log.info("Rebalance of {} of {} {} postponed: {}", ranks, owner, ownerId, e.getMessage());
+      }
+    }
+
+    if (!ownerIds.isEmpty()) {
+      log.info("Rebalanced {} of {} {}(s)", ranks, ownerIds.size(), owner);
+    }
+  }
+}
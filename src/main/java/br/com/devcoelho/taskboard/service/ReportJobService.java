@@ -0,0 +1,260 @@
+package br.com.devcoelho.taskboard.service;
+
+import br.com.devcoelho.taskboard.config.DataSourceRoutingContext;
+import br.com.devcoelho.taskboard.dto.ReportJobDTO;
+import br.com.devcoelho.taskboard.exception.ReportJobNotCompletedException;
+import br.com.devcoelho.taskboard.exception.ReportQueueFullException;
+import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
+import br.com.devcoelho.taskboard.model.ReportJobStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Jobs assíncronos do relatório de eficiência de workflow. A requisição só agenda o job e recebe o
+ * id; o relatório é gerado no executor de jobs, fora das threads do Tomcat. Pedidos de um board
+ * com um job na fila ou rodando recebem esse job, e um job concluído é reaproveitado enquanto a
+ * versão dos dados do board não mudar.
+ */
+@Slf4j
+@Service
+public class ReportJobService {
+
+  private final ReportService reportService;
+  private final BoardService boardService;
+  private final BoardVersionService boardVersionService;
+  private final ExecutorService reportJobExecutor;
+  private final TransactionTemplate readOnlyTransaction;
+  private final Duration retention;
+  private final Duration maxWait;
+
+  private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+  // Job mais recente de cada board: na fila ou rodando (deduplicação) ou concluído (cache)
+  private final Map<Long, ReportJob> latestByBoard = new ConcurrentHashMap<>();
+
+  public ReportJobService(
+      ReportService reportService,
+      BoardService boardService,
+      BoardVersionService boardVersionService,
+      @Qualifier("reportJobExecutor") ExecutorService reportJobExecutor,
+      PlatformTransactionManager transactionManager,
+      @Value("${flowdeck.reports.jobs.retention:PT10M}") Duration retention,
+      @Value("${flowdeck.reports.jobs.max-wait:PT30S}") Duration maxWait) {
+    this.reportService = reportService;
+    this.boardService = boardService;
+    this.boardVersionService = boardVersionService;
+    this.reportJobExecutor = reportJobExecutor;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.retention = retention;
+    this.maxWait = maxWait;
+  }
+
+  /**
+   * Agenda o relatório de eficiência de workflow de um board. Um job do board na fila, rodando ou
+   * concluído sobre a versão atual dos dados é devolvido no lugar de um novo.
+   *
+   * @param boardId identificador do board
+   * @return job agendado ou reaproveitado
+   * @throws ResourceNotFoundException se o board não existir
+   * @throws ReportQueueFullException se a fila de jobs estiver cheia
+   */
+  public ReportJobDTO submit(Long boardId) {
+    boardService.findById(boardId);
+    long version = boardVersionService.currentVersion(boardId);
+
+    ReportJob created = new ReportJob(boardId, version);
+    ReportJob job =
+        latestByBoard.merge(
+            boardId, created, (latest, candidate) -> latest.covers(version) ? latest : candidate);
+
+    if (job != created) {
+      job.touch();
+      return toDTO(job);
+    }
+
+    // O job lê do primário se a requisição que o agendou também lê
+    boolean primaryForced = DataSourceRoutingContext.isPrimaryForced();
+    jobs.put(job.id, job);
+    try {
+      reportJobExecutor.execute(() -> run(job, primaryForced));
+    } catch (RejectedExecutionException e) {
+      jobs.remove(job.id);
+      latestByBoard.remove(boardId, job);
+      throw new ReportQueueFullException(boardId, e);
+    }
+
+    return toDTO(job);
+  }
+
+  /**
+   * Busca a situação de um job, aguardando a conclusão por até {@code wait}.
+   *
+   * @param jobId identificador do job
+   * @param wait tempo máximo de espera; zero para responder imediatamente
+   * @return situação do job ao concluir ou ao fim da espera
+   * @throws ResourceNotFoundException se o job não existir ou já tiver expirado
+   */
+  public CompletableFuture<ReportJobDTO> await(String jobId, Duration wait) {
+    if (wait.isNegative() || wait.compareTo(maxWait) > 0) {
+      throw new IllegalArgumentException("Wait must be between PT0S and " + maxWait);
+    }
+
+    ReportJob job = find(jobId);
+    if (job.isFinished() || wait.isZero()) {
+      return CompletableFuture.completedFuture(toDTO(job));
+    }
+
+    // A cópia recebe o tempo limite sem afetar quem aguarda o mesmo job
+    return job.done
+        .copy()
+        .completeOnTimeout(null, wait.toMillis(), TimeUnit.MILLISECONDS)
+        .thenApply(ignored -> toDTO(job));
+  }
+
+  /**
+   * Busca o resultado de um job concluído.
+   *
+   * @param jobId identificador do job
+   * @return relatório de eficiência de workflow
+   * @throws ResourceNotFoundException se o job não existir ou já tiver expirado
+   * @throws ReportJobNotCompletedException se o job ainda não tiver concluído ou tiver falhado
+   */
+  public Map<String, Object> getResult(String jobId) {
+    ReportJob job = find(jobId);
+    if (job.status != ReportJobStatus.COMPLETED) {
+      throw new ReportJobNotCompletedException(jobId, job.status);
+    }
+    return job.result;
+  }
+
+  /** Descarta os jobs concluídos que não foram consultados durante o período de retenção */
+  @Scheduled(
+      initialDelayString = "${flowdeck.reports.jobs.retention:PT10M}",
+      fixedDelayString = "${flowdeck.reports.jobs.retention:PT10M}")
+  public void evictExpired() {
+    Instant cutoff = Instant.now().minus(retention);
+    jobs.values()
+        .removeIf(
+            job -> {
+              boolean expired = job.isFinished() && job.lastAccess.isBefore(cutoff);
+              if (expired) {
+                latestByBoard.remove(job.boardId, job);
+              }
+              return expired;
+            });
+  }
+
+  private void run(ReportJob job, boolean primaryForced) {
+    if (primaryForced) {
+      DataSourceRoutingContext.forcePrimary();
+    }
+    job.status = ReportJobStatus.RUNNING;
+    try {
+      // Versão e relatório lidos na mesma transação, do mesmo snapshot: o resultado corresponde
+      // exatamente à versão com que fica guardado
+      Map<String, Object> report =
+          readOnlyTransaction.execute(
+              status -> {
+                long version = boardVersionService.currentVersion(job.boardId);
+                Map<String, Object> workflowReport =
+                    reportService.generateWorkflowEfficiencyReport(job.boardId);
+                workflowReport.put("boardVersion", version);
+                return workflowReport;
+              });
+      job.complete((Long) report.get("boardVersion"), report);
+    } catch (RuntimeException e) {
+      log.warn("Report job {} of board {} failed", job.id, job.boardId, e);
+      job.fail(e.getMessage());
+    } finally {
+      DataSourceRoutingContext.clear();
+    }
+  }
+
+  private ReportJob find(String jobId) {
+    ReportJob job = jobs.get(jobId);
+    if (job == null) {
+      throw new ResourceNotFoundException("Report job", jobId);
+    }
+    job.touch();
+    return job;
+  }
+
+  private static ReportJobDTO toDTO(ReportJob job) {
+    return ReportJobDTO.builder()
+        .id(job.id)
+        .boardId(job.boardId)
+        .boardVersion(job.boardVersion)
+        .status(job.status)
+        .submittedAt(job.submittedAt)
+        .completedAt(job.completedAt)
+        .error(job.error)
+        .build();
+  }
+
+  private static final class ReportJob {
+    private final String id = UUID.randomUUID().toString();
+    private final Long boardId;
+    private final OffsetDateTime submittedAt = OffsetDateTime.now();
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    // Versão pedida até a conclusão; depois, a versão lida junto com o relatório
+    private volatile long boardVersion;
+    private volatile ReportJobStatus status = ReportJobStatus.QUEUED;
+    private volatile Map<String, Object> result;
+    private volatile String error;
+    private volatile OffsetDateTime completedAt;
+    private volatile Instant lastAccess = Instant.now();
+
+    private ReportJob(Long boardId, long boardVersion) {
+      this.boardId = boardId;
+      this.boardVersion = boardVersion;
+    }
+
+    /** Se o job atende a um pedido feito com os dados do board na versão informada */
+    private boolean covers(long version) {
+      return status != ReportJobStatus.FAILED && boardVersion >= version;
+    }
+
+    private boolean isFinished() {
+      return done.isDone();
+    }
+
+    private void touch() {
+      lastAccess = Instant.now();
+    }
+
+    private void complete(long version, Map<String, Object> report) {
+      boardVersion = version;
+      result = report;
+      finish(ReportJobStatus.COMPLETED);
+    }
+
+    private void fail(String message) {
+      error = message;
+      finish(ReportJobStatus.FAILED);
+    }
+
+    private void finish(ReportJobStatus finalStatus) {
+      completedAt = OffsetDateTime.now();
+      lastAccess = Instant.now();
+      status = finalStatus;
+      done.complete(null);
+    }
+  }
+}
@@ -1,63 +1,126 @@
 package br.com.devcoelho.taskboard.service;
 
+import br.com.devcoelho.taskboard.config.DataSourceRoutingContext;
 import br.com.devcoelho.taskboard.dao.BlockDAO;
+import br.com.devcoelho.taskboard.dao.BoardColumnDAO;
 import br.com.devcoelho.taskboard.dao.BoardDAO;
 import br.com.devcoelho.taskboard.dao.CardDAO;
-import br.com.devcoelho.taskboard.model.Block;
-import br.com.devcoelho.taskboard.model.Board;
+import br.com.devcoelho.taskboard.dto.ActivityReportDTO;
+import br.com.devcoelho.taskboard.dto.BoardPercentilesDTO;
+import br.com.devcoelho.taskboard.dto.BoardSummaryDTO;
 import br.com.devcoelho.taskboard.model.BoardColumn;
-import br.com.devcoelho.taskboard.model.Card;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Serviço para geração de relatórios e análises do sistema FlowDeck. Combina dados de diferentes
  * DAOs para fornecer insights sobre o funcionamento do sistema.
  */
 @Service
-@RequiredArgsConstructor
 public class ReportService {
 
+  private static final int TOP_LIMIT = 5;
+
   private final BoardDAO boardDAO;
+  private final BoardColumnDAO boardColumnDAO;
   private final CardDAO cardDAO;
   private final BlockDAO blockDAO;
+  private final DurationSketchService durationSketchService;
+  private final BlockReasonTracker blockReasonTracker;
+  private final ExecutorService reportExecutor;
+  private final TransactionTemplate readOnlyTransaction;
+
+  public ReportService(
+      BoardDAO boardDAO,
+      BoardColumnDAO boardColumnDAO,
+      CardDAO cardDAO,
+      BlockDAO blockDAO,
+      DurationSketchService durationSketchService,
+      BlockReasonTracker blockReasonTracker,
+      @Qualifier("reportExecutor") ExecutorService reportExecutor,
+      PlatformTransactionManager transactionManager) {
+    this.boardDAO = boardDAO;
+    this.boardColumnDAO = boardColumnDAO;
+    this.cardDAO = cardDAO;
+    this.blockDAO = blockDAO;
+    this.durationSketchService = durationSketchService;
+    this.blockReasonTracker = blockReasonTracker;
+    this.reportExecutor = reportExecutor;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
 
   /**
-   * Gera um relatório de atividade do sistema em um determinado período.
+   * Gera um relatório de atividade do sistema em um determinado período. As contagens são
+   * consultas independentes, executadas em paralelo no executor de relatórios, cada uma em sua
+   * própria transação somente leitura; os motivos de bloqueio vêm do BlockReasonTracker, em
+   * memória.
    *
    * @param startDate data inicial do período
    * @param endDate data final do período
-   * @return mapa com estatísticas do período
+   * @return estatísticas do período
    */
-  public Map<String, Object> generateActivityReport(
+  public ActivityReportDTO generateActivityReport(
       OffsetDateTime startDate, OffsetDateTime endDate) {
-    Map<String, Object> report = new HashMap<>();
-
-    // Estatísticas de cards
-    List<Card> blockedCards = cardDAO.findByDateRangeAndBlockStatus(startDate, endDate, true);
-    List<Card> activeCards = cardDAO.findByDateRangeAndBlockStatus(startDate, endDate, false);
-
-    // Estatísticas de bloqueios
-    List<Block> blocks = blockDAO.findByDateRange(startDate, endDate, false);
-    Map<String, Long> blockReasons = blockDAO.findMostCommonBlockReasons(5);
+    CompletableFuture<Long> blockedCards =
+        query(() -> cardDAO.countByDateRangeAndBlockStatus(startDate, endDate, true));
+    CompletableFuture<Long> activeCards =
+        query(() -> cardDAO.countByDateRangeAndBlockStatus(startDate, endDate, false));
+    CompletableFuture<Long> totalBlocks =
+        query(() -> blockDAO.countByDateRange(startDate, endDate));
+    CompletableFuture<List<BoardSummaryDTO>> activeBoards =
+        query(() -> boardDAO.findMostActiveBoardSummaries(TOP_LIMIT));
 
-    // Boards mais ativos
-    List<Board> activeBoards = boardDAO.findMostActiveBoards(5);
-
-    // Compilação do relatório
-    report.put("period", Map.of("start", startDate, "end", endDate));
-    report.put("cardsCreated", blockedCards.size() + activeCards.size());
-    report.put("blockedCards", blockedCards.size());
-    report.put("activeCards", activeCards.size());
-    report.put("totalBlocks", blocks.size());
-    report.put("commonBlockReasons", blockReasons);
-    report.put("activeBoards", activeBoards);
+    try {
+      return ActivityReportDTO.builder()
+          .start(startDate)
+          .end(endDate)
+          .cardsCreated(blockedCards.join() + activeCards.join())
+          .blockedCards(blockedCards.join())
+          .activeCards(activeCards.join())
+          .totalBlocks(totalBlocks.join())
+          .commonBlockReasons(blockReasonTracker.topReasons(TOP_LIMIT))
+          .activeBoards(activeBoards.join())
+          .build();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+  }
 
-    return report;
+  /**
+   * Executa uma consulta no executor de relatórios, em uma transação somente leitura própria. O
+   * roteamento para o primário (leitura das próprias escritas) da requisição vale também para a
+   * consulta.
+   */
+  private <T> CompletableFuture<T> query(Supplier<T> query) {
+    boolean primaryForced = DataSourceRoutingContext.isPrimaryForced();
+    return CompletableFuture.supplyAsync(
+        () -> {
+          // Com a fila cheia a consulta roda na thread da requisição, cujo contexto é preservado
+          boolean ownContext = !DataSourceRoutingContext.isPrimaryForced();
+          if (primaryForced && ownContext) {
+            DataSourceRoutingContext.forcePrimary();
+          }
+          try {
+            return readOnlyTransaction.execute(status -> query.get());
+          } finally {
+            if (ownContext) {
+              DataSourceRoutingContext.clear();
+            }
+          }
+        },
+        reportExecutor);
   }
 
   /**
@@ -66,6 +129,7 @@ public class ReportService {
    * @param boardId identificador do board
    * @return mapa com métricas de eficiência
    */
+  @Transactional(readOnly = true)
   public Map<String, Object> generateWorkflowEfficiencyReport(Long boardId) {
     Map<String, Object> report = new HashMap<>();
 
@@ -74,20 +138,20 @@ public class ReportService {
 
     // Colunas com cards bloqueados
     List<String> columnsWithBlockedCards =
-        boardDAO.findByIdWithAllRelations(boardId).get().getColumns().stream()
-            .filter(column -> column.getCards().stream().anyMatch(Card::isBlocked))
+        boardColumnDAO.findColumnsWithBlockedCards(boardId).stream()
             .map(BoardColumn::getName)
             .toList();
 
-    // Duração média de bloqueios
-    Map<Long, Double> blockDurations = blockDAO.calculateAverageBlockDurationByBoard();
-    Double avgBlockDuration = blockDurations.getOrDefault(boardId, 0.0);
+    // Durações de bloqueios e tempo de ciclo, lidas dos sketches do board
+    BoardPercentilesDTO percentiles = durationSketchService.getPercentiles(boardId);
 
     // Compilação do relatório
     report.put("boardId", boardId);
     report.put("cardDistribution", cardStats);
     report.put("columnsWithBlockedCards", columnsWithBlockedCards);
-    report.put("averageBlockDuration", avgBlockDuration);
+    report.put("averageBlockDuration", percentiles.getBlockDuration().getAverageHours());
+    report.put("blockDurationPercentiles", percentiles.getBlockDuration());
+    report.put("cycleTimePercentiles", percentiles.getCycleTime());
     report.put("totalCards", boardDAO.countTotalCards(boardId));
 
     return report;
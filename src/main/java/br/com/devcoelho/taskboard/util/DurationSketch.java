@@ -0,0 +1,206 @@
+package br.com.devcoelho.taskboard.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Sketch de quantis de durações, no estilo do HdrHistogram: cada duração (em segundos) cai em um
+ * bucket logarítmico, e cada bucket guarda apenas a contagem. Os quantis estimados têm erro
+ * relativo de no máximo 1%, independentemente da quantidade de amostras, e dois sketches são
+ * combinados somando as contagens dos buckets.
+ *
+ * <p>Durações abaixo de um segundo ficam em um bucket próprio. De um segundo a um ano são menos
+ * de 900 buckets, e só os não vazios são serializados, com poucos bytes cada.
+ */
+public final class DurationSketch {
+
+  /** Erro relativo máximo dos quantis estimados */
+  public static final double RELATIVE_ACCURACY = 0.01;
+
+  private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+  private static final double LOG_GAMMA = Math.log(GAMMA);
+  private static final byte FORMAT_VERSION = 1;
+
+  private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+  private long zeroCount;
+  private long count;
+  private long sumSeconds;
+  private long minSeconds = Long.MAX_VALUE;
+  private long maxSeconds;
+
+  /**
+   * Registra uma duração. Durações negativas, causadas por relógios fora de sincronia, contam como
+   * zero.
+   *
+   * @param duration duração a registrar
+   */
+  public void add(Duration duration) {
+    long seconds = Math.max(duration.getSeconds(), 0);
+    if (seconds == 0) {
+      zeroCount++;
+    } else {
+      buckets.merge(indexOf(seconds), 1L, Long::sum);
+    }
+
+    count++;
+    sumSeconds += seconds;
+    minSeconds = Math.min(minSeconds, seconds);
+    maxSeconds = Math.max(maxSeconds, seconds);
+  }
+
+  /**
+   * Soma as amostras de outro sketch a este.
+   *
+   * @param other sketch a combinar
+   */
+  public void merge(DurationSketch other) {
+    other.buckets.forEach((index, bucketCount) -> buckets.merge(index, bucketCount, Long::sum));
+    zeroCount += other.zeroCount;
+    count += other.count;
+    sumSeconds += other.sumSeconds;
+    minSeconds = Math.min(minSeconds, other.minSeconds);
+    maxSeconds = Math.max(maxSeconds, other.maxSeconds);
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public Duration getAverage() {
+    return count == 0 ? Duration.ZERO : Duration.ofSeconds(sumSeconds / count);
+  }
+
+  public Duration getMax() {
+    return Duration.ofSeconds(maxSeconds);
+  }
+
+  /**
+   * Estima o quantil pelo método do posto mais próximo: a menor duração que cobre a fração pedida
+   * das amostras.
+   *
+   * @param fraction fração entre 0 e 1 (por exemplo, 0.99 para o p99)
+   * @return duração estimada, ou zero se o sketch estiver vazio
+   */
+  public Duration quantile(double fraction) {
+    if (fraction < 0 || fraction > 1) {
+      throw new IllegalArgumentException("Quantile must be between 0 and 1: " + fraction);
+    }
+    if (count == 0) {
+      return Duration.ZERO;
+    }
+
+    long rank = Math.max((long) Math.ceil(fraction * count), 1);
+    if (rank <= zeroCount) {
+      return Duration.ZERO;
+    }
+    if (rank == count) {
+      return getMax();
+    }
+
+    long seen = zeroCount;
+    for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+      seen += bucket.getValue();
+      if (seen >= rank) {
+        // A estimativa nunca sai do intervalo observado
+        long estimate = Math.round(valueOf(bucket.getKey()));
+        return Duration.ofSeconds(Math.min(Math.max(estimate, minSeconds), maxSeconds));
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Serializa o sketch: os totais seguidos dos buckets não vazios, com índices em forma de
+   * diferença e todos os números como varints.
+   *
+   * @return bytes do sketch
+   */
+  public byte[] toBytes() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(32 + buckets.size() * 3);
+    out.write(FORMAT_VERSION);
+    writeVarLong(out, count);
+    writeVarLong(out, zeroCount);
+    writeVarLong(out, sumSeconds);
+    writeVarLong(out, count == 0 ? 0 : minSeconds);
+    writeVarLong(out, maxSeconds);
+    writeVarLong(out, buckets.size());
+
+    int previous = 0;
+    for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+      writeVarLong(out, bucket.getKey() - previous);
+      writeVarLong(out, bucket.getValue());
+      previous = bucket.getKey();
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Reconstrói um sketch serializado por {@link #toBytes()}.
+   *
+   * @param bytes bytes do sketch, ou null para um sketch vazio
+   * @return sketch reconstruído
+   * @throws IllegalArgumentException se os bytes não forem de um sketch
+   */
+  public static DurationSketch fromBytes(byte[] bytes) {
+    DurationSketch sketch = new DurationSketch();
+    if (bytes == null || bytes.length == 0) {
+      return sketch;
+    }
+
+    ByteBuffer in = ByteBuffer.wrap(bytes);
+    if (in.get() != FORMAT_VERSION) {
+      throw new IllegalArgumentException("Unsupported duration sketch format");
+    }
+
+    try {
+      sketch.count = readVarLong(in);
+      sketch.zeroCount = readVarLong(in);
+      sketch.sumSeconds = readVarLong(in);
+      long min = readVarLong(in);
+      sketch.minSeconds = sketch.count == 0 ? Long.MAX_VALUE : min;
+      sketch.maxSeconds = readVarLong(in);
+
+      long size = readVarLong(in);
+      int index = 0;
+      for (long i = 0; i < size; i++) {
+        index += (int) readVarLong(in);
+        sketch.buckets.put(index, readVarLong(in));
+      }
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Malformed duration sketch", e);
+    }
+    return sketch;
+  }
+
+  private static int indexOf(long seconds) {
+    return (int) Math.ceil(Math.log(seconds) / LOG_GAMMA);
+  }
+
+  /** Valor representativo do bucket: erra no máximo RELATIVE_ACCURACY para qualquer valor nele */
+  private static double valueOf(int index) {
+    return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+  }
+
+  private static void writeVarLong(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static long readVarLong(ByteBuffer in) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = in.get();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint");
+  }
+}
@@ -0,0 +1,154 @@
+package br.com.devcoelho.taskboard.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Chaves de ordenação fracionárias em base 36 ("0"-"9", "a"-"z"). A ordem entre itens é a ordem
+ * lexicográfica das chaves, e sempre existe uma chave entre duas outras: mover um item exige
+ * reescrever apenas a chave dele.
+ *
+ * <p>Nenhuma chave termina em "0". Sem essa regra não haveria chave entre "1" e "10".
+ */
+public final class LexoRank {
+
+  private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+  private static final int BASE = DIGITS.length();
+
+  private LexoRank() {}
+
+  /**
+   * Gera uma chave estritamente entre as duas informadas, tão curta quanto possível.
+   *
+   * @param before chave anterior, ou null para gerar antes de todas
+   * @param after chave seguinte, ou null para gerar depois de todas
+   * @return chave entre {@code before} e {@code after}
+   * @throws IllegalArgumentException se alguma chave for inválida ou {@code before} não vier antes
+   *     de {@code after}
+   */
+  public static String between(String before, String after) {
+    String lower = before == null ? "" : requireValid(before);
+    if (after != null && lower.compareTo(requireValid(after)) >= 0) {
+      throw new IllegalArgumentException("Rank " + before + " must come before " + after);
+    }
+
+    StringBuilder rank = new StringBuilder();
+    boolean bounded = after != null;
+    for (int i = 0; ; i++) {
+      int low = i < lower.length() ? DIGITS.indexOf(lower.charAt(i)) : 0;
+      int high = bounded ? DIGITS.indexOf(after.charAt(i)) : BASE;
+
+      if (high - low > 1) {
+        rank.append(DIGITS.charAt((low + high) / 2));
+        return rank.toString();
+      }
+
+      // Dígito seguinte ao limite inferior: a partir daqui qualquer sufixo fica abaixo de "after"
+      rank.append(DIGITS.charAt(low));
+      if (high - low == 1) {
+        bounded = false;
+      }
+    }
+  }
+
+  /**
+   * Gera uma chave antes da informada diminuindo em um o primeiro dígito, em vez de dividir o
+   * intervalo até o início. Inserções repetidas no topo consomem um dígito por vez ("i", "h",
+   * "g"...) e a chave só ganha um caractere a cada {@code BASE - 2} inserções, quando o primeiro
+   * dígito chega a "1"; dividir o intervalo ganharia um caractere a cada poucas inserções. Entre a
+   * chave gerada e a informada sempre resta espaço para outras chaves.
+   *
+   * @param first primeira chave atual, ou null se não houver nenhuma
+   * @return chave anterior a {@code first}
+   * @throws IllegalArgumentException se a chave for inválida
+   */
+  public static String before(String first) {
+    if (first == null) {
+      return between(null, null);
+    }
+
+    int lead = DIGITS.indexOf(requireValid(first).charAt(0));
+    if (lead > 1) {
+      return String.valueOf(DIGITS.charAt(lead - 1));
+    }
+    if (lead == 1) {
+      // "1" ainda vem antes de "1..."; antes de "1" o topo recomeça abaixo dele, com prefixo "0"
+      return first.length() > 1 ? "1" : "0" + DIGITS.charAt(BASE - 2);
+    }
+    return "0" + before(first.substring(1));
+  }
+
+  /**
+   * Gera várias chaves consecutivas entre as duas informadas. Cada chave é o ponto médio de um
+   * intervalo já dividido, então o tamanho das chaves cresce com o logaritmo da quantidade, e não
+   * com ela, como aconteceria gerando uma chave após a outra.
+   *
+   * @param before chave anterior, ou null para gerar antes de todas
+   * @param after chave seguinte, ou null para gerar depois de todas
+   * @param count quantidade de chaves
+   * @return chaves em ordem crescente entre {@code before} e {@code after}
+   * @throws IllegalArgumentException se alguma chave for inválida ou {@code before} não vier antes
+   *     de {@code after}
+   */
+  public static List<String> between(String before, String after, int count) {
+    String[] ranks = new String[count];
+    bisect(ranks, 0, count, before, after);
+    return Arrays.asList(ranks);
+  }
+
+  private static void bisect(String[] ranks, int from, int to, String before, String after) {
+    if (from >= to) {
+      return;
+    }
+    int middle = (from + to) >>> 1;
+    ranks[middle] = between(before, after);
+    bisect(ranks, from, middle, before, ranks[middle]);
+    bisect(ranks, middle + 1, to, ranks[middle], after);
+  }
+
+  /**
+   * Gera chaves de mesmo tamanho distribuídas uniformemente, deixando espaço para inserções entre
+   * quaisquer duas delas. Usado para rebalancear chaves que ficaram longas.
+   *
+   * @param count quantidade de chaves
+   * @return chaves em ordem crescente
+   */
+  public static List<String> evenlySpaced(int count) {
+    int width = 1;
+    long capacity = BASE;
+    while (capacity < 2L * (count + 1)) {
+      width++;
+      capacity *= BASE;
+    }
+
+    // Com passo de pelo menos 2, somar 1 para evitar o "0" final não alcança a chave seguinte
+    long step = capacity / (count + 1);
+    List<String> ranks = new ArrayList<>(count);
+    for (int i = 1; i <= count; i++) {
+      long value = i * step;
+      if (value % BASE == 0) {
+        value++;
+      }
+      ranks.add(format(value, width));
+    }
+    return ranks;
+  }
+
+  private static String format(long value, int width) {
+    String digits = Long.toString(value, BASE);
+    return "0".repeat(width - digits.length()) + digits;
+  }
+
+  private static String requireValid(String rank) {
+    if (rank.isEmpty() || rank.charAt(rank.length() - 1) == '0') {
+      throw new IllegalArgumentException("Invalid rank: " + rank);
+    }
+    for (int i = 0; i < rank.length(); i++) {
+      if (DIGITS.indexOf(rank.charAt(i)) < 0) {
+        throw new IllegalArgumentException("Invalid rank: " + rank);
+      }
+    }
+    return rank;
+  }
+}
@@ -0,0 +1,125 @@
+package br.com.devcoelho.taskboard.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import lombok.Value;
+
+/**
+ * Contador dos itens mais frequentes de um fluxo com memória limitada (algoritmo Space-Saving).
+ * Guarda no máximo {@code capacity} contadores; um item novo, com todos ocupados, assume o contador
+ * do item menos frequente e herda a contagem dele como erro. Assim a contagem de cada item é um
+ * limite superior, e a contagem menos o erro é um limite inferior da frequência real.
+ *
+ * <p>Qualquer item com frequência maior que {@code total / capacity} está entre os contadores. Os
+ * métodos são sincronizados; cada operação custa O(log capacity).
+ *
+ * @param <T> tipo dos itens
+ */
+public final class SpaceSaving<T> {
+
+  /**
+   * Item com sua contagem estimada.
+   *
+   * @param <T> tipo do item
+   */
+  @Value
+  public static class Entry<T> {
+    T item;
+    long count;
+    long error;
+
+    /** Limite inferior da frequência real do item */
+    public long getGuaranteedCount() {
+      return count - error;
+    }
+  }
+
+  private static final class Counter<T> {
+    private final T item;
+    private final long order;
+    private long count;
+    private long error;
+
+    private Counter(T item, long order, long count, long error) {
+      this.item = item;
+      this.order = order;
+      this.count = count;
+      this.error = error;
+    }
+  }
+
+  // Menor contagem primeiro; empates pelo contador mais antigo, que sai antes
+  private final TreeSet<Counter<T>> byCount =
+      new TreeSet<>(
+          Comparator.<Counter<T>>comparingLong(counter -> counter.count)
+              .thenComparingLong(counter -> counter.order));
+  private final Map<T, Counter<T>> counters = new HashMap<>();
+  private final int capacity;
+  private long nextOrder;
+  private long total;
+
+  public SpaceSaving(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * Registra ocorrências de um item.
+   *
+   * @param item item observado
+   * @param occurrences quantidade de ocorrências (positiva)
+   */
+  public synchronized void offer(T item, long occurrences) {
+    if (occurrences < 1) {
+      throw new IllegalArgumentException("Occurrences must be positive: " + occurrences);
+    }
+    total += occurrences;
+
+    Counter<T> counter = counters.get(item);
+    if (counter != null) {
+      byCount.remove(counter);
+      counter.count += occurrences;
+      byCount.add(counter);
+      return;
+    }
+
+    if (counters.size() < capacity) {
+      counter = new Counter<>(item, nextOrder++, occurrences, 0);
+    } else {
+      // O item novo assume o contador do menos frequente
+      Counter<T> evicted = byCount.pollFirst();
+      counters.remove(evicted.item);
+      counter = new Counter<>(item, nextOrder++, evicted.count + occurrences, evicted.count);
+    }
+    counters.put(item, counter);
+    byCount.add(counter);
+  }
+
+  /**
+   * Retorna os itens mais frequentes, da maior para a menor contagem estimada.
+   *
+   * @param limit quantidade máxima de itens
+   * @return itens com contagem e erro
+   */
+  public synchronized List<Entry<T>> top(int limit) {
+    List<Entry<T>> top = new ArrayList<>(Math.min(limit, counters.size()));
+    Iterator<Counter<T>> iterator = byCount.descendingIterator();
+    while (iterator.hasNext() && top.size() < limit) {
+      Counter<T> counter = iterator.next();
+      top.add(new Entry<>(counter.item, counter.count, counter.error));
+    }
+    return top;
+  }
+
+  /** Total de ocorrências registradas */
+  public synchronized long getTotal() {
+    return total;
+  }
+}
@@ -0,0 +1,40 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:007 dbms:mysql
+-- Tabelas de sequência usadas pelo Hibernate (MySQL não possui sequences nativas).
+-- Os IDs são reservados em blocos de 50 (allocationSize das entidades); cada tabela começa
+-- acima do maior ID existente para que os novos blocos não colidam com os dados atuais.
+CREATE TABLE board_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+
+INSERT INTO
+  board_seq (next_val)
+SELECT
+  COALESCE(MAX(id), 0) + 51
+FROM
+  board;
+
+CREATE TABLE board_column_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+
+INSERT INTO
+  board_column_seq (next_val)
+SELECT
+  COALESCE(MAX(id), 0) + 51
+FROM
+  board_column;
+
+CREATE TABLE card_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+
+INSERT INTO
+  card_seq (next_val)
+SELECT
+  COALESCE(MAX(id), 0) + 51
+FROM
+  card;
+
+CREATE TABLE block_seq (next_val BIGINT NOT NULL) ENGINE = InnoDB;
+
+INSERT INTO
+  block_seq (next_val)
+SELECT
+  COALESCE(MAX(id), 0) + 51
+FROM
+  block;
@@ -0,0 +1,5 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:008
+-- Índice para a paginação por cursor dos cards de uma coluna: filtra pela coluna e percorre os
+-- cards já na ordem (created_at, id), sem ordenar em memória
+CREATE INDEX idx_card_column_created ON card (board_column_id, created_at, id);
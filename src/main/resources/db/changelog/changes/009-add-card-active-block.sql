@@ -0,0 +1,22 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:009
+-- Estado de bloqueio desnormalizado no card: id do bloqueio ativo, ou NULL se o card não está
+-- bloqueado. Mantido pela aplicação ao bloquear e desbloquear, evita consultar a tabela block
+-- para saber se um card está bloqueado
+ALTER TABLE card ADD COLUMN active_block_id BIGINT NULL;
+
+-- Preenche o estado dos cards que já possuem um bloqueio ativo
+UPDATE card
+SET
+  active_block_id = (
+    SELECT
+      MAX(b.id)
+    FROM
+      block b
+    WHERE
+      b.card_id = card.id
+      AND b.unblocked_at IS NULL
+  );
+
+-- Contagens e filtros de cards bloqueados por coluna percorrem apenas o índice
+CREATE INDEX idx_card_active_block ON card (board_column_id, active_block_id);
@@ -0,0 +1,9 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:010
+-- Versão para controle de concorrência otimista: toda escrita compara e incrementa a versão, e
+-- a ETag das respostas é derivada dela
+ALTER TABLE board ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE board_column ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE card ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
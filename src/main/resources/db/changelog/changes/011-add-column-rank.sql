@@ -0,0 +1,47 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:011
+-- Ordenação das colunas por chave fracionária (base 36, comparada byte a byte): mover uma coluna
+-- reescreve apenas a chave dela, sem renumerar as demais
+ALTER TABLE board_column
+ADD COLUMN column_rank VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL;
+
+-- Converte a ordem inteira em chaves de mesmo tamanho e mesma ordem. O sufixo 18 ("i") evita
+-- chaves terminadas em "0", que não admitem inserções antes delas
+UPDATE board_column
+SET
+  column_rank = LOWER(LPAD(CONV(`order` * 36 + 18, 10, 36), 6, '0'));
+
+ALTER TABLE board_column
+MODIFY column_rank VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+-- O novo índice também atende à chave estrangeira de board_id antes da remoção da restrição única
+CREATE INDEX idx_board_column_rank ON board_column (board_id, column_rank);
+
+ALTER TABLE board_column
+DROP INDEX uk_board_column_order;
+
+-- A procedure de normalização foi substituída pelo rebalanceamento da aplicação
+DROP PROCEDURE IF EXISTS sp_normalize_column_orders;
+
+CREATE
+OR REPLACE VIEW vw_card_stats_by_column AS
+SELECT
+  bc.board_id,
+  bc.id AS column_id,
+  bc.name AS column_name,
+  bc.kind AS column_kind,
+  COUNT(c.id) AS card_count
+FROM
+  board_column bc
+  LEFT JOIN card c ON bc.id = c.board_column_id
+GROUP BY
+  bc.board_id,
+  bc.id,
+  bc.name,
+  bc.kind
+ORDER BY
+  bc.board_id,
+  MIN(bc.column_rank);
+
+ALTER TABLE board_column
+DROP COLUMN `order`;
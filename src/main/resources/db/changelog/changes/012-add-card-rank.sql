@@ -0,0 +1,31 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:012
+-- Posição dos cards na coluna por chave fracionária (base 36, comparada byte a byte), como nas
+-- colunas: reposicionar um card reescreve apenas a chave dele
+ALTER TABLE card
+ADD COLUMN card_rank VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL;
+
+-- Mantém a ordem em que os cards eram listados (mais recentes primeiro). O sufixo 18 ("i") evita
+-- chaves terminadas em "0", que não admitem inserções antes delas
+UPDATE card c
+JOIN (
+  SELECT
+    id,
+    ROW_NUMBER() OVER (
+      PARTITION BY
+        board_column_id
+      ORDER BY
+        created_at DESC,
+        id DESC
+    ) AS position
+  FROM
+    card
+) ranked ON ranked.id = c.id
+SET
+  c.card_rank = LOWER(LPAD(CONV(ranked.position * 36 + 18, 10, 36), 6, '0'));
+
+ALTER TABLE card
+MODIFY card_rank VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+-- Os cards de uma coluna saem do índice já ordenados, inclusive na paginação por cursor
+CREATE INDEX idx_card_column_rank ON card (board_column_id, card_rank, id);
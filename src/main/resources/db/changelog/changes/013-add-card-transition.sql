@@ -0,0 +1,42 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:013
+-- Histórico das entradas de cards em colunas. A tabela só recebe INSERTs; não há chave estrangeira
+-- para card e coluna, para que o histórico sobreviva à exclusão deles
+CREATE TABLE card_transition (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  card_id BIGINT NOT NULL,
+  board_id BIGINT NOT NULL,
+  from_column_id BIGINT NULL,
+  to_column_id BIGINT NOT NULL,
+  from_entered_at TIMESTAMP NULL,
+  transitioned_at TIMESTAMP NOT NULL
+) ENGINE = InnoDB;
+
+-- Consultas por board e período: saídas de coluna (tempo na coluna) e chegadas a uma coluna
+-- (tempo de ciclo) são leituras de intervalo nesses índices
+CREATE INDEX idx_card_transition_board_time ON card_transition (board_id, transitioned_at);
+
+CREATE INDEX idx_card_transition_board_to_time ON card_transition (
+  board_id,
+  to_column_id,
+  transitioned_at
+);
+
+-- Transições de um card: a mais antiga é a criação, a mais recente é a entrada na coluna atual
+CREATE INDEX idx_card_transition_card_time ON card_transition (card_id, transitioned_at);
+
+ALTER TABLE card_transition
+ADD CONSTRAINT fk_card_transition_board FOREIGN KEY (board_id) REFERENCES board (id) ON DELETE CASCADE;
+
+-- O histórico anterior não é conhecido: cada card existente recebe apenas um registro de criação
+-- na coluna em que está
+INSERT INTO
+  card_transition (card_id, board_id, to_column_id, transitioned_at)
+SELECT
+  c.id,
+  bc.board_id,
+  c.board_column_id,
+  c.created_at
+FROM
+  card c
+  JOIN board_column bc ON bc.id = c.board_column_id;
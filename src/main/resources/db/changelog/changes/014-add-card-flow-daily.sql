@@ -0,0 +1,57 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:014
+-- Rollup diário do diagrama de fluxo cumulativo: quantidade de cards de cada coluna ao fim do dia
+-- (UTC). Só há linhas nos dias em que a coluna mudou; o CFD de um período é uma leitura de
+-- intervalo na chave primária
+CREATE TABLE card_flow_daily (
+  board_id BIGINT NOT NULL,
+  board_column_id BIGINT NOT NULL,
+  flow_date DATE NOT NULL,
+  card_count INT NOT NULL,
+  PRIMARY KEY (board_id, flow_date, board_column_id)
+) ENGINE = InnoDB;
+
+-- Contagem mais recente de uma coluna antes de um dia, lida a cada alteração do rollup
+CREATE INDEX idx_card_flow_daily_column_date ON card_flow_daily (board_column_id, flow_date);
+
+ALTER TABLE card_flow_daily
+ADD CONSTRAINT fk_card_flow_daily_board FOREIGN KEY (board_id) REFERENCES board (id) ON DELETE CASCADE;
+
+-- Preenche o rollup com o histórico de transições dos cards existentes: as entradas e saídas de
+-- cada coluna são somadas por dia e acumuladas em ordem de dia
+INSERT INTO
+  card_flow_daily (board_id, board_column_id, flow_date, card_count)
+SELECT
+  d.board_id,
+  d.column_id,
+  d.flow_date,
+  SUM(SUM(d.delta)) OVER (
+    PARTITION BY d.column_id
+    ORDER BY d.flow_date
+  )
+FROM
+  (
+    SELECT
+      t.board_id,
+      t.to_column_id AS column_id,
+      DATE(t.transitioned_at) AS flow_date,
+      1 AS delta
+    FROM
+      card_transition t
+      JOIN card c ON c.id = t.card_id
+    UNION ALL
+    SELECT
+      t.board_id,
+      t.from_column_id,
+      DATE(t.transitioned_at),
+      -1
+    FROM
+      card_transition t
+      JOIN card c ON c.id = t.card_id
+    WHERE
+      t.from_column_id IS NOT NULL
+  ) d
+GROUP BY
+  d.board_id,
+  d.column_id,
+  d.flow_date;
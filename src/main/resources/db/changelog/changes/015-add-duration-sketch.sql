@@ -0,0 +1,14 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:015
+-- Sketches de quantis por board: uma linha por métrica (BLOCK_DURATION, CYCLE_TIME) com os
+-- buckets serializados. Cada amostra reescreve apenas a linha da métrica, com ela bloqueada
+CREATE TABLE duration_sketch (
+  board_id BIGINT NOT NULL,
+  metric VARCHAR(32) NOT NULL,
+  sketch BLOB NULL,
+  updated_at TIMESTAMP NOT NULL,
+  PRIMARY KEY (board_id, metric)
+) ENGINE = InnoDB;
+
+ALTER TABLE duration_sketch
+ADD CONSTRAINT fk_duration_sketch_board FOREIGN KEY (board_id) REFERENCES board (id) ON DELETE CASCADE;
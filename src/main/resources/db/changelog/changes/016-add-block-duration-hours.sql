@@ -0,0 +1,14 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:016
+-- Duração dos bloqueios encerrados, em horas completas, gravada pela aplicação ao desbloquear.
+-- Bloqueios encerrados longos passam a ser uma leitura de intervalo no índice, sem TIMESTAMPDIFF
+-- por linha
+ALTER TABLE block ADD COLUMN duration_hours BIGINT NULL;
+
+UPDATE block
+SET
+  duration_hours = TIMESTAMPDIFF(HOUR, blocked_at, unblocked_at)
+WHERE
+  unblocked_at IS NOT NULL;
+
+CREATE INDEX idx_block_duration_hours ON block (duration_hours);
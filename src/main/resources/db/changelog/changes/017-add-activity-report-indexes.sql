@@ -0,0 +1,7 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:017
+-- Contagens do relatório de atividade: cards criados no período, por status de bloqueio, e
+-- bloqueios iniciados no período são lidas apenas nos índices
+CREATE INDEX idx_card_created_active_block ON card (created_at, active_block_id);
+
+CREATE INDEX idx_block_blocked_at ON block (blocked_at);
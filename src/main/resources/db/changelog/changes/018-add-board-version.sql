@@ -0,0 +1,12 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:018
+-- Versão dos dados de cada board, avançada no fim de cada transação que altera o board. Chave dos
+-- resultados de relatório em cache; boards sem linha estão na versão zero
+CREATE TABLE board_version (
+  board_id BIGINT NOT NULL,
+  version BIGINT NOT NULL,
+  PRIMARY KEY (board_id)
+) ENGINE = InnoDB;
+
+ALTER TABLE board_version
+ADD CONSTRAINT fk_board_version_board FOREIGN KEY (board_id) REFERENCES board (id) ON DELETE CASCADE;
@@ -0,0 +1,24 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:019
+-- Feed de alterações de cada board: uma linha por entidade alterada em cada versão do board. Os
+-- clientes pedem o que mudou desde a versão que já têm; linhas antigas são compactadas
+CREATE TABLE board_change (
+  board_id BIGINT NOT NULL,
+  version BIGINT NOT NULL,
+  entity_type VARCHAR(16) NOT NULL,
+  entity_id BIGINT NOT NULL,
+  changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (board_id, version, entity_type, entity_id)
+) ENGINE = InnoDB;
+
+-- A compactação apaga por idade, em lotes
+CREATE INDEX idx_board_change_changed_at ON board_change (changed_at);
+
+ALTER TABLE board_change
+ADD CONSTRAINT fk_board_change_board FOREIGN KEY (board_id) REFERENCES board (id) ON DELETE CASCADE;
+
+-- Maior versão já removida do feed: pedidos de alterações anteriores a ela exigem releitura completa
+ALTER TABLE board_version ADD COLUMN compacted_version BIGINT NOT NULL DEFAULT 0;
+
+-- As alterações anteriores a este changeset não estão no feed
+UPDATE board_version SET compacted_version = version;
@@ -0,0 +1,5 @@
+-- Liquibase formatted SQL
+-- changeset author:gabriel-coelho:020
+-- Versão de cada sketch para concorrência otimista: as amostras são somadas após o commit da
+-- operação que as gerou, sem bloquear a linha, e uma gravação concorrente faz a soma ser repetida
+ALTER TABLE duration_sketch ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,150 @@
+package br.com.devcoelho.taskboard.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Carga para comparar os modos de execução das requisições (threads de plataforma ou virtuais).
+ * Cada cliente é uma thread virtual que repete o mesmo GET durante o período medido; ao fim de cada
+ * nível de concorrência são impressos a vazão e os percentis de latência.
+ *
+ * <p>Uso, com a aplicação já rodando no modo a medir:
+ *
+ * <pre>
+ * mvn -q test-compile
+ * java -cp target/test-classes br.com.devcoelho.taskboard.benchmark.ThreadModeBenchmark \
+ *     http://localhost:8080 /api/boards/1 1000,5000,10000 30
+ * </pre>
+ */
+public final class ThreadModeBenchmark {
+
+  private static final Duration WARMUP = Duration.ofSeconds(5);
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+  private ThreadModeBenchmark() {}
+
+  public static void main(String[] args) throws Exception {
+    String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+    String path = args.length > 1 ? args[1] : "/api/boards/1";
+    int[] levels =
+        Arrays.stream((args.length > 2 ? args[2] : "1000,5000,10000").split(","))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    Duration measured = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 30);
+
+    URI uri = URI.create(baseUrl + path);
+    System.out.printf("GET %s, %d s per level%n", uri, measured.toSeconds());
+    System.out.printf(
+        "%8s %12s %10s %10s %10s %8s%n",
+        "clients", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+
+    for (int clients : levels) {
+      Result result = run(uri, clients, measured);
+      System.out.printf(
+          "%8d %12.1f %10.1f %10.1f %10.1f %8d%n",
+          clients,
+          result.throughput(measured),
+          result.percentileMillis(0.50),
+          result.percentileMillis(0.99),
+          result.percentileMillis(1.0),
+          result.errors);
+    }
+  }
+
+  private static Result run(URI uri, int clients, Duration measured) throws InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+    AtomicLong errors = new AtomicLong();
+    List<long[]> latencies = new ArrayList<>();
+    long start = System.nanoTime();
+    long measureFrom = start + WARMUP.toNanos();
+    long measureUntil = measureFrom + measured.toNanos();
+    CountDownLatch finished = new CountDownLatch(clients);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder().executor(executor).build()) {
+      for (int i = 0; i < clients; i++) {
+        LatencyBuffer buffer = new LatencyBuffer();
+        executor.execute(
+            () -> {
+              try {
+                while (System.nanoTime() < measureUntil) {
+                  long sent = System.nanoTime();
+                  try {
+                    HttpResponse<Void> response =
+                        client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                      errors.incrementAndGet();
+                      continue;
+                    }
+                  } catch (Exception e) {
+                    errors.incrementAndGet();
+                    continue;
+                  }
+                  // Só entram as respostas enviadas depois do aquecimento
+                  if (sent >= measureFrom) {
+                    buffer.add(System.nanoTime() - sent);
+                  }
+                }
+              } finally {
+                synchronized (latencies) {
+                  latencies.add(buffer.toArray());
+                }
+                finished.countDown();
+              }
+            });
+      }
+      finished.await();
+    }
+
+    long[] sorted = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+    return new Result(sorted, errors.get());
+  }
+
+  private static final class LatencyBuffer {
+    private long[] values = new long[256];
+    private int size;
+
+    private void add(long value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    private long[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+
+  private static final class Result {
+    private final long[] sortedNanos;
+    private final long errors;
+
+    private Result(long[] sortedNanos, long errors) {
+      this.sortedNanos = sortedNanos;
+      this.errors = errors;
+    }
+
+    private double throughput(Duration measured) {
+      return sortedNanos.length / (double) measured.toSeconds();
+    }
+
+    private double percentileMillis(double fraction) {
+      if (sortedNanos.length == 0) {
+        return 0;
+      }
+      int rank = (int) Math.ceil(fraction * sortedNanos.length);
+      return sortedNanos[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+  }
+}
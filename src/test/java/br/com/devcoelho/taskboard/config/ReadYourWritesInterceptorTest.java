@@ -0,0 +1,101 @@
+package br.com.devcoelho.taskboard.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ReadYourWritesInterceptorTest {
+
+  private static final long WINDOW_MILLIS = 5000;
+
+  private final ReadYourWritesInterceptor interceptor =
+      new ReadYourWritesInterceptor(WINDOW_MILLIS);
+
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @AfterEach
+  void tearDown() {
+    DataSourceRoutingContext.clear();
+  }
+
+  @Test
+  @DisplayName("Deve devolver o instante da escrita no cabeçalho X-Last-Write-At")
+  void shouldReturnLastWriteHeaderOnWrite() {
+    // Arrange
+    long before = System.currentTimeMillis();
+
+    // Act
+    interceptor.preHandle(new MockHttpServletRequest("POST", "/api/cards"), response, null);
+
+    // Assert
+    long lastWrite =
+        Long.parseLong(response.getHeader(ReadYourWritesInterceptor.LAST_WRITE_HEADER));
+    assertTrue(lastWrite >= before && lastWrite <= System.currentTimeMillis());
+    assertFalse(DataSourceRoutingContext.isPrimaryForced());
+  }
+
+  @Test
+  @DisplayName("Deve forçar o primário na leitura de uma escrita dentro da janela")
+  void shouldForcePrimaryWithinWindow() {
+    // Arrange
+    MockHttpServletRequest request = read(System.currentTimeMillis() - WINDOW_MILLIS / 2);
+
+    // Act
+    interceptor.preHandle(request, response, null);
+
+    // Assert
+    assertTrue(DataSourceRoutingContext.isPrimaryForced());
+    assertNull(response.getHeader(ReadYourWritesInterceptor.LAST_WRITE_HEADER));
+  }
+
+  @Test
+  @DisplayName("Deve deixar a leitura na réplica quando a escrita é anterior à janela")
+  void shouldNotForcePrimaryAfterWindow() {
+    // Arrange
+    MockHttpServletRequest request = read(System.currentTimeMillis() - WINDOW_MILLIS - 1000);
+
+    // Act
+    interceptor.preHandle(request, response, null);
+
+    // Assert
+    assertFalse(DataSourceRoutingContext.isPrimaryForced());
+  }
+
+  @Test
+  @DisplayName("Deve forçar o primário quando o cabeçalho é inválido")
+  void shouldForcePrimaryOnInvalidHeader() {
+    // Arrange
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards/1");
+    request.addHeader(ReadYourWritesInterceptor.LAST_WRITE_HEADER, "yesterday");
+
+    // Act
+    interceptor.preHandle(request, response, null);
+
+    // Assert
+    assertTrue(DataSourceRoutingContext.isPrimaryForced());
+  }
+
+  @Test
+  @DisplayName("Deve liberar o primário forçado ao fim da requisição")
+  void shouldClearForcedPrimaryAfterCompletion() {
+    // Arrange
+    MockHttpServletRequest request = read(System.currentTimeMillis());
+    interceptor.preHandle(request, response, null);
+
+    // Act
+    interceptor.afterCompletion(request, response, null, null);
+
+    // Assert
+    assertFalse(DataSourceRoutingContext.isPrimaryForced());
+  }
+
+  private static MockHttpServletRequest read(long lastWriteAt) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards/1");
+    request.addHeader(ReadYourWritesInterceptor.LAST_WRITE_HEADER, String.valueOf(lastWriteAt));
+    return request;
+  }
+}
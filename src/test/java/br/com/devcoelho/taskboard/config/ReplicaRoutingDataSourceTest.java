@@ -0,0 +1,85 @@
+package br.com.devcoelho.taskboard.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Roteamento das transações entre o banco primário e uma réplica, ambos bancos H2 em memória com
+ * nomes diferentes: o nome do banco da conexão mostra para onde a transação foi encaminhada.
+ */
+@SpringJUnitConfig(PersistenceConfig.class)
+@TestPropertySource(
+    locations = "classpath:h2-persistence.properties",
+    properties = "database.replica.urls=jdbc:h2:mem:flowdeck_replica;MODE=MySQL;DB_CLOSE_DELAY=-1")
+public class ReplicaRoutingDataSourceTest {
+
+  private static final String PRIMARY_DATABASE = "FLOWDECK";
+  private static final String REPLICA_DATABASE = "FLOWDECK_REPLICA";
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private TransactionTemplate writeTransaction;
+  private TransactionTemplate readOnlyTransaction;
+
+  @BeforeEach
+  void setUp() {
+    writeTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    DataSourceRoutingContext.clear();
+  }
+
+  @Test
+  @DisplayName("Deve encaminhar a transação somente leitura para a réplica")
+  void shouldRouteReadOnlyTransactionToReplica() {
+    // Act
+    String database = readOnlyTransaction.execute(status -> currentDatabase());
+
+    // Assert
+    assertEquals(REPLICA_DATABASE, database);
+  }
+
+  @Test
+  @DisplayName("Deve encaminhar a transação de escrita para o primário")
+  void shouldRouteWriteTransactionToPrimary() {
+    // Act
+    String database = writeTransaction.execute(status -> currentDatabase());
+
+    // Assert
+    assertEquals(PRIMARY_DATABASE, database);
+  }
+
+  @Test
+  @DisplayName("Deve encaminhar a leitura para o primário quando a requisição força o primário")
+  void shouldRouteReadOnlyTransactionToPrimaryWhenForced() {
+    // Arrange
+    DataSourceRoutingContext.forcePrimary();
+
+    // Act
+    String database = readOnlyTransaction.execute(status -> currentDatabase());
+
+    // Assert
+    assertEquals(PRIMARY_DATABASE, database);
+  }
+
+  private String currentDatabase() {
+    return (String) entityManager.createNativeQuery("SELECT DATABASE()").getSingleResult();
+  }
+}
@@ -0,0 +1,142 @@
+package br.com.devcoelho.taskboard.dao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.devcoelho.taskboard.config.PersistenceConfig;
+import br.com.devcoelho.taskboard.dao.impl.BoardChangeDAOImpl;
+import br.com.devcoelho.taskboard.dao.impl.BoardVersionDAOImpl;
+import br.com.devcoelho.taskboard.event.BoardChangedEvent;
+import br.com.devcoelho.taskboard.event.BoardEvent;
+import br.com.devcoelho.taskboard.model.ChangeFeedEntity;
+import br.com.devcoelho.taskboard.service.BoardVersionService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Feed de alterações gravado pelo BoardVersionService no commit, em tabelas reais no H2. */
+@SpringJUnitConfig({
+  PersistenceConfig.class,
+  BoardChangeDAOImpl.class,
+  BoardVersionDAOImpl.class,
+  BoardChangeDAOTest.VersionServiceConfig.class
+})
+@TestPropertySource(locations = "classpath:h2-persistence.properties")
+public class BoardChangeDAOTest {
+
+  @Configuration
+  static class VersionServiceConfig {
+
+    @Bean
+    BoardVersionService boardVersionService(
+        BoardVersionDAO boardVersionDAO,
+        BoardChangeDAO boardChangeDAO,
+        PlatformTransactionManager transactionManager) {
+      return new BoardVersionService(
+          boardVersionDAO, boardChangeDAO, transactionManager, Duration.ofMinutes(1));
+    }
+  }
+
+  @Autowired private BoardChangeDAO boardChangeDAO;
+
+  @Autowired private BoardVersionDAO boardVersionDAO;
+
+  @Autowired private ApplicationEventPublisher eventPublisher;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private TransactionTemplate transaction;
+
+  @BeforeEach
+  void setUp() {
+    transaction = new TransactionTemplate(transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    transaction.executeWithoutResult(
+        status -> {
+          entityManager.createNativeQuery("DELETE FROM board_change").executeUpdate();
+          entityManager.createNativeQuery("DELETE FROM board_version").executeUpdate();
+        });
+  }
+
+  @Test
+  @DisplayName("Deve avançar a versão e registrar as entidades alteradas no commit")
+  void shouldRecordChangesBeforeCommit() {
+    // Act
+    publish(BoardChangedEvent.ofCards(1L, List.of(10L, 11L, 10L)));
+    publish(BoardChangedEvent.ofColumns(1L, List.of(20L)));
+
+    // Assert
+    assertEquals(2L, read(() -> boardVersionDAO.findVersion(1L)));
+    Map<ChangeFeedEntity, List<Long>> all = read(() -> boardChangeDAO.findChangedSince(1L, 0, 2));
+    assertEquals(Set.of(10L, 11L), Set.copyOf(all.get(ChangeFeedEntity.CARD)));
+    assertEquals(List.of(20L), all.get(ChangeFeedEntity.COLUMN));
+    assertEquals(
+        Map.of(ChangeFeedEntity.COLUMN, List.of(20L)),
+        read(() -> boardChangeDAO.findChangedSince(1L, 1, 2)));
+  }
+
+  @Test
+  @DisplayName("Deve compactar o feed anterior ao corte sem recuar a versão compactada")
+  void shouldCompactChangesBeforeCutoff() {
+    // Arrange - as duas primeiras versões do board 1 são anteriores ao corte
+    publish(BoardChangedEvent.ofCards(1L, List.of(10L)));
+    publish(BoardChangedEvent.ofCards(1L, List.of(11L)));
+    publish(BoardChangedEvent.ofCards(1L, List.of(12L)));
+    publish(BoardChangedEvent.ofBoard(2L));
+    OffsetDateTime cutoff = OffsetDateTime.now().minusHours(1);
+    transaction.executeWithoutResult(
+        status ->
+            entityManager
+                .createNativeQuery(
+                    "UPDATE board_change SET changed_at = :past"
+                        + " WHERE board_id = 1 AND version <= 2")
+                .setParameter("past", cutoff.minusDays(1))
+                .executeUpdate());
+
+    // Act
+    int compacted = transaction.execute(status -> boardChangeDAO.markCompacted(cutoff));
+    int firstBatch = transaction.execute(status -> boardChangeDAO.deleteBefore(cutoff, 1));
+    int secondBatch = transaction.execute(status -> boardChangeDAO.deleteBefore(cutoff, 10));
+    int again = transaction.execute(status -> boardChangeDAO.markCompacted(cutoff));
+
+    // Assert
+    assertEquals(1, compacted);
+    assertEquals(1, firstBatch);
+    assertEquals(1, secondBatch);
+    assertEquals(0, again);
+    assertEquals(2L, read(() -> boardVersionDAO.findCompactedVersion(1L)));
+    assertEquals(0L, read(() -> boardVersionDAO.findCompactedVersion(2L)));
+    assertEquals(
+        Map.of(ChangeFeedEntity.CARD, List.of(12L)),
+        read(() -> boardChangeDAO.findChangedSince(1L, 0, 3)));
+  }
+
+  private void publish(BoardEvent event) {
+    transaction.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+  }
+
+  private <T> T read(Supplier<T> query) {
+    return transaction.execute(status -> query.get());
+  }
+}
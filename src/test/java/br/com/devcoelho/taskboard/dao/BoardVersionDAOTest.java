@@ -0,0 +1,132 @@
+package br.com.devcoelho.taskboard.dao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.devcoelho.taskboard.config.PersistenceConfig;
+import br.com.devcoelho.taskboard.dao.impl.BoardChangeDAOImpl;
+import br.com.devcoelho.taskboard.dao.impl.BoardVersionDAOImpl;
+import br.com.devcoelho.taskboard.event.BoardChangedEvent;
+import br.com.devcoelho.taskboard.model.Board;
+import br.com.devcoelho.taskboard.service.BoardVersionService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Versão dos boards lida pelas requisições condicionais, em tabelas reais no H2. */
+@SpringJUnitConfig({
+  PersistenceConfig.class,
+  BoardChangeDAOImpl.class,
+  BoardVersionDAOImpl.class,
+  BoardVersionDAOTest.VersionServiceConfig.class
+})
+@TestPropertySource(locations = "classpath:h2-persistence.properties")
+public class BoardVersionDAOTest {
+
+  @Configuration
+  static class VersionServiceConfig {
+
+    @Bean
+    BoardVersionService boardVersionService(
+        BoardVersionDAO boardVersionDAO,
+        BoardChangeDAO boardChangeDAO,
+        PlatformTransactionManager transactionManager) {
+      return new BoardVersionService(
+          boardVersionDAO, boardChangeDAO, transactionManager, Duration.ofMinutes(1));
+    }
+  }
+
+  @Autowired private BoardVersionDAO boardVersionDAO;
+
+  @Autowired private BoardVersionService boardVersionService;
+
+  @Autowired private ApplicationEventPublisher eventPublisher;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private TransactionTemplate transaction;
+  private Long boardId;
+
+  @BeforeEach
+  void setUp() {
+    transaction = new TransactionTemplate(transactionManager);
+    boardId =
+        transaction.execute(
+            status -> {
+              Board board = Board.builder().name("Sprint").build();
+              entityManager.persist(board);
+              return board.getId();
+            });
+  }
+
+  @AfterEach
+  void tearDown() {
+    transaction.executeWithoutResult(
+        status -> {
+          entityManager.createNativeQuery("DELETE FROM board_change").executeUpdate();
+          entityManager.createNativeQuery("DELETE FROM board_version").executeUpdate();
+          entityManager.createQuery("DELETE FROM Board").executeUpdate();
+        });
+  }
+
+  @Test
+  @DisplayName("Deve devolver versão zero para um board nunca alterado e vazio para um inexistente")
+  void shouldFindVersionOnlyForExistingBoard() {
+    // Act
+    Optional<Long> existing =
+        transaction.execute(status -> boardVersionDAO.findVersionIfBoardExists(boardId));
+    Optional<Long> missing =
+        transaction.execute(status -> boardVersionDAO.findVersionIfBoardExists(boardId + 1000));
+
+    // Assert
+    assertEquals(Optional.of(0L), existing);
+    assertTrue(missing.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve ler a versão das alterações gravadas na tabela de versões")
+  void shouldFindIncrementedVersion() {
+    // Arrange
+    transaction.executeWithoutResult(status -> boardVersionDAO.increment(boardId));
+    long incremented = transaction.execute(status -> boardVersionDAO.increment(boardId));
+
+    // Act
+    Optional<Long> version =
+        transaction.execute(status -> boardVersionDAO.findVersionIfBoardExists(boardId));
+
+    // Assert
+    assertEquals(2L, incremented);
+    assertEquals(Optional.of(2L), version);
+  }
+
+  @Test
+  @DisplayName("Deve servir pelo cache a versão lida das tabelas e atualizá-la no commit")
+  void shouldCacheVersionReadFromTables() {
+    // Arrange
+    assertEquals(Optional.of(0L), boardVersionService.cachedVersion(boardId));
+    assertTrue(boardVersionService.cachedVersion(boardId + 1000).isEmpty());
+
+    // Act
+    transaction.executeWithoutResult(
+        status -> eventPublisher.publishEvent(BoardChangedEvent.ofBoard(boardId)));
+
+    // Assert - a versão vem do cache, atualizado no commit, mesmo sem a linha na tabela
+    transaction.executeWithoutResult(
+        status -> entityManager.createNativeQuery("DELETE FROM board_version").executeUpdate());
+    assertEquals(Optional.of(1L), boardVersionService.cachedVersion(boardId));
+  }
+}
@@ -0,0 +1,174 @@
+package br.com.devcoelho.taskboard.dao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.devcoelho.taskboard.config.PersistenceConfig;
+import br.com.devcoelho.taskboard.dao.impl.CardDAOImpl;
+import br.com.devcoelho.taskboard.dao.impl.CardFlowDAOImpl;
+import br.com.devcoelho.taskboard.dao.impl.CardTransitionDAOImpl;
+import br.com.devcoelho.taskboard.dto.DailyColumnCount;
+import br.com.devcoelho.taskboard.dto.DurationSample;
+import br.com.devcoelho.taskboard.model.Board;
+import br.com.devcoelho.taskboard.model.BoardColumn;
+import br.com.devcoelho.taskboard.model.BoardColumnKind;
+import br.com.devcoelho.taskboard.model.Card;
+import br.com.devcoelho.taskboard.model.CardTransition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Movimentação de um card como o CardService a executa, em tabelas reais no H2. */
+@SpringJUnitConfig({
+  PersistenceConfig.class,
+  CardDAOImpl.class,
+  CardTransitionDAOImpl.class,
+  CardFlowDAOImpl.class
+})
+@TestPropertySource(locations = "classpath:h2-persistence.properties")
+@Transactional
+public class CardTransitionDAOTest {
+
+  private static final OffsetDateTime CREATED_AT = OffsetDateTime.parse("2024-03-10T10:00:00Z");
+
+  @Autowired private CardDAO cardDAO;
+
+  @Autowired private CardTransitionDAO cardTransitionDAO;
+
+  @Autowired private CardFlowDAO cardFlowDAO;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private Board board;
+  private BoardColumn initial;
+  private BoardColumn doing;
+  private BoardColumn done;
+  private Card card;
+
+  @BeforeEach
+  void setUp() {
+    board = Board.builder().name("Sprint").build();
+    entityManager.persist(board);
+    initial = column("To Do", "a", BoardColumnKind.INITIAL);
+    doing = column("Doing", "m", BoardColumnKind.PENDING);
+    done = column("Done", "t", BoardColumnKind.FINAL);
+
+    card =
+        Card.builder().title("Card").rank("m").boardColumn(initial).createdAt(CREATED_AT).build();
+    entityManager.persist(card);
+    cardTransitionDAO.recordCreated(List.of(card.getId()), CREATED_AT);
+    cardFlowDAO.recordAdded(initial.getId(), 1, CREATED_AT);
+  }
+
+  @Test
+  @DisplayName("Deve gravar uma transição por movimentação mesmo com transições no mesmo instante")
+  void shouldRecordOneTransitionPerMoveWithinTheSameInstant() {
+    // Act - duas movimentações no instante da criação
+    move(doing, CREATED_AT);
+    move(done, CREATED_AT);
+
+    // Assert - a origem de cada uma é a transição de maior id
+    List<CardTransition> transitions = transitions();
+    assertEquals(3, transitions.size());
+    assertEquals(initial.getId(), transitions.get(1).getFromColumnId());
+    assertEquals(doing.getId(), transitions.get(1).getToColumnId());
+    assertEquals(doing.getId(), transitions.get(2).getFromColumnId());
+    assertEquals(done.getId(), transitions.get(2).getToColumnId());
+  }
+
+  @Test
+  @DisplayName("Deve ler a origem e a entrada nela da transição mais recente")
+  void shouldTakeSourceFromLatestTransition() {
+    // Act
+    move(doing, CREATED_AT.plusHours(2));
+    move(done, CREATED_AT.plusHours(5));
+
+    // Assert
+    CardTransition last = transitions().get(2);
+    assertEquals(doing.getId(), last.getFromColumnId());
+    assertEquals(CREATED_AT.plusHours(2).toInstant(), last.getFromEnteredAt().toInstant());
+  }
+
+  @Test
+  @DisplayName("Não deve gravar transição para a coluna em que o card já está")
+  void shouldNotRecordMoveToCurrentColumn() {
+    // Act
+    int recorded = cardTransitionDAO.recordMove(card.getId(), initial.getId(), CREATED_AT);
+
+    // Assert
+    assertEquals(0, recorded);
+    assertEquals(1, transitions().size());
+  }
+
+  @Test
+  @DisplayName("Deve medir o tempo de ciclo só na chegada à coluna final")
+  void shouldMeasureCycleTimeOnlyOnFinalColumn() {
+    // Act
+    Optional<DurationSample> toDoing =
+        cardTransitionDAO.findCycleTimeOnArrival(
+            card.getId(), doing.getId(), CREATED_AT.plusHours(2));
+    Optional<DurationSample> toDone =
+        cardTransitionDAO.findCycleTimeOnArrival(
+            card.getId(), done.getId(), CREATED_AT.plusHours(30));
+
+    // Assert
+    assertTrue(toDoing.isEmpty());
+    assertEquals(board.getId(), toDone.orElseThrow().getBoardId());
+    assertEquals(Duration.ofHours(30), toDone.orElseThrow().getDuration());
+  }
+
+  @Test
+  @DisplayName("Deve transferir o card entre as contagens do dia a partir da transição gravada")
+  void shouldMoveCardBetweenDailyCounts() {
+    // Act
+    move(doing, CREATED_AT.plusHours(1));
+
+    // Assert
+    LocalDate day = CREATED_AT.toLocalDate();
+    List<DailyColumnCount> counts = cardFlowDAO.findRange(board.getId(), day, day);
+    assertEquals(2, counts.size());
+    assertEquals(0, count(counts, initial));
+    assertEquals(1, count(counts, doing));
+  }
+
+  /** Mesma sequência do CardService.move: o UPDATE condicional e depois o histórico */
+  private void move(BoardColumn target, OffsetDateTime at) {
+    assertEquals(1, cardDAO.moveIfAllowed(card.getId(), target.getId(), "m", null, at));
+    assertEquals(1, cardTransitionDAO.recordMove(card.getId(), target.getId(), at));
+    cardFlowDAO.recordMove(card.getId(), at);
+  }
+
+  private BoardColumn column(String name, String rank, BoardColumnKind kind) {
+    BoardColumn column =
+        BoardColumn.builder().name(name).rank(rank).kind(kind).board(board).build();
+    entityManager.persist(column);
+    return column;
+  }
+
+  private List<CardTransition> transitions() {
+    return entityManager
+        .createQuery(
+            "SELECT t FROM CardTransition t WHERE t.cardId = :cardId ORDER BY t.id",
+            CardTransition.class)
+        .setParameter("cardId", card.getId())
+        .getResultList();
+  }
+
+  private static int count(List<DailyColumnCount> counts, BoardColumn column) {
+    return counts.stream()
+        .filter(count -> count.getColumnId().equals(column.getId()))
+        .findFirst()
+        .orElseThrow()
+        .getCardCount();
+  }
+}
@@ -0,0 +1,134 @@
+package br.com.devcoelho.taskboard.dao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.devcoelho.taskboard.config.PersistenceConfig;
+import br.com.devcoelho.taskboard.dao.impl.DurationSketchDAOImpl;
+import br.com.devcoelho.taskboard.model.DurationMetric;
+import br.com.devcoelho.taskboard.model.DurationSketchEntry;
+import br.com.devcoelho.taskboard.util.DurationSketch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringJUnitConfig({PersistenceConfig.class, DurationSketchDAOImpl.class})
+@TestPropertySource(locations = "classpath:h2-persistence.properties")
+public class DurationSketchDAOTest {
+
+  @Autowired private DurationSketchDAO durationSketchDAO;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private TransactionTemplate transaction;
+  private TransactionTemplate concurrentTransaction;
+
+  @BeforeEach
+  void setUp() {
+    transaction = new TransactionTemplate(transactionManager);
+    concurrentTransaction = new TransactionTemplate(transactionManager);
+    concurrentTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @AfterEach
+  void tearDown() {
+    transaction.executeWithoutResult(
+        status -> entityManager.createQuery("DELETE FROM DurationSketchEntry").executeUpdate());
+  }
+
+  @Test
+  @DisplayName("Deve criar a linha do sketch e somar amostras a ela")
+  void shouldCreateAndUpdateSketch() {
+    // Act
+    transaction.executeWithoutResult(status -> addSample(1L, Duration.ofHours(2)));
+    transaction.executeWithoutResult(status -> addSample(1L, Duration.ofHours(4)));
+
+    // Assert
+    Map<DurationMetric, DurationSketch> sketches =
+        transaction.execute(status -> durationSketchDAO.findByBoardId(1L));
+    assertEquals(1, sketches.size());
+    assertEquals(2, sketches.get(DurationMetric.CYCLE_TIME).getCount());
+    DurationSketchEntry entry =
+        transaction.execute(
+            status -> durationSketchDAO.find(1L, DurationMetric.CYCLE_TIME).orElseThrow());
+    assertEquals(1L, entry.getVersion());
+  }
+
+  @Test
+  @DisplayName("Deve recusar a gravação de um sketch alterado depois da leitura")
+  void shouldRejectStaleSketch() {
+    // Arrange
+    transaction.executeWithoutResult(status -> addSample(1L, Duration.ofHours(2)));
+
+    // Act & Assert - outra transação soma uma amostra entre a leitura e a gravação
+    assertThrows(
+        OptimisticLockingFailureException.class,
+        () ->
+            transaction.executeWithoutResult(
+                status -> {
+                  DurationSketchEntry entry =
+                      durationSketchDAO.find(1L, DurationMetric.CYCLE_TIME).orElseThrow();
+                  concurrentTransaction.executeWithoutResult(
+                      concurrent -> addSample(1L, Duration.ofHours(3)));
+                  write(entry, Duration.ofHours(4));
+                }));
+
+    Map<DurationMetric, DurationSketch> sketches =
+        transaction.execute(status -> durationSketchDAO.findByBoardId(1L));
+    assertEquals(2, sketches.get(DurationMetric.CYCLE_TIME).getCount());
+  }
+
+  @Test
+  @DisplayName("Deve tratar como conflito a criação concorrente do mesmo sketch")
+  void shouldRejectConcurrentCreation() {
+    // Act & Assert - as duas transações não encontram a linha e tentam criá-la
+    assertThrows(
+        OptimisticLockingFailureException.class,
+        () ->
+            transaction.executeWithoutResult(
+                status -> {
+                  assertTrue(durationSketchDAO.find(1L, DurationMetric.CYCLE_TIME).isEmpty());
+                  concurrentTransaction.executeWithoutResult(
+                      concurrent -> addSample(1L, Duration.ofHours(3)));
+                  write(newEntry(1L), Duration.ofHours(4));
+                }));
+
+    Map<DurationMetric, DurationSketch> sketches =
+        transaction.execute(status -> durationSketchDAO.findByBoardId(1L));
+    assertEquals(1, sketches.get(DurationMetric.CYCLE_TIME).getCount());
+  }
+
+  private void addSample(Long boardId, Duration duration) {
+    DurationSketchEntry entry =
+        durationSketchDAO
+            .find(boardId, DurationMetric.CYCLE_TIME)
+            .orElseGet(() -> newEntry(boardId));
+    write(entry, duration);
+  }
+
+  private void write(DurationSketchEntry entry, Duration duration) {
+    DurationSketch sketch = DurationSketch.fromBytes(entry.getSketch());
+    sketch.add(duration);
+    entry.setSketch(sketch.toBytes());
+    entry.setUpdatedAt(OffsetDateTime.now());
+    durationSketchDAO.save(entry);
+  }
+
+  private static DurationSketchEntry newEntry(Long boardId) {
+    return DurationSketchEntry.builder().boardId(boardId).metric(DurationMetric.CYCLE_TIME).build();
+  }
+}
@@ -0,0 +1,145 @@
+package br.com.devcoelho.taskboard.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.devcoelho.taskboard.config.PersistenceConfig;
+import br.com.devcoelho.taskboard.model.Board;
+import br.com.devcoelho.taskboard.model.BoardColumn;
+import br.com.devcoelho.taskboard.model.BoardColumnKind;
+import br.com.devcoelho.taskboard.model.Card;
+import br.com.devcoelho.taskboard.util.LexoRank;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Round-trips da criação de um board e de 100 cards em lote, no H2, com os IDs das sequences
+ * pooled. Os statements preparados vêm das estatísticas do Hibernate e os batches JDBC dos eventos
+ * da sessão, a mesma fonte do log de {@code hibernate.session.events.log}.
+ */
+@SpringJUnitConfig(PersistenceConfig.class)
+@TestPropertySource(locations = "classpath:h2-persistence.properties")
+public class BatchInsertStatisticsTest {
+
+  private static final int CARD_COUNT = 100;
+
+  @Autowired private BoardRepository boardRepository;
+
+  @Autowired private BoardColumnRepository boardColumnRepository;
+
+  @Autowired private CardRepository cardRepository;
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @AfterEach
+  void tearDown() {
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status -> {
+              entityManager.createQuery("DELETE FROM Card").executeUpdate();
+              entityManager.createQuery("DELETE FROM BoardColumn").executeUpdate();
+              entityManager.createQuery("DELETE FROM Board").executeUpdate();
+            });
+  }
+
+  @Test
+  @DisplayName("Deve criar o board e 100 cards com os INSERTs agrupados em batches JDBC")
+  void shouldInsertBoardAndCardsInBatches() {
+    // Arrange
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    BatchCounter boardBatches = new BatchCounter();
+    BatchCounter cardBatches = new BatchCounter();
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+    // Act - uma transação para o board, como o BoardService, e outra para os cards, como o
+    // CardService.createAll
+    statistics.clear();
+    BoardColumn initial = transaction.execute(status -> createBoard(boardBatches));
+    long boardStatements = statistics.getPrepareStatementCount();
+
+    statistics.clear();
+    transaction.executeWithoutResult(status -> createCards(initial, cardBatches));
+    long cardStatements = statistics.getPrepareStatementCount();
+
+    System.out.printf(
+        "board + 5 columns: %d prepared statements, %d JDBC batches%n",
+        boardStatements, boardBatches.count);
+    System.out.printf(
+        "%d cards: %d prepared statements, %d JDBC batches%n",
+        CARD_COUNT, cardStatements, cardBatches.count);
+
+    // Assert - um batch por tabela e por 50 linhas; os demais statements leem as sequences, uma
+    // vez a cada 50 IDs. Com IDENTITY seriam 6 e 100 INSERTs
+    assertEquals(CARD_COUNT, cardRepository.count());
+    assertEquals(2, boardBatches.count);
+    assertEquals(2, cardBatches.count);
+    assertTrue(boardStatements <= 5, "board statements: " + boardStatements);
+    assertTrue(cardStatements <= 4, "card statements: " + cardStatements);
+  }
+
+  private BoardColumn createBoard(BatchCounter batches) {
+    entityManager.unwrap(Session.class).addEventListeners(batches);
+
+    Board board = boardRepository.save(Board.builder().name("Sprint").build());
+    List<String> ranks = LexoRank.evenlySpaced(5);
+    BoardColumnKind[] kinds = {
+      BoardColumnKind.INITIAL,
+      BoardColumnKind.PENDING,
+      BoardColumnKind.PENDING,
+      BoardColumnKind.FINAL,
+      BoardColumnKind.CANCEL
+    };
+    List<BoardColumn> columns = new ArrayList<>();
+    for (int i = 0; i < kinds.length; i++) {
+      columns.add(
+          BoardColumn.builder()
+              .name("Column " + i)
+              .board(board)
+              .rank(ranks.get(i))
+              .kind(kinds[i])
+              .build());
+    }
+    boardColumnRepository.saveAll(columns);
+    entityManager.flush();
+    return columns.get(0);
+  }
+
+  private void createCards(BoardColumn column, BatchCounter batches) {
+    entityManager.unwrap(Session.class).addEventListeners(batches);
+
+    List<String> ranks = LexoRank.evenlySpaced(CARD_COUNT);
+    List<Card> cards = new ArrayList<>(CARD_COUNT);
+    for (int i = 0; i < CARD_COUNT; i++) {
+      cards.add(Card.builder().title("Card " + i).boardColumn(column).rank(ranks.get(i)).build());
+    }
+    cardRepository.saveAll(cards);
+    entityManager.flush();
+  }
+
+  private static final class BatchCounter extends BaseSessionEventListener {
+    private int count;
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+      count++;
+    }
+  }
+}
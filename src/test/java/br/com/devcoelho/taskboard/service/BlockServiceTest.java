@@ -4,14 +4,20 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import br.com.devcoelho.taskboard.dao.BlockDAO;
+import br.com.devcoelho.taskboard.event.CardBlockedEvent;
+import br.com.devcoelho.taskboard.event.CardUnblockedEvent;
 import br.com.devcoelho.taskboard.exception.CardAlreadyBlockedException;
 import br.com.devcoelho.taskboard.exception.CardNotBlockedException;
 import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
 import br.com.devcoelho.taskboard.model.Block;
+import br.com.devcoelho.taskboard.model.Board;
+import br.com.devcoelho.taskboard.model.BoardColumn;
 import br.com.devcoelho.taskboard.model.Card;
 import br.com.devcoelho.taskboard.repository.BlockRepository;
 import br.com.devcoelho.taskboard.repository.CardRepository;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -25,6 +31,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class BlockServiceTest {
@@ -35,6 +42,18 @@ public class BlockServiceTest {
     @Mock
     private CardRepository cardRepository;
 
+    @Mock
+    private DurationSketchService durationSketchService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BlockDAO blockDAO;
+
+    @Mock
+    private ActiveBlockRegistry activeBlockRegistry;
+
     @InjectMocks
     private BlockService blockService;
 
@@ -49,6 +68,13 @@ public class BlockServiceTest {
         testCard.setId(1L);
         testCard.setTitle("Test Card");
 
+        // O card fica em uma coluna do board 5
+        Board board = new Board();
+        board.setId(5L);
+        BoardColumn column = new BoardColumn();
+        column.setBoard(board);
+        testCard.setBoardColumn(column);
+
         // Configuração do bloco ativo (não resolvido)
         testBlock = new Block();
         testBlock.setId(1L);
@@ -124,27 +150,27 @@ public class BlockServiceTest {
     @DisplayName("Deve verificar corretamente se um card está bloqueado")
     void shouldCheckIfCardIsBlocked() {
         // Arrange - Card com bloqueio ativo
-        when(blockRepository.findActiveBlockByCardId(1L)).thenReturn(Optional.of(testBlock));
+        when(cardRepository.findActiveBlockIdById(1L)).thenReturn(Optional.of(1L));
 
         // Act & Assert
         assertTrue(blockService.isCardBlocked(1L));
 
         // Arrange - Card sem bloqueio ativo
-        when(blockRepository.findActiveBlockByCardId(2L)).thenReturn(Optional.empty());
+        when(cardRepository.findActiveBlockIdById(2L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertFalse(blockService.isCardBlocked(2L));
 
-        // Verify
-        verify(blockRepository).findActiveBlockByCardId(1L);
-        verify(blockRepository).findActiveBlockByCardId(2L);
+        // Verify - a resposta vem do card, sem consultar a tabela de bloqueios
+        verify(cardRepository).findActiveBlockIdById(1L);
+        verify(cardRepository).findActiveBlockIdById(2L);
+        verifyNoInteractions(blockRepository);
     }
 
     @Test
     @DisplayName("Deve bloquear um card com sucesso")
     void shouldBlockCardSuccessfully() {
         // Arrange
-        when(blockRepository.findActiveBlockByCardId(1L)).thenReturn(Optional.empty());
         when(cardRepository.findById(1L)).thenReturn(Optional.of(testCard));
         when(blockRepository.save(any(Block.class))).thenReturn(testBlock);
 
@@ -156,8 +182,7 @@ public class BlockServiceTest {
         assertEquals(1L, result.getId());
         assertEquals("Test block reason", result.getBlockReason());
 
-        // Verify
-        verify(blockRepository).findActiveBlockByCardId(1L);
+        // Verify - o card carregado já informa que não há bloqueio ativo
         verify(cardRepository).findById(1L);
 
         // Capturar o objeto Block enviado para save() e verificar os valores
@@ -169,13 +194,25 @@ public class BlockServiceTest {
         assertEquals("Test block reason", capturedBlock.getBlockReason());
         assertNotNull(capturedBlock.getBlockedAt());
         assertNull(capturedBlock.getUnblockedAt());
+
+        // O card passa a apontar para o bloqueio ativo
+        assertEquals(1L, testCard.getActiveBlockId());
+        assertTrue(testCard.isBlocked());
+
+        // O bloqueio é publicado com o board do card
+        ArgumentCaptor<CardBlockedEvent> eventCaptor =
+            ArgumentCaptor.forClass(CardBlockedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(5L, eventCaptor.getValue().getBoardId());
+        assertEquals("Test block reason", eventCaptor.getValue().getReason());
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao tentar bloquear um card já bloqueado")
     void shouldThrowExceptionWhenBlockingAlreadyBlockedCard() {
         // Arrange
-        when(blockRepository.findActiveBlockByCardId(1L)).thenReturn(Optional.of(testBlock));
+        testCard.setActiveBlockId(testBlock.getId());
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(testCard));
 
         // Act & Assert
         CardAlreadyBlockedException exception = assertThrows(
@@ -185,16 +222,15 @@ public class BlockServiceTest {
 
         // Verify
         assertEquals("The card (ID: 1) is already blocked. Operation can't be done", exception.getMessage());
-        verify(blockRepository).findActiveBlockByCardId(1L);
-        verify(cardRepository, never()).findById(any());
+        verify(cardRepository).findById(1L);
         verify(blockRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao tentar bloquear um card inexistente")
     void shouldThrowExceptionWhenBlockingNonExistentCard() {
         // Arrange
-        when(blockRepository.findActiveBlockByCardId(99L)).thenReturn(Optional.empty());
         when(cardRepository.findById(99L)).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -205,7 +241,6 @@ public class BlockServiceTest {
 
         // Verify
         assertEquals("Card not found with ID: 99", exception.getMessage());
-        verify(blockRepository).findActiveBlockByCardId(99L);
         verify(cardRepository).findById(99L);
         verify(blockRepository, never()).save(any());
     }
@@ -214,7 +249,9 @@ public class BlockServiceTest {
     @DisplayName("Deve desbloquear um card com sucesso")
     void shouldUnblockCardSuccessfully() {
         // Arrange
-        when(blockRepository.findActiveBlockByCardId(1L)).thenReturn(Optional.of(testBlock));
+        testCard.setActiveBlockId(testBlock.getId());
+        when(cardRepository.findActiveBlockIdById(1L)).thenReturn(Optional.of(1L));
+        when(blockRepository.findById(1L)).thenReturn(Optional.of(testBlock));
         when(blockRepository.save(any(Block.class))).thenReturn(testBlock);
 
         // Act
@@ -231,8 +268,24 @@ public class BlockServiceTest {
         assertEquals("Unblock reason", capturedBlock.getUnblockReason());
         assertNotNull(capturedBlock.getUnblockedAt());
 
-        // Verify
-        verify(blockRepository).findActiveBlockByCardId(1L);
+        // O card deixa de ter bloqueio ativo
+        assertNull(testCard.getActiveBlockId());
+        assertFalse(testCard.isBlocked());
+
+        // A duração do bloqueio é gravada em horas e entra no sketch do board
+        Duration blockDuration =
+            Duration.between(capturedBlock.getBlockedAt(), capturedBlock.getUnblockedAt());
+        assertEquals(24L, capturedBlock.getDurationHours());
+        verify(durationSketchService).recordBlockDuration(5L, blockDuration);
+
+        // O desbloqueio é publicado para o registro de bloqueios ativos
+        ArgumentCaptor<CardUnblockedEvent> eventCaptor =
+            ArgumentCaptor.forClass(CardUnblockedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(1L, eventCaptor.getValue().getBlockId());
+
+        // Verify - o bloqueio é buscado pelo id gravado no card, sem percorrer os bloqueios dele
+        verify(blockRepository).findById(1L);
         verify(blockRepository).save(any(Block.class));
     }
 
@@ -240,7 +293,7 @@ public class BlockServiceTest {
     @DisplayName("Deve lançar exceção ao tentar desbloquear um card não bloqueado")
     void shouldThrowExceptionWhenUnblockingNonBlockedCard() {
         // Arrange
-        when(blockRepository.findActiveBlockByCardId(1L)).thenReturn(Optional.empty());
+        when(cardRepository.findActiveBlockIdById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         CardNotBlockedException exception = assertThrows(
@@ -250,7 +303,39 @@ public class BlockServiceTest {
 
         // Verify
         assertEquals("The card (ID: 1) isn't blocked. Operation can't be done", exception.getMessage());
-        verify(blockRepository).findActiveBlockByCardId(1L);
+        verify(cardRepository).findActiveBlockIdById(1L);
         verify(blockRepository, never()).save(any());
+        verifyNoInteractions(durationSketchService);
+    }
+
+    @Test
+    @DisplayName("Deve juntar bloqueios longos ativos e encerrados do mais longo ao mais curto")
+    void shouldMergeActiveAndClosedLongBlocks() {
+        // Arrange - ativo há 3 dias, encerrados com 100 e 30 horas
+        Block active = new Block();
+        active.setId(3L);
+        active.setBlockedAt(OffsetDateTime.now().minusDays(3));
+
+        Block closedLong = new Block();
+        closedLong.setId(4L);
+        closedLong.setDurationHours(100L);
+        Block closedShort = new Block();
+        closedShort.setId(5L);
+        closedShort.setDurationHours(30L);
+
+        when(activeBlockRegistry.findBlockedBefore(any(OffsetDateTime.class)))
+            .thenReturn(List.of(3L, 9L));
+        when(blockRepository.findAllById(List.of(3L, 9L))).thenReturn(List.of(active));
+        when(blockDAO.findClosedBlocksLongerThan(24)).thenReturn(List.of(closedLong, closedShort));
+
+        // Act
+        List<Block> result = blockService.findLongDurationBlocks(24);
+
+        // Assert
+        assertEquals(List.of(closedLong, active, closedShort), result);
+
+        // O bloqueio 9 não existe mais e sai do registro
+        verify(activeBlockRegistry).remove(9L);
+        verify(activeBlockRegistry, never()).remove(3L);
     }
 }
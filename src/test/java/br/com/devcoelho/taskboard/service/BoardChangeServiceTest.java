@@ -0,0 +1,158 @@
+package br.com.devcoelho.taskboard.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import br.com.devcoelho.taskboard.dao.BoardChangeDAO;
+import br.com.devcoelho.taskboard.dao.CardDAO;
+import br.com.devcoelho.taskboard.dto.BoardChangesDTO;
+import br.com.devcoelho.taskboard.dto.CardDTO;
+import br.com.devcoelho.taskboard.dto.mappers.BoardColumnMapper;
+import br.com.devcoelho.taskboard.dto.mappers.CardMapper;
+import br.com.devcoelho.taskboard.model.Board;
+import br.com.devcoelho.taskboard.model.BoardColumn;
+import br.com.devcoelho.taskboard.model.Card;
+import br.com.devcoelho.taskboard.model.ChangeFeedEntity;
+import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
+import br.com.devcoelho.taskboard.repository.CardRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class BoardChangeServiceTest {
+
+  @Mock private BoardService boardService;
+
+  @Mock private BoardVersionService boardVersionService;
+
+  @Mock private BoardChangeDAO boardChangeDAO;
+
+  @Mock private CardRepository cardRepository;
+
+  @Mock private CardDAO cardDAO;
+
+  @Mock private BoardColumnRepository boardColumnRepository;
+
+  @Mock private CardMapper cardMapper;
+
+  @Mock private BoardColumnMapper boardColumnMapper;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private BoardChangeService boardChangeService;
+  private Board board;
+  private BoardColumn column;
+
+  @BeforeEach
+  void setUp() {
+    boardChangeService =
+        new BoardChangeService(
+            boardService,
+            boardVersionService,
+            boardChangeDAO,
+            cardRepository,
+            cardDAO,
+            boardColumnRepository,
+            cardMapper,
+            boardColumnMapper,
+            transactionManager,
+            Duration.ofDays(7),
+            10000);
+
+    board = new Board();
+    board.setId(1L);
+    board.setName("Projeto");
+
+    column = new BoardColumn();
+    column.setId(2L);
+    column.setBoard(board);
+
+    when(boardService.findById(1L)).thenReturn(board);
+  }
+
+  @Test
+  @DisplayName("Deve retornar os cards alterados e os ids dos cards excluídos desde a versão")
+  void shouldReturnChangedAndDeletedCardsSinceVersion() {
+    // Arrange
+    Card card = new Card();
+    card.setId(10L);
+    card.setBoardColumn(column);
+    CardDTO cardDTO = CardDTO.builder().id(10L).build();
+
+    when(boardVersionService.currentVersion(1L)).thenReturn(7L);
+    when(boardVersionService.compactedVersion(1L)).thenReturn(2L);
+    when(boardChangeDAO.findChangedSince(1L, 5L, 7L))
+        .thenReturn(Map.of(ChangeFeedEntity.CARD, List.of(10L, 11L)));
+    when(boardColumnRepository.findAllById(List.of())).thenReturn(List.of());
+    when(cardRepository.findAllById(List.of(10L, 11L))).thenReturn(List.of(card));
+    when(cardMapper.toDtoList(List.of(card))).thenReturn(List.of(cardDTO));
+
+    // Act
+    BoardChangesDTO changes = boardChangeService.findChanges(1L, 5L);
+
+    // Assert
+    assertFalse(changes.isResync());
+    assertEquals(7L, changes.getVersion());
+    assertEquals(List.of(cardDTO), changes.getCards());
+    assertEquals(List.of(11L), changes.getDeletedCardIds());
+    assertTrue(changes.getColumns().isEmpty());
+    assertNull(changes.getName());
+    verify(cardDAO).fetchBlocks(List.of(card));
+  }
+
+  @Test
+  @DisplayName("Deve pedir releitura quando o feed foi compactado além da versão informada")
+  void shouldRequestResyncWhenFeedWasCompacted() {
+    // Arrange
+    when(boardVersionService.currentVersion(1L)).thenReturn(30L);
+    when(boardVersionService.compactedVersion(1L)).thenReturn(20L);
+
+    // Act
+    BoardChangesDTO changes = boardChangeService.findChanges(1L, 15L);
+
+    // Assert
+    assertTrue(changes.isResync());
+    assertEquals(30L, changes.getVersion());
+    verifyNoInteractions(boardChangeDAO);
+  }
+
+  @Test
+  @DisplayName("Deve pedir releitura quando a versão informada é maior que a do board")
+  void shouldRequestResyncWhenVersionIsAheadOfBoard() {
+    // Arrange
+    when(boardVersionService.currentVersion(1L)).thenReturn(3L);
+
+    // Act
+    BoardChangesDTO changes = boardChangeService.findChanges(1L, 8L);
+
+    // Assert
+    assertTrue(changes.isResync());
+    verifyNoInteractions(boardChangeDAO);
+  }
+
+  @Test
+  @DisplayName("Deve retornar um diff vazio quando o board não mudou")
+  void shouldReturnEmptyDiffWhenBoardIsUnchanged() {
+    // Arrange
+    when(boardVersionService.currentVersion(1L)).thenReturn(4L);
+    when(boardVersionService.compactedVersion(1L)).thenReturn(0L);
+
+    // Act
+    BoardChangesDTO changes = boardChangeService.findChanges(1L, 4L);
+
+    // Assert
+    assertFalse(changes.isResync());
+    assertTrue(changes.getCards().isEmpty());
+    assertTrue(changes.getDeletedCardIds().isEmpty());
+    verify(boardChangeDAO, never()).findChangedSince(anyLong(), anyLong(), anyLong());
+  }
+}
@@ -4,7 +4,11 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import br.com.devcoelho.taskboard.dao.BoardColumnDAO;
+import br.com.devcoelho.taskboard.event.BoardChangedEvent;
+import br.com.devcoelho.taskboard.event.ColumnsReorderedEvent;
 import br.com.devcoelho.taskboard.exception.ColumnContainsCardException;
+import br.com.devcoelho.taskboard.exception.PreconditionFailedException;
 import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
 import br.com.devcoelho.taskboard.exception.SpecialColumnDeletionException;
 import br.com.devcoelho.taskboard.exception.SpecialColumnException;
@@ -17,15 +21,16 @@ import br.com.devcoelho.taskboard.repository.BoardRepository;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class BoardColumnServiceTest {
@@ -34,6 +39,10 @@ public class BoardColumnServiceTest {
 
   @Mock private BoardRepository boardRepository;
 
+  @Mock private BoardColumnDAO boardColumnDAO;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks private BoardColumnService boardColumnService;
 
   private Board testBoard;
@@ -55,21 +64,21 @@ public class BoardColumnServiceTest {
     initialColumn.setName("Backlog");
     initialColumn.setKind(BoardColumnKind.INITIAL);
     initialColumn.setBoard(testBoard);
-    initialColumn.setOrder(1);
+    initialColumn.setRank("i");
 
     pendingColumn = new BoardColumn();
     pendingColumn.setId(2L);
     pendingColumn.setName("In Progress");
     pendingColumn.setKind(BoardColumnKind.PENDING);
     pendingColumn.setBoard(testBoard);
-    pendingColumn.setOrder(2);
+    pendingColumn.setRank("r");
 
     cancelColumn = new BoardColumn();
     cancelColumn.setId(3L);
     cancelColumn.setName("Canceled");
     cancelColumn.setKind(BoardColumnKind.CANCEL);
     cancelColumn.setBoard(testBoard);
-    cancelColumn.setOrder(3);
+    cancelColumn.setRank("z");
 
     // Lista de colunas
     boardColumns = new ArrayList<>();
@@ -85,7 +94,7 @@ public class BoardColumnServiceTest {
   @DisplayName("Deve encontrar colunas por ID do board")
   void shouldFindColumnsByBoardId() {
     // Arrange
-    when(boardColumnRepository.findByBoardIdOrderByOrder(1L)).thenReturn(boardColumns);
+    when(boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(1L)).thenReturn(boardColumns);
 
     // Act
     List<BoardColumn> result = boardColumnService.findByBoardId(1L);
@@ -97,7 +106,24 @@ public class BoardColumnServiceTest {
     assertEquals(cancelColumn, result.get(2));
 
     // Verify
-    verify(boardColumnRepository).findByBoardIdOrderByOrder(1L);
+    verify(boardColumnRepository).findByBoardIdOrderByRankAscIdAsc(1L);
+  }
+
+  @Test
+  @DisplayName("Deve encontrar colunas do board com os cards carregados")
+  void shouldFindColumnsWithCardsByBoardId() {
+    // Arrange
+    when(boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(1L)).thenReturn(boardColumns);
+
+    // Act
+    List<BoardColumn> result = boardColumnService.findByBoardIdWithCards(1L);
+
+    // Assert
+    assertEquals(boardColumns, result);
+
+    // Verify
+    verify(boardColumnRepository).findByBoardIdOrderByRankAscIdAsc(1L);
+    verify(boardColumnDAO).fetchCardsWithBlocks(boardColumns);
   }
 
   @Test
@@ -139,28 +165,34 @@ public class BoardColumnServiceTest {
   void shouldCreateColumn() {
     // Arrange
     when(boardRepository.findById(1L)).thenReturn(Optional.of(testBoard));
-    when(boardColumnRepository.findByBoardIdOrderByOrder(1L)).thenReturn(boardColumns);
+    when(boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(1L)).thenReturn(boardColumns);
     when(boardColumnRepository.save(any(BoardColumn.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+        .thenAnswer(
+            invocation -> {
+              BoardColumn saved = invocation.getArgument(0);
+              saved.setId(4L);
+              return saved;
+            });
 
     BoardColumn newColumn = new BoardColumn();
     newColumn.setName("New Column");
     newColumn.setKind(BoardColumnKind.PENDING);
 
     // Act
-    BoardColumn result = boardColumnService.create(1L, newColumn);
+    BoardColumn result = boardColumnService.create(1L, newColumn, 0);
 
     // Assert
     assertNotNull(result);
     assertEquals("New Column", result.getName());
     assertEquals(BoardColumnKind.PENDING, result.getKind());
     assertEquals(testBoard, result.getBoard());
-    assertEquals(4, result.getOrder()); // Deve ser adicionada ao final
+    assertTrue(result.getRank().compareTo("z") > 0); // Deve ser adicionada ao final
 
     // Verify
     verify(boardRepository).findById(1L);
-    verify(boardColumnRepository).findByBoardIdOrderByOrder(1L);
+    verify(boardColumnRepository).findByBoardIdOrderByRankAscIdAsc(1L);
     verify(boardColumnRepository).save(any(BoardColumn.class));
+    verify(eventPublisher).publishEvent(BoardChangedEvent.ofColumns(1L, List.of(4L)));
   }
 
   @Test
@@ -177,7 +209,8 @@ public class BoardColumnServiceTest {
 
     // Act & Assert
     SpecialColumnException exception =
-        assertThrows(SpecialColumnException.class, () -> boardColumnService.create(1L, newColumn));
+        assertThrows(
+            SpecialColumnException.class, () -> boardColumnService.create(1L, newColumn, 0));
 
     // Verify
     verify(boardRepository).findById(1L);
@@ -197,7 +230,7 @@ public class BoardColumnServiceTest {
     updateData.setName("Updated Column");
 
     // Act
-    BoardColumn result = boardColumnService.update(2L, updateData);
+    BoardColumn result = boardColumnService.update(2L, updateData, null);
 
     // Assert
     assertNotNull(result);
@@ -206,6 +239,27 @@ public class BoardColumnServiceTest {
     // Verify
     verify(boardColumnRepository).findById(2L);
     verify(boardColumnRepository).save(any(BoardColumn.class));
+    verify(boardColumnDAO).fetchCardsWithBlocks(List.of(pendingColumn));
+    verify(eventPublisher).publishEvent(BoardChangedEvent.ofColumns(1L, List.of(2L)));
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar a atualização de uma coluna alterada após a versão informada")
+  void shouldRejectColumnUpdateWithStaleVersion() {
+    // Arrange
+    pendingColumn.setVersion(2L);
+    when(boardColumnRepository.findById(2L)).thenReturn(Optional.of(pendingColumn));
+
+    BoardColumn updateData = new BoardColumn();
+    updateData.setName("Updated Column");
+
+    // Act & Assert
+    assertThrows(
+        PreconditionFailedException.class, () -> boardColumnService.update(2L, updateData, 1L));
+
+    // Verify
+    assertEquals("In Progress", pendingColumn.getName());
+    verify(boardColumnRepository, never()).save(any(BoardColumn.class));
   }
 
   @Test
@@ -222,7 +276,8 @@ public class BoardColumnServiceTest {
 
     // Act & Assert
     SpecialColumnException exception =
-        assertThrows(SpecialColumnException.class, () -> boardColumnService.update(2L, updateData));
+        assertThrows(
+            SpecialColumnException.class, () -> boardColumnService.update(2L, updateData, null));
 
     // Verify
     verify(boardColumnRepository).findById(2L);
@@ -231,10 +286,10 @@ public class BoardColumnServiceTest {
   }
 
   @Test
-  @DisplayName("Deve reordenar colunas")
+  @DisplayName("Deve reordenar colunas reescrevendo apenas as que saíram de ordem")
   void shouldReorderColumns() {
     // Arrange
-    when(boardColumnRepository.findByBoardIdOrderByOrder(1L)).thenReturn(boardColumns);
+    when(boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(1L)).thenReturn(boardColumns);
     when(boardColumnRepository.save(any(BoardColumn.class)))
         .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -247,33 +302,89 @@ public class BoardColumnServiceTest {
     assertNotNull(result);
     assertEquals(3, result.size());
 
-    // Verificando as chamadas para save em ordem
-    ArgumentCaptor<BoardColumn> columnCaptor = ArgumentCaptor.forClass(BoardColumn.class);
-    verify(boardColumnRepository, times(3)).save(columnCaptor.capture());
+    // Apenas a coluna de cancelamento muda de chave, indo para antes da inicial
+    verify(boardColumnRepository, times(1)).save(any(BoardColumn.class));
+    verify(boardColumnRepository).save(cancelColumn);
+    assertTrue(cancelColumn.getRank().compareTo("i") < 0);
+    assertEquals("i", initialColumn.getRank());
+    assertEquals("r", pendingColumn.getRank());
+
+    // Verify - a reordenação avança a versão do board
+    verify(boardColumnRepository, times(2)).findByBoardIdOrderByRankAscIdAsc(1L);
+    verify(eventPublisher)
+        .publishEvent(new ColumnsReorderedEvent(1L, Map.of(3L, cancelColumn.getRank())));
+  }
 
-    List<BoardColumn> capturedColumns = columnCaptor.getAllValues();
-    // O primeiro salvo deve ser cancelColumn com ordem 1
-    assertEquals(cancelColumn.getId(), capturedColumns.get(0).getId());
-    assertEquals(1, capturedColumns.get(0).getOrder());
+  @Test
+  @DisplayName("Deve mover uma coluna reescrevendo apenas a chave dela")
+  void shouldMoveColumnAfterAnother() {
+    // Arrange
+    when(boardColumnRepository.findById(1L)).thenReturn(Optional.of(initialColumn));
+    when(boardColumnRepository.findById(2L)).thenReturn(Optional.of(pendingColumn));
+    when(boardColumnDAO.findNextRank(1L, "r", 1L)).thenReturn(Optional.of("z"));
 
-    // O segundo salvo deve ser initialColumn com ordem 2
-    assertEquals(initialColumn.getId(), capturedColumns.get(1).getId());
-    assertEquals(2, capturedColumns.get(1).getOrder());
+    // Act
+    BoardColumn result = boardColumnService.move(1L, 1L, 2L, null);
 
-    // O terceiro salvo deve ser pendingColumn com ordem 3
-    assertEquals(pendingColumn.getId(), capturedColumns.get(2).getId());
-    assertEquals(3, capturedColumns.get(2).getOrder());
+    // Assert
+    assertEquals(initialColumn, result);
+    assertTrue(result.getRank().compareTo("r") > 0);
+    assertTrue(result.getRank().compareTo("z") < 0);
 
     // Verify
-    verify(boardColumnRepository, times(2)).findByBoardIdOrderByOrder(1L);
-    verify(boardColumnRepository, times(3)).save(any(BoardColumn.class));
+    verify(boardColumnRepository).save(initialColumn);
+    verify(boardColumnRepository, never()).findByBoardIdOrderByRankAscIdAsc(any());
+  }
+
+  @Test
+  @DisplayName("Não deve gravar a coluna quando ela já está na posição pedida")
+  void shouldNotSaveColumnAlreadyInPlace() {
+    // Arrange
+    when(boardColumnRepository.findById(2L)).thenReturn(Optional.of(pendingColumn));
+    when(boardColumnRepository.findById(1L)).thenReturn(Optional.of(initialColumn));
+    when(boardColumnDAO.findNextRank(1L, "i", 2L)).thenReturn(Optional.of("z"));
+
+    // Act
+    BoardColumn result = boardColumnService.move(1L, 2L, 1L, null);
+
+    // Assert
+    assertEquals("r", result.getRank());
+    verify(boardColumnRepository, never()).save(any(BoardColumn.class));
+    verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  @DisplayName("Deve criar uma coluna na posição informada")
+  void shouldCreateColumnAtPosition() {
+    // Arrange
+    when(boardRepository.findById(1L)).thenReturn(Optional.of(testBoard));
+    when(boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(1L)).thenReturn(boardColumns);
+    when(boardColumnRepository.save(any(BoardColumn.class)))
+        .thenAnswer(
+            invocation -> {
+              BoardColumn saved = invocation.getArgument(0);
+              saved.setId(5L);
+              return saved;
+            });
+
+    BoardColumn newColumn = new BoardColumn();
+    newColumn.setName("Review");
+    newColumn.setKind(BoardColumnKind.PENDING);
+
+    // Act
+    BoardColumn result = boardColumnService.create(1L, newColumn, 2);
+
+    // Assert - entre a coluna inicial e a pendente
+    assertTrue(result.getRank().compareTo("i") > 0);
+    assertTrue(result.getRank().compareTo("r") < 0);
+    verify(eventPublisher).publishEvent(BoardChangedEvent.ofColumns(1L, List.of(5L)));
   }
 
   @Test
   @DisplayName("Deve lançar exceção ao tentar reordenar com lista inválida")
   void shouldThrowExceptionWhenReorderingWithInvalidList() {
     // Arrange
-    when(boardColumnRepository.findByBoardIdOrderByOrder(1L)).thenReturn(boardColumns);
+    when(boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(1L)).thenReturn(boardColumns);
 
     List<Long> invalidOrder = Arrays.asList(1L, 2L); // Falta a coluna 3
 
@@ -283,7 +394,7 @@ public class BoardColumnServiceTest {
             RuntimeException.class, () -> boardColumnService.reorderColumns(1L, invalidOrder));
 
     // Verify
-    verify(boardColumnRepository).findByBoardIdOrderByOrder(1L);
+    verify(boardColumnRepository).findByBoardIdOrderByRankAscIdAsc(1L);
     verify(boardColumnRepository, never()).save(any(BoardColumn.class));
   }
 
@@ -307,6 +418,25 @@ public class BoardColumnServiceTest {
     verify(boardColumnRepository).deleteById(2L);
   }
 
+  @Test
+  @DisplayName("Deve remover a coluna excluída da coleção do board")
+  void shouldRemoveDeletedColumnFromBoardColumns() {
+    // Arrange
+    pendingColumn.setCards(new ArrayList<>());
+    when(boardColumnRepository.findById(2L)).thenReturn(Optional.of(pendingColumn));
+
+    // Act
+    boardColumnService.delete(2L);
+
+    // Assert
+    assertEquals(2, testBoard.getColumns().size());
+    assertFalse(testBoard.getColumns().contains(pendingColumn));
+
+    // Verify
+    verify(boardColumnRepository).deleteById(2L);
+    verify(eventPublisher).publishEvent(BoardChangedEvent.ofColumns(1L, List.of(2L)));
+  }
+
   @Test
   @DisplayName("Deve lançar exceção ao tentar excluir uma coluna especial")
   void shouldThrowExceptionWhenDeletingSpecialColumn() {
@@ -356,12 +486,11 @@ public class BoardColumnServiceTest {
     BoardColumn newColumn = new BoardColumn();
     newColumn.setName("Nova Coluna");
     newColumn.setKind(BoardColumnKind.PENDING);
-    newColumn.setOrder(0); // Zero para que o serviço defina automaticamente
 
     List<BoardColumn> existingColumns = Arrays.asList(initialColumn, pendingColumn, cancelColumn);
 
     when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
-    when(boardColumnRepository.findByBoardIdOrderByOrder(1L)).thenReturn(existingColumns);
+    when(boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(1L)).thenReturn(existingColumns);
     when(boardColumnRepository.save(any(BoardColumn.class)))
         .thenAnswer(
             i -> {
@@ -373,19 +502,19 @@ public class BoardColumnServiceTest {
             });
 
     // Act
-    BoardColumn result = boardColumnService.create(1L, newColumn);
+    BoardColumn result = boardColumnService.create(1L, newColumn, 0);
 
     // Assert
     assertNotNull(result);
     assertEquals("Nova Coluna", result.getName());
     assertEquals(BoardColumnKind.PENDING, result.getKind());
-    assertEquals(4, result.getOrder()); // Deve ser a ordem após as existentes
+    assertTrue(result.getRank().compareTo("z") > 0); // Deve ficar após as existentes
     assertEquals(board, result.getBoard());
     assertEquals(100L, result.getId());
 
     // Verify
     verify(boardRepository).findById(1L);
-    verify(boardColumnRepository).findByBoardIdOrderByOrder(1L);
+    verify(boardColumnRepository).findByBoardIdOrderByRankAscIdAsc(1L);
     verify(boardColumnRepository).save(newColumn);
   }
 }
@@ -0,0 +1,98 @@
+package br.com.devcoelho.taskboard.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import br.com.devcoelho.taskboard.event.CardMovedEvent;
+import br.com.devcoelho.taskboard.event.CardUpdatedEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class BoardEventBroadcasterTest {
+
+  // Envios agendados; só rodam quando o teste pede, simulando um cliente lento
+  private List<Runnable> pendingSends;
+  private BoardEventBroadcaster broadcaster;
+
+  @BeforeEach
+  void setUp() {
+    pendingSends = new ArrayList<>();
+    broadcaster = new BoardEventBroadcaster(pendingSends::add, 3, Duration.ofMinutes(1));
+  }
+
+  @Test
+  @DisplayName("Deve agendar um único envio por cliente, mantendo a ordem dos eventos")
+  void shouldScheduleSingleSendPerSubscriber() {
+    // Arrange
+    broadcaster.subscribe(1L);
+
+    // Act
+    broadcaster.onBoardEvent(new CardMovedEvent(1L, 10L, 2L, "m"));
+    broadcaster.onBoardEvent(new CardUpdatedEvent(1L, 10L, "Title", null));
+
+    // Assert
+    assertEquals(1, pendingSends.size());
+    assertEquals(1, broadcaster.subscriberCount(1L));
+  }
+
+  @Test
+  @DisplayName("Deve ignorar eventos de outros boards")
+  void shouldIgnoreEventsOfOtherBoards() {
+    // Arrange
+    broadcaster.subscribe(1L);
+    runPendingSends();
+
+    // Act
+    broadcaster.onBoardEvent(new CardMovedEvent(2L, 20L, 5L, "m"));
+
+    // Assert
+    assertTrue(pendingSends.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve desconectar o cliente cujo buffer enche, sem afetar os demais")
+  void shouldDropSlowSubscriber() {
+    // Arrange
+    broadcaster.subscribe(1L);
+    broadcaster.subscribe(2L);
+
+    // Act - o evento de inscrição e mais três não cabem no buffer de três eventos
+    for (int i = 0; i < 3; i++) {
+      broadcaster.onBoardEvent(new CardMovedEvent(1L, 10L, 2L, "m" + i));
+    }
+
+    // Assert
+    assertEquals(0, broadcaster.subscriberCount(1L));
+    assertEquals(1, broadcaster.subscriberCount(2L));
+
+    // Eventos posteriores não chegam ao cliente desconectado
+    runPendingSends();
+    broadcaster.onBoardEvent(new CardMovedEvent(1L, 10L, 2L, "z"));
+    assertTrue(pendingSends.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Deve manter o cliente que acompanha os eventos")
+  void shouldKeepSubscriberThatKeepsUp() {
+    // Arrange
+    broadcaster.subscribe(1L);
+
+    // Act - cada evento é enviado antes do próximo chegar
+    for (int i = 0; i < 10; i++) {
+      broadcaster.onBoardEvent(new CardMovedEvent(1L, 10L, 2L, "m" + i));
+      runPendingSends();
+    }
+
+    // Assert
+    assertEquals(1, broadcaster.subscriberCount(1L));
+  }
+
+  private void runPendingSends() {
+    while (!pendingSends.isEmpty()) {
+      pendingSends.remove(0).run();
+    }
+  }
+}
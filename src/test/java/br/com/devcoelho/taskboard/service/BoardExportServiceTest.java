@@ -0,0 +1,150 @@
+package br.com.devcoelho.taskboard.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import br.com.devcoelho.taskboard.dao.BoardDAO;
+import br.com.devcoelho.taskboard.dto.BoardExportRow;
+import br.com.devcoelho.taskboard.model.Board;
+import br.com.devcoelho.taskboard.model.BoardColumnKind;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BoardExportServiceTest {
+
+  private static final OffsetDateTime BLOCKED_AT = OffsetDateTime.parse("2024-03-10T10:00:00Z");
+
+  @Mock private BoardDAO boardDAO;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  private BoardExportService boardExportService;
+  private Board board;
+
+  @BeforeEach
+  void setUp() {
+    boardExportService = new BoardExportService(boardDAO, objectMapper);
+    board = new Board();
+    board.setId(1L);
+    board.setName("Sprint");
+  }
+
+  @Test
+  @DisplayName("Deve agrupar as linhas em colunas, cards e bloqueios")
+  void shouldGroupRowsIntoColumnsCardsAndBlocks() throws Exception {
+    // Arrange - coluna 10 com um card de dois bloqueios e um sem bloqueio, coluna 11 vazia e
+    // coluna 12 com um card desbloqueado
+    List<BoardExportRow> rows =
+        List.of(
+            row(10L, 100L, 1000L, null),
+            row(10L, 100L, 1001L, BLOCKED_AT.plusHours(2)),
+            row(10L, 101L, null, null),
+            row(11L, null, null, null),
+            row(12L, 102L, 1002L, BLOCKED_AT.plusHours(1)));
+    scrollRows(rows);
+
+    // Act
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    boardExportService.exportBoard(board, out);
+
+    // Assert
+    JsonNode json = objectMapper.readTree(out.toByteArray());
+    assertEquals(1L, json.get("id").asLong());
+    assertEquals(3, json.get("totalCards").asInt());
+
+    JsonNode columns = json.get("columns");
+    assertEquals(3, columns.size());
+
+    JsonNode first = columns.get(0);
+    assertEquals(10L, first.get("id").asLong());
+    assertEquals(2, first.get("cardCount").asInt());
+    JsonNode blockedCard = first.get("cards").get(0);
+    assertEquals(100L, blockedCard.get("id").asLong());
+    assertEquals(2, blockedCard.get("blocks").size());
+    assertEquals(1001L, blockedCard.get("blocks").get(1).get("id").asLong());
+    assertTrue(blockedCard.get("blocked").asBoolean());
+    JsonNode freeCard = first.get("cards").get(1);
+    assertEquals(101L, freeCard.get("id").asLong());
+    assertEquals(0, freeCard.get("blocks").size());
+    assertFalse(freeCard.get("blocked").asBoolean());
+
+    JsonNode empty = columns.get(1);
+    assertEquals(11L, empty.get("id").asLong());
+    assertEquals(0, empty.get("cardCount").asInt());
+    assertEquals(0, empty.get("cards").size());
+
+    JsonNode last = columns.get(2);
+    assertEquals(1, last.get("cardCount").asInt());
+    assertEquals(1, last.get("cards").get(0).get("blocks").size());
+    assertFalse(last.get("cards").get(0).get("blocked").asBoolean());
+  }
+
+  @Test
+  @DisplayName("Deve deixar o documento truncado quando a leitura falha no meio da exportação")
+  void shouldLeaveDocumentTruncatedWhenReadFails() {
+    // Arrange - a conexão cai depois da primeira linha
+    doAnswer(
+            invocation -> {
+              Consumer<BoardExportRow> consumer = invocation.getArgument(2);
+              consumer.accept(row(10L, 100L, null, null));
+              throw new IllegalStateException("Connection lost");
+            })
+        .when(boardDAO)
+        .scrollExportRows(eq(1L), anyInt(), any());
+
+    // Act
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertThrows(IllegalStateException.class, () -> boardExportService.exportBoard(board, out));
+
+    // Assert - o cliente não recebe um JSON válido com parte dos cards
+    assertTrue(out.size() > 0);
+    assertThrows(JsonProcessingException.class, () -> objectMapper.readTree(out.toByteArray()));
+  }
+
+  private void scrollRows(List<BoardExportRow> rows) {
+    doAnswer(
+            invocation -> {
+              Consumer<BoardExportRow> consumer = invocation.getArgument(2);
+              rows.forEach(consumer);
+              return null;
+            })
+        .when(boardDAO)
+        .scrollExportRows(eq(1L), anyInt(), any());
+  }
+
+  private static BoardExportRow row(
+      Long columnId, Long cardId, Long blockId, OffsetDateTime unblockedAt) {
+    return new BoardExportRow(
+        columnId,
+        "Column " + columnId,
+        BoardColumnKind.PENDING,
+        "m",
+        cardId,
+        cardId != null ? "Card " + cardId : null,
+        cardId != null ? "m" : null,
+        null,
+        cardId != null ? BLOCKED_AT.minusDays(1) : null,
+        null,
+        blockId,
+        blockId != null ? BLOCKED_AT : null,
+        blockId != null ? "Waiting" : null,
+        unblockedAt,
+        unblockedAt != null ? "Done" : null);
+  }
+}
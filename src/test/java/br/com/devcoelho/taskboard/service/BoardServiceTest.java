@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import br.com.devcoelho.taskboard.dao.BoardDAO;
+import br.com.devcoelho.taskboard.dto.BoardSummaryDTO;
 import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
 import br.com.devcoelho.taskboard.model.Board;
 import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
@@ -18,6 +20,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 public class BoardServiceTest {
@@ -26,6 +33,12 @@ public class BoardServiceTest {
 
   @Mock private BoardColumnRepository boardColumnRepository;
 
+  @Mock private BoardDAO boardDAO;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @Mock private BoardVersionService boardVersionService;
+
   @InjectMocks private BoardService boardService;
 
   private Board testBoard;
@@ -61,6 +74,29 @@ public class BoardServiceTest {
 
     // Verify
     verify(boardRepository).findAll();
+    verify(boardDAO).fetchColumnCards(expectedBoards);
+  }
+
+  @Test
+  @DisplayName("Deve retornar os resumos paginados dos boards")
+  void shouldFindBoardSummaries() {
+    // Arrange
+    Pageable pageable = PageRequest.of(0, 2);
+    BoardSummaryDTO summary =
+        BoardSummaryDTO.builder().id(1L).name("Test Board").columnCount(5).cardCount(12).build();
+    Page<BoardSummaryDTO> expectedPage = new PageImpl<>(List.of(summary), pageable, 3);
+    when(boardDAO.findSummaries(pageable)).thenReturn(expectedPage);
+
+    // Act
+    Page<BoardSummaryDTO> result = boardService.findSummaries(pageable);
+
+    // Assert
+    assertEquals(3, result.getTotalElements());
+    assertEquals(12, result.getContent().get(0).getCardCount());
+
+    // Verify
+    verify(boardDAO).findSummaries(pageable);
+    verifyNoInteractions(boardRepository);
   }
 
   @Test
@@ -73,6 +109,7 @@ public class BoardServiceTest {
 
     // Assert & Verify - Verificamos apenas que o método deleteById foi chamado corretamente
     verify(boardRepository).deleteById(1L);
+    verify(boardVersionService).evict(1L);
   }
 
   @Test
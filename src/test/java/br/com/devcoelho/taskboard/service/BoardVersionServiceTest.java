@@ -0,0 +1,131 @@
+package br.com.devcoelho.taskboard.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import br.com.devcoelho.taskboard.dao.BoardChangeDAO;
+import br.com.devcoelho.taskboard.dao.BoardVersionDAO;
+import br.com.devcoelho.taskboard.event.BoardChangedEvent;
+import br.com.devcoelho.taskboard.event.CardMovedEvent;
+import br.com.devcoelho.taskboard.model.ChangeFeedEntity;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class BoardVersionServiceTest {
+
+  @Mock private BoardVersionDAO boardVersionDAO;
+
+  @Mock private BoardChangeDAO boardChangeDAO;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private BoardVersionService boardVersionService;
+
+  @BeforeEach
+  void setUp() {
+    boardVersionService =
+        new BoardVersionService(
+            boardVersionDAO, boardChangeDAO, transactionManager, Duration.ofMinutes(1));
+  }
+
+  @Test
+  @DisplayName("Deve consultar a versão do board uma única vez enquanto ela estiver em cache")
+  void shouldServeVersionFromCache() {
+    // Arrange
+    when(boardVersionDAO.findVersionIfBoardExists(1L)).thenReturn(Optional.of(3L));
+
+    // Act
+    Optional<Long> first = boardVersionService.cachedVersion(1L);
+    Optional<Long> second = boardVersionService.cachedVersion(1L);
+
+    // Assert
+    assertEquals(Optional.of(3L), first);
+    assertEquals(Optional.of(3L), second);
+    verify(boardVersionDAO, times(1)).findVersionIfBoardExists(1L);
+  }
+
+  @Test
+  @DisplayName("Deve atualizar a versão em cache quando o board é alterado")
+  void shouldUpdateCachedVersionOnBoardEvent() {
+    // Arrange
+    when(boardVersionDAO.increment(1L)).thenReturn(8L);
+
+    // Act - sem transação ativa, o cache é atualizado na hora
+    boardVersionService.onBoardEvent(new CardMovedEvent(1L, 10L, 2L, "m"));
+
+    // Assert
+    assertEquals(Optional.of(8L), boardVersionService.cachedVersion(1L));
+    verify(boardVersionDAO, never()).findVersionIfBoardExists(anyLong());
+    verify(boardChangeDAO).record(1L, 8L, ChangeFeedEntity.CARD, List.of(10L));
+    verifyNoMoreInteractions(boardChangeDAO);
+  }
+
+  @Test
+  @DisplayName("Deve registrar no feed os cards alterados com a nova versão do board")
+  void shouldRecordChangedCardsWithNewVersion() {
+    // Arrange
+    when(boardVersionDAO.increment(1L)).thenReturn(5L);
+
+    // Act
+    boardVersionService.onBoardEvent(BoardChangedEvent.ofCards(1L, List.of(10L, 11L)));
+
+    // Assert
+    verify(boardChangeDAO).record(1L, 5L, ChangeFeedEntity.CARD, List.of(10L, 11L));
+    verifyNoMoreInteractions(boardChangeDAO);
+  }
+
+  @Test
+  @DisplayName("Deve registrar no feed as colunas alteradas com a nova versão do board")
+  void shouldRecordChangedColumnsWithNewVersion() {
+    // Arrange
+    when(boardVersionDAO.increment(1L)).thenReturn(6L);
+
+    // Act
+    boardVersionService.onBoardEvent(BoardChangedEvent.ofColumns(1L, List.of(3L)));
+
+    // Assert
+    verify(boardChangeDAO).record(1L, 6L, ChangeFeedEntity.COLUMN, List.of(3L));
+    verifyNoMoreInteractions(boardChangeDAO);
+  }
+
+  @Test
+  @DisplayName("Deve registrar o próprio board no feed quando nenhuma coluna ou card mudou")
+  void shouldRecordBoardChangeWhenNoEntityChanged() {
+    // Arrange
+    when(boardVersionDAO.increment(1L)).thenReturn(2L);
+
+    // Act
+    boardVersionService.onBoardEvent(BoardChangedEvent.ofBoard(1L));
+
+    // Assert
+    verify(boardChangeDAO).record(1L, 2L, ChangeFeedEntity.BOARD, List.of(1L));
+    verifyNoMoreInteractions(boardChangeDAO);
+  }
+
+  @Test
+  @DisplayName("Deve consultar o banco de novo depois que o board sai do cache")
+  void shouldReloadVersionAfterEviction() {
+    // Arrange
+    when(boardVersionDAO.findVersionIfBoardExists(1L))
+        .thenReturn(Optional.of(3L))
+        .thenReturn(Optional.empty());
+    boardVersionService.cachedVersion(1L);
+
+    // Act
+    boardVersionService.evict(1L);
+    Optional<Long> version = boardVersionService.cachedVersion(1L);
+
+    // Assert
+    assertTrue(version.isEmpty());
+    verify(boardVersionDAO, times(2)).findVersionIfBoardExists(1L);
+  }
+}
@@ -3,9 +3,21 @@ package br.com.devcoelho.taskboard.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
+import br.com.devcoelho.taskboard.dao.CardDAO;
+import br.com.devcoelho.taskboard.dao.CardFlowDAO;
+import br.com.devcoelho.taskboard.dao.CardTransitionDAO;
+import br.com.devcoelho.taskboard.dto.CardCursor;
+import br.com.devcoelho.taskboard.dto.CardRankCursor;
+import br.com.devcoelho.taskboard.dto.CursorPage;
+import br.com.devcoelho.taskboard.event.CardMovedEvent;
+import br.com.devcoelho.taskboard.event.CardUpdatedEvent;
 import br.com.devcoelho.taskboard.exception.BlockedCardException;
+import br.com.devcoelho.taskboard.exception.CrossBoardMoveException;
+import br.com.devcoelho.taskboard.exception.InvalidCursorException;
+import br.com.devcoelho.taskboard.exception.PreconditionFailedException;
 import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
 import br.com.devcoelho.taskboard.model.Block;
 import br.com.devcoelho.taskboard.model.Board;
@@ -13,6 +25,7 @@ import br.com.devcoelho.taskboard.model.BoardColumn;
 import br.com.devcoelho.taskboard.model.BoardColumnKind;
 import br.com.devcoelho.taskboard.model.Card;
 import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
+import br.com.devcoelho.taskboard.repository.BoardRepository;
 import br.com.devcoelho.taskboard.repository.CardRepository;
 
 import java.time.OffsetDateTime;
@@ -26,9 +39,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 public class CardServiceTest {
@@ -36,12 +52,30 @@ public class CardServiceTest {
     @Mock
     private CardRepository cardRepository;
 
+    @Mock
+    private BoardRepository boardRepository;
+
     @Mock
     private BoardColumnRepository boardColumnRepository;
 
     @Mock
     private BlockService blockService;
 
+    @Mock
+    private CardDAO cardDAO;
+
+    @Mock
+    private CardTransitionDAO cardTransitionDAO;
+
+    @Mock
+    private CardFlowDAO cardFlowDAO;
+
+    @Mock
+    private DurationSketchService durationSketchService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CardService cardService;
 
@@ -51,12 +85,18 @@ public class CardServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(cardService, "maxRankLength", 12);
+
         // Configuração do card de teste
         testCard = new Card();
         testCard.setId(1L);
         testCard.setTitle("Test Card");
         testCard.setDescription("Test Description");
-        testCard.setBoardColumn(new BoardColumn());
+        Board board = new Board();
+        board.setId(1L);
+        BoardColumn column = new BoardColumn();
+        column.setBoard(board);
+        testCard.setBoardColumn(column);
         testCard.setCreatedAt(OffsetDateTime.now().minusDays(1));
 
         // Configuração do card bloqueado
@@ -78,6 +118,7 @@ public class CardServiceTest {
         List<Block> blocks = new ArrayList<>();
         blocks.add(activeBlock);
         blockedCard.setBlocks(blocks);
+        blockedCard.setActiveBlockId(activeBlock.getId());
     }
 
     @Test
@@ -154,16 +195,80 @@ public class CardServiceTest {
         verify(cardRepository).findById(99L);
     }
 
+    @Test
+    @DisplayName("Deve retornar uma página de cards da coluna com cursor para a próxima")
+    void shouldFindCardPageByColumnWithNextCursor() {
+        // Arrange
+        Card first = new Card();
+        first.setId(3L);
+        first.setRank("9");
+        Card second = new Card();
+        second.setId(1L);
+        second.setRank("i");
+        Card third = new Card();
+        third.setId(2L);
+        third.setRank("r");
+
+        when(cardDAO.findPageByBoardColumnId(1L, null, 3))
+                .thenReturn(List.of(first, second, third));
+
+        // Act
+        CursorPage<Card> page = cardService.findPageByBoardColumnId(1L, null, 2);
+
+        // Assert
+        assertEquals(List.of(first, second), page.getItems());
+        assertNotNull(page.getNextCursor());
+        CardRankCursor cursor = CardRankCursor.decode(page.getNextCursor());
+        assertEquals(new CardRankCursor("i", 1L), cursor);
+
+        // Verify
+        verify(cardDAO).fetchBlocks(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a última página sem cursor de continuação")
+    void shouldFindLastCardPageWithoutNextCursor() {
+        // Arrange
+        CardCursor after = new CardCursor(OffsetDateTime.parse("2024-05-02T10:00:00Z"), 2L);
+        Card oldest = new Card();
+        oldest.setId(1L);
+        oldest.setCreatedAt(OffsetDateTime.parse("2024-05-01T10:00:00Z"));
+
+        when(cardDAO.findPageByBoardId(eq(1L), any(CardCursor.class), eq(3)))
+                .thenReturn(List.of(oldest));
+
+        // Act
+        CursorPage<Card> page = cardService.findPageByBoardId(1L, after.encode(), 2);
+
+        // Assert
+        assertEquals(List.of(oldest), page.getItems());
+        assertNull(page.getNextCursor());
+
+        // Verify
+        verify(cardDAO).findPageByBoardId(1L, after, 3);
+        verify(cardDAO).fetchBlocks(List.of(oldest));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o cursor for inválido")
+    void shouldThrowExceptionWhenCursorIsInvalid() {
+        // Act & Assert
+        assertThrows(
+                InvalidCursorException.class,
+                () -> cardService.findPageByBoardColumnId(1L, "not-a-cursor", 10));
+
+        // Verify
+        verifyNoInteractions(cardDAO);
+    }
+
     @Test
     @DisplayName("Deve criar um card na coluna inicial")
     void shouldCreateCardInInitialColumn() {
-        // Arrange
+        // Arrange - o id do board (7) não é o id de nenhuma coluna
         Board board = mock(Board.class);
         BoardColumn initialColumn = mock(BoardColumn.class);
 
-        when(boardColumnRepository.findById(1L)).thenReturn(Optional.of(initialColumn));
-        // Corrigimos o tipo usado aqui
-        when(initialColumn.getBoard()).thenReturn(board);
+        when(boardRepository.findById(7L)).thenReturn(Optional.of(board));
         when(board.getInitialColumn()).thenReturn(initialColumn);
         when(cardRepository.save(any(Card.class))).thenReturn(testCard);
 
@@ -172,7 +277,7 @@ public class CardServiceTest {
         newCard.setDescription("New Description");
 
         // Act
-        Card result = cardService.create(1L, newCard);
+        Card result = cardService.create(7L, newCard);
 
         // Assert
         assertNotNull(result);
@@ -184,11 +289,73 @@ public class CardServiceTest {
 
         Card capturedCard = cardCaptor.getValue();
         assertEquals(initialColumn, capturedCard.getBoardColumn());
+        assertNotNull(capturedCard.getRank());
         assertNotNull(capturedCard.getCreatedAt());
 
-        // Verify
-        verify(boardColumnRepository).findById(1L);
+        // Verify - o board é buscado pelo próprio id, nunca como se fosse o id de uma coluna
+        verify(boardRepository).findById(7L);
+        verify(boardColumnRepository, never()).findById(any());
         verify(cardRepository).save(any(Card.class));
+        verify(cardTransitionDAO).recordCreated(List.of(1L), testCard.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao criar um card em um board inexistente")
+    void shouldThrowExceptionWhenCreatingCardInNonExistentBoard() {
+        // Arrange
+        when(boardRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(
+            ResourceNotFoundException.class,
+            () -> cardService.create(99L, new Card())
+        );
+
+        // Verify
+        assertEquals("Board not found with ID: 99", exception.getMessage());
+        verify(cardRepository, never()).save(any(Card.class));
+    }
+
+    @Test
+    @DisplayName("Deve criar vários cards na coluna inicial com uma única chamada a saveAll")
+    void shouldCreateCardsInBulk() {
+        // Arrange
+        Board board = mock(Board.class);
+        BoardColumn initialColumn = mock(BoardColumn.class);
+
+        when(boardRepository.findById(7L)).thenReturn(Optional.of(board));
+        when(board.getInitialColumn()).thenReturn(initialColumn);
+        when(cardRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        when(initialColumn.getId()).thenReturn(10L);
+        when(cardDAO.findNextRank(10L, null, null)).thenReturn(Optional.of("i"));
+
+        Card first = new Card();
+        first.setTitle("First Card");
+        Card second = new Card();
+        second.setTitle("Second Card");
+
+        // Act
+        List<Card> result = cardService.createAll(7L, List.of(first, second));
+
+        // Assert
+        assertEquals(2, result.size());
+        result.forEach(card -> {
+            assertEquals(initialColumn, card.getBoardColumn());
+            assertNotNull(card.getCreatedAt());
+        });
+
+        // Os cards novos ficam no topo da coluna, na ordem da lista
+        assertTrue(first.getRank().compareTo(second.getRank()) < 0);
+        assertTrue(second.getRank().compareTo("i") < 0);
+
+        // Verify
+        verify(boardRepository).findById(7L);
+        verify(boardColumnRepository, never()).findById(any());
+        verify(cardRepository).saveAll(anyList());
+        verify(cardRepository, never()).save(any(Card.class));
+        verify(cardTransitionDAO).recordCreated(anyList(), any(OffsetDateTime.class));
+        verify(cardFlowDAO).recordAdded(eq(10L), eq(2), any(OffsetDateTime.class));
     }
 
     @Test
@@ -203,7 +370,7 @@ public class CardServiceTest {
         updateData.setDescription("Updated Description");
 
         // Act
-        Card result = cardService.update(1L, updateData);
+        Card result = cardService.update(1L, updateData, null);
 
         // Assert
         assertNotNull(result);
@@ -217,39 +384,135 @@ public class CardServiceTest {
         assertEquals("Updated Description", capturedCard.getDescription());
         assertNotNull(capturedCard.getUpdatedAt());
 
-        // Verify
+        // Verify - a alteração avança a versão do board
         verify(cardRepository).findById(1L);
         verify(cardRepository).save(any(Card.class));
+        verify(eventPublisher)
+            .publishEvent(new CardUpdatedEvent(1L, 1L, "Updated Title", "Updated Description"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a atualização de um card alterado após a versão informada")
+    void shouldRejectUpdateWithStaleVersion() {
+        // Arrange
+        testCard.setVersion(4L);
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(testCard));
+
+        Card updateData = new Card();
+        updateData.setTitle("Updated Title");
+
+        // Act & Assert
+        PreconditionFailedException exception = assertThrows(
+            PreconditionFailedException.class,
+            () -> cardService.update(1L, updateData, 3L)
+        );
+
+        // Verify
+        assertEquals(4L, exception.getCurrentVersion());
+        assertEquals("Test Card", testCard.getTitle());
+        verify(cardRepository, never()).save(any(Card.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a movimentação de um card alterado após a versão informada")
+    void shouldRejectMoveWithStaleVersion() {
+        // Arrange
+        testCard.setVersion(4L);
+        when(cardDAO.moveIfAllowed(
+                eq(1L), eq(2L), anyString(), eq(3L), any(OffsetDateTime.class)))
+            .thenReturn(0);
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(testCard));
+        when(boardColumnRepository.findById(2L)).thenReturn(Optional.of(new BoardColumn()));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> cardService.move(1L, 2L, 3L));
     }
 
     @Test
     @DisplayName("Deve mover um card para outra coluna")
     void shouldMoveCardToAnotherColumn() {
         // Arrange
-        BoardColumn targetColumn = mock(BoardColumn.class);
-
+        when(cardDAO.findNextRank(2L, null, 1L)).thenReturn(Optional.of("i"));
+        when(cardDAO.moveIfAllowed(
+                eq(1L), eq(2L), anyString(), isNull(), any(OffsetDateTime.class)))
+            .thenReturn(1);
         when(cardRepository.findById(1L)).thenReturn(Optional.of(testCard));
-        when(boardColumnRepository.findById(2L)).thenReturn(Optional.of(targetColumn));
-        when(cardRepository.save(any(Card.class))).thenReturn(testCard);
 
         // Act
-        Card result = cardService.moveCard(1L, 2L);
+        Card result = cardService.moveCard(1L, 2L, null);
 
         // Assert
-        assertNotNull(result);
+        assertEquals(testCard, result);
 
-        // Capturar o objeto Card enviado para save()
-        ArgumentCaptor<Card> cardCaptor = ArgumentCaptor.forClass(Card.class);
-        verify(cardRepository).save(cardCaptor.capture());
+        // Verify - a movimentação é um UPDATE condicional que coloca o card no topo da coluna, sem
+        // ler a coluna nem salvar o card
+        verify(cardDAO).moveIfAllowed(eq(1L), eq(2L), eq("h"), isNull(), any(OffsetDateTime.class));
+        verify(boardColumnRepository, never()).findById(any());
+        verify(cardRepository, never()).save(any(Card.class));
+    }
 
-        Card capturedCard = cardCaptor.getValue();
-        assertEquals(targetColumn, capturedCard.getBoardColumn());
-        assertNotNull(capturedCard.getUpdatedAt());
+    @Test
+    @DisplayName("Deve rebalancear a coluna de destino quando a chave do topo fica longa demais")
+    void shouldRebalanceTargetColumnWhenTopRankGetsTooLong() {
+        // Arrange - antes de "000000000001" a chave teria 13 caracteres
+        when(cardDAO.findNextRank(2L, null, 1L))
+            .thenReturn(Optional.of("000000000001"))
+            .thenReturn(Optional.of("i"));
+        when(cardDAO.moveIfAllowed(
+                eq(1L), eq(2L), eq("h"), isNull(), any(OffsetDateTime.class)))
+            .thenReturn(1);
+        when(boardColumnRepository.findBoardIdById(2L)).thenReturn(Optional.of(1L));
+
+        // Act
+        cardService.move(1L, 2L, null);
 
         // Verify
-        verify(cardRepository).findById(1L);
-        verify(boardColumnRepository).findById(2L);
-        verify(cardRepository).save(any(Card.class));
+        verify(cardDAO).rebalanceRanks(2L);
+        verify(cardDAO, times(2)).findNextRank(2L, null, 1L);
+    }
+
+    @Test
+    @DisplayName("Deve mover um card sem reler o card quando o resultado não é necessário")
+    void shouldMoveCardWithoutReloadingIt() {
+        // Arrange
+        when(cardDAO.moveIfAllowed(
+                eq(1L), eq(2L), anyString(), isNull(), any(OffsetDateTime.class)))
+            .thenReturn(1);
+        when(cardTransitionDAO.recordMove(eq(1L), eq(2L), any(OffsetDateTime.class))).thenReturn(1);
+        when(boardColumnRepository.findBoardIdById(2L)).thenReturn(Optional.of(1L));
+
+        // Act
+        cardService.move(1L, 2L, null);
+
+        // Verify - o histórico é gravado depois do UPDATE, com o mesmo horário gravado no card
+        ArgumentCaptor<OffsetDateTime> movedAt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        ArgumentCaptor<String> rank = ArgumentCaptor.forClass(String.class);
+        InOrder inOrder = inOrder(cardDAO, cardTransitionDAO, cardFlowDAO, durationSketchService);
+        inOrder.verify(cardDAO)
+            .moveIfAllowed(eq(1L), eq(2L), rank.capture(), isNull(), movedAt.capture());
+        inOrder.verify(cardTransitionDAO).recordMove(1L, 2L, movedAt.getValue());
+        inOrder.verify(cardFlowDAO).recordMove(1L, movedAt.getValue());
+        inOrder.verify(durationSketchService).recordArrival(1L, 2L, movedAt.getValue());
+        verify(cardRepository, never()).findById(any());
+        verify(boardColumnRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(new CardMovedEvent(1L, 1L, 2L, rank.getValue()));
+    }
+
+    @Test
+    @DisplayName("Não deve alterar o fluxo diário ao mover o card para a própria coluna")
+    void shouldNotRecordFlowWhenMovingCardToItsOwnColumn() {
+        // Arrange - a transição mais recente já levou o card à coluna 1
+        when(cardDAO.moveIfAllowed(
+                eq(1L), eq(1L), anyString(), isNull(), any(OffsetDateTime.class)))
+            .thenReturn(1);
+        when(cardTransitionDAO.recordMove(eq(1L), eq(1L), any(OffsetDateTime.class))).thenReturn(0);
+
+        // Act
+        cardService.move(1L, 1L, null);
+
+        // Verify - o card só volta ao topo da coluna
+        verifyNoInteractions(cardFlowDAO, durationSketchService);
     }
 
     @Test
@@ -258,13 +521,16 @@ public class CardServiceTest {
         // Arrange
         BoardColumn targetColumn = mock(BoardColumn.class);
 
+        when(cardDAO.moveIfAllowed(
+                eq(2L), eq(2L), anyString(), isNull(), any(OffsetDateTime.class)))
+            .thenReturn(0);
         when(cardRepository.findById(2L)).thenReturn(Optional.of(blockedCard));
         when(boardColumnRepository.findById(2L)).thenReturn(Optional.of(targetColumn));
 
         // Act & Assert
         BlockedCardException exception = assertThrows(
             BlockedCardException.class,
-            () -> cardService.moveCard(2L, 2L)
+            () -> cardService.moveCard(2L, 2L, null)
         );
 
         // Verify
@@ -272,6 +538,164 @@ public class CardServiceTest {
         verify(cardRepository).findById(2L);
         verify(boardColumnRepository).findById(2L);
         verify(cardRepository, never()).save(any(Card.class));
+        verifyNoInteractions(cardTransitionDAO, cardFlowDAO, durationSketchService);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao tentar mover um card inexistente")
+    void shouldThrowExceptionWhenMovingNonExistentCard() {
+        // Arrange
+        when(cardDAO.moveIfAllowed(
+                eq(99L), eq(2L), anyString(), isNull(), any(OffsetDateTime.class)))
+            .thenReturn(0);
+        when(cardRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(
+            ResourceNotFoundException.class,
+            () -> cardService.move(99L, 2L, null)
+        );
+
+        // Verify
+        assertEquals("Card not found with ID: 99", exception.getMessage());
+        verify(boardColumnRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao tentar mover um card para a coluna de outro board")
+    void shouldThrowExceptionWhenMovingCardToAnotherBoard() {
+        // Arrange
+        Board sourceBoard = new Board();
+        sourceBoard.setId(1L);
+        Board otherBoard = new Board();
+        otherBoard.setId(2L);
+
+        testCard.getBoardColumn().setBoard(sourceBoard);
+        BoardColumn targetColumn = new BoardColumn();
+        targetColumn.setId(5L);
+        targetColumn.setBoard(otherBoard);
+
+        when(cardDAO.moveIfAllowed(
+                eq(1L), eq(5L), anyString(), isNull(), any(OffsetDateTime.class)))
+            .thenReturn(0);
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(testCard));
+        when(boardColumnRepository.findById(5L)).thenReturn(Optional.of(targetColumn));
+
+        // Act & Assert
+        assertThrows(CrossBoardMoveException.class, () -> cardService.move(1L, 5L, null));
+    }
+
+    @Test
+    @DisplayName("Deve posicionar um card logo após outro da mesma coluna")
+    void shouldPositionCardAfterAnotherInSameColumn() {
+        // Arrange
+        Board board = new Board();
+        board.setId(1L);
+        BoardColumn column = new BoardColumn();
+        column.setId(10L);
+        column.setBoard(board);
+        testCard.setBoardColumn(column);
+        testCard.setRank("9");
+        Card afterCard = new Card();
+        afterCard.setId(3L);
+        afterCard.setBoardColumn(column);
+        afterCard.setRank("i");
+
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(testCard));
+        when(cardRepository.findById(3L)).thenReturn(Optional.of(afterCard));
+        when(cardDAO.findNextRank(10L, "i", 1L)).thenReturn(Optional.of("r"));
+        when(cardRepository.save(any(Card.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Card result = cardService.position(1L, null, 3L, null);
+
+        // Assert
+        assertEquals("m", result.getRank());
+        assertEquals(column, result.getBoardColumn());
+        assertNotNull(result.getUpdatedAt());
+
+        // Verify - apenas o card posicionado é gravado, sem transição de coluna
+        verify(cardRepository).save(testCard);
+        verify(cardRepository, never()).save(afterCard);
+        verifyNoInteractions(cardTransitionDAO);
+    }
+
+    @Test
+    @DisplayName("Não deve gravar o card que já está na posição pedida")
+    void shouldNotSaveCardAlreadyInPlace() {
+        // Arrange
+        BoardColumn column = new BoardColumn();
+        column.setId(10L);
+        testCard.setBoardColumn(column);
+        testCard.setRank("9");
+
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(testCard));
+        when(cardDAO.findNextRank(10L, null, 1L)).thenReturn(Optional.of("i"));
+
+        // Act
+        Card result = cardService.position(1L, null, null, null);
+
+        // Assert
+        assertEquals("9", result.getRank());
+
+        // Verify
+        verify(cardRepository, never()).save(any(Card.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve posicionar um card no topo de outra coluna do mesmo board")
+    void shouldPositionCardInAnotherColumn() {
+        // Arrange
+        Board board = new Board();
+        board.setId(1L);
+        BoardColumn sourceColumn = new BoardColumn();
+        sourceColumn.setId(10L);
+        sourceColumn.setBoard(board);
+        BoardColumn targetColumn = new BoardColumn();
+        targetColumn.setId(20L);
+        targetColumn.setBoard(board);
+        testCard.setBoardColumn(sourceColumn);
+        testCard.setRank("i");
+
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(testCard));
+        when(boardColumnRepository.findById(20L)).thenReturn(Optional.of(targetColumn));
+        when(cardDAO.findNextRank(20L, null, 1L)).thenReturn(Optional.empty());
+        when(cardRepository.save(any(Card.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Card result = cardService.position(1L, 20L, null, null);
+
+        // Assert
+        assertEquals(targetColumn, result.getBoardColumn());
+        assertEquals("i", result.getRank());
+
+        // Verify
+        verify(cardTransitionDAO).recordMove(eq(1L), eq(20L), any(OffsetDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao posicionar um card bloqueado em outra coluna")
+    void shouldThrowExceptionWhenPositioningBlockedCardInAnotherColumn() {
+        // Arrange
+        BoardColumn sourceColumn = new BoardColumn();
+        sourceColumn.setId(10L);
+        BoardColumn targetColumn = new BoardColumn();
+        targetColumn.setId(20L);
+        blockedCard.setBoardColumn(sourceColumn);
+        blockedCard.setRank("i");
+
+        when(cardRepository.findById(2L)).thenReturn(Optional.of(blockedCard));
+        when(boardColumnRepository.findById(20L)).thenReturn(Optional.of(targetColumn));
+        when(cardDAO.findNextRank(20L, null, 2L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(BlockedCardException.class, () -> cardService.position(2L, 20L, null, null));
+
+        // Verify
+        verify(cardRepository, never()).save(any(Card.class));
     }
 
     @Test
@@ -285,6 +709,7 @@ public class CardServiceTest {
         testCard.setBoardColumn(cardColumn);
         when(cardColumn.getBoard()).thenReturn(board);
         when(board.getCancelColumn()).thenReturn(cancelColumn);
+        when(cancelColumn.getId()).thenReturn(4L);
 
         when(cardRepository.findById(1L)).thenReturn(Optional.of(testCard));
         when(cardRepository.save(any(Card.class))).thenReturn(testCard);
@@ -306,6 +731,7 @@ public class CardServiceTest {
         // Verify
         verify(cardRepository).findById(1L);
         verify(cardRepository).save(any(Card.class));
+        verify(cardTransitionDAO).recordMove(1L, 4L, capturedCard.getUpdatedAt());
     }
 
     @Test
@@ -346,7 +772,9 @@ public class CardServiceTest {
         // Act
         cardService.delete(1L);
 
-        // Assert & Verify - Apenas verificamos que o método foi chamado
-        verify(cardRepository).deleteById(1L);
+        // Assert & Verify - O card sai do fluxo diário antes de ser excluído
+        InOrder inOrder = inOrder(cardFlowDAO, cardRepository);
+        inOrder.verify(cardFlowDAO).recordRemoved(eq(1L), any(OffsetDateTime.class));
+        inOrder.verify(cardRepository).deleteById(1L);
     }
 }
@@ -0,0 +1,72 @@
+package br.com.devcoelho.taskboard.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+public class ConflictRetryExecutorTest {
+
+  private final ConflictRetryExecutor conflictRetry = new ConflictRetryExecutor(3, 0);
+
+  @Test
+  @DisplayName("Deve repetir a operação após um conflito de versão")
+  void shouldRetryAfterConflict() {
+    // Arrange
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act
+    String result =
+        conflictRetry.execute(
+            () -> {
+              if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Card", 1L);
+              }
+              return "ok";
+            });
+
+    // Assert
+    assertEquals("ok", result);
+    assertEquals(3, attempts.get());
+  }
+
+  @Test
+  @DisplayName("Deve propagar o conflito quando as tentativas se esgotam")
+  void shouldGiveUpAfterMaxAttempts() {
+    // Arrange
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act & Assert
+    assertThrows(
+        ObjectOptimisticLockingFailureException.class,
+        () ->
+            conflictRetry.execute(
+                () -> {
+                  attempts.incrementAndGet();
+                  throw new ObjectOptimisticLockingFailureException("Card", 1L);
+                }));
+
+    assertEquals(3, attempts.get());
+  }
+
+  @Test
+  @DisplayName("Não deve repetir operações que falham por outros motivos")
+  void shouldNotRetryOtherFailures() {
+    // Arrange
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act & Assert
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            conflictRetry.execute(
+                () -> {
+                  attempts.incrementAndGet();
+                  throw new IllegalStateException("falha");
+                }));
+
+    assertEquals(1, attempts.get());
+  }
+}
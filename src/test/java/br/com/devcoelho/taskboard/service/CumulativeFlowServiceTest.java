@@ -0,0 +1,221 @@
+package br.com.devcoelho.taskboard.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import br.com.devcoelho.taskboard.dao.CardFlowDAO;
+import br.com.devcoelho.taskboard.dao.CardTransitionDAO;
+import br.com.devcoelho.taskboard.dto.CumulativeFlowDTO;
+import br.com.devcoelho.taskboard.dto.DailyColumnCount;
+import br.com.devcoelho.taskboard.exception.ResourceNotFoundException;
+import br.com.devcoelho.taskboard.model.BoardColumn;
+import br.com.devcoelho.taskboard.model.CardTransition;
+import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class CumulativeFlowServiceTest {
+
+  private static final LocalDate FROM = LocalDate.of(2024, 3, 10);
+
+  @Mock private CardFlowDAO cardFlowDAO;
+
+  @Mock private CardTransitionDAO cardTransitionDAO;
+
+  @Mock private BoardColumnRepository boardColumnRepository;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private ExecutorService executor;
+  private CumulativeFlowService cumulativeFlowService;
+
+  @BeforeEach
+  void setUp() {
+    // Blocos de 4 dias e uma thread: os blocos são processados em ordem
+    executor = Executors.newSingleThreadExecutor();
+    cumulativeFlowService =
+        new CumulativeFlowService(
+            cardFlowDAO,
+            cardTransitionDAO,
+            boardColumnRepository,
+            transactionManager,
+            executor,
+            366,
+            4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Deve repetir a contagem anterior nos dias sem linha no rollup")
+  void shouldCarryCountsForwardAcrossGaps() {
+    // Arrange - a coluna 1 só tem a linha de antes do período até o terceiro dia
+    when(boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(1L))
+        .thenReturn(List.of(column(1L, "To Do"), column(2L, "Done")));
+    when(cardFlowDAO.findRange(1L, FROM, FROM.plusDays(3)))
+        .thenReturn(
+            List.of(
+                new DailyColumnCount(1L, FROM.minusDays(5), 3),
+                new DailyColumnCount(2L, FROM.plusDays(1), 2),
+                new DailyColumnCount(1L, FROM.plusDays(2), 1)));
+
+    // Act
+    CumulativeFlowDTO flow = cumulativeFlowService.getCumulativeFlow(1L, FROM, FROM.plusDays(3));
+
+    // Assert
+    assertEquals(
+        List.of(FROM, FROM.plusDays(1), FROM.plusDays(2), FROM.plusDays(3)), flow.getDays());
+    assertEquals(2, flow.getColumns().size());
+    assertEquals("To Do", flow.getColumns().get(0).getColumnName());
+    assertEquals(List.of(3, 3, 1, 1), flow.getColumns().get(0).getCardCounts());
+    assertEquals("Done", flow.getColumns().get(1).getColumnName());
+    assertEquals(List.of(0, 2, 2, 2), flow.getColumns().get(1).getCardCounts());
+  }
+
+  @Test
+  @DisplayName("Deve recusar períodos que terminam antes de começar")
+  void shouldRejectPeriodEndingBeforeStart() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> cumulativeFlowService.getCumulativeFlow(1L, FROM, FROM.minusDays(1)));
+
+    // Verify
+    verifyNoInteractions(boardColumnRepository, cardFlowDAO);
+  }
+
+  @Test
+  @DisplayName("Deve lançar exceção quando o board não tem colunas")
+  void shouldThrowWhenBoardHasNoColumns() {
+    // Arrange
+    when(boardColumnRepository.findByBoardIdOrderByRankAscIdAsc(99L)).thenReturn(List.of());
+
+    // Act & Assert
+    assertThrows(
+        ResourceNotFoundException.class,
+        () -> cumulativeFlowService.getCumulativeFlow(99L, FROM, FROM.plusDays(3)));
+
+    // Verify
+    verifyNoInteractions(cardFlowDAO);
+  }
+
+  @Test
+  @DisplayName("Deve reconstruir o rollup em blocos até ontem, partindo da contagem de cada bloco")
+  void shouldRebuildInChunksUpToYesterday() {
+    // Arrange - histórico desde 10 dias atrás: blocos [-10, -6), [-6, -2) e [-2, hoje)
+    LocalDate today = LocalDate.now(CardFlowDAO.FLOW_ZONE);
+    LocalDate first = today.minusDays(10);
+    when(cardTransitionDAO.findFirstTransitionAt(1L)).thenReturn(Optional.of(at(first, 10)));
+
+    when(cardTransitionDAO.countCardsByColumnAt(1L, at(first, 0))).thenReturn(Map.of());
+    when(cardTransitionDAO.findBetween(1L, at(first, 0), at(first.plusDays(4), 0)))
+        .thenReturn(
+            List.of(
+                transition(null, 1L, at(first, 10)),
+                transition(null, 1L, at(first, 11)),
+                transition(1L, 2L, at(first.plusDays(1), 9))));
+
+    when(cardTransitionDAO.countCardsByColumnAt(1L, at(first.plusDays(4), 0)))
+        .thenReturn(Map.of(1L, 1, 2L, 1));
+    when(cardTransitionDAO.findBetween(1L, at(first.plusDays(4), 0), at(first.plusDays(8), 0)))
+        .thenReturn(List.of(transition(2L, 1L, at(first.plusDays(6), 15))));
+
+    when(cardTransitionDAO.countCardsByColumnAt(1L, at(first.plusDays(8), 0)))
+        .thenReturn(Map.of(1L, 2));
+    when(cardTransitionDAO.findBetween(1L, at(first.plusDays(8), 0), at(today, 0)))
+        .thenReturn(List.of());
+
+    // Act
+    int rows = cumulativeFlowService.rebuild(1L);
+
+    // Assert
+    assertEquals(5, rows);
+    verify(cardFlowDAO)
+        .replaceRange(
+            1L,
+            first,
+            first.plusDays(4),
+            List.of(
+                new DailyColumnCount(1L, first, 2),
+                new DailyColumnCount(1L, first.plusDays(1), 1),
+                new DailyColumnCount(2L, first.plusDays(1), 1)));
+    verify(cardFlowDAO)
+        .replaceRange(
+            1L,
+            first.plusDays(4),
+            first.plusDays(8),
+            List.of(
+                new DailyColumnCount(2L, first.plusDays(6), 0),
+                new DailyColumnCount(1L, first.plusDays(6), 2)));
+    verify(cardFlowDAO).replaceRange(1L, first.plusDays(8), today, List.of());
+    verifyNoMoreInteractions(cardFlowDAO);
+  }
+
+  @Test
+  @DisplayName("Não deve reconstruir o dia corrente, ainda alterado pelas movimentações")
+  void shouldNotRebuildCurrentDay() {
+    // Arrange - a primeira transição é de hoje
+    LocalDate today = LocalDate.now(CardFlowDAO.FLOW_ZONE);
+    when(cardTransitionDAO.findFirstTransitionAt(1L)).thenReturn(Optional.of(at(today, 0)));
+
+    // Act
+    int rows = cumulativeFlowService.rebuild(1L);
+
+    // Assert
+    assertEquals(0, rows);
+    verifyNoInteractions(cardFlowDAO);
+    verify(cardTransitionDAO, never()).findBetween(anyLong(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Não deve gravar nada quando o board não tem histórico")
+  void shouldSkipRebuildWithoutHistory() {
+    // Arrange
+    when(cardTransitionDAO.findFirstTransitionAt(1L)).thenReturn(Optional.empty());
+
+    // Act
+    int rows = cumulativeFlowService.rebuild(1L);
+
+    // Assert
+    assertEquals(0, rows);
+    verifyNoInteractions(cardFlowDAO);
+  }
+
+  private static BoardColumn column(Long id, String name) {
+    BoardColumn column = new BoardColumn();
+    column.setId(id);
+    column.setName(name);
+    return column;
+  }
+
+  private static OffsetDateTime at(LocalDate day, int hour) {
+    return day.atTime(hour, 0).atOffset(CardFlowDAO.FLOW_ZONE);
+  }
+
+  private static CardTransition transition(Long from, Long to, OffsetDateTime at) {
+    return CardTransition.builder()
+        .cardId(10L)
+        .boardId(1L)
+        .fromColumnId(from)
+        .toColumnId(to)
+        .transitionedAt(at)
+        .build();
+  }
+}
@@ -0,0 +1,128 @@
+package br.com.devcoelho.taskboard.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import br.com.devcoelho.taskboard.dao.BlockDAO;
+import br.com.devcoelho.taskboard.dao.CardTransitionDAO;
+import br.com.devcoelho.taskboard.dao.DurationSketchDAO;
+import br.com.devcoelho.taskboard.dto.DurationSample;
+import br.com.devcoelho.taskboard.event.DurationSampledEvent;
+import br.com.devcoelho.taskboard.model.DurationMetric;
+import br.com.devcoelho.taskboard.model.DurationSketchEntry;
+import br.com.devcoelho.taskboard.repository.BoardColumnRepository;
+import br.com.devcoelho.taskboard.util.DurationSketch;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class DurationSketchServiceTest {
+
+  private static final OffsetDateTime MOVED_AT = OffsetDateTime.parse("2024-03-10T10:00:00Z");
+
+  @Mock private DurationSketchDAO durationSketchDAO;
+
+  @Mock private CardTransitionDAO cardTransitionDAO;
+
+  @Mock private BlockDAO blockDAO;
+
+  @Mock private BoardColumnRepository boardColumnRepository;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private DurationSketchService durationSketchService;
+
+  @BeforeEach
+  void setUp() {
+    durationSketchService =
+        new DurationSketchService(
+            durationSketchDAO,
+            cardTransitionDAO,
+            blockDAO,
+            boardColumnRepository,
+            new ConflictRetryExecutor(3, 0),
+            eventPublisher,
+            transactionManager);
+  }
+
+  @Test
+  @DisplayName("Deve publicar o tempo de ciclo sem gravar o sketch na transação da movimentação")
+  void shouldPublishCycleTimeOnArrival() {
+    // Arrange
+    when(cardTransitionDAO.findCycleTimeOnArrival(1L, 3L, MOVED_AT))
+        .thenReturn(Optional.of(new DurationSample(7L, Duration.ofHours(30))));
+
+    // Act
+    durationSketchService.recordArrival(1L, 3L, MOVED_AT);
+
+    // Assert
+    verify(eventPublisher)
+        .publishEvent(
+            new DurationSampledEvent(7L, DurationMetric.CYCLE_TIME, Duration.ofHours(30)));
+    verifyNoInteractions(durationSketchDAO);
+  }
+
+  @Test
+  @DisplayName("Deve somar a amostra de novo quando outra gravação altera o sketch")
+  void shouldRetrySampleAfterConflict() {
+    // Arrange - a primeira gravação perde para uma amostra concorrente
+    when(durationSketchDAO.find(7L, DurationMetric.BLOCK_DURATION))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(entry(Duration.ofHours(1))));
+    doThrow(new ObjectOptimisticLockingFailureException(DurationSketchEntry.class, 7L))
+        .doNothing()
+        .when(durationSketchDAO)
+        .save(any(DurationSketchEntry.class));
+
+    // Act
+    durationSketchService.onDurationSampled(
+        new DurationSampledEvent(7L, DurationMetric.BLOCK_DURATION, Duration.ofHours(2)));
+
+    // Assert - a segunda tentativa soma a amostra à linha gravada pela outra
+    ArgumentCaptor<DurationSketchEntry> saved = ArgumentCaptor.forClass(DurationSketchEntry.class);
+    verify(durationSketchDAO, times(2)).save(saved.capture());
+    assertEquals(2, DurationSketch.fromBytes(saved.getValue().getSketch()).getCount());
+  }
+
+  @Test
+  @DisplayName("Não deve propagar a falha quando as tentativas de gravar a amostra se esgotam")
+  void shouldNotFailCommittedOperationWhenSampleIsLost() {
+    // Arrange
+    when(durationSketchDAO.find(7L, DurationMetric.BLOCK_DURATION)).thenReturn(Optional.empty());
+    doThrow(new ObjectOptimisticLockingFailureException(DurationSketchEntry.class, 7L))
+        .when(durationSketchDAO)
+        .save(any(DurationSketchEntry.class));
+
+    // Act & Assert
+    assertDoesNotThrow(
+        () ->
+            durationSketchService.onDurationSampled(
+                new DurationSampledEvent(7L, DurationMetric.BLOCK_DURATION, Duration.ofHours(2))));
+    verify(durationSketchDAO, times(3)).save(any(DurationSketchEntry.class));
+  }
+
+  private static DurationSketchEntry entry(Duration sample) {
+    DurationSketch sketch = new DurationSketch();
+    sketch.add(sample);
+    return DurationSketchEntry.builder()
+        .boardId(7L)
+        .metric(DurationMetric.BLOCK_DURATION)
+        .sketch(sketch.toBytes())
+        .version(1L)
+        .build();
+  }
+}
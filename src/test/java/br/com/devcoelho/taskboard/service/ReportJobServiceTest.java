@@ -0,0 +1,171 @@
+package br.com.devcoelho.taskboard.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import br.com.devcoelho.taskboard.dto.ReportJobDTO;
+import br.com.devcoelho.taskboard.exception.ReportJobNotCompletedException;
+import br.com.devcoelho.taskboard.exception.ReportQueueFullException;
+import br.com.devcoelho.taskboard.model.ReportJobStatus;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportJobServiceTest {
+
+  private static final Duration WAIT = Duration.ofSeconds(5);
+
+  @Mock private ReportService reportService;
+
+  @Mock private BoardService boardService;
+
+  @Mock private BoardVersionService boardVersionService;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private ExecutorService executor;
+  private ReportJobService reportJobService;
+
+  @BeforeEach
+  void setUp() {
+    // Uma thread e um lugar na fila: um terceiro job simultâneo é recusado
+    executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+    reportJobService =
+        new ReportJobService(
+            reportService,
+            boardService,
+            boardVersionService,
+            executor,
+            transactionManager,
+            Duration.ofMinutes(10),
+            WAIT);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Deve devolver o job em andamento para pedidos iguais")
+  void shouldReuseJobInProgress() throws Exception {
+    // Arrange
+    CountDownLatch release = new CountDownLatch(1);
+    when(reportService.generateWorkflowEfficiencyReport(1L))
+        .thenAnswer(
+            invocation -> {
+              release.await();
+              return new HashMap<String, Object>();
+            });
+
+    // Act
+    ReportJobDTO first = reportJobService.submit(1L);
+    ReportJobDTO second = reportJobService.submit(1L);
+    release.countDown();
+    ReportJobDTO completed = reportJobService.await(first.getId(), WAIT).get();
+
+    // Assert
+    assertEquals(first.getId(), second.getId());
+    assertEquals(ReportJobStatus.COMPLETED, completed.getStatus());
+    verify(reportService, times(1)).generateWorkflowEfficiencyReport(1L);
+  }
+
+  @Test
+  @DisplayName("Deve reaproveitar o resultado enquanto a versão do board não mudar")
+  void shouldReuseResultWhileBoardVersionIsUnchanged() throws Exception {
+    // Arrange
+    when(boardVersionService.currentVersion(1L)).thenReturn(3L);
+    when(reportService.generateWorkflowEfficiencyReport(1L))
+        .thenAnswer(invocation -> new HashMap<String, Object>(Map.of("totalCards", 7)));
+
+    // Act
+    ReportJobDTO first = reportJobService.submit(1L);
+    reportJobService.await(first.getId(), WAIT).get();
+    ReportJobDTO cached = reportJobService.submit(1L);
+
+    // Assert
+    assertEquals(first.getId(), cached.getId());
+    assertEquals(ReportJobStatus.COMPLETED, cached.getStatus());
+    assertEquals(3L, cached.getBoardVersion());
+    assertEquals(7, reportJobService.getResult(cached.getId()).get("totalCards"));
+    verify(reportService, times(1)).generateWorkflowEfficiencyReport(1L);
+  }
+
+  @Test
+  @DisplayName("Deve gerar um novo relatório quando a versão do board avança")
+  void shouldRegenerateReportWhenBoardVersionAdvances() throws Exception {
+    // Arrange
+    when(boardVersionService.currentVersion(1L)).thenReturn(3L, 3L, 4L, 4L);
+    when(reportService.generateWorkflowEfficiencyReport(1L))
+        .thenAnswer(invocation -> new HashMap<String, Object>());
+
+    // Act
+    ReportJobDTO first = reportJobService.submit(1L);
+    reportJobService.await(first.getId(), WAIT).get();
+    ReportJobDTO second = reportJobService.submit(1L);
+    ReportJobDTO completed = reportJobService.await(second.getId(), WAIT).get();
+
+    // Assert
+    assertNotEquals(first.getId(), second.getId());
+    assertEquals(4L, completed.getBoardVersion());
+    verify(reportService, times(2)).generateWorkflowEfficiencyReport(1L);
+  }
+
+  @Test
+  @DisplayName("Deve recusar o job quando não há worker livre nem espaço na fila")
+  void shouldRejectJobWhenQueueIsFull() throws Exception {
+    // Arrange
+    CountDownLatch release = new CountDownLatch(1);
+    when(reportService.generateWorkflowEfficiencyReport(1L))
+        .thenAnswer(
+            invocation -> {
+              release.await();
+              return new HashMap<String, Object>();
+            });
+
+    ReportJobDTO running = reportJobService.submit(1L);
+    reportJobService.submit(2L);
+
+    // Act & Assert
+    assertThrows(ReportQueueFullException.class, () -> reportJobService.submit(3L));
+    assertThrows(
+        ReportJobNotCompletedException.class,
+        () -> reportJobService.getResult(running.getId()));
+
+    release.countDown();
+    reportJobService.await(running.getId(), WAIT).get();
+  }
+
+  @Test
+  @DisplayName("Deve registrar a falha do relatório e gerar de novo no próximo pedido")
+  void shouldRetryFailedJob() throws Exception {
+    // Arrange
+    when(reportService.generateWorkflowEfficiencyReport(1L))
+        .thenThrow(new IllegalStateException("Database unavailable"))
+        .thenAnswer(invocation -> new HashMap<String, Object>());
+
+    // Act
+    ReportJobDTO failed = reportJobService.submit(1L);
+    ReportJobDTO failedStatus = reportJobService.await(failed.getId(), WAIT).get();
+    ReportJobDTO retried = reportJobService.submit(1L);
+
+    // Assert
+    assertEquals(ReportJobStatus.FAILED, failedStatus.getStatus());
+    assertEquals("Database unavailable", failedStatus.getError());
+    assertNotEquals(failed.getId(), retried.getId());
+  }
+}
@@ -0,0 +1,230 @@
+package br.com.devcoelho.taskboard.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import br.com.devcoelho.taskboard.config.ApplicationConfig;
+import br.com.devcoelho.taskboard.config.DataSourceRoutingContext;
+import br.com.devcoelho.taskboard.dao.BlockDAO;
+import br.com.devcoelho.taskboard.dao.BoardColumnDAO;
+import br.com.devcoelho.taskboard.dao.BoardDAO;
+import br.com.devcoelho.taskboard.dao.CardDAO;
+import br.com.devcoelho.taskboard.dto.ActivityReportDTO;
+import br.com.devcoelho.taskboard.dto.BlockReasonDTO;
+import br.com.devcoelho.taskboard.dto.BoardSummaryDTO;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportServiceTest {
+
+  private static final OffsetDateTime START = OffsetDateTime.parse("2024-03-01T00:00:00Z");
+  private static final OffsetDateTime END = OffsetDateTime.parse("2024-03-31T00:00:00Z");
+
+  @Mock private BoardDAO boardDAO;
+
+  @Mock private BoardColumnDAO boardColumnDAO;
+
+  @Mock private CardDAO cardDAO;
+
+  @Mock private BlockDAO blockDAO;
+
+  @Mock private DurationSketchService durationSketchService;
+
+  @Mock private BlockReasonTracker blockReasonTracker;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private ExecutorService reportExecutor;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    DataSourceRoutingContext.clear();
+    reportExecutor.shutdownNow();
+    reportExecutor.awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  @DisplayName("Deve montar o relatório de atividade com as contagens feitas em paralelo")
+  void shouldBuildActivityReport() {
+    // Arrange
+    ReportService reportService = reportService(4, 64);
+    List<BlockReasonDTO> reasons = List.of(new BlockReasonDTO("Waiting", 3, 0, 3));
+    List<BoardSummaryDTO> boards = List.of(new BoardSummaryDTO(1L, "Sprint", 5, 12));
+    when(cardDAO.countByDateRangeAndBlockStatus(START, END, true)).thenReturn(2L);
+    when(cardDAO.countByDateRangeAndBlockStatus(START, END, false)).thenReturn(7L);
+    when(blockDAO.countByDateRange(START, END)).thenReturn(4L);
+    when(boardDAO.findMostActiveBoardSummaries(5)).thenReturn(boards);
+    when(blockReasonTracker.topReasons(5)).thenReturn(reasons);
+
+    // Act
+    ActivityReportDTO report = reportService.generateActivityReport(START, END);
+
+    // Assert
+    assertEquals(START, report.getStart());
+    assertEquals(END, report.getEnd());
+    assertEquals(9L, report.getCardsCreated());
+    assertEquals(2L, report.getBlockedCards());
+    assertEquals(7L, report.getActiveCards());
+    assertEquals(4L, report.getTotalBlocks());
+    assertEquals(reasons, report.getCommonBlockReasons());
+    assertEquals(boards, report.getActiveBoards());
+  }
+
+  @Test
+  @DisplayName("Deve executar as consultas na thread da requisição quando a fila está cheia")
+  void shouldRunQueriesOnCallerWhenQueueIsFull() throws InterruptedException {
+    // Arrange - a única thread está ocupada e a única vaga da fila, preenchida
+    ReportService reportService = reportService(1, 1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch busy = new CountDownLatch(1);
+    reportExecutor.execute(
+        () -> {
+          busy.countDown();
+          awaitQuietly(release);
+        });
+    busy.await();
+    reportExecutor.execute(() -> {});
+    Set<Thread> queryThreads = stubCountsRecordingThreads();
+
+    // Act
+    try {
+      reportService.generateActivityReport(START, END);
+    } finally {
+      release.countDown();
+    }
+
+    // Assert
+    assertEquals(Set.of(Thread.currentThread()), queryThreads);
+  }
+
+  @Test
+  @DisplayName("Deve levar às threads do executor o roteamento forçado para o primário")
+  void shouldPropagatePrimaryForcedToWorkers() throws Exception {
+    // Arrange
+    ReportService reportService = reportService(4, 64);
+    Set<Boolean> primaryForced = ConcurrentHashMap.newKeySet();
+    Set<Thread> queryThreads = ConcurrentHashMap.newKeySet();
+    when(cardDAO.countByDateRangeAndBlockStatus(eq(START), eq(END), anyBoolean()))
+        .thenAnswer(
+            invocation -> {
+              primaryForced.add(DataSourceRoutingContext.isPrimaryForced());
+              queryThreads.add(Thread.currentThread());
+              return 1L;
+            });
+    DataSourceRoutingContext.forcePrimary();
+
+    // Act
+    reportService.generateActivityReport(START, END);
+
+    // Assert - as consultas rodaram fora da thread da requisição, com o primário forçado, e as
+    // threads do executor voltam ao roteamento normal
+    assertEquals(Set.of(true), primaryForced);
+    assertFalse(queryThreads.contains(Thread.currentThread()));
+    assertTrue(DataSourceRoutingContext.isPrimaryForced());
+    for (int i = 0; i < 4; i++) {
+      assertFalse(reportExecutor.submit(DataSourceRoutingContext::isPrimaryForced).get());
+    }
+  }
+
+  @Test
+  @DisplayName("Deve manter o primário forçado da requisição quando a consulta roda nela")
+  void shouldKeepPrimaryForcedOnCallerRuns() throws InterruptedException {
+    // Arrange
+    ReportService reportService = reportService(1, 1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch busy = new CountDownLatch(1);
+    reportExecutor.execute(
+        () -> {
+          busy.countDown();
+          awaitQuietly(release);
+        });
+    busy.await();
+    reportExecutor.execute(() -> {});
+    stubCountsRecordingThreads();
+    DataSourceRoutingContext.forcePrimary();
+
+    // Act
+    try {
+      reportService.generateActivityReport(START, END);
+    } finally {
+      release.countDown();
+    }
+
+    // Assert - a consulta não limpa o contexto que pertence à requisição
+    assertTrue(DataSourceRoutingContext.isPrimaryForced());
+  }
+
+  @Test
+  @DisplayName("Deve lançar a exceção da consulta sem o CompletionException")
+  void shouldUnwrapCompletionException() {
+    // Arrange
+    ReportService reportService = reportService(4, 64);
+    IllegalStateException failure = new IllegalStateException("Connection lost");
+    lenient().when(cardDAO.countByDateRangeAndBlockStatus(eq(START), eq(END), anyBoolean()))
+        .thenReturn(1L);
+    when(blockDAO.countByDateRange(START, END)).thenThrow(failure);
+
+    // Act & Assert
+    IllegalStateException thrown =
+        assertThrows(
+            IllegalStateException.class, () -> reportService.generateActivityReport(START, END));
+    assertSame(failure, thrown);
+  }
+
+  private ReportService reportService(int parallelism, int queueCapacity) {
+    reportExecutor = new ApplicationConfig().reportExecutor(parallelism, queueCapacity);
+    return new ReportService(
+        boardDAO,
+        boardColumnDAO,
+        cardDAO,
+        blockDAO,
+        durationSketchService,
+        blockReasonTracker,
+        reportExecutor,
+        transactionManager);
+  }
+
+  private Set<Thread> stubCountsRecordingThreads() {
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    when(cardDAO.countByDateRangeAndBlockStatus(eq(START), eq(END), anyBoolean()))
+        .thenAnswer(
+            invocation -> {
+              threads.add(Thread.currentThread());
+              return 1L;
+            });
+    when(blockDAO.countByDateRange(START, END))
+        .thenAnswer(
+            invocation -> {
+              threads.add(Thread.currentThread());
+              return 1L;
+            });
+    when(boardDAO.findMostActiveBoardSummaries(5))
+        .thenAnswer(
+            invocation -> {
+              threads.add(Thread.currentThread());
+              return List.of();
+            });
+    return threads;
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
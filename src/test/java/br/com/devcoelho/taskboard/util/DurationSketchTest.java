@@ -0,0 +1,91 @@
+package br.com.devcoelho.taskboard.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class DurationSketchTest {
+
+  @Test
+  @DisplayName("Deve estimar os percentis com erro relativo de até 1%")
+  void shouldEstimateQuantilesWithinRelativeAccuracy() {
+    // Arrange - durações de um segundo a alguns meses, com cauda longa
+    Random random = new Random(42);
+    long[] seconds = new long[50_000];
+    DurationSketch sketch = new DurationSketch();
+    for (int i = 0; i < seconds.length; i++) {
+      seconds[i] = (long) Math.exp(random.nextDouble() * 16);
+      sketch.add(Duration.ofSeconds(seconds[i]));
+    }
+    Arrays.sort(seconds);
+
+    // Act & Assert
+    for (double fraction : new double[] {0.5, 0.9, 0.99}) {
+      long exact = seconds[(int) Math.ceil(fraction * seconds.length) - 1];
+      long estimate = sketch.quantile(fraction).getSeconds();
+      assertEquals(exact, estimate, exact * DurationSketch.RELATIVE_ACCURACY + 1);
+    }
+    assertEquals(seconds[seconds.length - 1], sketch.quantile(1).getSeconds());
+    assertEquals(seconds.length, sketch.getCount());
+  }
+
+  @Test
+  @DisplayName("Deve combinar sketches somando as amostras")
+  void shouldMergeSketches() {
+    // Arrange
+    DurationSketch hours = new DurationSketch();
+    DurationSketch days = new DurationSketch();
+    for (int i = 1; i <= 90; i++) {
+      hours.add(Duration.ofHours(i % 10 + 1));
+    }
+    for (int i = 1; i <= 10; i++) {
+      days.add(Duration.ofDays(i));
+    }
+
+    // Act
+    hours.merge(days);
+
+    // Assert - os 10% maiores são os dias
+    assertEquals(100, hours.getCount());
+    assertTrue(hours.quantile(0.9).compareTo(Duration.ofHours(11)) < 0);
+    assertTrue(hours.quantile(0.95).compareTo(Duration.ofDays(4)) > 0);
+    assertEquals(Duration.ofDays(10), hours.getMax());
+  }
+
+  @Test
+  @DisplayName("Deve preservar o sketch ao serializar e desserializar")
+  void shouldRoundTripBytes() {
+    // Arrange
+    DurationSketch sketch = new DurationSketch();
+    sketch.add(Duration.ZERO);
+    sketch.add(Duration.ofMinutes(5));
+    sketch.add(Duration.ofDays(3));
+
+    // Act
+    byte[] bytes = sketch.toBytes();
+    DurationSketch restored = DurationSketch.fromBytes(bytes);
+
+    // Assert
+    assertArrayEquals(bytes, restored.toBytes());
+    assertEquals(3, restored.getCount());
+    assertEquals(Duration.ZERO, restored.quantile(0.2));
+    assertEquals(Duration.ofDays(3), restored.getMax());
+    assertTrue(bytes.length < 32);
+  }
+
+  @Test
+  @DisplayName("Deve tratar sketches vazios e bytes inválidos")
+  void shouldHandleEmptyAndMalformedSketches() {
+    DurationSketch empty = DurationSketch.fromBytes(null);
+
+    assertEquals(0, empty.getCount());
+    assertEquals(Duration.ZERO, empty.quantile(0.99));
+    assertEquals(0, DurationSketch.fromBytes(empty.toBytes()).getCount());
+    assertThrows(IllegalArgumentException.class, () -> DurationSketch.fromBytes(new byte[] {9}));
+    assertThrows(IllegalArgumentException.class, () -> DurationSketch.fromBytes(new byte[] {1}));
+  }
+}
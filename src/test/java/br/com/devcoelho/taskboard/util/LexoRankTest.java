@@ -0,0 +1,118 @@
+package br.com.devcoelho.taskboard.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LexoRankTest {
+
+  @Test
+  @DisplayName("Deve gerar chaves entre as vizinhas e nas extremidades")
+  void shouldGenerateRanksBetweenNeighbours() {
+    assertEquals("i", LexoRank.between(null, null));
+    assertEquals("0i", LexoRank.between(null, "1"));
+    assertEquals("zi", LexoRank.between("z", null));
+    assertEquals("1i", LexoRank.between("1", "2"));
+  }
+
+  @Test
+  @DisplayName("Deve manter a ordem após inserções repetidas em posições aleatórias")
+  void shouldKeepOrderAfterManyInsertions() {
+    // Arrange
+    Random random = new Random(42);
+    List<String> ranks = new ArrayList<>(LexoRank.evenlySpaced(3));
+
+    // Act
+    for (int i = 0; i < 5_000; i++) {
+      int index = random.nextInt(ranks.size() + 1);
+      String before = index > 0 ? ranks.get(index - 1) : null;
+      String after = index < ranks.size() ? ranks.get(index) : null;
+      ranks.add(index, LexoRank.between(before, after));
+    }
+
+    // Assert
+    for (int i = 1; i < ranks.size(); i++) {
+      assertTrue(ranks.get(i - 1).compareTo(ranks.get(i)) < 0);
+      assertFalse(ranks.get(i).endsWith("0"));
+    }
+  }
+
+  @Test
+  @DisplayName("Deve gerar várias chaves curtas entre duas vizinhas")
+  void shouldGenerateManyRanksBetweenNeighbours() {
+    // Act
+    List<String> ranks = LexoRank.between(null, "1", 500);
+
+    // Assert
+    assertEquals(500, ranks.size());
+    for (int i = 0; i < ranks.size(); i++) {
+      String previous = i > 0 ? ranks.get(i - 1) : "";
+      assertTrue(previous.compareTo(ranks.get(i)) < 0);
+      assertTrue(ranks.get(i).compareTo("1") < 0);
+      assertTrue(ranks.get(i).length() <= 6);
+    }
+  }
+
+  @Test
+  @DisplayName("Deve gerar chaves no topo diminuindo o primeiro dígito")
+  void shouldGenerateTopRanksByDecrementingFirstDigit() {
+    assertEquals("i", LexoRank.before(null));
+    assertEquals("h", LexoRank.before("i"));
+    assertEquals("h", LexoRank.before("i5"));
+    assertEquals("1", LexoRank.before("1a"));
+    assertEquals("0y", LexoRank.before("1"));
+    assertEquals("0x", LexoRank.before("0y"));
+    assertEquals("00y", LexoRank.before("01"));
+  }
+
+  @Test
+  @DisplayName("Deve manter as chaves curtas após inserções repetidas no topo")
+  void shouldKeepRanksShortAfterRepeatedPrepends() {
+    // Arrange
+    String first = "i";
+
+    // Act
+    List<String> ranks = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      String rank = LexoRank.before(first);
+      assertTrue(rank.compareTo(first) < 0);
+      assertFalse(rank.endsWith("0"));
+      // Sempre há espaço entre a nova chave e a anterior
+      String between = LexoRank.between(rank, first);
+      assertTrue(rank.compareTo(between) < 0 && between.compareTo(first) < 0);
+      ranks.add(rank);
+      first = rank;
+    }
+
+    // Assert - uma chave a mais a cada 34 inserções, e não a cada 5
+    assertTrue(ranks.get(ranks.size() - 1).length() <= 10);
+  }
+
+  @Test
+  @DisplayName("Deve gerar chaves de mesmo tamanho igualmente espaçadas")
+  void shouldGenerateEvenlySpacedRanks() {
+    // Act
+    List<String> ranks = LexoRank.evenlySpaced(1_000);
+
+    // Assert
+    assertEquals(1_000, ranks.size());
+    for (int i = 1; i < ranks.size(); i++) {
+      assertEquals(ranks.get(0).length(), ranks.get(i).length());
+      assertTrue(ranks.get(i - 1).compareTo(ranks.get(i)) < 0);
+      assertFalse(ranks.get(i).endsWith("0"));
+    }
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar limites fora de ordem ou inválidos")
+  void shouldRejectInvalidBounds() {
+    assertThrows(IllegalArgumentException.class, () -> LexoRank.between("r", "i"));
+    assertThrows(IllegalArgumentException.class, () -> LexoRank.between("i", "i"));
+    assertThrows(IllegalArgumentException.class, () -> LexoRank.between("10", null));
+    assertThrows(IllegalArgumentException.class, () -> LexoRank.between("A", null));
+  }
+}
@@ -0,0 +1,74 @@
+package br.com.devcoelho.taskboard.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SpaceSavingTest {
+
+  @Test
+  @DisplayName("Deve contar exatamente enquanto houver contadores livres")
+  void shouldCountExactlyWithinCapacity() {
+    // Arrange
+    SpaceSaving<String> reasons = new SpaceSaving<>(3);
+
+    // Act
+    reasons.offer("Waiting for review", 1);
+    reasons.offer("Blocked by API", 5);
+    reasons.offer("Waiting for review", 2);
+
+    // Assert - em ordem decrescente, sem erro
+    List<SpaceSaving.Entry<String>> top = reasons.top(10);
+    assertEquals(2, top.size());
+    assertEquals("Blocked by API", top.get(0).getItem());
+    assertEquals(5, top.get(0).getCount());
+    assertEquals("Waiting for review", top.get(1).getItem());
+    assertEquals(3, top.get(1).getCount());
+    assertEquals(0, top.get(1).getError());
+    assertEquals(8, reasons.getTotal());
+  }
+
+  @Test
+  @DisplayName("Deve manter os itens frequentes com limites de erro válidos")
+  void shouldKeepHeavyHittersWithinErrorBounds() {
+    // Arrange - três motivos frequentes no meio de muitos motivos raros
+    Random random = new Random(42);
+    SpaceSaving<String> reasons = new SpaceSaving<>(20);
+    Map<String, Long> exact = new HashMap<>();
+
+    // Act
+    for (int i = 0; i < 20_000; i++) {
+      int roll = random.nextInt(100);
+      String reason = roll < 20 ? "frequent-a" : roll < 35 ? "frequent-b" : "frequent-c";
+      if (roll >= 45) {
+        reason = "rare-" + random.nextInt(2_000);
+      }
+      reasons.offer(reason, 1);
+      exact.merge(reason, 1L, Long::sum);
+    }
+
+    // Assert
+    List<SpaceSaving.Entry<String>> top = reasons.top(3);
+    assertEquals(
+        List.of("frequent-a", "frequent-b", "frequent-c"),
+        top.stream().map(SpaceSaving.Entry::getItem).toList());
+    for (SpaceSaving.Entry<String> entry : reasons.top(20)) {
+      long count = exact.get(entry.getItem());
+      assertTrue(entry.getGuaranteedCount() <= count);
+      assertTrue(entry.getCount() >= count);
+      assertTrue(entry.getError() <= reasons.getTotal() / 20);
+    }
+  }
+
+  @Test
+  @DisplayName("Deve rejeitar capacidade e ocorrências inválidas")
+  void shouldRejectInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new SpaceSaving<String>(0));
+    assertThrows(IllegalArgumentException.class, () -> new SpaceSaving<String>(1).offer("x", 0));
+  }
+}